@@ -20,6 +20,7 @@
 import javax.lang.model.element.TypeElement;
 
 import org.hibernate.validator.ap.internal.ClassVisitor;
+import org.hibernate.validator.ap.internal.ConstrainedTypesIndex;
 import org.hibernate.validator.ap.internal.ConstraintAnnotationVisitor;
 import org.hibernate.validator.ap.internal.util.AnnotationApiHelper;
 import org.hibernate.validator.ap.internal.util.Configuration;
@@ -43,6 +44,13 @@
  * set to {@code false} in order to allow only getter based property
  * constraints but not method level constraints as supported by Hibernate
  * Validator. Default is {@code true}.</li>
+ * <li>{@code constrainedTypesIndex}: Whether an index of the types hosting
+ * constraints or cascaded elements shall be written to
+ * {@code META-INF/hibernate-validator/constrained-types} or not. The index can be
+ * used to initialize the metadata of these types when bootstrapping a predefined
+ * scope validator factory. An index written by a previous compilation is merged,
+ * keeping the entries of the types which are not compiled again. Must be given as
+ * String parsable by {@link Boolean#parseBoolean}. Default is {@code false}.</li>
  * </ul>
  *
  * @author Hardy Ferentschik
@@ -52,7 +60,8 @@
 @SupportedOptions({
 		Configuration.DIAGNOSTIC_KIND_PROCESSOR_OPTION,
 		Configuration.VERBOSE_PROCESSOR_OPTION,
-		Configuration.METHOD_CONSTRAINTS_SUPPORTED_PROCESSOR_OPTION
+		Configuration.METHOD_CONSTRAINTS_SUPPORTED_PROCESSOR_OPTION,
+		Configuration.CONSTRAINED_TYPES_INDEX_PROCESSOR_OPTION
 })
 public class ConstraintValidationProcessor extends AbstractProcessor {
 
@@ -71,6 +80,11 @@ public class ConstraintValidationProcessor extends AbstractProcessor {
 	 */
 	private Configuration configuration;
 
+	/**
+	 * Collects the constrained types if the index is to be generated, {@code null} otherwise.
+	 */
+	private ConstrainedTypesIndex constrainedTypesIndex;
+
 	@Override
 	public synchronized void init(ProcessingEnvironment processingEnv) {
 
@@ -78,6 +92,10 @@ public synchronized void init(ProcessingEnvironment processingEnv) {
 
 		configuration = new Configuration( processingEnv.getOptions(), processingEnv.getMessager() );
 		messager = new MessagerAdapter( processingEnv.getMessager(), configuration.getDiagnosticKind() );
+
+		if ( configuration.isConstrainedTypesIndex() ) {
+			constrainedTypesIndex = new ConstrainedTypesIndex( processingEnv );
+		}
 	}
 
 	@Override
@@ -115,15 +133,27 @@ public boolean process(
 						typeHelper.filterByType( oneAnnotatedElement.getAnnotationMirrors(), oneAnnotation.asType() );
 
 				oneAnnotatedElement.accept( visitor, mirrorsOfCurrentAnnotation );
+
+				if ( constrainedTypesIndex != null ) {
+					constrainedTypesIndex.collect( oneAnnotatedElement, mirrorsOfCurrentAnnotation );
+				}
 			}
 		}
 
+		if ( constrainedTypesIndex != null ) {
+			constrainedTypesIndex.collectCompiledTypes( roundEnvironment.getRootElements() );
+		}
+
 		// now let's find all classes and interfaces and go through their methods to check if they are correctly overridden:
 		ElementVisitor<Void, Void> classVisitor = new ClassVisitor( processingEnv, messager, configuration );
 		for ( Element element : roundEnvironment.getRootElements() ) {
 			element.accept( classVisitor, null );
 		}
 
+		if ( constrainedTypesIndex != null && roundEnvironment.processingOver() ) {
+			constrainedTypesIndex.write( processingEnv.getFiler(), processingEnv.getMessager() );
+		}
+
 		return ANNOTATIONS_CLAIMED_EXCLUSIVELY;
 	}
 
@@ -0,0 +1,200 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.ap.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.hibernate.validator.ap.internal.util.AnnotationApiHelper;
+import org.hibernate.validator.ap.internal.util.ConstraintHelper;
+import org.hibernate.validator.ap.internal.util.ConstraintHelper.AnnotationType;
+import org.hibernate.validator.ap.internal.util.StringHelper;
+
+/**
+ * Collects the types hosting constraints or cascaded elements during the compilation and writes them to an index
+ * resource, which allows Hibernate Validator to know these types without scanning the class path, e.g. to initialize
+ * their metadata upfront.
+ * <p>
+ * The index is a UTF-8 encoded text file located at {@value #RESOURCE_NAME}, containing the binary name of one type
+ * per line.
+ * <p>
+ * An index left in the class output directory by a previous compilation is merged: its entries are replaced for the
+ * top-level types compiled again and kept for the other types as long as they still exist, so that an incremental
+ * compilation does not drop the types it does not compile.
+ * <p>
+ * The index only saves listing the types manually: their metadata is still built at runtime from their annotations.
+ */
+public final class ConstrainedTypesIndex {
+
+	/**
+	 * The name of the index resource, must be kept in sync with the engine.
+	 */
+	public static final String RESOURCE_NAME = "META-INF/hibernate-validator/constrained-types";
+
+	private final Elements elementUtils;
+
+	private final ConstraintHelper constraintHelper;
+
+	private final Set<String> constrainedTypes = new TreeSet<>();
+
+	/**
+	 * The binary names of the top-level types of the compilation.
+	 */
+	private final Set<String> compiledTopLevelTypes = new HashSet<>();
+
+	public ConstrainedTypesIndex(ProcessingEnvironment processingEnvironment) {
+		this.elementUtils = processingEnvironment.getElementUtils();
+		this.constraintHelper = new ConstraintHelper(
+				processingEnvironment.getTypeUtils(),
+				new AnnotationApiHelper( processingEnvironment.getElementUtils(), processingEnvironment.getTypeUtils() )
+		);
+	}
+
+	/**
+	 * Registers the type hosting the given element if one of the given annotations is a constraint or {@code @Valid}.
+	 *
+	 * @param annotatedElement the annotated element
+	 * @param mirrors the annotations of interest of the element
+	 */
+	public void collect(Element annotatedElement, List<AnnotationMirror> mirrors) {
+		if ( !hasConstraintOrCascade( mirrors ) ) {
+			return;
+		}
+
+		TypeElement hostingType = getHostingType( annotatedElement );
+
+		// the annotations of a composed constraint definition are not constraints of a bean
+		if ( hostingType == null || hostingType.getKind() == ElementKind.ANNOTATION_TYPE ) {
+			return;
+		}
+
+		constrainedTypes.add( elementUtils.getBinaryName( hostingType ).toString() );
+	}
+
+	/**
+	 * Registers the top-level types compiled in a round, whose entries of a previous index are replaced by the types
+	 * collected during this compilation.
+	 *
+	 * @param rootElements the root elements of the round
+	 */
+	public void collectCompiledTypes(Set<? extends Element> rootElements) {
+		for ( Element rootElement : rootElements ) {
+			if ( rootElement instanceof TypeElement ) {
+				compiledTopLevelTypes.add( elementUtils.getBinaryName( (TypeElement) rootElement ).toString() );
+			}
+		}
+	}
+
+	/**
+	 * Writes the index resource, merged with the index of a previous compilation, if it lists at least one type or
+	 * replaces a previous index.
+	 *
+	 * @param filer the filer used to read the previous index and create the resource
+	 * @param messager used to report a failure to write the index
+	 */
+	public void write(Filer filer, Messager messager) {
+		Set<String> previousIndexedTypes = readPreviousIndex( filer );
+		Set<String> indexedTypes = new TreeSet<>( constrainedTypes );
+		if ( previousIndexedTypes != null ) {
+			for ( String previousIndexedType : previousIndexedTypes ) {
+				String topLevelType = getTopLevelTypeName( previousIndexedType );
+				if ( !compiledTopLevelTypes.contains( topLevelType ) && elementUtils.getTypeElement( topLevelType ) != null ) {
+					indexedTypes.add( previousIndexedType );
+				}
+			}
+		}
+		else if ( indexedTypes.isEmpty() ) {
+			return;
+		}
+
+		try {
+			FileObject resource = filer.createResource( StandardLocation.CLASS_OUTPUT, "", RESOURCE_NAME );
+			try ( Writer writer = new OutputStreamWriter( resource.openOutputStream(), StandardCharsets.UTF_8 ) ) {
+				for ( String constrainedType : indexedTypes ) {
+					writer.write( constrainedType );
+					writer.write( '\n' );
+				}
+			}
+		}
+		catch (IOException e) {
+			messager.printMessage(
+					Kind.ERROR,
+					StringHelper.format( "Unable to write the constrained types index %1$s: %2$s", RESOURCE_NAME, e.getMessage() )
+			);
+		}
+	}
+
+	/**
+	 * @return the types listed in the index of a previous compilation, {@code null} if there is none
+	 */
+	private static Set<String> readPreviousIndex(Filer filer) {
+		Set<String> indexedTypes = new HashSet<>();
+		try {
+			FileObject resource = filer.getResource( StandardLocation.CLASS_OUTPUT, "", RESOURCE_NAME );
+			try ( BufferedReader reader = new BufferedReader( new InputStreamReader( resource.openInputStream(), StandardCharsets.UTF_8 ) ) ) {
+				String line;
+				while ( ( line = reader.readLine() ) != null ) {
+					line = line.trim();
+					if ( !line.isEmpty() && !line.startsWith( "#" ) ) {
+						indexedTypes.add( line );
+					}
+				}
+			}
+		}
+		catch (IOException e) {
+			// no index has been written by a previous compilation
+			return null;
+		}
+		return indexedTypes;
+	}
+
+	private static String getTopLevelTypeName(String binaryName) {
+		int nestedTypeSeparator = binaryName.indexOf( '$', binaryName.lastIndexOf( '.' ) + 1 );
+		return nestedTypeSeparator > 0 ? binaryName.substring( 0, nestedTypeSeparator ) : binaryName;
+	}
+
+	private boolean hasConstraintOrCascade(List<AnnotationMirror> mirrors) {
+		for ( AnnotationMirror mirror : mirrors ) {
+			AnnotationType annotationType = constraintHelper.getAnnotationType( mirror );
+			if ( annotationType == AnnotationType.CONSTRAINT_ANNOTATION
+					|| annotationType == AnnotationType.MULTI_VALUED_CONSTRAINT_ANNOTATION
+					|| annotationType == AnnotationType.GRAPH_VALIDATION_ANNOTATION ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static TypeElement getHostingType(Element element) {
+		Element current = element;
+		while ( current != null ) {
+			if ( current instanceof TypeElement ) {
+				return (TypeElement) current;
+			}
+			current = current.getEnclosingElement();
+		}
+		return null;
+	}
+}
@@ -34,6 +34,11 @@ public class Configuration {
 	 */
 	public static final String METHOD_CONSTRAINTS_SUPPORTED_PROCESSOR_OPTION = "methodConstraintsSupported";
 
+	/**
+	 * The name of the processor option for generating the index of the constrained types.
+	 */
+	public static final String CONSTRAINED_TYPES_INDEX_PROCESSOR_OPTION = "constrainedTypesIndex";
+
 	/**
 	 * The diagnostic kind to be used if no or an invalid kind is given as processor option.
 	 */
@@ -45,11 +50,14 @@ public class Configuration {
 
 	private final boolean methodConstraintsSupported;
 
+	private final boolean constrainedTypesIndex;
+
 	public Configuration(Map<String, String> options, Messager messager) {
 
 		this.diagnosticKind = getDiagnosticKindOption( options, messager );
 		this.verbose = getVerboseOption( options, messager );
 		this.methodConstraintsSupported = getMethodConstraintsSupportedOption( options );
+		this.constrainedTypesIndex = Boolean.parseBoolean( options.get( CONSTRAINED_TYPES_INDEX_PROCESSOR_OPTION ) );
 	}
 
 	/**
@@ -80,6 +88,15 @@ public boolean methodConstraintsSupported() {
 		return methodConstraintsSupported;
 	}
 
+	/**
+	 * Whether the index of the types hosting constraints or cascaded elements shall be generated or not.
+	 *
+	 * @return {@code true} if the index of the constrained types shall be generated, {@code false} otherwise
+	 */
+	public boolean isConstrainedTypesIndex() {
+		return constrainedTypesIndex;
+	}
+
 	/**
 	 * Retrieves the diagnostic kind to be used for error messages. If given in
 	 * processor options, it will be taken from there, otherwise the default
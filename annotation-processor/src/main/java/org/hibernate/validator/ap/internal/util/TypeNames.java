@@ -71,6 +71,7 @@ public static class HibernateValidatorTypes {
 		public static final String CURRENCY = ORG_HIBERNATE_VALIDATOR_CONSTRAINTS + ".Currency";
 		public static final String DATE_TIME_FORMAT = ORG_HIBERNATE_VALIDATOR_CONSTRAINTS + ".DateTimeFormat";
 		public static final String EMAIL = ORG_HIBERNATE_VALIDATOR_CONSTRAINTS + ".Email";
+		public static final String EXPRESSION = ORG_HIBERNATE_VALIDATOR_CONSTRAINTS + ".Expression";
 		public static final String IP_ADDRESS = ORG_HIBERNATE_VALIDATOR_CONSTRAINTS + ".IpAddress";
 		public static final String ISBN = ORG_HIBERNATE_VALIDATOR_CONSTRAINTS + ".ISBN";
 		public static final String LENGTH = ORG_HIBERNATE_VALIDATOR_CONSTRAINTS + ".Length";
@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.ap;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.hibernate.validator.ap.internal.ConstrainedTypesIndex;
+import org.hibernate.validator.ap.internal.util.Configuration;
+import org.hibernate.validator.ap.testmodel.composedconstraint.ValidOrderNumber;
+import org.hibernate.validator.ap.testmodel.constrainedtypesindex.Customer;
+import org.hibernate.validator.ap.testmodel.constrainedtypesindex.Order;
+import org.hibernate.validator.ap.testmodel.constrainedtypesindex.Supplier;
+import org.hibernate.validator.ap.testutil.CompilerTestHelper;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the generation of the constrained types index.
+ */
+public class ConstrainedTypesIndexIT extends ConstraintValidationProcessorITBase {
+
+	private File index;
+
+	@BeforeMethod
+	public void deleteIndex() throws IOException {
+		index = new File( CompilerTestHelper.getProcessorOutDir(), ConstrainedTypesIndex.RESOURCE_NAME );
+		Files.deleteIfExists( index.toPath() );
+	}
+
+	@Test
+	public void constrainedTypesAreIndexed() throws IOException {
+		File[] sourceFiles = new File[] {
+				compilerHelper.getSourceFile( Order.class ),
+				compilerHelper.getSourceFile( Customer.class ),
+				compilerHelper.getSourceFile( ValidOrderNumber.class )
+		};
+
+		boolean compilationResult = compilerHelper.compile(
+				new ConstraintValidationProcessor(),
+				diagnostics,
+				Collections.singletonMap( Configuration.CONSTRAINED_TYPES_INDEX_PROCESSOR_OPTION, "true" ),
+				sourceFiles
+		);
+
+		assertTrue( compilationResult );
+		assertTrue( index.exists() );
+		// the constraint definition and the type without constraints are not listed
+		assertEquals(
+				Files.readAllLines( index.toPath(), StandardCharsets.UTF_8 ),
+				Arrays.asList( Order.class.getName(), Order.Line.class.getName() )
+		);
+	}
+
+	@Test
+	public void typesNotCompiledAgainAreKept() throws IOException {
+		boolean compilationResult = compilerHelper.compile(
+				new ConstraintValidationProcessor(),
+				diagnostics,
+				Collections.singletonMap( Configuration.CONSTRAINED_TYPES_INDEX_PROCESSOR_OPTION, "true" ),
+				compilerHelper.getSourceFile( Order.class ),
+				compilerHelper.getSourceFile( Customer.class ),
+				compilerHelper.getSourceFile( Supplier.class ),
+				compilerHelper.getSourceFile( ValidOrderNumber.class )
+		);
+		assertTrue( compilationResult );
+
+		// an incremental compilation of one of the constrained types
+		compilationResult = compilerHelper.compile(
+				new ConstraintValidationProcessor(),
+				diagnostics,
+				Collections.singletonMap( Configuration.CONSTRAINED_TYPES_INDEX_PROCESSOR_OPTION, "true" ),
+				compilerHelper.getSourceFile( Supplier.class )
+		);
+
+		assertTrue( compilationResult );
+		assertEquals(
+				Files.readAllLines( index.toPath(), StandardCharsets.UTF_8 ),
+				Arrays.asList( Order.class.getName(), Order.Line.class.getName(), Supplier.class.getName() )
+		);
+	}
+
+	@Test
+	public void typesCompiledAgainWithoutConstraintsAndRemovedTypesAreDropped() throws IOException {
+		Files.createDirectories( index.toPath().getParent() );
+		Files.write(
+				index.toPath(),
+				Arrays.asList( Customer.class.getName(), Customer.class.getPackageName() + ".RemovedType" ),
+				StandardCharsets.UTF_8
+		);
+
+		boolean compilationResult = compilerHelper.compile(
+				new ConstraintValidationProcessor(),
+				diagnostics,
+				Collections.singletonMap( Configuration.CONSTRAINED_TYPES_INDEX_PROCESSOR_OPTION, "true" ),
+				compilerHelper.getSourceFile( Customer.class )
+		);
+
+		assertTrue( compilationResult );
+		assertEquals( Files.readAllLines( index.toPath(), StandardCharsets.UTF_8 ), Collections.emptyList() );
+	}
+
+	@Test
+	public void indexIsNotGeneratedByDefault() {
+		boolean compilationResult = compilerHelper.compile(
+				new ConstraintValidationProcessor(),
+				diagnostics,
+				compilerHelper.getSourceFile( Order.class ),
+				compilerHelper.getSourceFile( Customer.class )
+		);
+
+		assertTrue( compilationResult );
+		assertFalse( index.exists() );
+	}
+}
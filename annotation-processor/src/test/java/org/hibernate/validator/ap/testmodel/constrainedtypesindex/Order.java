@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.ap.testmodel.constrainedtypesindex;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public class Order {
+
+	@NotNull
+	public String reference;
+
+	@Valid
+	public List<Line> lines;
+
+	public Customer customer;
+
+	public static class Line {
+
+		public void setQuantity(@Min(1) int quantity) {
+		}
+	}
+}
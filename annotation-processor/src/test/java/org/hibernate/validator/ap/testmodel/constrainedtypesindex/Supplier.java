@@ -0,0 +1,13 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.ap.testmodel.constrainedtypesindex;
+
+import jakarta.validation.constraints.NotNull;
+
+public class Supplier {
+
+	@NotNull
+	public String name;
+}
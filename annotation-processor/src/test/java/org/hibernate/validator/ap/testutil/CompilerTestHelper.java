@@ -16,6 +16,7 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.processing.Processor;
@@ -161,17 +162,47 @@ public boolean compile(Processor annotationProcessor, DiagnosticCollector<JavaFi
 	 */
 	public boolean compile(Processor annotationProcessor, DiagnosticCollector<JavaFileObject> diagnostics, Kind diagnosticKind, Boolean verbose, Boolean allowMethodConstraints,
 			EnumSet<Library> dependencies, File... sourceFiles) {
+		return compile( annotationProcessor, diagnostics, extractOptions( diagnosticKind, verbose, allowMethodConstraints ), dependencies, sourceFiles );
+	}
+
+	/**
+	 * Creates and executes a {@link CompilationTask} passing the given processor options. As in an incremental build,
+	 * the classes of the previous compilations are part of the class path.
+	 *
+	 * @param annotationProcessor An annotation processor to be attached to the task.
+	 * @param diagnostics An diagnostics listener to be attached to the task.
+	 * @param processorOptions The processor options, given as option name and value.
+	 * @param sourceFiles The source files to be compiled.
+	 *
+	 * @return True, if the source files could be compiled successfully, false otherwise.
+	 */
+	public boolean compile(Processor annotationProcessor, DiagnosticCollector<JavaFileObject> diagnostics, Map<String, String> processorOptions, File... sourceFiles) {
+		List<String> options = new ArrayList<>();
+		for ( Map.Entry<String, String> processorOption : processorOptions.entrySet() ) {
+			options.add( StringHelper.format( "-A%s=%s", processorOption.getKey(), processorOption.getValue() ) );
+		}
+		Set<File> classPath = getDependenciesAsFiles( EnumSet.allOf( Library.class ) );
+		classPath.add( PROCESSOR_OUT_DIR );
+		return compile( annotationProcessor, diagnostics, options, classPath, sourceFiles );
+	}
+
+	private boolean compile(Processor annotationProcessor, DiagnosticCollector<JavaFileObject> diagnostics, List<String> options,
+			EnumSet<Library> dependencies, File... sourceFiles) {
+		return compile( annotationProcessor, diagnostics, options, getDependenciesAsFiles( dependencies ), sourceFiles );
+	}
+
+	private boolean compile(Processor annotationProcessor, DiagnosticCollector<JavaFileObject> diagnostics, List<String> options,
+			Set<File> classPath, File... sourceFiles) {
 		StandardJavaFileManager fileManager = compiler.getStandardFileManager( null, null, null );
 		Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjects( sourceFiles );
 		try {
-			fileManager.setLocation( StandardLocation.CLASS_PATH, getDependenciesAsFiles( dependencies ) );
+			fileManager.setLocation( StandardLocation.CLASS_PATH, classPath );
 			fileManager.setLocation( StandardLocation.CLASS_OUTPUT, Collections.singletonList( PROCESSOR_OUT_DIR ) );
 		}
 		catch (IOException e) {
 			throw new RuntimeException( e );
 		}
 
-		final List<String> options = extractOptions( diagnosticKind, verbose, allowMethodConstraints );
 		CompilationTask task = compiler.getTask( null, fileManager, diagnostics, options, null, compilationUnits );
 		task.setProcessors( Collections.singletonList( annotationProcessor ) );
 
@@ -233,6 +264,13 @@ private Set<File> getDependenciesAsFiles(EnumSet<Library> dependencies) {
 		return files;
 	}
 
+	/**
+	 * @return the directory the classes and resources generated by the compilation tasks are written to
+	 */
+	public static File getProcessorOutDir() {
+		return PROCESSOR_OUT_DIR;
+	}
+
 	/**
 	 * Returns the target directory of the build.
 	 *
@@ -9,6 +9,7 @@
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import jakarta.validation.Configuration;
 import jakarta.validation.ConstraintValidatorContext;
@@ -24,6 +25,7 @@
 import org.hibernate.validator.constraints.ParameterScriptAssert;
 import org.hibernate.validator.constraints.ScriptAssert;
 import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
+import org.hibernate.validator.metadata.BeanMetaDataCacheFactory;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
 import org.hibernate.validator.spi.messageinterpolation.LocaleResolver;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
@@ -179,6 +181,61 @@
 	@Incubating
 	String FAIL_FAST_ON_PROPERTY_VIOLATION = "hibernate.validator.fail_fast_on_property_violation";
 
+	/**
+	 * Property corresponding to the {@link #generatedPropertyAccessors(boolean)} method.
+	 * Accepts {@code true} or {@code false}. Defaults to {@code false}.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	String GENERATED_PROPERTY_ACCESSORS = "hibernate.validator.generated_property_accessors";
+
+	/**
+	 * Property corresponding to the {@link #validationContextPooling(boolean)} method.
+	 * Accepts {@code true} or {@code false}. Defaults to {@code false}.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	String VALIDATION_CONTEXT_POOLING = "hibernate.validator.validation_context_pooling";
+
+	/**
+	 * Property corresponding to the {@link #parallelCascadeThreshold(int)} method.
+	 * Accepts an integer. Defaults to {@code 0}, i.e. cascaded containers are validated sequentially.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	String PARALLEL_CASCADE_THRESHOLD = "hibernate.validator.parallel_cascade_threshold";
+
+	/**
+	 * Property corresponding to the {@link #maxViolations(int)} method.
+	 * Accepts an integer. Defaults to {@code 0}, i.e. the number of constraint violations is not limited.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	String MAX_VIOLATIONS = "hibernate.validator.max_violations";
+
+	/**
+	 * Property corresponding to the {@link #beanMetaDataCacheFactory(BeanMetaDataCacheFactory)} method.
+	 * Accepts {@code soft}, {@code strong} or the fully qualified name of a {@link BeanMetaDataCacheFactory}
+	 * implementation. Defaults to {@code soft}.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	String BEAN_METADATA_CACHE = "hibernate.validator.bean_metadata_cache";
+
+	/**
+	 * Property corresponding to the {@link #deferredMessageInterpolation(boolean)} method.
+	 * Accepts {@code true} or {@code false}. Defaults to {@code false}.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	String DEFERRED_MESSAGE_INTERPOLATION = "hibernate.validator.deferred_message_interpolation";
+
 	/**
 	 * <p>
 	 * Returns the {@link ResourceBundleLocator} used by the
@@ -522,4 +579,140 @@ default S locales(Locale... locales) {
 	 */
 	@Incubating
 	S processedBeansTrackingVoter(ProcessedBeansTrackingVoter processedBeanTrackingVoter);
+
+	/**
+	 * En- or disables the generation at runtime of the accessors used to read the values of constrained getters.
+	 * <p>
+	 * When enabled, the value of a constrained getter is read through a class generated at runtime calling the getter
+	 * directly instead of using reflection. If the accessor cannot be generated, e.g. because the bean class is not
+	 * accessible from Hibernate Validator's module, reflection is used for this getter. Fields are always read using
+	 * reflection.
+	 * <p>
+	 * By default, reflection is used.
+	 *
+	 * @param enabled {@code true} to generate the accessors of the constrained getters, {@code false} otherwise.
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.2
+	 */
+	@Incubating
+	S generatedPropertyAccessors(boolean enabled);
+
+	/**
+	 * En- or disables the recycling of the contexts created by the {@link jakarta.validation.Validator#validate(Object, Class[])}
+	 * calls.
+	 * <p>
+	 * When enabled, each validator keeps a small bounded pool of bean validation contexts, together with the value
+	 * contexts created when cascading, and reuses them across calls instead of allocating new ones. The pool is not
+	 * bound to threads so it can be used safely from virtual threads and from nested validation calls. A context is
+	 * reset before being handed out again and is only returned to the pool once the validation call is complete.
+	 * <p>
+	 * This is mostly useful for services validating a high volume of small beans. By default, new contexts are created
+	 * for each validation call.
+	 *
+	 * @param enabled {@code true} to recycle the validation contexts, {@code false} otherwise.
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.2
+	 */
+	@Incubating
+	S validationContextPooling(boolean enabled);
+
+	/**
+	 * Defines the number of elements from which the elements of a cascaded container are validated in parallel.
+	 * <p>
+	 * When a {@link java.util.Collection}, a {@link java.util.Map} or an array marked for cascaded validation holds at
+	 * least this number of elements, its elements are split into chunks validated concurrently using the executor
+	 * defined with {@link #parallelCascadeExecutor(Executor)}. The constraint violations of the chunks are then merged in
+	 * the order of the elements, and the fail fast mode is honored: the result is the same as the one of a sequential
+	 * validation.
+	 * <p>
+	 * The parallel validation only applies to the containers traversed by the validation of a bean, and not to the
+	 * nested containers of the elements validated in parallel. The constraint validators, message interpolator and
+	 * traversable resolver in use must be thread-safe, as required by the specification.
+	 * <p>
+	 * A value lower than or equal to {@code 0} disables the parallel validation, which is the default.
+	 *
+	 * @param threshold the minimal number of elements of a container to validate its elements in parallel
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.2
+	 */
+	@Incubating
+	S parallelCascadeThreshold(int threshold);
+
+	/**
+	 * Defines the executor used to validate the elements of the large cascaded containers in parallel, see
+	 * {@link #parallelCascadeThreshold(int)}.
+	 * <p>
+	 * The thread performing the validation always takes part in the validation of the elements: the executor is only
+	 * used to speed it up, so a saturated executor does not prevent the validation from completing.
+	 * <p>
+	 * The elements validated by the executor threads are validated with the context class loader of the thread
+	 * performing the validation, which is restored once the task completes.
+	 * <p>
+	 * Defaults to the common {@link java.util.concurrent.ForkJoinPool}.
+	 *
+	 * @param executor the executor used to validate the elements of the cascaded containers in parallel
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.2
+	 */
+	@Incubating
+	S parallelCascadeExecutor(Executor executor);
+
+	/**
+	 * Limits the number of constraint violations reported by a validation call: once the given number of constraint
+	 * violations has been reached, the validation is aborted, as in fail fast mode, and the violations found so far are
+	 * returned. The messages of the discarded violations are not interpolated.
+	 * <p>
+	 * This bounds the resources spent on validating an object with a very large number of invalid elements while still
+	 * reporting more than the first violation.
+	 * <p>
+	 * A value lower than or equal to {@code 0} disables the limit, which is the default.
+	 *
+	 * @param maxViolations the maximum number of constraint violations reported by a validation call
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.2
+	 */
+	@Incubating
+	S maxViolations(int maxViolations);
+
+	/**
+	 * Defines the factory of the caches storing the bean metadata, and thus their eviction policy.
+	 * <p>
+	 * By default, the metadata is softly referenced and may be dropped, then rebuilt, when the heap is short of memory.
+	 * {@link BeanMetaDataCacheFactory#strong()} and {@link BeanMetaDataCacheFactory#bounded(int)} avoid the latency
+	 * spikes caused by these rebuilds.
+	 * <p>
+	 * This setting is ignored by the predefined scope validator factory.
+	 *
+	 * @param beanMetaDataCacheFactory the {@link BeanMetaDataCacheFactory} to be used
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.2
+	 */
+	@Incubating
+	S beanMetaDataCacheFactory(BeanMetaDataCacheFactory beanMetaDataCacheFactory);
+
+	/**
+	 * En- or disables the deferred interpolation of the constraint violation messages.
+	 * <p>
+	 * When enabled, the message of a constraint violation is only interpolated when
+	 * {@link jakarta.validation.ConstraintViolation#getMessage()} is called for the first time, which makes the
+	 * validation of invalid objects significantly cheaper when the callers only check whether there are violations or
+	 * use the message templates.
+	 * <p>
+	 * As a consequence:
+	 * <ul>
+	 * <li>the locale used for the interpolation is resolved when the message is first requested, not during the
+	 * validation;</li>
+	 * <li>an error happening during the interpolation is thrown by {@code getMessage()} instead of the validation
+	 * call, {@code toString()} showing the message template instead;</li>
+	 * <li>two constraint violations are considered equal if they have the same message template, message parameters
+	 * and expression variables, instead of the same interpolated message.</li>
+	 * </ul>
+	 *
+	 * @param deferredMessageInterpolation {@code true} to defer the interpolation of the messages, {@code false} to
+	 * interpolate them during the validation, which is the default
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.2
+	 */
+	@Incubating
+	S deferredMessageInterpolation(boolean deferredMessageInterpolation);
 }
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Provides Hibernate Validator extensions to {@link Validator} allowing to validate many beans in one call.
+ * <p>
+ * The work which does not depend on the validated bean, such as the computation of the validation order of the groups
+ * or the creation of the validation context, is only done once per batch instead of once per bean.
+ * <p>
+ * An instance is obtained with {@code validator.unwrap( BatchValidator.class )}.
+ *
+ * @since 9.2
+ */
+@Incubating
+public interface BatchValidator extends Validator {
+
+	/**
+	 * Validates all constraints on each of the given objects.
+	 *
+	 * @param objects the objects to validate, none of them can be {@code null}
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link jakarta.validation.groups.Default})
+	 * @param <T> the type of the objects to validate
+	 * @return the constraint violations of the invalid objects, keyed by the index of the object in the iteration order
+	 *         of {@code objects} and ordered by this index. The valid objects have no entry.
+	 * @throws IllegalArgumentException if {@code objects} or any of its elements is {@code null}, or if {@code null}
+	 *         is passed to the varargs groups
+	 * @throws jakarta.validation.ValidationException if a non recoverable error happens during the validation process
+	 * @see Validator#validate(Object, Class[])
+	 */
+	<T> Map<Integer, Set<ConstraintViolation<T>>> validateAll(Iterable<? extends T> objects, Class<?>... groups);
+
+	/**
+	 * Validates all constraints on each of the given objects, distributing the objects on the given executor.
+	 * <p>
+	 * The calling thread takes part in the validation, so that it completes even if the executor does not run the
+	 * submitted tasks in a timely manner or rejects them. The result is the same as for
+	 * {@link #validateAll(Iterable, Class[])}: if the validation of an object fails with an exception, the exception of
+	 * the first failing object is rethrown.
+	 *
+	 * @param objects the objects to validate, none of them can be {@code null}
+	 * @param executor the executor used to validate the objects in parallel
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link jakarta.validation.groups.Default})
+	 * @param <T> the type of the objects to validate
+	 * @return the constraint violations of the invalid objects, keyed by the index of the object in the iteration order
+	 *         of {@code objects} and ordered by this index. The valid objects have no entry.
+	 * @throws IllegalArgumentException if {@code objects}, {@code executor} or any of the objects is {@code null}, or if
+	 *         {@code null} is passed to the varargs groups
+	 * @throws jakarta.validation.ValidationException if a non recoverable error happens during the validation process
+	 */
+	<T> Map<Integer, Set<ConstraintViolation<T>>> validateAll(Iterable<? extends T> objects, Executor executor, Class<?>... groups);
+}
@@ -4,6 +4,9 @@
  */
 package org.hibernate.validator;
 
+import java.util.Set;
+import java.util.concurrent.Executor;
+
 /**
  * Uniquely identifies Hibernate Validator in the Bean Validation bootstrap
  * strategy. Also contains Hibernate Validator specific configurations.
@@ -12,4 +15,70 @@
  */
 public interface HibernateValidatorConfiguration extends BaseHibernateValidatorConfiguration<HibernateValidatorConfiguration> {
 
+	/**
+	 * Property corresponding to the {@link #warmUpBeanMetaData(Set)} method.
+	 * Accepts a comma-separated list of fully qualified class names.
+	 * The classes which cannot be loaded are logged and ignored.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	String BEAN_METADATA_WARM_UP_CLASSES = "hibernate.validator.bean_metadata_warm_up_classes";
+
+	/**
+	 * Property corresponding to the {@link #warmUpBeanMetaDataOfPackages(Set)} method.
+	 * Accepts a comma-separated list of package names.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	String BEAN_METADATA_WARM_UP_PACKAGES = "hibernate.validator.bean_metadata_warm_up_packages";
+
+	/**
+	 * Specify the beans whose metadata is built in the background once the validator factory is created, using the
+	 * executor defined with {@link #beanMetaDataWarmUpExecutor(Executor)}, so that their first validation does not
+	 * have to build it.
+	 * <p>
+	 * A validation requiring the metadata of a bean before it has been built in the background builds it on demand,
+	 * or waits for it if it is being built. The metadata of a bean is never built twice concurrently.
+	 * <p>
+	 * The progress of the warm-up is exposed by {@link HibernateValidatorFactory#getBeanMetaDataWarmUp()}.
+	 *
+	 * @param beanClasses the classes of the beans whose metadata is built in the background
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	HibernateValidatorConfiguration warmUpBeanMetaData(Set<Class<?>> beanClasses);
+
+	/**
+	 * Specify packages whose beans have their metadata built in the background once the validator factory is created,
+	 * see {@link #warmUpBeanMetaData(Set)}.
+	 * <p>
+	 * The beans are the types of these packages, subpackages included, listed in the constrained types indexes
+	 * generated at build time by the Hibernate Validator annotation processor when its {@code constrainedTypesIndex}
+	 * option is enabled. The indexes are looked up using the external class loader if defined, the thread context class
+	 * loader otherwise.
+	 *
+	 * @param packageNames the names of the packages whose beans have their metadata built in the background
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	HibernateValidatorConfiguration warmUpBeanMetaDataOfPackages(Set<String> packageNames);
+
+	/**
+	 * Defines the executor building the metadata of the beans to warm up, see {@link #warmUpBeanMetaData(Set)}.
+	 * <p>
+	 * Defaults to the common {@link java.util.concurrent.ForkJoinPool}.
+	 *
+	 * @param executor the executor building the metadata of the beans to warm up
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	HibernateValidatorConfiguration beanMetaDataWarmUpExecutor(Executor executor);
 }
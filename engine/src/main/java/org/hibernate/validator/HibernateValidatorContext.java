@@ -6,6 +6,7 @@
 package org.hibernate.validator;
 
 import java.time.Duration;
+import java.util.Locale;
 
 import jakarta.validation.ClockProvider;
 import jakarta.validation.ConstraintValidatorFactory;
@@ -190,4 +191,51 @@ public interface HibernateValidatorContext extends ValidatorContext {
 	 */
 	@Incubating
 	HibernateValidatorContext failFastOnPropertyViolation(boolean failFastOnPropertyViolation);
+
+	/**
+	 * Limits the number of constraint violations reported by a validation call: once the given number of constraint
+	 * violations has been reached, the validation is aborted and the violations found so far are returned.
+	 * <p>
+	 * A value lower than or equal to {@code 0} disables the limit.
+	 *
+	 * @param maxViolations the maximum number of constraint violations reported by a validation call
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	HibernateValidatorContext maxViolations(int maxViolations);
+
+	/**
+	 * En- or disables the deferred interpolation of the constraint violation messages: when enabled, the message of a
+	 * constraint violation is only interpolated when it is requested for the first time.
+	 *
+	 * @param deferredMessageInterpolation {@code true} to defer the interpolation of the messages, {@code false}
+	 * otherwise
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @see BaseHibernateValidatorConfiguration#deferredMessageInterpolation(boolean)
+	 * @since 9.2
+	 */
+	@Incubating
+	HibernateValidatorContext deferredMessageInterpolation(boolean deferredMessageInterpolation);
+
+	/**
+	 * Defines the locale in which the constraint violation messages are interpolated, instead of the locale returned
+	 * by the {@link org.hibernate.validator.spi.messageinterpolation.LocaleResolver} of the message interpolator for
+	 * each constraint violation.
+	 * <p>
+	 * This is typically useful when a validator is obtained per request: the locale of the request is then resolved
+	 * once and bound to the validator.
+	 *
+	 * @param locale the locale of the messages, {@code null} to let the message interpolator resolve the locale
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	HibernateValidatorContext locale(Locale locale);
 }
@@ -6,11 +6,17 @@
 package org.hibernate.validator;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import jakarta.validation.ValidatorFactory;
 
 import org.hibernate.validator.constraints.ParameterScriptAssert;
 import org.hibernate.validator.constraints.ScriptAssert;
+import org.hibernate.validator.constraintvalidation.ConstraintValidatorCacheStatistics;
+import org.hibernate.validator.metadata.BeanMetaDataCacheFactory;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
 import org.hibernate.validator.spi.scripting.ScriptEvaluator;
@@ -67,6 +73,63 @@ public interface HibernateValidatorFactory extends ValidatorFactory {
 	@Incubating
 	PropertyNodeNameProvider getPropertyNodeNameProvider();
 
+	/**
+	 * Returns a snapshot of the statistics of the caches storing the bean metadata of this factory.
+	 *
+	 * @return the bean metadata cache statistics, aggregated over all the caches of this factory
+	 *
+	 * @since 9.2
+	 * @see BeanMetaDataCacheFactory
+	 */
+	@Incubating
+	BeanMetaDataCacheStatistics getBeanMetaDataCacheStatistics();
+
+	/**
+	 * Returns a snapshot of the statistics of the caches storing the initialized constraint validators of this factory.
+	 *
+	 * @return the constraint validator cache statistics
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	ConstraintValidatorCacheStatistics getConstraintValidatorCacheStatistics();
+
+	/**
+	 * Initializes, in parallel, the constraint validators of the constraints hosted by the given beans so that the
+	 * first validations do not have to.
+	 * <p>
+	 * The class-level, property and container element constraints of the beans are considered; the constraints of
+	 * the methods and constructors are initialized on their first validation. Only the constraint validators created by
+	 * the constraint validator factory of this {@link ValidatorFactory} are initialized.
+	 *
+	 * @param beanClasses the classes of the beans whose constraint validators are initialized
+	 * @param executor the executor running the initializations
+	 *
+	 * @return a future completed once all the constraint validators have been initialized, or completed exceptionally
+	 * if the initialization of one of them failed
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	CompletableFuture<Void> initializeConstraintValidators(Collection<Class<?>> beanClasses, Executor executor);
+
+	/**
+	 * Returns the progress of the background build of the metadata of the beans configured with
+	 * {@link HibernateValidatorConfiguration#warmUpBeanMetaData(java.util.Set)} and
+	 * {@link HibernateValidatorConfiguration#warmUpBeanMetaDataOfPackages(java.util.Set)}.
+	 * <p>
+	 * A bean whose metadata could not be built in the background has it built on its first validation, which reports
+	 * the failure.
+	 *
+	 * @return a future completed once the metadata of all the beans to warm up has been built, or completed
+	 * exceptionally if building one of them failed; an already completed future if there is nothing to warm up, which
+	 * is always the case for the predefined scope validator factory
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	CompletableFuture<Void> getBeanMetaDataWarmUp();
+
 	/**
 	 * Returns a context for validator configuration via options from the
 	 * Bean Validation API as well as specific ones from Hibernate Validator.
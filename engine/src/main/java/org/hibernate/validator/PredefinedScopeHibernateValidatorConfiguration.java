@@ -35,4 +35,42 @@ public interface PredefinedScopeHibernateValidatorConfiguration extends BaseHibe
 	 */
 	@Incubating
 	PredefinedScopeHibernateValidatorConfiguration includeBeansAndConstraintsDefinedOnlyInXml(boolean include);
+
+	/**
+	 * Specify whether to append the {@link #initializeBeanMetaData(Set) beans to initialize} with the types listed in
+	 * the constrained types indexes generated at build time by the Hibernate Validator annotation processor, when its
+	 * {@code constrainedTypesIndex} option is enabled.
+	 * <p>
+	 * The indexes are looked up as {@code META-INF/hibernate-validator/constrained-types} resources using the
+	 * external class loader if defined, the thread context class loader otherwise.
+	 * A listed type that cannot be loaded is logged and ignored. The metadata of the listed types is still built from
+	 * their annotations when the factory is created.
+	 * <p>
+	 * This option is disabled by default.
+	 *
+	 * @param include Whether to include the types listed in the constrained types indexes as part of the
+	 * {@link #initializeBeanMetaData(Set) set of beans to initialize}.
+	 * @return {@code this} for chaining configuration method calls.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	PredefinedScopeHibernateValidatorConfiguration includeBeansListedInConstrainedTypesIndex(boolean include);
+
+	/**
+	 * Specify the number of threads building in parallel the metadata of the {@link #initializeBeanMetaData(Set) beans
+	 * to initialize} when the validator factory is created.
+	 * <p>
+	 * The threads belong to a fork join pool dedicated to the creation of the validator factory. A parallelism of
+	 * {@code 1} builds the metadata in the thread creating the validator factory.
+	 * <p>
+	 * Defaults to the number of available processors.
+	 *
+	 * @param parallelism the number of threads building the metadata, must be greater than or equal to {@code 1}
+	 * @return {@code this} for chaining configuration method calls.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	PredefinedScopeHibernateValidatorConfiguration beanMetaDataInitializationParallelism(int parallelism);
 }
@@ -7,6 +7,8 @@
 
 import jakarta.validation.ValidatorFactory;
 
+import org.hibernate.validator.metadata.BeanMetaDataInitializationStatistics;
+
 /**
  * Provides Hibernate Validator extensions to {@link ValidatorFactory} in the context of a predefined scope.
  *
@@ -14,4 +16,15 @@
  */
 @Incubating
 public interface PredefinedScopeHibernateValidatorFactory extends HibernateValidatorFactory {
+
+	/**
+	 * Returns the statistics of the initialization of the bean metadata performed when this factory was created.
+	 *
+	 * @return the bean metadata initialization statistics
+	 *
+	 * @since 9.2
+	 * @see PredefinedScopeHibernateValidatorConfiguration#beanMetaDataInitializationParallelism(int)
+	 */
+	@Incubating
+	BeanMetaDataInitializationStatistics getBeanMetaDataInitializationStatistics();
 }
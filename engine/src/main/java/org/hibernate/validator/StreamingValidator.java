@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator;
+
+import java.util.function.Consumer;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Provides Hibernate Validator extensions to {@link Validator} allowing to receive the constraint violations as they
+ * are found instead of collecting them into a set.
+ * <p>
+ * The memory used by the validation then does not depend on the number of constraint violations, which is useful when
+ * validating beans hosting very large containers. Unlike with {@link Validator#validate(Object, Class[])}, the
+ * constraint violations are not deduplicated: if the same constraint violation is reported twice during the
+ * validation, e.g. because of group conversions, it is sent twice to the consumer.
+ * <p>
+ * The consumer is always invoked by the thread calling the validation.
+ * <p>
+ * An instance is obtained with {@code validator.unwrap( StreamingValidator.class )}.
+ *
+ * @since 9.2
+ */
+@Incubating
+public interface StreamingValidator extends Validator {
+
+	/**
+	 * Validates all constraints on {@code object}, sending the constraint violations to the given consumer.
+	 *
+	 * @param object object to validate
+	 * @param violationConsumer the consumer receiving each constraint violation as soon as it is found
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link jakarta.validation.groups.Default})
+	 * @param <T> the type of the object to validate
+	 * @return the number of constraint violations sent to the consumer
+	 * @throws IllegalArgumentException if object or violationConsumer is {@code null} or if {@code null} is passed to
+	 *         the varargs groups
+	 * @throws jakarta.validation.ValidationException if a non recoverable error happens during the validation process
+	 */
+	<T> int validate(T object, Consumer<? super ConstraintViolation<T>> violationConsumer, Class<?>... groups);
+
+	/**
+	 * Validates all constraints on {@code object}, sending the constraint violations to the given consumer and stopping
+	 * the validation once {@code maxViolations} constraint violations have been sent.
+	 *
+	 * @param object object to validate
+	 * @param violationConsumer the consumer receiving each constraint violation as soon as it is found
+	 * @param maxViolations the maximum number of constraint violations sent to the consumer, must be at least 1
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link jakarta.validation.groups.Default})
+	 * @param <T> the type of the object to validate
+	 * @return the number of constraint violations sent to the consumer
+	 * @throws IllegalArgumentException if object or violationConsumer is {@code null}, if maxViolations is lower than 1
+	 *         or if {@code null} is passed to the varargs groups
+	 * @throws jakarta.validation.ValidationException if a non recoverable error happens during the validation process
+	 */
+	<T> int validate(T object, Consumer<? super ConstraintViolation<T>> violationConsumer, int maxViolations, Class<?>... groups);
+}
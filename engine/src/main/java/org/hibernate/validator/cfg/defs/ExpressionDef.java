@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.cfg.defs;
+
+import org.hibernate.validator.Incubating;
+import org.hibernate.validator.cfg.ConstraintDef;
+import org.hibernate.validator.constraints.Expression;
+
+/**
+ * An {@link Expression} constraint definition.
+ *
+ * @since 9.2
+ */
+@Incubating
+public class ExpressionDef extends ConstraintDef<ExpressionDef, Expression> {
+
+	public ExpressionDef() {
+		super( Expression.class );
+	}
+
+	public ExpressionDef value(String value) {
+		addParameter( "value", value );
+		return this;
+	}
+
+	public ExpressionDef alias(String alias) {
+		addParameter( "alias", alias );
+		return this;
+	}
+
+	public ExpressionDef reportOn(String reportOn) {
+		addParameter( "reportOn", reportOn );
+		return this;
+	}
+}
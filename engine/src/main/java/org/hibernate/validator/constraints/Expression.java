@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.constraints;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import org.hibernate.validator.Incubating;
+import org.hibernate.validator.constraints.Expression.List;
+
+/**
+ * <p>
+ * A class-level constraint, that evaluates an expression over the properties
+ * of the annotated element. This constraint can be used to implement
+ * validation routines, that depend on multiple attributes of the annotated
+ * element, without any scripting engine:
+ * </p>
+ * <pre>
+ * {@code @Expression("_this.startDate < _this.endDate")
+ * public class CalendarEvent {
+ *
+ * 	private Date startDate;
+ *
+ * 	private Date endDate;
+ *
+ * 	//...
+ *
+ * }
+ * }
+ * </pre>
+ * <p>
+ * The expression is written in a safe subset of the Expression Language: the
+ * literals, the property accesses (public getters of public types, record
+ * accessors and map entries), the arithmetic, relational, equality, logical,
+ * {@code empty} and conditional operators, with the type coercions of the
+ * Expression Language. Method calls, functions and assignments are not
+ * supported. The expression is parsed once, when the constraint is
+ * initialized, and then evaluated without any script engine.
+ * </p>
+ * <p>
+ * Accepts any type.
+ * </p>
+ *
+ * @since 9.2
+ * @see ScriptAssert
+ */
+@Incubating
+@Documented
+@Constraint(validatedBy = { })
+@Target({ TYPE })
+@Retention(RUNTIME)
+@Repeatable(List.class)
+public @interface Expression {
+
+	String message() default "{org.hibernate.validator.constraints.Expression.message}";
+
+	Class<?>[] groups() default { };
+
+	Class<? extends Payload>[] payload() default { };
+
+	/**
+	 * @return The expression to be evaluated. The expression must return
+	 *         {@code true}, if the annotated element could successfully be
+	 *         validated, otherwise {@code false}. An invalid expression, or
+	 *         an expression returning null or any type other than Boolean will
+	 *         cause a {@link jakarta.validation.ConstraintDeclarationException}.
+	 *         Within the expression, the validated object can be accessed using
+	 *         the name specified in the {@code alias} attribute.
+	 */
+	String value();
+
+	/**
+	 * @return The name, under which the annotated element can be accessed
+	 *         within the expression. Defaults to "_this".
+	 */
+	String alias() default "_this";
+
+	/**
+	 * @return The name of the property for which you would like to report a validation error.
+	 * If given, the resulting constraint violation will be reported on the specified property.
+	 * If not given, the constraint violation will be reported on the annotated bean.
+	 */
+	String reportOn() default "";
+
+	/**
+	 * Defines several {@code @Expression} annotations on the same element.
+	 */
+	@Target({ TYPE })
+	@Retention(RUNTIME)
+	@Documented
+	public @interface List {
+		Expression[] value();
+	}
+}
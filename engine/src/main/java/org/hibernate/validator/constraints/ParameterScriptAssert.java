@@ -65,7 +65,8 @@
 
 	/**
 	 * @return The name of the script language used by this constraint as
-	 *         expected by the JSR 223 {@link javax.script.ScriptEngineManager}. A
+	 *         expected by the JSR 223 {@link javax.script.ScriptEngineManager},
+	 *         or {@code expression} for the built-in expression language. A
 	 *         {@link jakarta.validation.ConstraintDeclarationException} will be thrown upon script
 	 *         evaluation, if no engine for the given language could be found.
 	 */
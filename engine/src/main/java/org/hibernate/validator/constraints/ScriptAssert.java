@@ -62,6 +62,25 @@
  * }
  * </pre>
  * <p>
+ * The built-in {@code expression} language, a subset of the Expression Language
+ * supporting property accesses but no method calls, does not require any script
+ * engine:
+ * </p>
+ *
+ * <pre>
+ * {@code @ScriptAssert(lang = "expression", script = "_this.startDate < _this.endDate")
+ * public class CalendarEvent {
+ *
+ * 	private Date startDate;
+ *
+ * 	private Date endDate;
+ *
+ * 	//...
+ *
+ * }
+ * }
+ * </pre>
+ * <p>
  * Accepts any type.
  * </p>
  *
@@ -82,7 +101,8 @@
 
 	/**
 	 * @return The name of the script language used by this constraint as
-	 *         expected by the JSR 223 {@link javax.script.ScriptEngineManager}. A
+	 *         expected by the JSR 223 {@link javax.script.ScriptEngineManager},
+	 *         or {@code expression} for the built-in expression language. A
 	 *         {@link jakarta.validation.ConstraintDeclarationException} will be thrown upon script
 	 *         evaluation, if no engine for the given language could be found.
 	 */
@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.constraintvalidation;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * A snapshot of the statistics of the caches storing the initialized constraint validators of a validator factory.
+ * <p>
+ * The constraint validators created by the default constraint validator factory with the default initialization
+ * context are always cached. The hit and miss counts relate to the lookups of the constraint validators created for
+ * the validators using another constraint validator factory or initialization context, e.g. the validators obtained
+ * through {@link jakarta.validation.ValidatorFactory#usingContext()}: such constraint validators are only cached for the
+ * most recently used factory and initialization context.
+ *
+ * @since 9.2
+ */
+@Incubating
+public interface ConstraintValidatorCacheStatistics {
+
+	/**
+	 * @return the number of lookups of a constraint validator for a non-default factory or initialization context
+	 * served by the cache of the constraint
+	 */
+	long getHitCount();
+
+	/**
+	 * @return the number of lookups of a constraint validator for a non-default factory or initialization context
+	 * which required a lookup in the cache of the factory, and possibly the creation of the constraint validator
+	 */
+	long getMissCount();
+
+	/**
+	 * @return the number of times the constraint validators of a non-default factory or initialization context have
+	 * been released because another non-default factory or initialization context has been used
+	 */
+	long getEvictionCount();
+
+	/**
+	 * @return the number of constraint validators currently cached by the factory
+	 */
+	int getSize();
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.constraintvalidators.hv;
+
+import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
+
+import java.lang.invoke.MethodHandles;
+
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.validator.constraints.Expression;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.internal.engine.messageinterpolation.expression.SimpleExpression;
+import org.hibernate.validator.internal.engine.messageinterpolation.expression.SimpleExpressionContext;
+import org.hibernate.validator.internal.engine.messageinterpolation.expression.SimpleExpressionException;
+import org.hibernate.validator.internal.engine.messageinterpolation.expression.SimpleExpressionParser;
+import org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper;
+import org.hibernate.validator.internal.util.Contracts;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * Validator for the {@link Expression} constraint annotation.
+ * <p>
+ * The expression is parsed once, when the validator is initialized, and evaluated against the validated object bound to
+ * the alias, without any script engine. The properties are read by calling their getters through reflection.
+ */
+public class ExpressionValidator implements HibernateConstraintValidator<Expression, Object> {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private String expressionString;
+	private String escapedExpression;
+	private SimpleExpression expression;
+	private String alias;
+	private String reportOn;
+	private String message;
+
+	@Override
+	public void initialize(ConstraintDescriptor<Expression> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		Expression constraintAnnotation = constraintDescriptor.getAnnotation();
+		validateParameters( constraintAnnotation );
+
+		this.expressionString = constraintAnnotation.value();
+		this.escapedExpression = InterpolationHelper.escapeMessageParameter( expressionString );
+		try {
+			this.expression = SimpleExpressionParser.parseScript( expressionString );
+		}
+		catch (SimpleExpressionException e) {
+			throw LOG.getInvalidExpressionException( expressionString, e );
+		}
+
+		this.alias = constraintAnnotation.alias();
+		this.reportOn = constraintAnnotation.reportOn();
+		this.message = constraintAnnotation.message();
+	}
+
+	@Override
+	public boolean isValid(Object value, ConstraintValidatorContext constraintValidatorContext) {
+		if ( constraintValidatorContext instanceof HibernateConstraintValidatorContext ) {
+			constraintValidatorContext.unwrap( HibernateConstraintValidatorContext.class ).addMessageParameter( "expression", escapedExpression );
+		}
+
+		Object result;
+		try {
+			result = expression.evaluate( new SimpleExpressionContext( alias, value ) );
+		}
+		catch (RuntimeException e) {
+			throw LOG.getErrorDuringExpressionEvaluationException( expressionString, e );
+		}
+
+		if ( !( result instanceof Boolean ) ) {
+			throw LOG.getExpressionMustReturnTrueOrFalseException( expressionString, result );
+		}
+
+		boolean validationResult = (Boolean) result;
+
+		if ( !validationResult && !reportOn.isEmpty() ) {
+			constraintValidatorContext.disableDefaultConstraintViolation();
+			constraintValidatorContext.buildConstraintViolationWithTemplate( message ).addPropertyNode( reportOn ).addConstraintViolation();
+		}
+
+		return validationResult;
+	}
+
+	private void validateParameters(Expression constraintAnnotation) {
+		Contracts.assertNotEmpty( constraintAnnotation.value(), MESSAGES.parameterMustNotBeEmpty( "value" ) );
+		Contracts.assertNotEmpty( constraintAnnotation.alias(), MESSAGES.parameterMustNotBeEmpty( "alias" ) );
+	}
+}
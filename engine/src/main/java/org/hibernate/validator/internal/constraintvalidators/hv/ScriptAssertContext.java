@@ -11,12 +11,14 @@
 
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.spi.scripting.PreparedScript;
 import org.hibernate.validator.spi.scripting.ScriptEvaluationException;
 import org.hibernate.validator.spi.scripting.ScriptEvaluator;
 
 /**
  * Context used by validator implementations dealing with script expressions. Instances are thread-safe and can be re-used
- * several times to evaluate different bindings against one given given script expression.
+ * several times to evaluate different bindings against one given given script expression, prepared once by the
+ * {@link ScriptEvaluator}.
  *
  * @author Gunnar Morling
  * @author Marko Bekhta
@@ -26,11 +28,11 @@ class ScriptAssertContext {
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
 	private final String script;
-	private final ScriptEvaluator scriptEvaluator;
+	private final PreparedScript preparedScript;
 
 	public ScriptAssertContext(String script, ScriptEvaluator scriptEvaluator) {
 		this.script = script;
-		this.scriptEvaluator = scriptEvaluator;
+		this.preparedScript = scriptEvaluator.prepare( script );
 	}
 
 	public boolean evaluateScriptAssertExpression(Object object, String alias) {
@@ -44,7 +46,7 @@ public boolean evaluateScriptAssertExpression(Map<String, Object> bindings) {
 		Object result;
 
 		try {
-			result = scriptEvaluator.evaluate( script, bindings );
+			result = preparedScript.evaluate( bindings );
 		}
 		catch (ScriptEvaluationException e) {
 			throw LOG.getErrorDuringScriptExecutionException( script, e );
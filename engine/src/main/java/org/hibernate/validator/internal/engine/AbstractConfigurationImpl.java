@@ -18,6 +18,7 @@
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import jakarta.validation.BootstrapConfiguration;
@@ -56,6 +57,7 @@
 import org.hibernate.validator.internal.xml.config.ValidationXmlParser;
 import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
 import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
+import org.hibernate.validator.metadata.BeanMetaDataCacheFactory;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
 import org.hibernate.validator.resourceloading.PlatformResourceBundleLocator;
 import org.hibernate.validator.spi.messageinterpolation.LocaleResolver;
@@ -120,6 +122,8 @@
 	private final MethodValidationConfiguration.Builder methodValidationConfigurationBuilder = new MethodValidationConfiguration.Builder();
 	private boolean failFast;
 	private boolean failFastOnPropertyViolation;
+	private int maxViolations;
+	private boolean deferredMessageInterpolation;
 	private ClassLoader externalClassLoader;
 	private boolean traversableResolverResultCacheEnabled = true;
 	private ScriptEvaluatorFactory scriptEvaluatorFactory;
@@ -130,10 +134,15 @@
 	private Locale defaultLocale = Locale.getDefault();
 	private LocaleResolver localeResolver;
 	private BeanMetaDataClassNormalizer beanMetaDataClassNormalizer;
+	private BeanMetaDataCacheFactory beanMetaDataCacheFactory;
 	private ExpressionLanguageFeatureLevel constraintExpressionLanguageFeatureLevel;
 	private ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel;
 	private ProcessedBeansTrackingVoter processedBeansTrackingVoter;
 	private boolean showValidatedValuesInTraceLogs;
+	private boolean generatedPropertyAccessors;
+	private boolean validationContextPooling;
+	private int parallelCascadeThreshold;
+	private Executor parallelCascadeExecutor;
 
 	protected AbstractConfigurationImpl(BootstrapState state) {
 		this();
@@ -305,6 +314,18 @@ public T failFastOnPropertyViolation(boolean failFastOnPropertyViolation) {
 		return thisAsT();
 	}
 
+	@Override
+	public T maxViolations(int maxViolations) {
+		this.maxViolations = maxViolations;
+		return thisAsT();
+	}
+
+	@Override
+	public T deferredMessageInterpolation(boolean deferredMessageInterpolation) {
+		this.deferredMessageInterpolation = deferredMessageInterpolation;
+		return thisAsT();
+	}
+
 	@Override
 	public T allowOverridingMethodAlterParameterConstraint(boolean allow) {
 		this.methodValidationConfigurationBuilder.allowOverridingMethodAlterParameterConstraint( allow );
@@ -408,7 +429,8 @@ public MethodValidationConfiguration getMethodValidationConfiguration() {
 	public final DefaultConstraintMapping createConstraintMapping() {
 		return new DefaultConstraintMapping( new JavaBeanHelper(
 				getterPropertySelectionStrategy == null ? new DefaultGetterPropertySelectionStrategy() : getterPropertySelectionStrategy,
-				validationBootstrapParameters.getPropertyNodeNameProvider() == null ? defaultPropertyNodeNameProvider : validationBootstrapParameters.getPropertyNodeNameProvider()
+				validationBootstrapParameters.getPropertyNodeNameProvider() == null ? defaultPropertyNodeNameProvider : validationBootstrapParameters.getPropertyNodeNameProvider(),
+				generatedPropertyAccessors
 		) );
 	}
 
@@ -520,6 +542,14 @@ public final boolean getFailFastOnPropertyViolation() {
 		return this.failFastOnPropertyViolation;
 	}
 
+	public final int getMaxViolations() {
+		return this.maxViolations;
+	}
+
+	public final boolean isDeferredMessageInterpolation() {
+		return this.deferredMessageInterpolation;
+	}
+
 	@Override
 	public final ConstraintValidatorFactory getConstraintValidatorFactory() {
 		return validationBootstrapParameters.getConstraintValidatorFactory();
@@ -659,6 +689,17 @@ public BeanMetaDataClassNormalizer getBeanMetaDataClassNormalizer() {
 		return beanMetaDataClassNormalizer;
 	}
 
+	@Override
+	public T beanMetaDataCacheFactory(BeanMetaDataCacheFactory beanMetaDataCacheFactory) {
+		Contracts.assertNotNull( beanMetaDataCacheFactory, MESSAGES.parameterMustNotBeNull( "beanMetaDataCacheFactory" ) );
+		this.beanMetaDataCacheFactory = beanMetaDataCacheFactory;
+		return thisAsT();
+	}
+
+	public BeanMetaDataCacheFactory getBeanMetaDataCacheFactory() {
+		return beanMetaDataCacheFactory;
+	}
+
 	@Override
 	public T constraintExpressionLanguageFeatureLevel(ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel) {
 		if ( LOG.isDebugEnabled() ) {
@@ -715,6 +756,47 @@ public ProcessedBeansTrackingVoter getProcessedBeansTrackingVoter() {
 		return processedBeansTrackingVoter;
 	}
 
+	@Override
+	public T generatedPropertyAccessors(boolean enabled) {
+		this.generatedPropertyAccessors = enabled;
+		return thisAsT();
+	}
+
+	public final boolean isGeneratedPropertyAccessors() {
+		return this.generatedPropertyAccessors;
+	}
+
+	@Override
+	public T validationContextPooling(boolean enabled) {
+		this.validationContextPooling = enabled;
+		return thisAsT();
+	}
+
+	public final boolean isValidationContextPooling() {
+		return this.validationContextPooling;
+	}
+
+	@Override
+	public T parallelCascadeThreshold(int threshold) {
+		this.parallelCascadeThreshold = threshold;
+		return thisAsT();
+	}
+
+	public final int getParallelCascadeThreshold() {
+		return this.parallelCascadeThreshold;
+	}
+
+	@Override
+	public T parallelCascadeExecutor(Executor executor) {
+		Contracts.assertNotNull( executor, MESSAGES.parameterMustNotBeNull( "executor" ) );
+		this.parallelCascadeExecutor = executor;
+		return thisAsT();
+	}
+
+	public final Executor getParallelCascadeExecutor() {
+		return this.parallelCascadeExecutor;
+	}
+
 	public final Set<DefaultConstraintMapping> getProgrammaticMappings() {
 		return programmaticMappings;
 	}
@@ -4,11 +4,19 @@
  */
 package org.hibernate.validator.internal.engine;
 
+import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
 import jakarta.validation.spi.BootstrapState;
 import jakarta.validation.spi.ConfigurationState;
 import jakarta.validation.spi.ValidationProvider;
 
 import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.internal.util.CollectionHelper;
+import org.hibernate.validator.internal.util.Contracts;
 
 /**
  * Hibernate specific {@code Configuration} implementation.
@@ -22,6 +30,12 @@
  */
 public class ConfigurationImpl extends AbstractConfigurationImpl<HibernateValidatorConfiguration> implements HibernateValidatorConfiguration, ConfigurationState {
 
+	private Set<Class<?>> beanClassesToWarmUp = Collections.emptySet();
+
+	private Set<String> packagesToWarmUp = Collections.emptySet();
+
+	private Executor beanMetaDataWarmUpExecutor;
+
 	public ConfigurationImpl(BootstrapState state) {
 		super( state );
 	}
@@ -30,6 +44,39 @@ public ConfigurationImpl(ValidationProvider<?> provider) {
 		super( provider );
 	}
 
+	@Override
+	public HibernateValidatorConfiguration warmUpBeanMetaData(Set<Class<?>> beanClasses) {
+		Contracts.assertNotNull( beanClasses, MESSAGES.parameterMustNotBeNull( "beanClasses" ) );
+		this.beanClassesToWarmUp = CollectionHelper.toImmutableSet( beanClasses );
+		return thisAsT();
+	}
+
+	public Set<Class<?>> getBeanClassesToWarmUp() {
+		return beanClassesToWarmUp;
+	}
+
+	@Override
+	public HibernateValidatorConfiguration warmUpBeanMetaDataOfPackages(Set<String> packageNames) {
+		Contracts.assertNotNull( packageNames, MESSAGES.parameterMustNotBeNull( "packageNames" ) );
+		this.packagesToWarmUp = CollectionHelper.toImmutableSet( packageNames );
+		return thisAsT();
+	}
+
+	public Set<String> getPackagesToWarmUp() {
+		return packagesToWarmUp;
+	}
+
+	@Override
+	public HibernateValidatorConfiguration beanMetaDataWarmUpExecutor(Executor executor) {
+		Contracts.assertNotNull( executor, MESSAGES.parameterMustNotBeNull( "executor" ) );
+		this.beanMetaDataWarmUpExecutor = executor;
+		return thisAsT();
+	}
+
+	public Executor getBeanMetaDataWarmUpExecutor() {
+		return beanMetaDataWarmUpExecutor;
+	}
+
 	@Override
 	protected boolean preloadResourceBundles() {
 		return false;
@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.invoke.MethodHandles;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import jakarta.validation.ValidationException;
+
+import org.hibernate.validator.internal.util.actions.GetResources;
+import org.hibernate.validator.internal.util.actions.LoadClass;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * Reads the index of the constrained types generated by the Hibernate Validator annotation processor when the
+ * {@code constrainedTypesIndex} option is enabled.
+ * <p>
+ * All the index resources visible from the class loader are read: each line contains the binary name of a type
+ * hosting constraints or cascaded elements, empty lines and lines starting with {@code #} are ignored.
+ * <p>
+ * A listed type that cannot be loaded, e.g. a type removed since the index was generated, is logged and ignored.
+ */
+final class ConstrainedTypesIndex {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	/**
+	 * The name of the index resource, must be kept in sync with the annotation processor.
+	 */
+	static final String RESOURCE_NAME = "META-INF/hibernate-validator/constrained-types";
+
+	private static final String COMMENT_PREFIX = "#";
+
+	private ConstrainedTypesIndex() {
+	}
+
+	/**
+	 * Loads the types listed in the constrained types indexes.
+	 *
+	 * @param classLoader the class loader used to look up the indexes and load the listed types
+	 *
+	 * @return the types listed in the indexes, an empty set if there is none
+	 */
+	static Set<Class<?>> load(ClassLoader classLoader) {
+		return load( classLoader, className -> true );
+	}
+
+	/**
+	 * Loads the types of the given packages, subpackages included, listed in the constrained types indexes.
+	 *
+	 * @param classLoader the class loader used to look up the indexes and load the listed types
+	 * @param packageNames the names of the packages of interest
+	 *
+	 * @return the types of the given packages listed in the indexes, an empty set if there is none
+	 */
+	static Set<Class<?>> load(ClassLoader classLoader, Set<String> packageNames) {
+		return load( classLoader, className -> isInPackages( className, packageNames ) );
+	}
+
+	private static Set<Class<?>> load(ClassLoader classLoader, Predicate<String> classNameFilter) {
+		Set<Class<?>> constrainedTypes = new HashSet<>();
+
+		Enumeration<URL> indexes = GetResources.action( classLoader, RESOURCE_NAME );
+		while ( indexes.hasMoreElements() ) {
+			URL index = indexes.nextElement();
+
+			for ( String className : readClassNames( index ) ) {
+				if ( classNameFilter.test( className ) ) {
+					try {
+						constrainedTypes.add( LoadClass.action( className, classLoader ) );
+					}
+					catch (ValidationException | LinkageError e) {
+						LOG.unableToLoadConstrainedType( className, index, e );
+					}
+				}
+			}
+		}
+
+		LOG.debugf( "Found %1$d constrained types listed in the constrained types indexes.", constrainedTypes.size() );
+
+		return constrainedTypes;
+	}
+
+	private static boolean isInPackages(String className, Set<String> packageNames) {
+		for ( String packageName : packageNames ) {
+			if ( className.startsWith( packageName ) && className.length() > packageName.length()
+					&& className.charAt( packageName.length() ) == '.' ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Set<String> readClassNames(URL index) {
+		Set<String> classNames = new HashSet<>();
+
+		try ( InputStream in = index.openStream();
+				BufferedReader reader = new BufferedReader( new InputStreamReader( in, StandardCharsets.UTF_8 ) ) ) {
+			String line;
+			while ( ( line = reader.readLine() ) != null ) {
+				line = line.trim();
+				if ( !line.isEmpty() && !line.startsWith( COMMENT_PREFIX ) ) {
+					classNames.add( line );
+				}
+			}
+		}
+		catch (IOException e) {
+			throw LOG.getUnableToReadConstrainedTypesIndexException( index, e );
+		}
+
+		return classNames;
+	}
+}
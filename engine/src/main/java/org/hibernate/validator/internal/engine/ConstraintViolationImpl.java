@@ -4,10 +4,13 @@
  */
 package org.hibernate.validator.internal.engine;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
+import java.util.Objects;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Path;
@@ -19,6 +22,13 @@
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
 /**
+ * A constraint violation.
+ * <p>
+ * The message is either interpolated during the validation or, if the deferred message interpolation is enabled,
+ * interpolated when it is requested for the first time. In the latter case, the interpolated message is not known
+ * when the violation is compared to other violations: the message parameters and expression variables, which are the
+ * inputs of the interpolation in addition to the other compared properties, are compared instead.
+ *
  * @author Emmanuel Bernard
  * @author Hardy Ferentschik
  */
@@ -28,7 +38,9 @@
 	@Serial
 	private static final long serialVersionUID = -4970067626703103139L;
 
-	private final String interpolatedMessage;
+	private volatile String interpolatedMessage;
+	private final transient MessageInterpolation deferredMessageInterpolation;
+	private final boolean deferredMessage;
 	private final T rootBean;
 	private final Object value;
 	private final Path propertyPath;
@@ -47,6 +59,7 @@ public static <T> ConstraintViolation<T> forBeanValidation(String messageTemplat
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
+			MessageInterpolation deferredMessageInterpolation,
 			Class<T> rootBeanClass,
 			T rootBean,
 			Object leafBeanInstance,
@@ -59,6 +72,7 @@ public static <T> ConstraintViolation<T> forBeanValidation(String messageTemplat
 				messageParameters,
 				expressionVariables,
 				interpolatedMessage,
+				deferredMessageInterpolation,
 				rootBeanClass,
 				rootBean,
 				leafBeanInstance,
@@ -75,6 +89,7 @@ public static <T> ConstraintViolation<T> forParameterValidation(String messageTe
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
+			MessageInterpolation deferredMessageInterpolation,
 			Class<T> rootBeanClass,
 			T rootBean,
 			Object leafBeanInstance,
@@ -88,6 +103,7 @@ public static <T> ConstraintViolation<T> forParameterValidation(String messageTe
 				messageParameters,
 				expressionVariables,
 				interpolatedMessage,
+				deferredMessageInterpolation,
 				rootBeanClass,
 				rootBean,
 				leafBeanInstance,
@@ -104,6 +120,7 @@ public static <T> ConstraintViolation<T> forReturnValueValidation(String message
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
+			MessageInterpolation deferredMessageInterpolation,
 			Class<T> rootBeanClass,
 			T rootBean,
 			Object leafBeanInstance,
@@ -117,6 +134,7 @@ public static <T> ConstraintViolation<T> forReturnValueValidation(String message
 				messageParameters,
 				expressionVariables,
 				interpolatedMessage,
+				deferredMessageInterpolation,
 				rootBeanClass,
 				rootBean,
 				leafBeanInstance,
@@ -133,6 +151,7 @@ private ConstraintViolationImpl(String messageTemplate,
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
+			MessageInterpolation deferredMessageInterpolation,
 			Class<T> rootBeanClass,
 			T rootBean,
 			Object leafBeanInstance,
@@ -146,6 +165,8 @@ private ConstraintViolationImpl(String messageTemplate,
 		this.messageParameters = messageParameters;
 		this.expressionVariables = expressionVariables;
 		this.interpolatedMessage = interpolatedMessage;
+		this.deferredMessageInterpolation = deferredMessageInterpolation;
+		this.deferredMessage = deferredMessageInterpolation != null;
 		this.rootBean = rootBean;
 		this.value = value;
 		this.propertyPath = propertyPath;
@@ -161,7 +182,13 @@ private ConstraintViolationImpl(String messageTemplate,
 
 	@Override
 	public final String getMessage() {
-		return interpolatedMessage;
+		String message = interpolatedMessage;
+		if ( message == null && deferredMessageInterpolation != null ) {
+			// concurrent calls may interpolate the message more than once, the result being the same
+			message = deferredMessageInterpolation.interpolate();
+			interpolatedMessage = message;
+		}
+		return message;
 	}
 
 	@Override
@@ -251,6 +278,11 @@ public <C> C getDynamicPayload(Class<C> type) {
 	 * {@code messageParameters}, {@code expressionVariables} and {@code dynamicPayload} are not taken into account for
 	 * equality. These variables solely enrich the actual Constraint Violation with additional information e.g how we
 	 * actually got to this CV.
+	 * <p>
+	 * The only exception is the deferred message interpolation: the interpolated message is then replaced by the
+	 * message parameters and expression variables, so that comparing violations does not interpolate their messages. A
+	 * violation whose message interpolation is deferred is never equal to a violation whose message is interpolated
+	 * eagerly.
 	 *
 	 * @return true if the two ConstraintViolation's are considered equals; false otherwise
 	 */
@@ -265,7 +297,15 @@ public boolean equals(Object o) {
 
 		ConstraintViolationImpl<?> that = (ConstraintViolationImpl<?>) o;
 
-		if ( interpolatedMessage != null ? !interpolatedMessage.equals( that.interpolatedMessage ) : that.interpolatedMessage != null ) {
+		if ( deferredMessage != that.deferredMessage ) {
+			return false;
+		}
+		if ( deferredMessage ) {
+			if ( !Objects.equals( messageParameters, that.messageParameters ) || !Objects.equals( expressionVariables, that.expressionVariables ) ) {
+				return false;
+			}
+		}
+		else if ( interpolatedMessage != null ? !interpolatedMessage.equals( that.interpolatedMessage ) : that.interpolatedMessage != null ) {
 			return false;
 		}
 		if ( messageTemplate != null ? !messageTemplate.equals( that.messageTemplate ) : that.messageTemplate != null ) {
@@ -298,7 +338,7 @@ public int hashCode() {
 	public String toString() {
 		final StringBuilder sb = new StringBuilder();
 		sb.append( "ConstraintViolationImpl" );
-		sb.append( "{interpolatedMessage='" ).append( interpolatedMessage ).append( '\'' );
+		sb.append( "{interpolatedMessage='" ).append( getMessageOrTemplate() ).append( '\'' );
 		sb.append( ", propertyPath=" ).append( propertyPath );
 		sb.append( ", rootBeanClass=" ).append( rootBeanClass );
 		sb.append( ", messageTemplate='" ).append( messageTemplate ).append( '\'' );
@@ -306,11 +346,25 @@ public String toString() {
 		return sb.toString();
 	}
 
+	/**
+	 * Returns the message, or the message template if the deferred interpolation of the message fails, so that
+	 * {@link #toString()}, e.g. called when logging the violation, does not throw.
+	 */
+	private String getMessageOrTemplate() {
+		try {
+			return getMessage();
+		}
+		catch (RuntimeException e) {
+			return messageTemplate;
+		}
+	}
+
 	/**
 	 * @see #equals(Object) on which fields are taken into account
 	 */
 	private int createHashCode() {
-		int result = interpolatedMessage != null ? interpolatedMessage.hashCode() : 0;
+		// the message parameters and expression variables of the deferred messages are only taken into account by equals()
+		int result = !deferredMessage && interpolatedMessage != null ? interpolatedMessage.hashCode() : 0;
 		result = 31 * result + ( propertyPath != null ? propertyPath.hashCode() : 0 );
 		result = 31 * result + System.identityHashCode( rootBean );
 		result = 31 * result + System.identityHashCode( leafBeanInstance );
@@ -319,4 +373,11 @@ private int createHashCode() {
 		result = 31 * result + ( messageTemplate != null ? messageTemplate.hashCode() : 0 );
 		return result;
 	}
+
+	@Serial
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		// the deferred message interpolation is not serializable, the message has to be interpolated beforehand
+		getMessage();
+		out.defaultWriteObject();
+	}
 }
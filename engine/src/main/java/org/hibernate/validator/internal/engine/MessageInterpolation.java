@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine;
+
+import java.lang.invoke.MethodHandles;
+
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.ValidationException;
+
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * The inputs of the interpolation of a constraint violation message, captured during the validation so that the
+ * message can be interpolated later, when it is requested.
+ */
+public final class MessageInterpolation {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final MessageInterpolator messageInterpolator;
+
+	private final String messageTemplate;
+
+	private final MessageInterpolatorContext context;
+
+	public MessageInterpolation(MessageInterpolator messageInterpolator, String messageTemplate, MessageInterpolatorContext context) {
+		this.messageInterpolator = messageInterpolator;
+		this.messageTemplate = messageTemplate;
+		this.context = context;
+	}
+
+	public String interpolate() {
+		return interpolate( messageInterpolator, messageTemplate, context );
+	}
+
+	public static String interpolate(MessageInterpolator messageInterpolator, String messageTemplate, MessageInterpolatorContext context) {
+		try {
+			return messageInterpolator.interpolate( messageTemplate, context );
+		}
+		catch (ValidationException ve) {
+			throw ve;
+		}
+		catch (Exception e) {
+			throw LOG.getExceptionOccurredDuringMessageInterpolationException( e );
+		}
+	}
+}
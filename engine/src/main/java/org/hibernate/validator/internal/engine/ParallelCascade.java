@@ -0,0 +1,292 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import jakarta.validation.valueextraction.ValueExtractor;
+
+import org.hibernate.validator.internal.engine.validationcontext.BaseBeanValidationContext;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * Validates the elements of a large cascaded container in parallel.
+ * <p>
+ * The elements are split into contiguous chunks, each of them validated with its own fork of the validation context.
+ * The chunks are claimed both by the thread performing the validation and by the tasks submitted to the executor, so
+ * that the validation completes even if the executor does not run the tasks in a timely manner. Once all the chunks
+ * have been validated, the constraint violations of the forks are merged in the order of the chunks.
+ * <p>
+ * When a chunk fails, either because of an exception or of a violation in fail fast mode, the following chunks are
+ * abandoned while the previous ones are validated entirely, so that the outcome is the one of a sequential validation.
+ * <p>
+ * The chunks validated by the executor threads run with the context class loader of the thread performing the
+ * validation, which is restored afterwards.
+ */
+final class ParallelCascade<T> {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	/**
+	 * The number of chunks per thread, so that the threads validating cheap elements can help the other ones.
+	 */
+	private static final int CHUNKS_PER_THREAD = 4;
+
+	private final BaseBeanValidationContext<T> validationContext;
+	private final Supplier<BaseBeanValidationContext<T>> forkFactory;
+	private final ChunkValidator<T> chunkValidator;
+	private final List<Element> elements;
+	private final int chunkCount;
+
+	private final Object[] forks;
+	private final Throwable[] failures;
+	private final AtomicInteger nextChunk = new AtomicInteger();
+	private final AtomicInteger firstFailedChunk = new AtomicInteger( Integer.MAX_VALUE );
+	private final CountDownLatch remainingChunks;
+
+	ParallelCascade(BaseBeanValidationContext<T> validationContext, Supplier<BaseBeanValidationContext<T>> forkFactory,
+			ChunkValidator<T> chunkValidator, List<Element> elements, int parallelism) {
+		this.validationContext = validationContext;
+		this.forkFactory = forkFactory;
+		this.chunkValidator = chunkValidator;
+		this.elements = elements;
+		this.chunkCount = Math.max( 1, Math.min( elements.size(), parallelism * CHUNKS_PER_THREAD ) );
+		this.forks = new Object[chunkCount];
+		this.failures = new Throwable[chunkCount];
+		this.remainingChunks = new CountDownLatch( chunkCount );
+	}
+
+	static int getContainerSize(Object container) {
+		if ( container instanceof Collection<?> collection ) {
+			return collection.size();
+		}
+		if ( container instanceof Map<?, ?> map ) {
+			return map.size();
+		}
+		if ( container instanceof Object[] array ) {
+			return array.length;
+		}
+		return -1;
+	}
+
+	static int getParallelism(Executor executor) {
+		if ( executor instanceof ForkJoinPool forkJoinPool ) {
+			return forkJoinPool.getParallelism();
+		}
+		return Runtime.getRuntime().availableProcessors();
+	}
+
+	void validate(Executor executor, int parallelism) {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		int helpers = Math.min( parallelism, chunkCount ) - 1;
+		for ( int i = 0; i < helpers; i++ ) {
+			try {
+				executor.execute( () -> validateChunks( contextClassLoader ) );
+			}
+			catch (RejectedExecutionException e) {
+				// the current thread validates the chunks which are not claimed by the helpers
+				break;
+			}
+		}
+
+		validateChunks();
+		awaitUninterruptibly( remainingChunks );
+		merge();
+	}
+
+	private void validateChunks(ClassLoader contextClassLoader) {
+		Thread currentThread = Thread.currentThread();
+		ClassLoader originalContextClassLoader = currentThread.getContextClassLoader();
+		currentThread.setContextClassLoader( contextClassLoader );
+		try {
+			validateChunks();
+		}
+		finally {
+			currentThread.setContextClassLoader( originalContextClassLoader );
+		}
+	}
+
+	private void validateChunks() {
+		int chunk;
+		while ( ( chunk = nextChunk.getAndIncrement() ) < chunkCount ) {
+			try {
+				validateChunk( chunk );
+			}
+			catch (Throwable e) {
+				failures[chunk] = e;
+				firstFailedChunk.accumulateAndGet( chunk, Math::min );
+			}
+			finally {
+				remainingChunks.countDown();
+			}
+		}
+	}
+
+	private void validateChunk(int chunk) {
+		if ( firstFailedChunk.get() < chunk ) {
+			return;
+		}
+
+		BaseBeanValidationContext<T> fork = forkFactory.get();
+		forks[chunk] = fork;
+
+		int from = (int) ( (long) chunk * elements.size() / chunkCount );
+		int to = (int) ( (long) ( chunk + 1 ) * elements.size() / chunkCount );
+		chunkValidator.validateChunk( fork, elements.subList( from, to ), () -> firstFailedChunk.get() < chunk );
+
+		// the violations of the previous chunks and of this one are enough to reach the outcome of the validation
+		if ( fork.isFailFastModeEnabled() && !fork.getFailingConstraints().isEmpty() || fork.isMaxViolationsReached() ) {
+			firstFailedChunk.accumulateAndGet( chunk, Math::min );
+		}
+	}
+
+	/**
+	 * Waits for the work claimed by the other threads, which has to be completed before going on even if the current
+	 * thread is interrupted. The interrupt status is restored afterwards.
+	 */
+	static void awaitUninterruptibly(CountDownLatch latch) {
+		boolean interrupted = false;
+		while ( true ) {
+			try {
+				latch.await();
+				break;
+			}
+			catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if ( interrupted ) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void merge() {
+		for ( int chunk = 0; chunk < chunkCount; chunk++ ) {
+			Throwable failure = failures[chunk];
+			if ( failure instanceof RuntimeException runtimeException ) {
+				throw runtimeException;
+			}
+			if ( failure instanceof Error error ) {
+				throw error;
+			}
+			if ( failure != null ) {
+				// a checked exception thrown without being declared, e.g. by a constraint validator
+				throw LOG.getUnexpectedExceptionDuringParallelCascadeException( failure );
+			}
+
+			if ( forks[chunk] != null ) {
+				validationContext.join( (BaseBeanValidationContext<T>) forks[chunk] );
+			}
+
+			if ( chunk == firstFailedChunk.get() ) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Validates a chunk of elements of the container.
+	 */
+	@FunctionalInterface
+	interface ChunkValidator<T> {
+
+		/**
+		 * @param fork the validation context collecting the constraint violations of the chunk
+		 * @param elements the elements of the chunk
+		 * @param abandoned returns {@code true} if the validation of the chunk can be stopped
+		 */
+		void validateChunk(BaseBeanValidationContext<T> fork, List<Element> elements, BooleanSupplier abandoned);
+	}
+
+	/**
+	 * An element of the container, as received from its value extractor.
+	 */
+	static final class Element {
+
+		private enum Kind {
+			VALUE, ITERABLE, INDEXED, KEYED
+		}
+
+		private final Kind kind;
+		private final String nodeName;
+		private final int index;
+		private final Object key;
+		private final Object value;
+
+		private Element(Kind kind, String nodeName, int index, Object key, Object value) {
+			this.kind = kind;
+			this.nodeName = nodeName;
+			this.index = index;
+			this.key = key;
+			this.value = value;
+		}
+
+		void sendTo(ValueExtractor.ValueReceiver receiver) {
+			switch ( kind ) {
+				case VALUE:
+					receiver.value( nodeName, value );
+					break;
+				case ITERABLE:
+					receiver.iterableValue( nodeName, value );
+					break;
+				case INDEXED:
+					receiver.indexedValue( nodeName, index, value );
+					break;
+				case KEYED:
+					receiver.keyedValue( nodeName, key, value );
+					break;
+			}
+		}
+	}
+
+	/**
+	 * Collects the elements of a container so that they can be split into chunks.
+	 */
+	static final class ElementCollector implements ValueExtractor.ValueReceiver {
+
+		private final List<Element> elements;
+
+		ElementCollector(int expectedSize) {
+			this.elements = new ArrayList<>( expectedSize );
+		}
+
+		List<Element> getElements() {
+			return elements;
+		}
+
+		@Override
+		public void value(String nodeName, Object object) {
+			elements.add( new Element( Element.Kind.VALUE, nodeName, -1, null, object ) );
+		}
+
+		@Override
+		public void iterableValue(String nodeName, Object object) {
+			elements.add( new Element( Element.Kind.ITERABLE, nodeName, -1, null, object ) );
+		}
+
+		@Override
+		public void indexedValue(String nodeName, int index, Object object) {
+			elements.add( new Element( Element.Kind.INDEXED, nodeName, index, null, object ) );
+		}
+
+		@Override
+		public void keyedValue(String nodeName, Object key, Object object) {
+			elements.add( new Element( Element.Kind.KEYED, nodeName, -1, key, object ) );
+		}
+	}
+}
@@ -4,6 +4,8 @@
  */
 package org.hibernate.validator.internal.engine;
 
+import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
+
 import java.util.Collections;
 import java.util.Set;
 
@@ -13,6 +15,7 @@
 
 import org.hibernate.validator.PredefinedScopeHibernateValidatorConfiguration;
 import org.hibernate.validator.internal.util.CollectionHelper;
+import org.hibernate.validator.internal.util.Contracts;
 
 /**
  * @author Guillaume Smet
@@ -26,6 +29,10 @@ public class PredefinedScopeConfigurationImpl extends AbstractConfigurationImpl<
 
 	private boolean includeBeansAndConstraintsDefinedOnlyInXml = true;
 
+	private boolean includeBeansListedInConstrainedTypesIndex = false;
+
+	private int beanMetaDataInitializationParallelism = Runtime.getRuntime().availableProcessors();
+
 	public PredefinedScopeConfigurationImpl(BootstrapState state) {
 		super( state );
 	}
@@ -64,6 +71,27 @@ public PredefinedScopeHibernateValidatorConfiguration includeBeansAndConstraints
 		return thisAsT();
 	}
 
+	public boolean isIncludeBeansListedInConstrainedTypesIndex() {
+		return includeBeansListedInConstrainedTypesIndex;
+	}
+
+	@Override
+	public PredefinedScopeHibernateValidatorConfiguration includeBeansListedInConstrainedTypesIndex(boolean include) {
+		this.includeBeansListedInConstrainedTypesIndex = include;
+		return thisAsT();
+	}
+
+	public int getBeanMetaDataInitializationParallelism() {
+		return beanMetaDataInitializationParallelism;
+	}
+
+	@Override
+	public PredefinedScopeHibernateValidatorConfiguration beanMetaDataInitializationParallelism(int parallelism) {
+		Contracts.assertTrue( parallelism > 0, MESSAGES.parameterShouldBeGreaterThanOrEqualTo( "parallelism", 1 ) );
+		this.beanMetaDataInitializationParallelism = parallelism;
+		return thisAsT();
+	}
+
 	@Override
 	protected boolean preloadResourceBundles() {
 		return true;
@@ -5,6 +5,7 @@
 package org.hibernate.validator.internal.engine;
 
 import java.time.Duration;
+import java.util.Locale;
 
 import jakarta.validation.ClockProvider;
 import jakarta.validation.ConstraintValidatorFactory;
@@ -74,6 +75,24 @@ public HibernateValidatorContext failFastOnPropertyViolation(boolean failFastOnP
 		return this;
 	}
 
+	@Override
+	public HibernateValidatorContext maxViolations(int maxViolations) {
+		validatorFactoryScopedContextBuilder.setMaxViolations( maxViolations );
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorContext deferredMessageInterpolation(boolean deferredMessageInterpolation) {
+		validatorFactoryScopedContextBuilder.setDeferredMessageInterpolation( deferredMessageInterpolation );
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorContext locale(Locale locale) {
+		validatorFactoryScopedContextBuilder.setMessageInterpolationLocale( locale );
+		return this;
+	}
+
 	@Override
 	public HibernateValidatorContext allowOverridingMethodAlterParameterConstraint(boolean allow) {
 		throw new IllegalStateException( "Altering method validation configuration is not supported by the predefined scope ValidatorFactory." );
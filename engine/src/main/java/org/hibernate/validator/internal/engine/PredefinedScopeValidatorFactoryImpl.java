@@ -12,14 +12,19 @@
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintMappings;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintValidatorPayload;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineCustomViolationExpressionLanguageFeatureLevel;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineDeferredMessageInterpolation;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineExternalClassLoader;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineFailFast;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineFailFastOnPropertyViolation;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineMaxViolations;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineParallelCascadeExecutor;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineParallelCascadeThreshold;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineScriptEvaluatorFactory;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineServiceLoadedConstraintMappings;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineShowValidatedValuesInTraceLogs;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTemporalValidationTolerance;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTraversableResolverResultCacheEnabled;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineValidationContextPooling;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.initializeConstraintValidatorInitializationShareDataManager;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.logValidatorFactoryScopedConfiguration;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.registerCustomConstraintValidators;
@@ -27,11 +32,14 @@
 
 import java.lang.invoke.MethodHandles;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import jakarta.validation.ClockProvider;
 import jakarta.validation.ConstraintValidatorFactory;
@@ -45,6 +53,7 @@
 import org.hibernate.validator.HibernateValidatorContext;
 import org.hibernate.validator.HibernateValidatorFactory;
 import org.hibernate.validator.PredefinedScopeHibernateValidatorFactory;
+import org.hibernate.validator.constraintvalidation.ConstraintValidatorCacheStatistics;
 import org.hibernate.validator.internal.cfg.context.DefaultConstraintMapping;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.HibernateConstraintValidatorInitializationContextImpl;
@@ -52,6 +61,8 @@
 import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
 import org.hibernate.validator.internal.engine.tracking.DefaultProcessedBeansTrackingVoter;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
+import org.hibernate.validator.internal.metadata.BeanMetaDataInitializationStatisticsImpl;
+import org.hibernate.validator.internal.metadata.BeanMetaDataInitializationStatisticsImpl.Phase;
 import org.hibernate.validator.internal.metadata.PredefinedScopeBeanMetaDataManager;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
 import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
@@ -62,9 +73,12 @@
 import org.hibernate.validator.internal.util.ExecutableHelper;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
 import org.hibernate.validator.internal.util.TypeResolutionHelper;
+import org.hibernate.validator.internal.util.actions.GetClassLoader;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.xml.mapping.MappingXmlParser;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
+import org.hibernate.validator.metadata.BeanMetaDataInitializationStatistics;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
@@ -138,8 +152,13 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 				determineScriptEvaluatorFactory( configurationState, properties, externalClassLoader ),
 				determineFailFast( hibernateSpecificConfig, properties ),
 				determineFailFastOnPropertyViolation( hibernateSpecificConfig, properties ),
+				determineMaxViolations( hibernateSpecificConfig, properties ),
+				determineDeferredMessageInterpolation( hibernateSpecificConfig, properties ),
 				determineTraversableResolverResultCacheEnabled( hibernateSpecificConfig, properties ),
 				determineShowValidatedValuesInTraceLogs( hibernateSpecificConfig, properties ),
+				determineValidationContextPooling( hibernateSpecificConfig, properties ),
+				determineParallelCascadeThreshold( hibernateSpecificConfig, properties ),
+				determineParallelCascadeExecutor( hibernateSpecificConfig ),
 				determineConstraintValidatorPayload( hibernateSpecificConfig ),
 				determineConstraintExpressionLanguageFeatureLevel( hibernateSpecificConfig, properties ),
 				determineCustomViolationExpressionLanguageFeatureLevel( hibernateSpecificConfig, properties ),
@@ -169,7 +188,8 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 		);
 
 		ExecutableHelper executableHelper = new ExecutableHelper( typeResolutionHelper );
-		JavaBeanHelper javaBeanHelper = new JavaBeanHelper( getterPropertySelectionStrategy, propertyNodeNameProvider );
+		JavaBeanHelper javaBeanHelper = new JavaBeanHelper( getterPropertySelectionStrategy, propertyNodeNameProvider,
+				ValidatorFactoryConfigurationHelper.determineGeneratedPropertyAccessors( hibernateSpecificConfig, properties ) );
 
 		// first we want to register any validators coming from a service loader. Since they are just loaded and there's
 		// no control over them (include/exclude the ones that already exists from any other sources etc.)
@@ -182,16 +202,20 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 				constraintHelper
 		);
 
+		BeanMetaDataInitializationStatisticsImpl.Recorder beanMetaDataInitializationRecorder = new BeanMetaDataInitializationStatisticsImpl.Recorder();
+
 		// we parse all XML mappings but only register constraint validators and delay constraint mappings building till
 		// we collect all the constraint validators.
 		// HV-302; don't load XmlMappingParser if not necessary
 		MappingXmlParser mappingParser = null;
 		if ( !configurationState.getMappingStreams().isEmpty() ) {
+			long startNanos = System.nanoTime();
 			mappingParser = new MappingXmlParser(
 					constraintCreationContext,
 					javaBeanHelper, externalClassLoader
 			);
 			mappingParser.parse( configurationState.getMappingStreams() );
+			beanMetaDataInitializationRecorder.record( Phase.XML, startNanos );
 		}
 
 		Set<DefaultConstraintMapping> constraintMappings = Collections.unmodifiableSet(
@@ -208,10 +232,17 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 		registerCustomConstraintValidators( constraintMappings, constraintHelper );
 
 		Set<Class<?>> beanClassesToInitialize = new HashSet<>( hibernateSpecificConfig.getBeanClassesToInitialize() );
+		if ( hibernateSpecificConfig.isIncludeBeansListedInConstrainedTypesIndex() ) {
+			beanClassesToInitialize.addAll( ConstrainedTypesIndex.load(
+					externalClassLoader != null ? externalClassLoader : GetClassLoader.fromContext()
+			) );
+		}
 
 		XmlMetaDataProvider xmlMetaDataProvider;
 		if ( mappingParser != null && mappingParser.createConstrainedElements() ) {
+			long startNanos = System.nanoTime();
 			xmlMetaDataProvider = new XmlMetaDataProvider( mappingParser );
+			beanMetaDataInitializationRecorder.record( Phase.XML, startNanos );
 			if ( hibernateSpecificConfig.isIncludeBeansAndConstraintsDefinedOnlyInXml() ) {
 				beanClassesToInitialize.addAll( xmlMetaDataProvider.configuredBeanClasses() );
 			}
@@ -240,13 +271,15 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 				parameterNameProvider,
 				javaBeanHelper,
 				validationOrderGenerator,
-				buildMetaDataProviders( constraintCreationContext, xmlMetaDataProvider, constraintMappings ),
+				buildMetaDataProviders( constraintCreationContext, xmlMetaDataProvider, constraintMappings, beanMetaDataInitializationRecorder ),
 				methodValidationConfiguration,
 				determineBeanMetaDataClassNormalizer( hibernateSpecificConfig ),
 				( hibernateSpecificConfig.getProcessedBeansTrackingVoter() != null )
 						? hibernateSpecificConfig.getProcessedBeansTrackingVoter()
 						: new DefaultProcessedBeansTrackingVoter(),
-				beanClassesToInitialize
+				beanClassesToInitialize,
+				hibernateSpecificConfig.getBeanMetaDataInitializationParallelism(),
+				beanMetaDataInitializationRecorder
 		);
 
 		if ( LOG.isDebugEnabled() ) {
@@ -308,6 +341,36 @@ public PropertyNodeNameProvider getPropertyNodeNameProvider() {
 		return propertyNodeNameProvider;
 	}
 
+	@Override
+	public BeanMetaDataCacheStatistics getBeanMetaDataCacheStatistics() {
+		return beanMetaDataManager.getStatistics();
+	}
+
+	@Override
+	public ConstraintValidatorCacheStatistics getConstraintValidatorCacheStatistics() {
+		return constraintValidatorManager.getCacheStatistics();
+	}
+
+	@Override
+	public BeanMetaDataInitializationStatistics getBeanMetaDataInitializationStatistics() {
+		return beanMetaDataManager.getInitializationStatistics();
+	}
+
+	@Override
+	public CompletableFuture<Void> initializeConstraintValidators(Collection<Class<?>> beanClasses, Executor executor) {
+		Contracts.assertNotNull( beanClasses, "beanClasses" );
+		Contracts.assertNotNull( executor, "executor" );
+
+		// the constraint validators are initialized when the metadata of the beans are built
+		return CompletableFuture.completedFuture( null );
+	}
+
+	@Override
+	public CompletableFuture<Void> getBeanMetaDataWarmUp() {
+		// the metadata of the beans is built when the factory is created
+		return CompletableFuture.completedFuture( null );
+	}
+
 	public boolean isFailFast() {
 		return validatorFactoryScopedContext.isFailFast();
 	}
@@ -361,7 +424,8 @@ Validator createValidator(ValidatorFactoryScopedContext validatorFactoryScopedCo
 	private static List<MetaDataProvider> buildMetaDataProviders(
 			ConstraintCreationContext constraintCreationContext,
 			XmlMetaDataProvider xmlMetaDataProvider,
-			Set<DefaultConstraintMapping> constraintMappings
+			Set<DefaultConstraintMapping> constraintMappings,
+			BeanMetaDataInitializationStatisticsImpl.Recorder beanMetaDataInitializationRecorder
 	) {
 		List<MetaDataProvider> metaDataProviders = newArrayList();
 		if ( xmlMetaDataProvider != null ) {
@@ -369,7 +433,9 @@ private static List<MetaDataProvider> buildMetaDataProviders(
 		}
 
 		if ( !constraintMappings.isEmpty() ) {
+			long startNanos = System.nanoTime();
 			metaDataProviders.add( new ProgrammaticMetaDataProvider( constraintCreationContext, constraintMappings ) );
+			beanMetaDataInitializationRecorder.record( Phase.PROGRAMMATIC, startNanos );
 		}
 		return metaDataProviders;
 	}
@@ -7,6 +7,7 @@
 import java.lang.invoke.MethodHandles;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
 import jakarta.validation.ClockProvider;
@@ -110,6 +111,24 @@ public HibernateValidatorContext failFastOnPropertyViolation(boolean failFastOnP
 		return this;
 	}
 
+	@Override
+	public HibernateValidatorContext maxViolations(int maxViolations) {
+		validatorFactoryScopedContextBuilder.setMaxViolations( maxViolations );
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorContext deferredMessageInterpolation(boolean deferredMessageInterpolation) {
+		validatorFactoryScopedContextBuilder.setDeferredMessageInterpolation( deferredMessageInterpolation );
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorContext locale(Locale locale) {
+		validatorFactoryScopedContextBuilder.setMessageInterpolationLocale( locale );
+		return this;
+	}
+
 	@Override
 	public HibernateValidatorContext allowOverridingMethodAlterParameterConstraint(boolean allow) {
 		methodValidationConfigurationBuilder.allowOverridingMethodAlterParameterConstraint( allow );
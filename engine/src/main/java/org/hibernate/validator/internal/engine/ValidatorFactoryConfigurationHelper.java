@@ -14,7 +14,10 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
+import jakarta.validation.ValidationException;
 import jakarta.validation.spi.ConfigurationState;
 
 import org.hibernate.validator.HibernateValidatorConfiguration;
@@ -36,6 +39,7 @@
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
+import org.hibernate.validator.metadata.BeanMetaDataCacheFactory;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
 import org.hibernate.validator.spi.cfg.ConstraintMappingContributor;
 import org.hibernate.validator.spi.messageinterpolation.LocaleResolver;
@@ -107,6 +111,19 @@ static boolean checkPropertiesForBoolean(Map<String, String> properties, String
 		return value;
 	}
 
+	static int checkPropertiesForInteger(Map<String, String> properties, String propertyKey, int programmaticValue) {
+		String propertyStringValue = properties.get( propertyKey );
+		if ( propertyStringValue == null ) {
+			return programmaticValue;
+		}
+		try {
+			return Integer.parseInt( propertyStringValue.trim() );
+		}
+		catch (NumberFormatException e) {
+			throw LOG.getUnableToParseIntegerPropertyException( propertyKey, propertyStringValue, e );
+		}
+	}
+
 	/**
 	 * Returns a list with {@link ConstraintMappingContributor}s configured via the
 	 * {@link HibernateValidatorConfiguration#CONSTRAINT_MAPPING_CONTRIBUTORS} property.
@@ -355,6 +372,31 @@ static BeanMetaDataClassNormalizer determineBeanMetaDataClassNormalizer(Abstract
 		return new DefaultBeanMetaDataClassNormalizer();
 	}
 
+	static BeanMetaDataCacheFactory determineBeanMetaDataCacheFactory(AbstractConfigurationImpl<?> hibernateSpecificConfig, Map<String, String> properties,
+			ClassLoader externalClassLoader) {
+		if ( hibernateSpecificConfig != null && hibernateSpecificConfig.getBeanMetaDataCacheFactory() != null ) {
+			return hibernateSpecificConfig.getBeanMetaDataCacheFactory();
+		}
+
+		String beanMetaDataCache = properties.get( HibernateValidatorConfiguration.BEAN_METADATA_CACHE );
+		if ( beanMetaDataCache == null || "soft".equals( beanMetaDataCache.trim() ) ) {
+			return BeanMetaDataCacheFactory.soft();
+		}
+		if ( "strong".equals( beanMetaDataCache.trim() ) ) {
+			return BeanMetaDataCacheFactory.strong();
+		}
+
+		try {
+			@SuppressWarnings("unchecked")
+			Class<? extends BeanMetaDataCacheFactory> clazz =
+					(Class<? extends BeanMetaDataCacheFactory>) LoadClass.action( beanMetaDataCache.trim(), externalClassLoader );
+			return NewInstance.action( clazz, "bean metadata cache factory class" );
+		}
+		catch (Exception e) {
+			throw LOG.getUnableToInstantiateBeanMetaDataCacheFactoryClassException( beanMetaDataCache, e );
+		}
+	}
+
 	static PropertyNodeNameProvider determinePropertyNodeNameProvider(AbstractConfigurationImpl<?> hibernateSpecificConfig, Map<String, String> properties,
 			ClassLoader externalClassLoader) {
 		if ( hibernateSpecificConfig != null && hibernateSpecificConfig.getPropertyNodeNameProvider() != null ) {
@@ -449,6 +491,110 @@ static boolean determineShowValidatedValuesInTraceLogs(AbstractConfigurationImpl
 		return tmpShowValidatedValuesInTraceLogging;
 	}
 
+	static boolean determineGeneratedPropertyAccessors(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		return checkPropertiesForBoolean(
+				properties,
+				HibernateValidatorConfiguration.GENERATED_PROPERTY_ACCESSORS,
+				configuration != null ? configuration.isGeneratedPropertyAccessors() : false
+		);
+	}
+
+	static boolean determineValidationContextPooling(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		return checkPropertiesForBoolean(
+				properties,
+				HibernateValidatorConfiguration.VALIDATION_CONTEXT_POOLING,
+				configuration != null ? configuration.isValidationContextPooling() : false
+		);
+	}
+
+	static int determineMaxViolations(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		return checkPropertiesForInteger(
+				properties,
+				HibernateValidatorConfiguration.MAX_VIOLATIONS,
+				configuration != null ? configuration.getMaxViolations() : 0
+		);
+	}
+
+	static boolean determineDeferredMessageInterpolation(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		return checkPropertiesForBoolean(
+				properties,
+				HibernateValidatorConfiguration.DEFERRED_MESSAGE_INTERPOLATION,
+				configuration != null ? configuration.isDeferredMessageInterpolation() : false
+		);
+	}
+
+	static int determineParallelCascadeThreshold(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		return checkPropertiesForInteger(
+				properties,
+				HibernateValidatorConfiguration.PARALLEL_CASCADE_THRESHOLD,
+				configuration != null ? configuration.getParallelCascadeThreshold() : 0
+		);
+	}
+
+	static Executor determineParallelCascadeExecutor(AbstractConfigurationImpl<?> configuration) {
+		if ( configuration != null && configuration.getParallelCascadeExecutor() != null ) {
+			return configuration.getParallelCascadeExecutor();
+		}
+		return ForkJoinPool.commonPool();
+	}
+
+	/**
+	 * Returns the classes of the beans whose metadata is built in the background once the factory is created, as
+	 * configured programmatically and with the {@link HibernateValidatorConfiguration#BEAN_METADATA_WARM_UP_CLASSES}
+	 * and {@link HibernateValidatorConfiguration#BEAN_METADATA_WARM_UP_PACKAGES} properties.
+	 */
+	static Set<Class<?>> determineBeanClassesToWarmUp(ConfigurationImpl configuration, Map<String, String> properties,
+			ClassLoader externalClassLoader) {
+		Set<Class<?>> beanClasses = newHashSet();
+		Set<String> packageNames = newHashSet();
+
+		if ( configuration != null ) {
+			beanClasses.addAll( configuration.getBeanClassesToWarmUp() );
+			packageNames.addAll( configuration.getPackagesToWarmUp() );
+		}
+
+		for ( String className : splitPropertyValue( properties.get( HibernateValidatorConfiguration.BEAN_METADATA_WARM_UP_CLASSES ) ) ) {
+			// the warm-up is an optimization, a class which cannot be loaded must not prevent the bootstrap
+			try {
+				beanClasses.add( LoadClass.action( className, externalClassLoader ) );
+			}
+			catch (ValidationException | LinkageError e) {
+				LOG.unableToLoadBeanClassToWarmUp( className, HibernateValidatorConfiguration.BEAN_METADATA_WARM_UP_CLASSES, e );
+			}
+		}
+		packageNames.addAll( splitPropertyValue( properties.get( HibernateValidatorConfiguration.BEAN_METADATA_WARM_UP_PACKAGES ) ) );
+
+		if ( !packageNames.isEmpty() ) {
+			beanClasses.addAll( ConstrainedTypesIndex.load(
+					externalClassLoader != null ? externalClassLoader : GetClassLoader.fromContext(),
+					packageNames
+			) );
+		}
+
+		return beanClasses;
+	}
+
+	static Executor determineBeanMetaDataWarmUpExecutor(ConfigurationImpl configuration) {
+		if ( configuration != null && configuration.getBeanMetaDataWarmUpExecutor() != null ) {
+			return configuration.getBeanMetaDataWarmUpExecutor();
+		}
+		return ForkJoinPool.commonPool();
+	}
+
+	private static List<String> splitPropertyValue(String propertyValue) {
+		if ( StringHelper.isNullOrEmptyString( propertyValue ) ) {
+			return Collections.emptyList();
+		}
+
+		List<String> values = newArrayList();
+		for ( String value : propertyValue.split( "," ) ) {
+			if ( !value.isBlank() ) {
+				values.add( value.trim() );
+			}
+		}
+		return values;
+	}
+
 	static void logValidatorFactoryScopedConfiguration(ValidatorFactoryScopedContext context) {
 		LOG.logValidatorFactoryScopedConfiguration( context.getMessageInterpolator().getClass(), "message interpolator" );
 		LOG.logValidatorFactoryScopedConfiguration( context.getTraversableResolver().getClass(), "traversable resolver" );
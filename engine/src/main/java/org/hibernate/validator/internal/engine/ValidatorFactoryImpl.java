@@ -7,19 +7,27 @@
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineAllowMultipleCascadedValidationOnReturnValues;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineAllowOverridingMethodAlterParameterConstraint;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineAllowParallelMethodsDefineParameterConstraints;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineBeanClassesToWarmUp;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineBeanMetaDataCacheFactory;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineBeanMetaDataClassNormalizer;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineBeanMetaDataWarmUpExecutor;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintExpressionLanguageFeatureLevel;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintMappings;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintValidatorPayload;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineCustomViolationExpressionLanguageFeatureLevel;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineDeferredMessageInterpolation;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineExternalClassLoader;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineFailFast;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineFailFastOnPropertyViolation;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineMaxViolations;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineParallelCascadeExecutor;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineParallelCascadeThreshold;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineScriptEvaluatorFactory;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineServiceLoadedConstraintMappings;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineShowValidatedValuesInTraceLogs;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTemporalValidationTolerance;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTraversableResolverResultCacheEnabled;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineValidationContextPooling;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.initializeConstraintValidatorInitializationShareDataManager;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.logValidatorFactoryScopedConfiguration;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.registerCustomConstraintValidators;
@@ -27,12 +35,15 @@
 
 import java.lang.invoke.MethodHandles;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 
 import jakarta.validation.ClockProvider;
 import jakarta.validation.ConstraintValidatorFactory;
@@ -45,19 +56,23 @@
 
 import org.hibernate.validator.HibernateValidatorContext;
 import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.constraintvalidation.ConstraintValidatorCacheStatistics;
 import org.hibernate.validator.internal.cfg.context.DefaultConstraintMapping;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManagerImpl;
 import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
 import org.hibernate.validator.internal.engine.tracking.DefaultProcessedBeansTrackingVoter;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
+import org.hibernate.validator.internal.metadata.BeanMetaDataCacheStatisticsImpl;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManagerImpl;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+import org.hibernate.validator.internal.metadata.core.MetaConstraint;
 import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
 import org.hibernate.validator.internal.metadata.provider.ProgrammaticMetaDataProvider;
 import org.hibernate.validator.internal.metadata.provider.XmlMetaDataProvider;
 import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
+import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.ExecutableHelper;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
 import org.hibernate.validator.internal.util.TypeResolutionHelper;
@@ -66,6 +81,8 @@
 import org.hibernate.validator.internal.util.stereotypes.Immutable;
 import org.hibernate.validator.internal.util.stereotypes.ThreadSafe;
 import org.hibernate.validator.internal.xml.mapping.MappingXmlParser;
+import org.hibernate.validator.metadata.BeanMetaDataCacheFactory;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
@@ -134,10 +151,19 @@ public class ValidatorFactoryImpl implements HibernateValidatorFactory {
 
 	private final BeanMetaDataClassNormalizer beanMetadataClassNormalizer;
 
+	private final BeanMetaDataCacheFactory beanMetaDataCacheFactory;
+
 	private final ValidationOrderGenerator validationOrderGenerator;
 
 	private final ProcessedBeansTrackingVoter processedBeansTrackingVoter;
 
+	/**
+	 * The background build of the metadata of the beans to warm up.
+	 */
+	private final CompletableFuture<Void> beanMetaDataWarmUp;
+
+	private volatile boolean closed;
+
 	public ValidatorFactoryImpl(ConfigurationState configurationState) {
 		ClassLoader externalClassLoader = determineExternalClassLoader( configurationState );
 
@@ -166,8 +192,13 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 				determineScriptEvaluatorFactory( configurationState, properties, externalClassLoader ),
 				determineFailFast( hibernateSpecificConfig, properties ),
 				determineFailFastOnPropertyViolation( hibernateSpecificConfig, properties ),
+				determineMaxViolations( hibernateSpecificConfig, properties ),
+				determineDeferredMessageInterpolation( hibernateSpecificConfig, properties ),
 				determineTraversableResolverResultCacheEnabled( hibernateSpecificConfig, properties ),
 				determineShowValidatedValuesInTraceLogs( hibernateSpecificConfig, properties ),
+				determineValidationContextPooling( hibernateSpecificConfig, properties ),
+				determineParallelCascadeThreshold( hibernateSpecificConfig, properties ),
+				determineParallelCascadeExecutor( hibernateSpecificConfig ),
 				determineConstraintValidatorPayload( hibernateSpecificConfig ),
 				initializeConstraintValidatorInitializationShareDataManager( hibernateSpecificConfig ),
 				determineConstraintExpressionLanguageFeatureLevel( hibernateSpecificConfig, properties ),
@@ -189,8 +220,10 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 
 		this.executableHelper = new ExecutableHelper( typeResolutionHelper );
 		this.javaBeanHelper = new JavaBeanHelper( ValidatorFactoryConfigurationHelper.determineGetterPropertySelectionStrategy( hibernateSpecificConfig, properties, externalClassLoader ),
-				ValidatorFactoryConfigurationHelper.determinePropertyNodeNameProvider( hibernateSpecificConfig, properties, externalClassLoader ) );
+				ValidatorFactoryConfigurationHelper.determinePropertyNodeNameProvider( hibernateSpecificConfig, properties, externalClassLoader ),
+				ValidatorFactoryConfigurationHelper.determineGeneratedPropertyAccessors( hibernateSpecificConfig, properties ) );
 		this.beanMetadataClassNormalizer = determineBeanMetaDataClassNormalizer( hibernateSpecificConfig );
+		this.beanMetaDataCacheFactory = determineBeanMetaDataCacheFactory( hibernateSpecificConfig, properties, externalClassLoader );
 
 		// first we want to register any validators coming from a service loader. Since they are just loaded and there's
 		// no control over them (include/exclude the ones that already exists from any other sources etc.)
@@ -239,6 +272,12 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 		if ( LOG.isDebugEnabled() ) {
 			logValidatorFactoryScopedConfiguration( validatorFactoryScopedContext );
 		}
+
+		// started last as the warm-up uses the state of the factory
+		this.beanMetaDataWarmUp = warmUpBeanMetaData(
+				determineBeanClassesToWarmUp( hibernateSpecificConfig, properties, externalClassLoader ),
+				determineBeanMetaDataWarmUpExecutor( hibernateSpecificConfig )
+		);
 	}
 
 	@Override
@@ -300,6 +339,41 @@ public PropertyNodeNameProvider getPropertyNodeNameProvider() {
 		return javaBeanHelper.getPropertyNodeNameProvider();
 	}
 
+	@Override
+	public BeanMetaDataCacheStatistics getBeanMetaDataCacheStatistics() {
+		BeanMetaDataCacheStatisticsImpl statistics = BeanMetaDataCacheStatisticsImpl.EMPTY;
+		for ( BeanMetaDataManager beanMetaDataManager : beanMetaDataManagers.values() ) {
+			statistics = statistics.plus( beanMetaDataManager.getStatistics() );
+		}
+		return statistics;
+	}
+
+	@Override
+	public ConstraintValidatorCacheStatistics getConstraintValidatorCacheStatistics() {
+		return constraintCreationContext.getConstraintValidatorManager().getCacheStatistics();
+	}
+
+	@Override
+	public CompletableFuture<Void> initializeConstraintValidators(Collection<Class<?>> beanClasses, Executor executor) {
+		Contracts.assertNotNull( beanClasses, "beanClasses" );
+		Contracts.assertNotNull( executor, "executor" );
+
+		BeanMetaDataManager beanMetaDataManager = getBeanMetaDataManager( constraintCreationContext, validatorFactoryScopedContext,
+				methodValidationConfiguration );
+		ConstraintValidatorManager constraintValidatorManager = constraintCreationContext.getConstraintValidatorManager();
+
+		List<CompletableFuture<Void>> initializations = newArrayList();
+		for ( Class<?> beanClass : beanClasses ) {
+			for ( MetaConstraint<?> metaConstraint : beanMetaDataManager.getBeanMetaData( beanClass ).getAllMetaConstraints() ) {
+				initializations.add( CompletableFuture.runAsync(
+						() -> metaConstraint.initializeDefaultConstraintValidators( constraintValidatorManager ),
+						executor
+				) );
+			}
+		}
+		return CompletableFuture.allOf( initializations.toArray( new CompletableFuture<?>[0] ) );
+	}
+
 	public boolean isFailFast() {
 		return validatorFactoryScopedContext.isFailFast();
 	}
@@ -332,6 +406,11 @@ public HibernateValidatorContext usingContext() {
 
 	@Override
 	public void close() {
+		closed = true;
+		releaseResources();
+	}
+
+	private void releaseResources() {
 		constraintCreationContext.getConstraintValidatorManager().clear();
 		constraintCreationContext.getConstraintHelper().clear();
 		for ( BeanMetaDataManager beanMetaDataManager : beanMetaDataManagers.values() ) {
@@ -341,6 +420,48 @@ public void close() {
 		constraintCreationContext.getValueExtractorManager().clear();
 	}
 
+	@Override
+	public CompletableFuture<Void> getBeanMetaDataWarmUp() {
+		return beanMetaDataWarmUp;
+	}
+
+	/**
+	 * Builds the metadata of the given beans on the given executor for the validators using the default configuration.
+	 * A validation requiring the metadata of one of these beans before it is built waits for it or builds it, see
+	 * {@link org.hibernate.validator.internal.metadata.BeanMetaDataManagerImpl}.
+	 */
+	private CompletableFuture<Void> warmUpBeanMetaData(Set<Class<?>> beanClasses, Executor executor) {
+		if ( beanClasses.isEmpty() ) {
+			return CompletableFuture.completedFuture( null );
+		}
+
+		BeanMetaDataManager beanMetaDataManager = getBeanMetaDataManager( constraintCreationContext, validatorFactoryScopedContext,
+				methodValidationConfiguration );
+
+		List<CompletableFuture<Void>> warmUps = newArrayList( beanClasses.size() );
+		for ( Class<?> beanClass : beanClasses ) {
+			warmUps.add( CompletableFuture.runAsync( () -> {
+				// no need to build metadata which would be dropped right away
+				if ( closed ) {
+					return;
+				}
+				try {
+					beanMetaDataManager.getBeanMetaData( beanClass );
+				}
+				catch (RuntimeException | Error e) {
+					LOG.unableToWarmUpBeanMetaData( beanClass, e );
+					throw e;
+				}
+				// the factory has been closed during the build: the resources it created have to be released again as
+				// close() may have released them before they were cached
+				if ( closed ) {
+					releaseResources();
+				}
+			}, executor ) );
+		}
+		return CompletableFuture.allOf( warmUps.toArray( new CompletableFuture<?>[0] ) );
+	}
+
 	public ValidatorFactoryScopedContext getValidatorFactoryScopedContext() {
 		return this.validatorFactoryScopedContext;
 	}
@@ -349,7 +470,20 @@ Validator createValidator(ConstraintValidatorFactory constraintValidatorFactory,
 			ConstraintCreationContext constraintCreationContext,
 			ValidatorFactoryScopedContext validatorFactoryScopedContext,
 			MethodValidationConfiguration methodValidationConfiguration) {
-		BeanMetaDataManager beanMetaDataManager = beanMetaDataManagers.computeIfAbsent(
+		return new ValidatorImpl(
+				constraintValidatorFactory,
+				getBeanMetaDataManager( constraintCreationContext, validatorFactoryScopedContext, methodValidationConfiguration ),
+				constraintCreationContext.getValueExtractorManager(),
+				constraintCreationContext.getConstraintValidatorManager(),
+				validationOrderGenerator,
+				validatorFactoryScopedContext
+		);
+	}
+
+	private BeanMetaDataManager getBeanMetaDataManager(ConstraintCreationContext constraintCreationContext,
+			ValidatorFactoryScopedContext validatorFactoryScopedContext,
+			MethodValidationConfiguration methodValidationConfiguration) {
+		return beanMetaDataManagers.computeIfAbsent(
 				new BeanMetaDataManagerKey( validatorFactoryScopedContext.getParameterNameProvider(), constraintCreationContext.getValueExtractorManager(), methodValidationConfiguration ),
 				key -> new BeanMetaDataManagerImpl(
 						constraintCreationContext,
@@ -360,18 +494,10 @@ Validator createValidator(ConstraintValidatorFactory constraintValidatorFactory,
 						validationOrderGenerator,
 						buildMetaDataProviders(),
 						methodValidationConfiguration,
-						processedBeansTrackingVoter
+						processedBeansTrackingVoter,
+						beanMetaDataCacheFactory
 				)
 		);
-
-		return new ValidatorImpl(
-				constraintValidatorFactory,
-				beanMetaDataManager,
-				constraintCreationContext.getValueExtractorManager(),
-				constraintCreationContext.getConstraintValidatorManager(),
-				validationOrderGenerator,
-				validatorFactoryScopedContext
-		);
 	}
 
 	private List<MetaDataProvider> buildMetaDataProviders() {
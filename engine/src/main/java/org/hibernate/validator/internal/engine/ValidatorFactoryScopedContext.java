@@ -5,6 +5,8 @@
 package org.hibernate.validator.internal.engine;
 
 import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Executor;
 
 import jakarta.validation.ClockProvider;
 import jakarta.validation.MessageInterpolator;
@@ -14,6 +16,7 @@
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.engine.constraintvalidation.HibernateConstraintValidatorInitializationContextImpl;
 import org.hibernate.validator.internal.engine.constraintvalidation.HibernateConstraintValidatorInitializationSharedDataManager;
+import org.hibernate.validator.internal.engine.messageinterpolation.LocaleBoundMessageInterpolator;
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
 import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
@@ -63,6 +66,18 @@ public class ValidatorFactoryScopedContext {
 	 */
 	private final boolean failFastOnPropertyViolation;
 
+	/**
+	 * Hibernate Validator specific limit on the number of constraint violations after which the validation is aborted,
+	 * disabled if lower than or equal to 0.
+	 */
+	private final int maxViolations;
+
+	/**
+	 * Hibernate Validator specific flag to defer the interpolation of the constraint violation messages until they are
+	 * requested.
+	 */
+	private final boolean deferredMessageInterpolation;
+
 	/**
 	 * Hibernate Validator specific flag to disable the {@code TraversableResolver} result cache.
 	 */
@@ -93,6 +108,22 @@ public class ValidatorFactoryScopedContext {
 	 */
 	private final boolean showValidatedValuesInTraceLogs;
 
+	/**
+	 * Hibernate Validator specific flag to recycle the contexts of the bean validation calls.
+	 */
+	private final boolean validationContextPoolingEnabled;
+
+	/**
+	 * The number of elements from which the elements of a cascaded container are validated in parallel, disabled if
+	 * lower than or equal to 0.
+	 */
+	private final int parallelCascadeThreshold;
+
+	/**
+	 * The executor used to validate the elements of the cascaded containers in parallel.
+	 */
+	private final Executor parallelCascadeExecutor;
+
 	ValidatorFactoryScopedContext(MessageInterpolator messageInterpolator,
 			TraversableResolver traversableResolver,
 			ExecutableParameterNameProvider parameterNameProvider,
@@ -101,14 +132,20 @@ public class ValidatorFactoryScopedContext {
 			ScriptEvaluatorFactory scriptEvaluatorFactory,
 			boolean failFast,
 			boolean failFastOnPropertyViolation,
+			int maxViolations,
+			boolean deferredMessageInterpolation,
 			boolean traversableResolverResultCacheEnabled,
 			boolean showValidatedValuesInTraceLogs,
+			boolean validationContextPoolingEnabled,
+			int parallelCascadeThreshold,
+			Executor parallelCascadeExecutor,
 			Object constraintValidatorPayload,
 			HibernateConstraintValidatorInitializationSharedDataManager constraintValidatorInitializationSharedServiceManager,
 			ExpressionLanguageFeatureLevel constraintExpressionLanguageFeatureLevel,
 			ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel) {
 		this( messageInterpolator, traversableResolver, parameterNameProvider, clockProvider, temporalValidationTolerance, scriptEvaluatorFactory, failFast,
-				failFastOnPropertyViolation, traversableResolverResultCacheEnabled, showValidatedValuesInTraceLogs, constraintValidatorPayload, constraintExpressionLanguageFeatureLevel,
+				failFastOnPropertyViolation, maxViolations, deferredMessageInterpolation, traversableResolverResultCacheEnabled, showValidatedValuesInTraceLogs, validationContextPoolingEnabled,
+				parallelCascadeThreshold, parallelCascadeExecutor, constraintValidatorPayload, constraintExpressionLanguageFeatureLevel,
 				customViolationExpressionLanguageFeatureLevel,
 				new HibernateConstraintValidatorInitializationContextImpl( scriptEvaluatorFactory, clockProvider,
 						temporalValidationTolerance, constraintValidatorInitializationSharedServiceManager
@@ -123,8 +160,13 @@ public class ValidatorFactoryScopedContext {
 			ScriptEvaluatorFactory scriptEvaluatorFactory,
 			boolean failFast,
 			boolean failFastOnPropertyViolation,
+			int maxViolations,
+			boolean deferredMessageInterpolation,
 			boolean traversableResolverResultCacheEnabled,
 			boolean showValidatedValuesInTraceLogs,
+			boolean validationContextPoolingEnabled,
+			int parallelCascadeThreshold,
+			Executor parallelCascadeExecutor,
 			Object constraintValidatorPayload,
 			ExpressionLanguageFeatureLevel constraintExpressionLanguageFeatureLevel,
 			ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel,
@@ -137,11 +179,16 @@ public class ValidatorFactoryScopedContext {
 		this.scriptEvaluatorFactory = scriptEvaluatorFactory;
 		this.failFast = failFast;
 		this.failFastOnPropertyViolation = failFastOnPropertyViolation;
+		this.maxViolations = maxViolations;
+		this.deferredMessageInterpolation = deferredMessageInterpolation;
 		this.traversableResolverResultCacheEnabled = traversableResolverResultCacheEnabled;
 		this.constraintValidatorPayload = constraintValidatorPayload;
 		this.constraintExpressionLanguageFeatureLevel = constraintExpressionLanguageFeatureLevel;
 		this.customViolationExpressionLanguageFeatureLevel = customViolationExpressionLanguageFeatureLevel;
 		this.showValidatedValuesInTraceLogs = showValidatedValuesInTraceLogs;
+		this.validationContextPoolingEnabled = validationContextPoolingEnabled;
+		this.parallelCascadeThreshold = parallelCascadeThreshold;
+		this.parallelCascadeExecutor = parallelCascadeExecutor;
 		this.constraintValidatorInitializationContext = constraintValidatorInitializationContext;
 	}
 
@@ -177,6 +224,14 @@ public boolean isFailFastOnPropertyViolation() {
 		return this.failFastOnPropertyViolation;
 	}
 
+	public int getMaxViolations() {
+		return this.maxViolations;
+	}
+
+	public boolean isDeferredMessageInterpolation() {
+		return this.deferredMessageInterpolation;
+	}
+
 	public boolean isTraversableResolverResultCacheEnabled() {
 		return this.traversableResolverResultCacheEnabled;
 	}
@@ -201,6 +256,18 @@ public boolean isShowValidatedValuesInTraceLogs() {
 		return showValidatedValuesInTraceLogs;
 	}
 
+	public boolean isValidationContextPoolingEnabled() {
+		return validationContextPoolingEnabled;
+	}
+
+	public int getParallelCascadeThreshold() {
+		return parallelCascadeThreshold;
+	}
+
+	public Executor getParallelCascadeExecutor() {
+		return parallelCascadeExecutor;
+	}
+
 	static class Builder {
 		private final ValidatorFactoryScopedContext defaultContext;
 
@@ -212,11 +279,17 @@ static class Builder {
 		private Duration temporalValidationTolerance;
 		private boolean failFast;
 		private boolean failFastOnPropertyViolation;
+		private int maxViolations;
+		private boolean deferredMessageInterpolation;
+		private Locale messageInterpolationLocale;
 		private boolean traversableResolverResultCacheEnabled;
 		private Object constraintValidatorPayload;
 		private ExpressionLanguageFeatureLevel constraintExpressionLanguageFeatureLevel;
 		private ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel;
 		private boolean showValidatedValuesInTraceLogs;
+		private final boolean validationContextPoolingEnabled;
+		private final int parallelCascadeThreshold;
+		private final Executor parallelCascadeExecutor;
 		private final HibernateConstraintValidatorInitializationContextImpl constraintValidatorInitializationContext;
 
 		Builder(ValidatorFactoryScopedContext defaultContext) {
@@ -231,11 +304,16 @@ static class Builder {
 			this.temporalValidationTolerance = defaultContext.temporalValidationTolerance;
 			this.failFast = defaultContext.failFast;
 			this.failFastOnPropertyViolation = defaultContext.failFastOnPropertyViolation;
+			this.maxViolations = defaultContext.maxViolations;
+			this.deferredMessageInterpolation = defaultContext.deferredMessageInterpolation;
 			this.traversableResolverResultCacheEnabled = defaultContext.traversableResolverResultCacheEnabled;
 			this.constraintValidatorPayload = defaultContext.constraintValidatorPayload;
 			this.constraintExpressionLanguageFeatureLevel = defaultContext.constraintExpressionLanguageFeatureLevel;
 			this.customViolationExpressionLanguageFeatureLevel = defaultContext.customViolationExpressionLanguageFeatureLevel;
 			this.showValidatedValuesInTraceLogs = defaultContext.showValidatedValuesInTraceLogs;
+			this.validationContextPoolingEnabled = defaultContext.validationContextPoolingEnabled;
+			this.parallelCascadeThreshold = defaultContext.parallelCascadeThreshold;
+			this.parallelCascadeExecutor = defaultContext.parallelCascadeExecutor;
 			this.constraintValidatorInitializationContext = defaultContext.constraintValidatorInitializationContext;
 		}
 
@@ -305,6 +383,21 @@ public ValidatorFactoryScopedContext.Builder setFailFastOnPropertyViolation(bool
 			return this;
 		}
 
+		public ValidatorFactoryScopedContext.Builder setMaxViolations(int maxViolations) {
+			this.maxViolations = maxViolations;
+			return this;
+		}
+
+		public ValidatorFactoryScopedContext.Builder setMessageInterpolationLocale(Locale messageInterpolationLocale) {
+			this.messageInterpolationLocale = messageInterpolationLocale;
+			return this;
+		}
+
+		public ValidatorFactoryScopedContext.Builder setDeferredMessageInterpolation(boolean deferredMessageInterpolation) {
+			this.deferredMessageInterpolation = deferredMessageInterpolation;
+			return this;
+		}
+
 		public ValidatorFactoryScopedContext.Builder setTraversableResolverResultCacheEnabled(boolean traversableResolverResultCacheEnabled) {
 			this.traversableResolverResultCacheEnabled = traversableResolverResultCacheEnabled;
 			return this;
@@ -335,7 +428,7 @@ public ValidatorFactoryScopedContext.Builder setShowValidatedValuesInTraceLogs(
 
 		public ValidatorFactoryScopedContext build() {
 			return new ValidatorFactoryScopedContext(
-					messageInterpolator,
+					messageInterpolationLocale == null ? messageInterpolator : new LocaleBoundMessageInterpolator( messageInterpolator, messageInterpolationLocale ),
 					traversableResolver,
 					parameterNameProvider,
 					clockProvider,
@@ -343,8 +436,14 @@ public ValidatorFactoryScopedContext build() {
 					scriptEvaluatorFactory,
 					failFast,
 					failFastOnPropertyViolation,
+					maxViolations,
+					deferredMessageInterpolation,
 					traversableResolverResultCacheEnabled,
-					showValidatedValuesInTraceLogs, constraintValidatorPayload,
+					showValidatedValuesInTraceLogs,
+					validationContextPoolingEnabled,
+					parallelCascadeThreshold,
+					parallelCascadeExecutor,
+					constraintValidatorPayload,
 					constraintExpressionLanguageFeatureLevel,
 					customViolationExpressionLanguageFeatureLevel,
 					HibernateConstraintValidatorInitializationContextImpl.of(
@@ -10,14 +10,23 @@
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import jakarta.validation.ConstraintValidatorFactory;
 import jakarta.validation.ConstraintViolation;
@@ -30,6 +39,8 @@
 import jakarta.validation.metadata.BeanDescriptor;
 import jakarta.validation.valueextraction.ValueExtractor;
 
+import org.hibernate.validator.BatchValidator;
+import org.hibernate.validator.StreamingValidator;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.groups.Group;
@@ -43,6 +54,7 @@
 import org.hibernate.validator.internal.engine.validationcontext.BaseBeanValidationContext;
 import org.hibernate.validator.internal.engine.validationcontext.ExecutableValidationContext;
 import org.hibernate.validator.internal.engine.validationcontext.ValidationContextBuilder;
+import org.hibernate.validator.internal.engine.validationcontext.ValidationContextPool;
 import org.hibernate.validator.internal.engine.validationcontext.ValidatorScopedContext;
 import org.hibernate.validator.internal.engine.valuecontext.BeanValueContext;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
@@ -54,6 +66,7 @@
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.CascadingMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.ContainerCascadingMetaData;
+import org.hibernate.validator.internal.metadata.aggregated.DefaultGroupValidationPlan;
 import org.hibernate.validator.internal.metadata.aggregated.ExecutableMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.ParameterMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.PropertyMetaData;
@@ -78,7 +91,7 @@
  * @author Kevin Pollet &lt;kevin.pollet@serli.com&gt; (C) 2011 SERLI
  * @author Guillaume Smet
  */
-public class ValidatorImpl implements Validator, ExecutableValidator {
+public class ValidatorImpl implements Validator, ExecutableValidator, BatchValidator, StreamingValidator {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
@@ -127,6 +140,19 @@ public class ValidatorImpl implements Validator, ExecutableValidator {
 	 */
 	private final HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext;
 
+	/**
+	 * The pool used to recycle the contexts of the bean validation calls, {@code null} if they are not recycled.
+	 */
+	private final ValidationContextPool validationContextPool;
+
+	/**
+	 * The number of elements from which the elements of a cascaded container are validated in parallel, disabled if
+	 * lower than or equal to 0.
+	 */
+	private final int parallelCascadeThreshold;
+
+	private final Executor parallelCascadeExecutor;
+
 	public ValidatorImpl(ConstraintValidatorFactory constraintValidatorFactory,
 			BeanMetaDataManager beanMetaDataManager,
 			ValueExtractorManager valueExtractorManager,
@@ -141,6 +167,11 @@ public ValidatorImpl(ConstraintValidatorFactory constraintValidatorFactory,
 		this.validatorScopedContext = new ValidatorScopedContext( validatorFactoryScopedContext );
 		this.traversableResolver = validatorFactoryScopedContext.getTraversableResolver();
 		this.constraintValidatorInitializationContext = validatorFactoryScopedContext.getConstraintValidatorInitializationContext();
+		this.validationContextPool = validatorFactoryScopedContext.isValidationContextPoolingEnabled()
+				? ValidationContextPool.forAvailableProcessors()
+				: null;
+		this.parallelCascadeThreshold = validatorFactoryScopedContext.getParallelCascadeThreshold();
+		this.parallelCascadeExecutor = validatorFactoryScopedContext.getParallelCascadeExecutor();
 	}
 
 	@Override
@@ -156,17 +187,156 @@ public final <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... grou
 			return Collections.emptySet();
 		}
 
+		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
+
+		return validateRootBean( getValidationContextBuilder(), validationContextPool, object, rootBeanClass, rootBeanMetaData, validationOrder );
+	}
+
+	@Override
+	public final <T> int validate(T object, Consumer<? super ConstraintViolation<T>> violationConsumer, Class<?>... groups) {
+		return validate( object, violationConsumer, Integer.MAX_VALUE, groups );
+	}
+
+	@Override
+	public final <T> int validate(T object, Consumer<? super ConstraintViolation<T>> violationConsumer, int maxViolations, Class<?>... groups) {
+		Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
+		Contracts.assertNotNull( violationConsumer, MESSAGES.parameterMustNotBeNull( "violationConsumer" ) );
+		Contracts.assertTrue( maxViolations >= 1, MESSAGES.parameterShouldBeGreaterThanOrEqualTo( "maxViolations", 1 ) );
+		sanityCheckGroups( groups );
+
+		@SuppressWarnings("unchecked")
+		Class<T> rootBeanClass = (Class<T>) object.getClass();
+		BeanMetaData<T> rootBeanMetaData = beanMetaDataManager.getBeanMetaData( rootBeanClass );
+
+		if ( !rootBeanMetaData.hasConstraints() ) {
+			return 0;
+		}
+
+		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
+
 		BaseBeanValidationContext<T> validationContext = getValidationContextBuilder().forValidate( rootBeanClass, rootBeanMetaData, object );
+		validationContext.streamFailingConstraints( violationConsumer, maxViolations );
+
+		return validateRootBean( validationContext, validationContextPool, object, validationOrder ).size();
+	}
+
+	@Override
+	public final <T> Map<Integer, Set<ConstraintViolation<T>>> validateAll(Iterable<? extends T> objects, Class<?>... groups) {
+		Contracts.assertNotNull( objects, MESSAGES.parameterMustNotBeNull( "objects" ) );
+		sanityCheckGroups( groups );
+
+		BatchValidationState batchState = new BatchValidationState( determineGroupValidationOrder( groups ) );
+
+		Map<Integer, Set<ConstraintViolation<T>>> violationsByIndex = new LinkedHashMap<>();
+		int index = 0;
+		for ( T object : objects ) {
+			Set<ConstraintViolation<T>> violations = batchState.validate( object );
+			if ( !violations.isEmpty() ) {
+				violationsByIndex.put( index, violations );
+			}
+			index++;
+		}
+
+		return violationsByIndex;
+	}
+
+	@Override
+	public final <T> Map<Integer, Set<ConstraintViolation<T>>> validateAll(Iterable<? extends T> objects, Executor executor, Class<?>... groups) {
+		Contracts.assertNotNull( objects, MESSAGES.parameterMustNotBeNull( "objects" ) );
+		Contracts.assertNotNull( executor, MESSAGES.parameterMustNotBeNull( "executor" ) );
+		sanityCheckGroups( groups );
 
 		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
-		BeanValueContext<?, Object> valueContext = ValueContexts.getLocalExecutionContextForRootBean(
-				validatorScopedContext.getParameterNameProvider(),
-				object,
-				validationContext.getRootBeanMetaData(),
-				MutablePath.createRootPath()
-		);
+		List<? extends T> objectList = toRandomAccessList( objects );
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		Set<ConstraintViolation<T>>[] violations = new Set[objectList.size()];
+		Throwable[] failures = new Throwable[objectList.size()];
+		AtomicInteger nextIndex = new AtomicInteger();
+		AtomicInteger firstFailedIndex = new AtomicInteger( Integer.MAX_VALUE );
+		CountDownLatch remainingObjects = new CountDownLatch( objectList.size() );
+
+		// the objects are claimed one by one by the current thread and the helpers, each of them with its own state; a
+		// helper started once all the objects have been claimed returns immediately and is not waited for
+		Runnable batchValidation = () -> {
+			BatchValidationState batchState = new BatchValidationState( validationOrder );
+			int index;
+			while ( ( index = nextIndex.getAndIncrement() ) < objectList.size() ) {
+				try {
+					if ( index < firstFailedIndex.get() ) {
+						violations[index] = batchState.validate( objectList.get( index ) );
+					}
+				}
+				catch (RuntimeException | Error e) {
+					failures[index] = e;
+					firstFailedIndex.accumulateAndGet( index, Math::min );
+				}
+				finally {
+					remainingObjects.countDown();
+				}
+			}
+		};
 
-		return validateInContext( validationContext, valueContext, validationOrder );
+		int helpers = Math.max( 0, Math.min( ParallelCascade.getParallelism( executor ), objectList.size() ) - 1 );
+		for ( int i = 0; i < helpers; i++ ) {
+			try {
+				executor.execute( batchValidation );
+			}
+			catch (RejectedExecutionException e) {
+				// the current thread validates the objects which are not claimed by the helpers
+				break;
+			}
+		}
+
+		batchValidation.run();
+		ParallelCascade.awaitUninterruptibly( remainingObjects );
+
+		Map<Integer, Set<ConstraintViolation<T>>> violationsByIndex = new LinkedHashMap<>();
+		for ( int index = 0; index < objectList.size(); index++ ) {
+			if ( failures[index] instanceof RuntimeException runtimeException ) {
+				throw runtimeException;
+			}
+			if ( failures[index] instanceof Error error ) {
+				throw error;
+			}
+			if ( !violations[index].isEmpty() ) {
+				violationsByIndex.put( index, violations[index] );
+			}
+		}
+
+		return violationsByIndex;
+	}
+
+	private <T> Set<ConstraintViolation<T>> validateRootBean(ValidationContextBuilder validationContextBuilder, ValidationContextPool contextPool,
+			T object, Class<T> rootBeanClass, BeanMetaData<T> rootBeanMetaData, ValidationOrder validationOrder) {
+		return validateRootBean( validationContextBuilder.forValidate( rootBeanClass, rootBeanMetaData, object ), contextPool, object, validationOrder );
+	}
+
+	private <T> Set<ConstraintViolation<T>> validateRootBean(BaseBeanValidationContext<T> validationContext, ValidationContextPool contextPool, T object,
+			ValidationOrder validationOrder) {
+		try {
+			BeanValueContext<?, Object> valueContext = validationContext.pollRecycledValueContext();
+			if ( valueContext == null ) {
+				valueContext = ValueContexts.getLocalExecutionContextForRootBean(
+						validatorScopedContext.getParameterNameProvider(),
+						object,
+						validationContext.getRootBeanMetaData(),
+						MutablePath.createRootPath()
+				);
+			}
+			else {
+				valueContext.reset( null, object, MutablePath.createRootPath(), validationContext.getRootBeanMetaData() );
+			}
+
+			Set<ConstraintViolation<T>> failingConstraints = validateInContext( validationContext, valueContext, validationOrder );
+			validationContext.recycleValueContext( valueContext );
+			return failingConstraints;
+		}
+		finally {
+			if ( contextPool != null ) {
+				contextPool.release( validationContext );
+			}
+		}
 	}
 
 	@Override
@@ -318,7 +488,7 @@ public final <T> T unwrap(Class<T> type) {
 		//allow unwrapping into public super types; intentionally not exposing the
 		//fact that ExecutableValidator is implemented by this class as well as this
 		//might change
-		if ( type.isAssignableFrom( Validator.class ) ) {
+		if ( type.isAssignableFrom( BatchValidator.class ) || type.isAssignableFrom( StreamingValidator.class ) ) {
 			return type.cast( this );
 		}
 
@@ -331,15 +501,32 @@ public ExecutableValidator forExecutables() {
 	}
 
 	private ValidationContextBuilder getValidationContextBuilder() {
+		return getValidationContextBuilder( validationContextPool );
+	}
+
+	private ValidationContextBuilder getValidationContextBuilder(ValidationContextPool contextPool) {
 		return new ValidationContextBuilder(
 				constraintValidatorManager,
 				constraintValidatorFactory,
 				validatorScopedContext,
 				TraversableResolvers.wrapWithCachingForSingleValidation( traversableResolver, validatorScopedContext.isTraversableResolverResultCacheEnabled() ),
-				constraintValidatorInitializationContext
+				constraintValidatorInitializationContext,
+				contextPool
 		);
 	}
 
+	private static <T> List<? extends T> toRandomAccessList(Iterable<? extends T> objects) {
+		if ( objects instanceof List<? extends T> list && objects instanceof RandomAccess ) {
+			return list;
+		}
+
+		List<T> list = objects instanceof Collection<?> collection ? new ArrayList<>( collection.size() ) : new ArrayList<>();
+		for ( T object : objects ) {
+			list.add( object );
+		}
+		return list;
+	}
+
 	private void sanityCheckPropertyPath(String propertyName) {
 		if ( propertyName == null || propertyName.length() == 0 ) {
 			throw LOG.getInvalidPropertyPathException();
@@ -452,18 +639,16 @@ private <U> void validateConstraintsForDefaultGroup(BaseBeanValidationContext<?>
 		final BeanMetaData<U> beanMetaData = valueContext.getCurrentBeanMetaData();
 		final Map<Class<?>, Class<?>> validatedInterfaces = beanMetaData.maybeCreateValidatedInterfacesTrackingMap();
 
-		// evaluating the constraints of a bean per class in hierarchy, this is necessary to detect potential default group re-definitions
-		for ( Class<? super U> clazz : beanMetaData.getClassHierarchy() ) {
-			BeanMetaData<? super U> hostingBeanMetaData = beanMetaDataManager.getBeanMetaData( clazz );
-
-			boolean defaultGroupSequenceIsRedefined = hostingBeanMetaData.isDefaultGroupSequenceRedefined();
+		// evaluating the constraints of a bean per class in hierarchy, this is necessary to detect potential default group re-definitions;
+		// the plan stops at the first class redefining the default group sequence as this sequence is applied to all the class hierarchy
+		for ( DefaultGroupValidationPlan.Step<U> step : beanMetaData.getDefaultGroupValidationPlan( beanMetaDataManager ).getSteps() ) {
+			Class<? super U> clazz = step.getHostingClass();
 
-			// if the current class redefined the default group sequence, this sequence has to be applied to all the class hierarchy.
-			if ( defaultGroupSequenceIsRedefined ) {
-				Iterator<Sequence> defaultGroupSequence = hostingBeanMetaData.getDefaultValidationSequence( valueContext.getCurrentBean() );
+			if ( step.isDefaultGroupSequenceRedefined() ) {
+				Iterator<Sequence> defaultGroupSequence = step.getHostingBeanMetaData().getDefaultValidationSequence( valueContext.getCurrentBean() );
 
-				Set<MetaConstraint<?>> classMetaConstraints = hostingBeanMetaData.getClassMetaConstraints();
-				Set<MetaConstraint<?>> propertyMetaConstraints = hostingBeanMetaData.getPropertyMetaConstraints();
+				MetaConstraint<?>[] classMetaConstraints = step.getClassMetaConstraints();
+				MetaConstraint<?>[] propertyMetaConstraints = step.getPropertyMetaConstraints();
 
 				while ( defaultGroupSequence.hasNext() ) {
 					for ( GroupWithInheritance groupOfGroups : defaultGroupSequence.next() ) {
@@ -471,12 +656,12 @@ private <U> void validateConstraintsForDefaultGroup(BaseBeanValidationContext<?>
 
 						for ( Group defaultSequenceMember : groupOfGroups ) {
 							if ( validationContext.isFailFastOnPropertyViolationModeEnabled() ) {
-								boolean propertyValidationResult = propertyMetaConstraints.isEmpty()
+								boolean propertyValidationResult = propertyMetaConstraints.length == 0
 										|| validateConstraintsForSingleDefaultGroupElement( validationContext, valueContext, validatedInterfaces, clazz, propertyMetaConstraints,
 												defaultSequenceMember );
 								validationSuccessful = propertyValidationResult && validationSuccessful;
 								if ( propertyValidationResult ) {
-									validationSuccessful = ( classMetaConstraints.isEmpty()
+									validationSuccessful = ( classMetaConstraints.length == 0
 											|| validateConstraintsForSingleDefaultGroupElement( validationContext, valueContext, validatedInterfaces, clazz, classMetaConstraints,
 													defaultSequenceMember ) )
 											&& validationSuccessful;
@@ -484,7 +669,7 @@ private <U> void validateConstraintsForDefaultGroup(BaseBeanValidationContext<?>
 							}
 							else {
 								validationSuccessful = validateConstraintsForSingleDefaultGroupElement( validationContext, valueContext, validatedInterfaces, clazz,
-										hostingBeanMetaData.getAllMetaConstraints(), defaultSequenceMember ) && validationSuccessful;
+										step.getAllMetaConstraints(), defaultSequenceMember ) && validationSuccessful;
 							}
 						}
 
@@ -500,29 +685,24 @@ private <U> void validateConstraintsForDefaultGroup(BaseBeanValidationContext<?>
 			else {
 				if ( validationContext.isFailFastOnPropertyViolationModeEnabled() ) {
 					boolean propertyValidationResult = validateConstraintsForSingleDefaultGroupElement( validationContext, valueContext, validatedInterfaces, clazz,
-							hostingBeanMetaData.getDirectPropertyMetaConstraints(), Group.DEFAULT_GROUP );
-					if ( !validationContext.isFailFastOnPropertyViolationModeEnabled() || propertyValidationResult ) {
-						validateConstraintsForSingleDefaultGroupElement( validationContext, valueContext, validatedInterfaces, clazz, hostingBeanMetaData.getDirectClassMetaConstraints(),
+							step.getPropertyMetaConstraints(), Group.DEFAULT_GROUP );
+					if ( propertyValidationResult ) {
+						validateConstraintsForSingleDefaultGroupElement( validationContext, valueContext, validatedInterfaces, clazz, step.getClassMetaConstraints(),
 								Group.DEFAULT_GROUP );
 					}
 
 				}
 				else {
-					validateConstraintsForSingleDefaultGroupElement( validationContext, valueContext, validatedInterfaces, clazz, hostingBeanMetaData.getAllDirectMetaConstraints(),
+					validateConstraintsForSingleDefaultGroupElement( validationContext, valueContext, validatedInterfaces, clazz, step.getAllMetaConstraints(),
 							Group.DEFAULT_GROUP );
 				}
 				validationContext.markCurrentBeanAsProcessed( valueContext );
 			}
-
-			// all constraints in the hierarchy has been validated, stop validation.
-			if ( defaultGroupSequenceIsRedefined ) {
-				break;
-			}
 		}
 	}
 
 	private <U> boolean validateConstraintsForSingleDefaultGroupElement(BaseBeanValidationContext<?> validationContext, ValueContext<U, Object> valueContext,
-			final Map<Class<?>, Class<?>> validatedInterfaces, Class<? super U> clazz, Set<MetaConstraint<?>> metaConstraints, Group defaultSequenceMember) {
+			final Map<Class<?>, Class<?>> validatedInterfaces, Class<? super U> clazz, MetaConstraint<?>[] metaConstraints, Group defaultSequenceMember) {
 		boolean validationSuccessful = true;
 
 		valueContext.setCurrentGroup( defaultSequenceMember.getDefiningClass() );
@@ -664,9 +844,12 @@ private void validateCascadedAnnotatedObjectForCurrentGroup(Object value, BaseBe
 		// already and need only to pass the current element
 		ValidationOrder validationOrder = validationOrderGenerator.getValidationOrder( currentGroup, currentGroup != originalGroup );
 
-		BeanValueContext<?, Object> cascadedValueContext = buildNewLocalExecutionContext( valueContext, value );
+		BeanValueContext<?, Object> cascadedValueContext = buildNewLocalExecutionContext( validationContext, valueContext, value );
 
 		validateInContext( validationContext, cascadedValueContext, validationOrder );
+
+		// the cascaded context is not referenced anymore once the cascaded bean has been validated
+		validationContext.recycleValueContext( cascadedValueContext );
 	}
 
 	private void validateCascadedContainerElementsForCurrentGroup(Object value, BaseBeanValidationContext<?> validationContext, ValueContext<?, ?> valueContext,
@@ -687,11 +870,108 @@ private void validateCascadedContainerElementsForCurrentGroup(Object value, Base
 				throw LOG.getNoValueExtractorFoundForTypeException( cascadingMetaData.getEnclosingType(), cascadingMetaData.getTypeParameter(), value.getClass() );
 			}
 
-			CascadingValueReceiver receiver = new CascadingValueReceiver( validationContext, valueContext, cascadingMetaData );
+			if ( parallelCascadeThreshold > 0 && ParallelCascade.getContainerSize( value ) >= parallelCascadeThreshold
+					&& validateCascadedContainerElementsInParallel( value, validationContext, valueContext, cascadingMetaData, extractor ) ) {
+				continue;
+			}
+
+			CascadingValueReceiver receiver = new CascadingValueReceiver( validationContext, valueContext, cascadingMetaData, valueContext.getPropertyPath() );
 			ValueExtractorHelper.extractValues( extractor, value, receiver );
 		}
 	}
 
+	/**
+	 * Validates the elements of the given container in parallel if the validation context can be forked.
+	 *
+	 * @return {@code true} if the elements have been validated, {@code false} if they have to be validated sequentially
+	 */
+	private <T> boolean validateCascadedContainerElementsInParallel(Object value, BaseBeanValidationContext<T> validationContext, ValueContext<?, ?> valueContext,
+			ContainerCascadingMetaData cascadingMetaData, ValueExtractorDescriptor extractor) {
+		BaseBeanValidationContext<T> firstFork = forkValidationContext( validationContext );
+		if ( firstFork == null ) {
+			return false;
+		}
+
+		ParallelCascade.ElementCollector collector = new ParallelCascade.ElementCollector( ParallelCascade.getContainerSize( value ) );
+		ValueExtractorHelper.extractValues( extractor, value, collector );
+
+		AtomicReference<BaseBeanValidationContext<T>> unusedFork = new AtomicReference<>( firstFork );
+		int parallelism = ParallelCascade.getParallelism( parallelCascadeExecutor );
+
+		new ParallelCascade<>(
+				validationContext,
+				() -> {
+					BaseBeanValidationContext<T> fork = unusedFork.getAndSet( null );
+					return fork != null ? fork : forkValidationContext( validationContext );
+				},
+				(fork, elements, abandoned) -> {
+					// each chunk gets its own copy of the container node, as the node is updated for each element
+					CascadingValueReceiver receiver = new CascadingValueReceiver( fork, valueContext, cascadingMetaData,
+							MutablePath.createCopyWithLeafNodeCopy( valueContext.getPropertyPath() ) );
+					for ( ParallelCascade.Element element : elements ) {
+						if ( abandoned.getAsBoolean() ) {
+							return;
+						}
+						element.sendTo( receiver );
+					}
+				},
+				collector.getElements(),
+				parallelism
+		).validate( parallelCascadeExecutor, parallelism );
+
+		return true;
+	}
+
+	private <T> BaseBeanValidationContext<T> forkValidationContext(BaseBeanValidationContext<T> validationContext) {
+		return validationContext.fork(
+				TraversableResolvers.wrapWithCachingForSingleValidation( traversableResolver, validatorScopedContext.isTraversableResolverResultCacheEnabled() )
+		);
+	}
+
+	/**
+	 * The state shared by the validations of the objects of a batch performed by a given thread.
+	 * <p>
+	 * The validation context is recycled from one object to the next through a pool dedicated to the batch. The results
+	 * of the traversable resolver are only cached for the validation of a given object, as for any validation call, so
+	 * that the validated objects are not retained until the end of the batch.
+	 */
+	private class BatchValidationState {
+
+		private final ValidationOrder validationOrder;
+		private final ValidationContextPool batchValidationContextPool = new ValidationContextPool( 1 );
+
+		/**
+		 * The metadata of the previously validated object, as a batch usually contains objects of the same class.
+		 */
+		private BeanMetaData<?> previousBeanMetaData;
+
+		private BatchValidationState(ValidationOrder validationOrder) {
+			this.validationOrder = validationOrder;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <T> Set<ConstraintViolation<T>> validate(T object) {
+			Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
+
+			Class<T> rootBeanClass = (Class<T>) object.getClass();
+			BeanMetaData<T> rootBeanMetaData;
+			if ( previousBeanMetaData != null && previousBeanMetaData.getBeanClass() == rootBeanClass ) {
+				rootBeanMetaData = (BeanMetaData<T>) previousBeanMetaData;
+			}
+			else {
+				rootBeanMetaData = beanMetaDataManager.getBeanMetaData( rootBeanClass );
+				previousBeanMetaData = rootBeanMetaData;
+			}
+
+			if ( !rootBeanMetaData.hasConstraints() ) {
+				return Collections.emptySet();
+			}
+
+			return validateRootBean( getValidationContextBuilder( batchValidationContextPool ), batchValidationContextPool, object, rootBeanClass,
+					rootBeanMetaData, validationOrder );
+		}
+	}
+
 	private class CascadingValueReceiver implements ValueExtractor.ValueReceiver {
 
 		private final BaseBeanValidationContext<?> validationContext;
@@ -699,16 +979,23 @@ private class CascadingValueReceiver implements ValueExtractor.ValueReceiver {
 		private final ContainerCascadingMetaData cascadingMetaData;
 		private final BeanValueContext<?, Object> cascadedValueContext;
 
-		public CascadingValueReceiver(BaseBeanValidationContext<?> validationContext, ValueContext<?, ?> valueContext, ContainerCascadingMetaData cascadingMetaData) {
+		/**
+		 * The path of the container, whose leaf node is updated for each element.
+		 */
+		private final MutablePath containerPath;
+
+		public CascadingValueReceiver(BaseBeanValidationContext<?> validationContext, ValueContext<?, ?> valueContext, ContainerCascadingMetaData cascadingMetaData,
+				MutablePath containerPath) {
 			this.validationContext = validationContext;
 			this.valueContext = valueContext;
 			this.cascadingMetaData = cascadingMetaData;
+			this.containerPath = containerPath;
 			this.cascadedValueContext = ValueContexts.getLocalExecutionContextForBean(
 					valueContext,
 					validatorScopedContext.getParameterNameProvider(),
 					null,
 					null,
-					valueContext.getPropertyPath()
+					containerPath
 			);
 		}
 
@@ -719,7 +1006,7 @@ private BeanValueContext<?, Object> resetCascadedValueContext(Object value) {
 			if ( currentBeanMetaData == null || currentBeanMetaData.getBeanClass() != value.getClass() ) {
 				currentBeanMetaData = beanMetaDataManager.getBeanMetaData( value.getClass() );
 			}
-			cascadedValueContext.reset( value, valueContext.getPropertyPath(), currentBeanMetaData );
+			cascadedValueContext.reset( value, containerPath, currentBeanMetaData );
 			cascadedValueContext.setCurrentValidatedValue( value );
 			return cascadedValueContext;
 		}
@@ -731,19 +1018,19 @@ public void value(String nodeName, Object value) {
 
 		@Override
 		public void iterableValue(String nodeName, Object value) {
-			valueContext.markCurrentPropertyAsIterable();
+			containerPath.makeLeafNodeIterable();
 			doValidate( value, nodeName );
 		}
 
 		@Override
 		public void indexedValue(String nodeName, int index, Object value) {
-			valueContext.markCurrentPropertyAsIterableAndSetIndex( index );
+			containerPath.makeLeafNodeIterableAndSetIndex( index );
 			doValidate( value, nodeName );
 		}
 
 		@Override
 		public void keyedValue(String nodeName, Object key, Object value) {
-			valueContext.markCurrentPropertyAsIterableAndSetKey( key );
+			containerPath.makeLeafNodeIterableAndSetMapKey( key );
 			doValidate( value, nodeName );
 		}
 
@@ -823,17 +1110,23 @@ private void validateCascadedContainerElementsInContext(Object value, BaseBeanVa
 		}
 	}
 
-	private BeanValueContext<?, Object> buildNewLocalExecutionContext(ValueContext<?, ?> valueContext, Object value) {
+	private BeanValueContext<?, Object> buildNewLocalExecutionContext(BaseBeanValidationContext<?> validationContext, ValueContext<?, ?> valueContext, Object value) {
 		BeanValueContext<?, Object> newValueContext;
 		Contracts.assertNotNull( value, "value cannot be null" );
 		BeanMetaData<?> beanMetaData = beanMetaDataManager.getBeanMetaData( value.getClass() );
-		newValueContext = ValueContexts.getLocalExecutionContextForBean(
-				valueContext,
-				validatorScopedContext.getParameterNameProvider(),
-				value,
-				beanMetaData,
-				valueContext.getPropertyPath()
-		);
+		newValueContext = validationContext.pollRecycledValueContext();
+		if ( newValueContext == null ) {
+			newValueContext = ValueContexts.getLocalExecutionContextForBean(
+					valueContext,
+					validatorScopedContext.getParameterNameProvider(),
+					value,
+					beanMetaData,
+					valueContext.getPropertyPath()
+			);
+		}
+		else {
+			newValueContext.reset( valueContext, value, valueContext.getPropertyPath(), beanMetaData );
+		}
 		newValueContext.setCurrentValidatedValue( value );
 
 		return newValueContext;
@@ -1430,7 +1723,8 @@ private boolean isReturnValueValidation(MutablePath path) {
 	}
 
 	private boolean shouldFailFast(BaseBeanValidationContext<?> validationContext) {
-		return validationContext.isFailFastModeEnabled() && !validationContext.getFailingConstraints().isEmpty();
+		return validationContext.isFailFastModeEnabled() && !validationContext.getFailingConstraints().isEmpty()
+				|| validationContext.isMaxViolationsReached();
 	}
 
 	private PropertyMetaData getBeanPropertyMetaData(BeanMetaData<?> beanMetaData, Path.Node propertyNode) {
@@ -62,6 +62,14 @@ private <U extends Annotation> ConstraintTree<U> createConstraintTree(Constraint
 		}
 	}
 
+	@Override
+	public void initializeDefaultConstraintValidators(ConstraintValidatorManager constraintValidatorManager) {
+		super.initializeDefaultConstraintValidators( constraintValidatorManager );
+		for ( ConstraintTree<?> child : children ) {
+			child.initializeDefaultConstraintValidators( constraintValidatorManager );
+		}
+	}
+
 	@Override
 	public boolean validateConstraints(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext) {
 		List<ConstraintViolationCreationContext> constraintViolationCreationContexts = new ArrayList<>( 5 );
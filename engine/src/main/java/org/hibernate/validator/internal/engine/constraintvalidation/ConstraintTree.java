@@ -8,11 +8,16 @@
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import jakarta.validation.ConstraintDeclarationException;
 import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorFactory;
 import jakarta.validation.ValidationException;
 
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.engine.validationcontext.ValidationContext;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
@@ -41,8 +46,28 @@
 
 	private final Type validatedValueType;
 
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<ConstraintTree, DefaultConstraintValidatorInitialization> DEFAULT_CONSTRAINT_VALIDATOR_INITIALIZATION =
+			AtomicReferenceFieldUpdater.newUpdater( ConstraintTree.class, DefaultConstraintValidatorInitialization.class, "defaultConstraintValidatorInitialization" );
+
 	private volatile ConstraintValidator<A, ?> defaultInitializedConstraintValidator;
 
+	/**
+	 * The initialization of {@link #defaultInitializedConstraintValidator}, published by the thread performing it so that
+	 * the other threads wait for this constraint only, without holding a lock.
+	 */
+	private volatile DefaultConstraintValidatorInitialization<A> defaultConstraintValidatorInitialization;
+
+	/**
+	 * The constraint validator initialized for the most recently used non-default constraint validator factory or
+	 * initialization context, e.g. when using a validator obtained through {@code ValidatorFactory#usingContext()}.
+	 * <p>
+	 * A single entry is enough as the {@link ConstraintValidatorManager} only keeps the constraint validators of the most
+	 * recently used non-default factory and context: the entry is valid as long as the generation of the non-default
+	 * constraint validators of the manager has not changed.
+	 */
+	private volatile NonDefaultInitializedConstraintValidator<A> nonDefaultInitializedConstraintValidator;
+
 	protected ConstraintTree(ConstraintValidatorManager constraintValidatorManager, ConstraintDescriptorImpl<A> descriptor, Type validatedValueType) {
 		this.descriptor = descriptor;
 		this.validatedValueType = validatedValueType;
@@ -112,31 +137,11 @@ private ValidationException getExceptionForNullValidator(Type validatedValueType
 				validator = defaultInitializedConstraintValidator;
 
 				if ( validator == null ) {
-					synchronized (this) {
-						validator = defaultInitializedConstraintValidator;
-						if ( validator == null ) {
-							validator = validationContext.getConstraintValidatorManager().getInitializedValidator(
-									validatedValueType,
-									descriptor,
-									validationContext.getConstraintValidatorManager().getDefaultConstraintValidatorFactory(),
-									validationContext.getConstraintValidatorManager().getDefaultConstraintValidatorInitializationContext() );
-
-							defaultInitializedConstraintValidator = validator;
-						}
-					}
+					validator = initializeDefaultConstraintValidator( validationContext.getConstraintValidatorManager() );
 				}
 			}
 			else {
-				// For now, we don't cache the result in the ConstraintTree if we don't use the default constraint validator
-				// factory. Creating a lot of CHM for that cache might not be a good idea and we prefer being conservative
-				// for now. Note that we have the ConstraintValidatorManager cache that mitigates the situation.
-				// If you come up with a use case where it makes sense, please reach out to us.
-				validator = validationContext.getConstraintValidatorManager().getInitializedValidator(
-						validatedValueType,
-						descriptor,
-						validationContext.getConstraintValidatorFactory(),
-						validationContext.getConstraintValidatorInitializationContext()
-				);
+				validator = getNonDefaultInitializedConstraintValidator( validationContext );
 			}
 		}
 
@@ -147,6 +152,98 @@ private ValidationException getExceptionForNullValidator(Type validatedValueType
 		return validator;
 	}
 
+	/**
+	 * Initializes the constraint validator of this constraint, and of its composing constraints, for the default
+	 * constraint validator factory and initialization context if not done already.
+	 *
+	 * @param constraintValidatorManager the constraint validator manager of the validator factory
+	 */
+	public void initializeDefaultConstraintValidators(ConstraintValidatorManager constraintValidatorManager) {
+		if ( constraintValidatorManager.isPredefinedScope() ) {
+			// already initialized when the tree was created
+			return;
+		}
+		if ( defaultInitializedConstraintValidator == null && !descriptor.getMatchingConstraintValidatorDescriptors().isEmpty() ) {
+			initializeDefaultConstraintValidator( constraintValidatorManager );
+		}
+	}
+
+	/**
+	 * Initializes the constraint validator for the default factory and initialization context. The first thread
+	 * publishes its initialization with a CAS and performs it while the other threads wait for its result.
+	 * <p>
+	 * If the initialization fails, the exception is propagated to the waiting threads and the next validation tries
+	 * again.
+	 */
+	private ConstraintValidator<A, ?> initializeDefaultConstraintValidator(ConstraintValidatorManager constraintValidatorManager) {
+		while ( true ) {
+			DefaultConstraintValidatorInitialization<A> initialization = defaultConstraintValidatorInitialization;
+
+			if ( initialization == null ) {
+				initialization = new DefaultConstraintValidatorInitialization<>();
+				if ( DEFAULT_CONSTRAINT_VALIDATOR_INITIALIZATION.compareAndSet( this, null, initialization ) ) {
+					ConstraintValidator<A, ?> validator;
+					try {
+						validator = constraintValidatorManager.getInitializedValidator(
+								validatedValueType,
+								descriptor,
+								constraintValidatorManager.getDefaultConstraintValidatorFactory(),
+								constraintValidatorManager.getDefaultConstraintValidatorInitializationContext() );
+					}
+					catch (RuntimeException | Error e) {
+						DEFAULT_CONSTRAINT_VALIDATOR_INITIALIZATION.set( this, null );
+						initialization.fail( e );
+						throw e;
+					}
+
+					defaultInitializedConstraintValidator = validator;
+					initialization.succeed( validator );
+					return validator;
+				}
+				continue;
+			}
+
+			if ( initialization.initializingThread == Thread.currentThread() ) {
+				// the validator is required while being initialized, e.g. by a validation triggered by its initialization
+				return constraintValidatorManager.getInitializedValidator(
+						validatedValueType,
+						descriptor,
+						constraintValidatorManager.getDefaultConstraintValidatorFactory(),
+						constraintValidatorManager.getDefaultConstraintValidatorInitializationContext() );
+			}
+
+			return initialization.await();
+		}
+	}
+
+	private ConstraintValidator<A, ?> getNonDefaultInitializedConstraintValidator(ValidationContext<?> validationContext) {
+		ConstraintValidatorManager constraintValidatorManager = validationContext.getConstraintValidatorManager();
+		ConstraintValidatorFactory constraintValidatorFactory = validationContext.getConstraintValidatorFactory();
+		HibernateConstraintValidatorInitializationContext initializationContext = validationContext.getConstraintValidatorInitializationContext();
+		// the generation is read before getting the validator from the manager so that a concurrent release invalidates the entry
+		int generation = constraintValidatorManager.getNonDefaultConstraintValidatorsGeneration();
+
+		NonDefaultInitializedConstraintValidator<A> cached = nonDefaultInitializedConstraintValidator;
+		if ( cached != null && cached.constraintValidatorFactory() == constraintValidatorFactory
+				&& cached.initializationContext() == initializationContext
+				&& cached.generation() == generation ) {
+			constraintValidatorManager.recordNonDefaultConstraintValidatorCacheHit();
+			return cached.constraintValidator();
+		}
+
+		ConstraintValidator<A, ?> validator = constraintValidatorManager.getInitializedValidator(
+				validatedValueType,
+				descriptor,
+				constraintValidatorFactory,
+				initializationContext
+		);
+		if ( validator != null ) {
+			nonDefaultInitializedConstraintValidator = new NonDefaultInitializedConstraintValidator<>( constraintValidatorFactory, initializationContext,
+					generation, validator );
+		}
+		return validator;
+	}
+
 	protected final <V> boolean validateSingleConstraint(
 			ValueContext<?, ?> valueContext,
 			ConstraintValidatorContextImpl constraintValidatorContext,
@@ -173,4 +270,42 @@ public String toString() {
 		return sb.toString();
 	}
 
+	private static final class DefaultConstraintValidatorInitialization<A extends Annotation> extends CompletableFuture<ConstraintValidator<A, ?>> {
+
+		/**
+		 * The thread performing the initialization, cleared once it is complete so that the initialization, which stays
+		 * referenced by the tree, does not retain the thread and its context class loader.
+		 */
+		private volatile Thread initializingThread = Thread.currentThread();
+
+		private void succeed(ConstraintValidator<A, ?> validator) {
+			initializingThread = null;
+			complete( validator );
+		}
+
+		private void fail(Throwable e) {
+			initializingThread = null;
+			completeExceptionally( e );
+		}
+
+		private ConstraintValidator<A, ?> await() {
+			try {
+				return join();
+			}
+			catch (CompletionException e) {
+				if ( e.getCause() instanceof RuntimeException runtimeException ) {
+					throw runtimeException;
+				}
+				if ( e.getCause() instanceof Error error ) {
+					throw error;
+				}
+				throw e;
+			}
+		}
+	}
+
+	private record NonDefaultInitializedConstraintValidator<A extends Annotation>(ConstraintValidatorFactory constraintValidatorFactory,
+			HibernateConstraintValidatorInitializationContext initializationContext, int generation,
+			ConstraintValidator<A, ?> constraintValidator) {
+	}
 }
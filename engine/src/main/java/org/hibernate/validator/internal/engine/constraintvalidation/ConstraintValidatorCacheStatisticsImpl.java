@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.constraintvalidation;
+
+import org.hibernate.validator.constraintvalidation.ConstraintValidatorCacheStatistics;
+
+/**
+ * An immutable snapshot of {@link ConstraintValidatorCacheStatistics}.
+ */
+public final class ConstraintValidatorCacheStatisticsImpl implements ConstraintValidatorCacheStatistics {
+
+	public static final ConstraintValidatorCacheStatisticsImpl EMPTY = new ConstraintValidatorCacheStatisticsImpl( 0, 0, 0, 0 );
+
+	private final long hitCount;
+
+	private final long missCount;
+
+	private final long evictionCount;
+
+	private final int size;
+
+	public ConstraintValidatorCacheStatisticsImpl(long hitCount, long missCount, long evictionCount, int size) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+		this.size = size;
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount;
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	@Override
+	public int getSize() {
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		return "ConstraintValidatorCacheStatistics{"
+				+ "hitCount=" + hitCount
+				+ ", missCount=" + missCount
+				+ ", evictionCount=" + evictionCount
+				+ ", size=" + size
+				+ '}';
+	}
+}
@@ -9,6 +9,7 @@
 import java.lang.annotation.Annotation;
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -24,7 +25,6 @@
 import org.hibernate.validator.constraintvalidation.HibernateConstraintViolationBuilder;
 import org.hibernate.validator.constraintvalidation.HibernateCrossParameterConstraintValidatorContext;
 import org.hibernate.validator.internal.engine.path.MutablePath;
-import org.hibernate.validator.internal.util.CollectionHelper;
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
@@ -47,6 +47,13 @@ public class ConstraintValidatorContextImpl implements HibernateCrossParameterCo
 
 	private Map<String, Object> messageParameters;
 	private Map<String, Object> expressionVariables;
+
+	/**
+	 * The immutable copies of the message parameters and expression variables, shared by the violations until a
+	 * parameter or a variable is added.
+	 */
+	private Map<String, Object> messageParametersSnapshot;
+	private Map<String, Object> expressionVariablesSnapshot;
 	private boolean defaultDisabled;
 	private Object dynamicPayload;
 	private List<String> parameterNames;
@@ -55,7 +62,12 @@ public class ConstraintValidatorContextImpl implements HibernateCrossParameterCo
 	private ConstraintDescriptor<?> constraintDescriptor;
 	private ContextKind contextKind;
 
-	private List<ConstraintViolationCreationContext> constraintViolationCreationContexts;
+	private final List<ConstraintViolationCreationContext> constraintViolationCreationContexts = new ArrayList<>( 3 );
+
+	/**
+	 * The builder reused for the custom violations, created the first time a custom violation is built.
+	 */
+	private ConstraintViolationBuilderImpl constraintViolationBuilder;
 
 	public ConstraintValidatorContextImpl(
 			ClockProvider clockProvider,
@@ -80,10 +92,14 @@ public final String getDefaultConstraintMessageTemplate() {
 
 	@Override
 	public HibernateConstraintViolationBuilder buildConstraintViolationWithTemplate(String messageTemplate) {
-		return new ConstraintViolationBuilderImpl(
-				messageTemplate,
-				getCopyOfBasePath()
-		);
+		if ( constraintViolationBuilder == null ) {
+			constraintViolationBuilder = new ConstraintViolationBuilderImpl();
+		}
+		else if ( constraintViolationBuilder.isInProgress() ) {
+			// the reused builder is still referenced by the validator, the violations are built in an interleaved way
+			return new ConstraintViolationBuilderImpl().start( messageTemplate );
+		}
+		return constraintViolationBuilder.start( messageTemplate );
 	}
 
 	@Override
@@ -108,6 +124,7 @@ public HibernateConstraintValidatorContext addExpressionVariable(String name, Ob
 		}
 
 		this.expressionVariables.put( name, value );
+		this.expressionVariablesSnapshot = null;
 		return this;
 	}
 
@@ -120,6 +137,7 @@ public HibernateConstraintValidatorContext addMessageParameter(String name, Obje
 		}
 
 		this.messageParameters.put( name, value );
+		this.messageParametersSnapshot = null;
 		return this;
 	}
 
@@ -150,14 +168,14 @@ public final ConstraintDescriptor<?> getConstraintDescriptor() {
 
 	public final List<ConstraintViolationCreationContext> getConstraintViolationCreationContexts() {
 		if ( defaultDisabled ) {
-			if ( constraintViolationCreationContexts == null || constraintViolationCreationContexts.isEmpty() ) {
+			if ( constraintViolationCreationContexts.isEmpty() ) {
 				throw LOG.getAtLeastOneCustomMessageMustBeCreatedException();
 			}
 
 			return constraintViolationCreationContexts;
 		}
 
-		if ( constraintViolationCreationContexts == null || constraintViolationCreationContexts.isEmpty() ) {
+		if ( constraintViolationCreationContexts.isEmpty() ) {
 			return Collections.singletonList( getDefaultConstraintViolationCreationContext() );
 		}
 
@@ -169,10 +187,6 @@ public final List<ConstraintViolationCreationContext> getConstraintViolationCrea
 		return returnedConstraintViolationCreationContexts;
 	}
 
-	protected final MutablePath getCopyOfBasePath() {
-		return MutablePath.createCopy( basePath );
-	}
-
 	private ConstraintViolationCreationContext getDefaultConstraintViolationCreationContext() {
 		return new ConstraintViolationCreationContext(
 				constraintDescriptor,
@@ -180,12 +194,30 @@ private ConstraintViolationCreationContext getDefaultConstraintViolationCreation
 				defaultConstraintExpressionLanguageFeatureLevel,
 				false,
 				basePath,
-				messageParameters,
-				expressionVariables,
+				getMessageParametersSnapshot(),
+				getExpressionVariablesSnapshot(),
 				dynamicPayload
 		);
 	}
 
+	private Map<String, Object> getMessageParametersSnapshot() {
+		if ( messageParametersSnapshot == null ) {
+			messageParametersSnapshot = toImmutableCopy( messageParameters );
+		}
+		return messageParametersSnapshot;
+	}
+
+	private Map<String, Object> getExpressionVariablesSnapshot() {
+		if ( expressionVariablesSnapshot == null ) {
+			expressionVariablesSnapshot = toImmutableCopy( expressionVariables );
+		}
+		return expressionVariablesSnapshot;
+	}
+
+	private static Map<String, Object> toImmutableCopy(Map<String, Object> map) {
+		return map == null || map.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap( new HashMap<>( map ) );
+	}
+
 	@Override
 	public List<String> getMethodParameterNames() {
 		if ( ContextKind.CROSS_PARAMETER.equals( contextKind ) ) {
@@ -196,7 +228,7 @@ public List<String> getMethodParameterNames() {
 
 	public void contributeConstraintViolationCreationContexts(Collection<ConstraintViolationCreationContext> contexts) {
 		if ( defaultDisabled ) {
-			if ( this.constraintViolationCreationContexts == null || this.constraintViolationCreationContexts.isEmpty() ) {
+			if ( this.constraintViolationCreationContexts.isEmpty() ) {
 				throw LOG.getAtLeastOneCustomMessageMustBeCreatedException();
 			}
 		}
@@ -204,55 +236,53 @@ public void contributeConstraintViolationCreationContexts(Collection<ConstraintV
 			contexts.add( getDefaultConstraintViolationCreationContext() );
 		}
 
-		if ( this.constraintViolationCreationContexts != null && !this.constraintViolationCreationContexts.isEmpty() ) {
+		if ( !this.constraintViolationCreationContexts.isEmpty() ) {
 			contexts.addAll( this.constraintViolationCreationContexts );
 		}
 	}
 
-	private abstract class NodeBuilderBase {
-
-		protected final String messageTemplate;
-		protected ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel;
-		protected MutablePath propertyPath;
+	/**
+	 * The builder returned by {@link #buildConstraintViolationWithTemplate(String)}, implementing all the contexts of
+	 * the fluent API.
+	 * <p>
+	 * The builder does not touch the path while the violation is being built: the operations on the path are recorded
+	 * and replayed on a copy of the base path when the violation is added. A single builder is owned by the context and
+	 * reused for all the violations built one after the other, so that building a violation only allocates the objects
+	 * of the violation itself.
+	 */
+	protected class ConstraintViolationBuilderImpl
+			implements HibernateConstraintViolationBuilder, NodeBuilderDefinedContext, LeafNodeBuilderDefinedContext,
+			ContainerElementNodeBuilderDefinedContext, NodeBuilderCustomizableContext, LeafNodeBuilderCustomizableContext,
+			NodeContextBuilder, LeafNodeContextBuilder, ContainerElementNodeBuilderCustomizableContext,
+			ContainerElementNodeContextBuilder {
+
+		private final PathOperations pathOperations = new PathOperations();
+
+		private String messageTemplate;
+		private ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel;
+		private BuilderState state;
 
-		protected NodeBuilderBase(String template, MutablePath path) {
-			this( template, defaultCustomViolationExpressionLanguageFeatureLevel, path );
-		}
+		/**
+		 * The node added to the path by the next operation, unless this operation applies to the node itself.
+		 */
+		private ElementKind leafNodeKind;
+		private String leafNodeName;
+		private Class<?> leafNodeContainerType;
+		private Integer leafNodeTypeArgumentIndex;
 
-		protected NodeBuilderBase(String template, ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel, MutablePath path) {
-			this.messageTemplate = template;
-			this.expressionLanguageFeatureLevel = expressionLanguageFeatureLevel;
-			this.propertyPath = path;
+		protected ConstraintViolationBuilderImpl() {
 		}
 
-		public ConstraintValidatorContext addConstraintViolation() {
-			if ( constraintViolationCreationContexts == null ) {
-				constraintViolationCreationContexts = CollectionHelper.newArrayList( 3 );
-			}
-			if ( !( expressionVariables == null || expressionVariables.isEmpty() ) && expressionLanguageFeatureLevel == ExpressionLanguageFeatureLevel.NONE ) {
-				LOG.expressionVariablesDefinedWithExpressionLanguageNotEnabled(
-						constraintDescriptor.getAnnotation() != null ? constraintDescriptor.getAnnotation().annotationType() : Annotation.class );
-			}
-			constraintViolationCreationContexts.add(
-					new ConstraintViolationCreationContext(
-							constraintDescriptor,
-							messageTemplate,
-							expressionLanguageFeatureLevel,
-							true,
-							propertyPath,
-							messageParameters,
-							expressionVariables,
-							dynamicPayload
-					)
-			);
-			return ConstraintValidatorContextImpl.this;
+		private ConstraintViolationBuilderImpl start(String messageTemplate) {
+			this.messageTemplate = messageTemplate;
+			this.expressionLanguageFeatureLevel = defaultCustomViolationExpressionLanguageFeatureLevel;
+			this.state = BuilderState.STARTED;
+			pathOperations.clear();
+			return this;
 		}
-	}
-
-	protected class ConstraintViolationBuilderImpl extends NodeBuilderBase implements HibernateConstraintViolationBuilder {
 
-		protected ConstraintViolationBuilderImpl(String template, MutablePath path) {
-			super( template, path );
+		private boolean isInProgress() {
+			return state != null;
 		}
 
 		@Override
@@ -263,205 +293,269 @@ public HibernateConstraintViolationBuilder enableExpressionLanguage(ExpressionLa
 
 		@Override
 		@Deprecated
-		public NodeBuilderDefinedContext addNode(String name) {
-			dropLeafNodeIfRequired();
-			propertyPath.addPropertyNode( name );
-
-			return new NodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath );
+		public ConstraintViolationBuilderImpl addNode(String name) {
+			if ( state == BuilderState.STARTED ) {
+				pathOperations.add( PathOperations.DROP_LEAF_NODE_IF_REQUIRED );
+				pathOperations.add( PathOperations.ADD_PROPERTY_NODE, name );
+				state = BuilderState.NODE_DEFINED;
+				return this;
+			}
+			return addPropertyNode( name );
 		}
 
 		@Override
-		public NodeBuilderCustomizableContext addPropertyNode(String name) {
-			dropLeafNodeIfRequired();
-
-			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath, name, ElementKind.PROPERTY );
+		public ConstraintViolationBuilderImpl addPropertyNode(String name) {
+			beforeNewNode( true );
+			return deferNode( ElementKind.PROPERTY, name, null, null );
 		}
 
 		@Override
-		public LeafNodeBuilderCustomizableContext addBeanNode() {
-			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath, null, ElementKind.BEAN );
+		public ConstraintViolationBuilderImpl addBeanNode() {
+			beforeNewNode( false );
+			return deferNode( ElementKind.BEAN, null, null, null );
 		}
 
 		@Override
-		public NodeBuilderDefinedContext addParameterNode(int index) {
+		public ConstraintViolationBuilderImpl addParameterNode(int index) {
 			if ( ContextKind.CROSS_PARAMETER.equals( contextKind ) ) {
-				dropLeafNode();
-				propertyPath.addParameterNode( parameterNames.get( index ), index );
-
-				return new NodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath );
+				pathOperations.add( PathOperations.DROP_LEAF_NODE );
+				pathOperations.add( PathOperations.ADD_PARAMETER_NODE, parameterNames.get( index ), index );
+				state = BuilderState.NODE_DEFINED;
+				return this;
 			}
-			throw LOG.getParameterNodeAddedForNonCrossParameterConstraintException( propertyPath );
+			throw LOG.getParameterNodeAddedForNonCrossParameterConstraintException( basePath );
 		}
 
 		@Override
-		public ContainerElementNodeBuilderCustomizableContext addContainerElementNode(String name, Class<?> containerType, Integer typeArgumentIndex) {
-			dropLeafNodeIfRequired();
-
-			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath, name, containerType, typeArgumentIndex );
-		}
-
-		/**
-		 * In case nodes are added from within a class-level constraint, the node representing
-		 * the constraint element will be dropped. inIterable(), getKey() etc.
-		 */
-		private void dropLeafNodeIfRequired() {
-			if ( propertyPath.getLeafNode().getKind() == ElementKind.BEAN ) {
-				propertyPath = MutablePath.createCopyWithoutLeafNode( propertyPath );
-			}
-			else {
-				// if we haven't dropped the node, we should clean up "container-related" things:
-				propertyPath.getLeafNode().reset();
-			}
-		}
-
-		private void dropLeafNode() {
-			propertyPath = MutablePath.createCopyWithoutLeafNode( propertyPath );
-		}
-	}
-
-	protected class NodeBuilder extends NodeBuilderBase
-			implements NodeBuilderDefinedContext, LeafNodeBuilderDefinedContext,
-			ContainerElementNodeBuilderDefinedContext {
-
-		protected NodeBuilder(String template, ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel, MutablePath path) {
-			super( template, expressionLanguageFeatureLevel, path );
+		public ConstraintViolationBuilderImpl addContainerElementNode(String name, Class<?> containerType, Integer typeArgumentIndex) {
+			beforeNewNode( true );
+			return deferNode( ElementKind.CONTAINER_ELEMENT, name, containerType, typeArgumentIndex );
 		}
 
 		@Override
-		@Deprecated
-		public NodeBuilderCustomizableContext addNode(String name) {
-			return addPropertyNode( name );
+		public ConstraintViolationBuilderImpl inIterable() {
+			pathOperations.add( PathOperations.MAKE_LEAF_NODE_ITERABLE );
+			return this;
 		}
 
 		@Override
-		public NodeBuilderCustomizableContext addPropertyNode(String name) {
-			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath, name, ElementKind.PROPERTY );
+		public ConstraintViolationBuilderImpl inContainer(Class<?> containerClass, Integer typeArgumentIndex) {
+			pathOperations.add( PathOperations.SET_LEAF_NODE_TYPE_PARAMETER, containerClass, typeArgumentIndex );
+			return this;
 		}
 
 		@Override
-		public LeafNodeBuilderCustomizableContext addBeanNode() {
-			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath, null, ElementKind.BEAN );
+		public ConstraintViolationBuilderImpl atKey(Object key) {
+			pathOperations.add( PathOperations.MAKE_LEAF_NODE_ITERABLE_AND_SET_MAP_KEY, key );
+			addDeferredNode();
+			state = BuilderState.NODE_DEFINED;
+			return this;
 		}
 
 		@Override
-		public ContainerElementNodeBuilderCustomizableContext addContainerElementNode(String name, Class<?> containerType, Integer typeArgumentIndex) {
-			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath, name, containerType, typeArgumentIndex );
+		public ConstraintViolationBuilderImpl atIndex(Integer index) {
+			pathOperations.add( PathOperations.MAKE_LEAF_NODE_ITERABLE_AND_SET_INDEX, index );
+			addDeferredNode();
+			state = BuilderState.NODE_DEFINED;
+			return this;
 		}
-	}
 
-	private class DeferredNodeBuilder extends NodeBuilderBase
-			implements NodeBuilderCustomizableContext, LeafNodeBuilderCustomizableContext, NodeContextBuilder,
-			LeafNodeContextBuilder,
-			ContainerElementNodeBuilderCustomizableContext, ContainerElementNodeContextBuilder {
-
-		private final String leafNodeName;
-
-		private final ElementKind leafNodeKind;
-
-		private final Class<?> leafNodeContainerType;
-
-		private final Integer leafNodeTypeArgumentIndex;
+		@Override
+		public ConstraintValidatorContext addConstraintViolation() {
+			if ( state == BuilderState.NODE_DEFERRED ) {
+				addDeferredNode();
+			}
+			if ( !( expressionVariables == null || expressionVariables.isEmpty() ) && expressionLanguageFeatureLevel == ExpressionLanguageFeatureLevel.NONE ) {
+				LOG.expressionVariablesDefinedWithExpressionLanguageNotEnabled(
+						constraintDescriptor.getAnnotation() != null ? constraintDescriptor.getAnnotation().annotationType() : Annotation.class );
+			}
+			constraintViolationCreationContexts.add(
+					new ConstraintViolationCreationContext(
+							constraintDescriptor,
+							messageTemplate,
+							expressionLanguageFeatureLevel,
+							true,
+							pathOperations.replay( basePath ),
+							getMessageParametersSnapshot(),
+							getExpressionVariablesSnapshot(),
+							dynamicPayload
+					)
+			);
 
-		private DeferredNodeBuilder(String template,
-				ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel,
-				MutablePath path,
-				String nodeName,
-				ElementKind leafNodeKind) {
-			super( template, expressionLanguageFeatureLevel, path );
-			this.leafNodeName = nodeName;
-			this.leafNodeKind = leafNodeKind;
-			this.leafNodeContainerType = null;
-			this.leafNodeTypeArgumentIndex = null;
+			reset();
+			return ConstraintValidatorContextImpl.this;
 		}
 
-		private DeferredNodeBuilder(String template,
-				ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel,
-				MutablePath path,
-				String nodeName,
-				Class<?> leafNodeContainerType,
-				Integer leafNodeTypeArgumentIndex) {
-			super( template, expressionLanguageFeatureLevel, path );
-			this.leafNodeName = nodeName;
-			this.leafNodeKind = ElementKind.CONTAINER_ELEMENT;
-			this.leafNodeContainerType = leafNodeContainerType;
-			this.leafNodeTypeArgumentIndex = leafNodeTypeArgumentIndex;
+		private void reset() {
+			state = null;
+			pathOperations.clear();
 		}
 
-		@Override
-		public DeferredNodeBuilder inIterable() {
-			propertyPath.makeLeafNodeIterable();
-			return this;
+		/**
+		 * Prepares the addition of a node: the deferred node, if any, is added first and, in case nodes are added from
+		 * within a class-level constraint, the node representing the constraint element will be dropped.
+		 */
+		private void beforeNewNode(boolean dropLeafNodeIfRequired) {
+			if ( state == BuilderState.NODE_DEFERRED ) {
+				addDeferredNode();
+			}
+			else if ( state == BuilderState.STARTED && dropLeafNodeIfRequired ) {
+				pathOperations.add( PathOperations.DROP_LEAF_NODE_IF_REQUIRED );
+			}
 		}
 
-		@Override
-		public DeferredNodeBuilder inContainer(Class<?> containerClass, Integer typeArgumentIndex) {
-			propertyPath.setLeafNodeTypeParameter( containerClass, typeArgumentIndex );
+		private ConstraintViolationBuilderImpl deferNode(ElementKind kind, String name, Class<?> containerType, Integer typeArgumentIndex) {
+			this.leafNodeKind = kind;
+			this.leafNodeName = name;
+			this.leafNodeContainerType = containerType;
+			this.leafNodeTypeArgumentIndex = typeArgumentIndex;
+			this.state = BuilderState.NODE_DEFERRED;
 			return this;
 		}
 
-		@Override
-		public NodeBuilder atKey(Object key) {
-			propertyPath.makeLeafNodeIterableAndSetMapKey( key );
-			addLeafNode();
-			return new NodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath );
+		/**
+		 * Adds the node stored for deferred addition. Either a bean, property or container element node.
+		 */
+		private void addDeferredNode() {
+			switch ( leafNodeKind ) {
+				case BEAN:
+					pathOperations.add( PathOperations.ADD_BEAN_NODE );
+					break;
+				case PROPERTY:
+					pathOperations.add( PathOperations.ADD_PROPERTY_NODE, leafNodeName );
+					break;
+				case CONTAINER_ELEMENT:
+					pathOperations.add( PathOperations.ADD_CONTAINER_ELEMENT_NODE, leafNodeName, leafNodeContainerType, leafNodeTypeArgumentIndex );
+					break;
+				default:
+					throw new IllegalStateException( "Unsupported node kind: " + leafNodeKind );
+			}
+			leafNodeName = null;
+			leafNodeContainerType = null;
+			leafNodeTypeArgumentIndex = null;
 		}
+	}
 
-		@Override
-		public NodeBuilder atIndex(Integer index) {
-			propertyPath.makeLeafNodeIterableAndSetIndex( index );
-			addLeafNode();
-			return new NodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath );
-		}
+	private enum BuilderState {
+		/**
+		 * No node has been added yet.
+		 */
+		STARTED,
+		/**
+		 * The last node has been added to the path.
+		 */
+		NODE_DEFINED,
+		/**
+		 * The last node will be added to the path by the next operation, unless this operation applies to the node
+		 * itself e.g. {@code inIterable()}.
+		 */
+		NODE_DEFERRED
+	}
 
-		@Override
-		@Deprecated
-		public NodeBuilderCustomizableContext addNode(String name) {
-			return addPropertyNode( name );
+	/**
+	 * The operations on the path recorded by a {@link ConstraintViolationBuilderImpl}, stored in arrays reused from one
+	 * violation to the other.
+	 */
+	private static final class PathOperations {
+
+		private static final byte DROP_LEAF_NODE_IF_REQUIRED = 0;
+		private static final byte DROP_LEAF_NODE = 1;
+		private static final byte ADD_PROPERTY_NODE = 2;
+		private static final byte ADD_BEAN_NODE = 3;
+		private static final byte ADD_CONTAINER_ELEMENT_NODE = 4;
+		private static final byte ADD_PARAMETER_NODE = 5;
+		private static final byte MAKE_LEAF_NODE_ITERABLE = 6;
+		private static final byte MAKE_LEAF_NODE_ITERABLE_AND_SET_MAP_KEY = 7;
+		private static final byte MAKE_LEAF_NODE_ITERABLE_AND_SET_INDEX = 8;
+		private static final byte SET_LEAF_NODE_TYPE_PARAMETER = 9;
+
+		private static final int ARGUMENT_COUNT = 3;
+
+		private byte[] operations = new byte[4];
+		private Object[] arguments = new Object[4 * ARGUMENT_COUNT];
+		private int size;
+
+		private void add(byte operation) {
+			add( operation, null, null, null );
 		}
 
-		@Override
-		public NodeBuilderCustomizableContext addPropertyNode(String name) {
-			addLeafNode();
-			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath, name, ElementKind.PROPERTY );
+		private void add(byte operation, Object argument) {
+			add( operation, argument, null, null );
 		}
 
-		@Override
-		public ContainerElementNodeBuilderCustomizableContext addContainerElementNode(String name, Class<?> containerType, Integer typeArgumentIndex) {
-			addLeafNode();
-			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath, name, containerType, typeArgumentIndex );
+		private void add(byte operation, Object firstArgument, Object secondArgument) {
+			add( operation, firstArgument, secondArgument, null );
 		}
 
-		@Override
-		public LeafNodeBuilderCustomizableContext addBeanNode() {
-			addLeafNode();
-			return new DeferredNodeBuilder( messageTemplate, expressionLanguageFeatureLevel, propertyPath, null, ElementKind.BEAN );
+		private void add(byte operation, Object firstArgument, Object secondArgument, Object thirdArgument) {
+			if ( size == operations.length ) {
+				operations = Arrays.copyOf( operations, size * 2 );
+				arguments = Arrays.copyOf( arguments, size * 2 * ARGUMENT_COUNT );
+			}
+			operations[size] = operation;
+			arguments[size * ARGUMENT_COUNT] = firstArgument;
+			arguments[size * ARGUMENT_COUNT + 1] = secondArgument;
+			arguments[size * ARGUMENT_COUNT + 2] = thirdArgument;
+			size++;
 		}
 
-		@Override
-		public ConstraintValidatorContext addConstraintViolation() {
-			addLeafNode();
-			return super.addConstraintViolation();
+		private void clear() {
+			// release the references to the names, keys and container types
+			Arrays.fill( arguments, 0, size * ARGUMENT_COUNT, null );
+			size = 0;
 		}
 
 		/**
-		 * Adds the leaf node stored for deferred addition. Either a bean or
-		 * property node.
+		 * Applies the recorded operations to a copy of the given path.
 		 */
-		private void addLeafNode() {
-			switch ( leafNodeKind ) {
-				case BEAN:
-					propertyPath.addBeanNode();
-					break;
-				case PROPERTY:
-					propertyPath.addPropertyNode( leafNodeName );
-					break;
-				case CONTAINER_ELEMENT:
-					propertyPath.setLeafNodeTypeParameter( leafNodeContainerType, leafNodeTypeArgumentIndex );
-					propertyPath.addContainerElementNode( leafNodeName );
-					break;
-				default:
-					throw new IllegalStateException( "Unsupported node kind: " + leafNodeKind );
+		private MutablePath replay(MutablePath basePath) {
+			MutablePath path = MutablePath.createCopy( basePath );
+			for ( int i = 0; i < size; i++ ) {
+				Object firstArgument = arguments[i * ARGUMENT_COUNT];
+				Object secondArgument = arguments[i * ARGUMENT_COUNT + 1];
+				switch ( operations[i] ) {
+					case DROP_LEAF_NODE_IF_REQUIRED:
+						if ( path.getLeafNode().getKind() == ElementKind.BEAN ) {
+							path = MutablePath.createCopyWithoutLeafNode( path );
+						}
+						else {
+							// if we haven't dropped the node, we should clean up "container-related" things:
+							path.getLeafNode().reset();
+						}
+						break;
+					case DROP_LEAF_NODE:
+						path = MutablePath.createCopyWithoutLeafNode( path );
+						break;
+					case ADD_PROPERTY_NODE:
+						path.addPropertyNode( (String) firstArgument );
+						break;
+					case ADD_BEAN_NODE:
+						path.addBeanNode();
+						break;
+					case ADD_CONTAINER_ELEMENT_NODE:
+						path.setLeafNodeTypeParameter( (Class<?>) secondArgument, (Integer) arguments[i * ARGUMENT_COUNT + 2] );
+						path.addContainerElementNode( (String) firstArgument );
+						break;
+					case ADD_PARAMETER_NODE:
+						path.addParameterNode( (String) firstArgument, (Integer) secondArgument );
+						break;
+					case MAKE_LEAF_NODE_ITERABLE:
+						path.makeLeafNodeIterable();
+						break;
+					case MAKE_LEAF_NODE_ITERABLE_AND_SET_MAP_KEY:
+						path.makeLeafNodeIterableAndSetMapKey( firstArgument );
+						break;
+					case MAKE_LEAF_NODE_ITERABLE_AND_SET_INDEX:
+						path.makeLeafNodeIterableAndSetIndex( (Integer) firstArgument );
+						break;
+					case SET_LEAF_NODE_TYPE_PARAMETER:
+						path.setLeafNodeTypeParameter( (Class<?>) firstArgument, (Integer) secondArgument );
+						break;
+					default:
+						throw new IllegalStateException( "Unsupported path operation: " + operations[i] );
+				}
 			}
+			return path;
 		}
 	}
 
@@ -474,12 +568,7 @@ public void resetAsRegularContext(
 		this.constraintDescriptor = constraintDescriptor;
 
 		this.parameterNames = null;
-		this.messageParameters = null;
-		this.expressionVariables = null;
-		this.defaultDisabled = false;
-		this.dynamicPayload = null;
-
-		this.constraintViolationCreationContexts = null;
+		resetViolations();
 	}
 
 	public void resetAsCrossParameterContext(
@@ -494,12 +583,25 @@ public void resetAsCrossParameterContext(
 		this.constraintDescriptor = constraintDescriptor;
 		this.parameterNames = parameterNames;
 
-		this.messageParameters = null;
-		this.expressionVariables = null;
+		resetViolations();
+	}
+
+	private void resetViolations() {
+		if ( messageParameters != null ) {
+			messageParameters.clear();
+		}
+		if ( expressionVariables != null ) {
+			expressionVariables.clear();
+		}
+		this.messageParametersSnapshot = null;
+		this.expressionVariablesSnapshot = null;
 		this.defaultDisabled = false;
 		this.dynamicPayload = null;
 
-		this.constraintViolationCreationContexts = null;
+		this.constraintViolationCreationContexts.clear();
+		if ( constraintViolationBuilder != null ) {
+			constraintViolationBuilder.reset();
+		}
 	}
 
 	private enum ContextKind {
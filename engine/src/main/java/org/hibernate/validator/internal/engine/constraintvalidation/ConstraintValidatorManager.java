@@ -10,6 +10,7 @@
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorFactory;
 
+import org.hibernate.validator.constraintvalidation.ConstraintValidatorCacheStatistics;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
 
@@ -38,6 +39,23 @@ public interface ConstraintValidatorManager {
 
 	void clear();
 
+	/**
+	 * Returns the generation of the constraint validators created for a non-default constraint validator factory or
+	 * initialization context. It changes each time such constraint validators are released, so that the constraint
+	 * validators cached outside of the manager can be invalidated.
+	 *
+	 * @return the current generation of the constraint validators created for a non-default factory or context
+	 */
+	int getNonDefaultConstraintValidatorsGeneration();
+
+	/**
+	 * Records that a constraint validator for a non-default constraint validator factory or initialization context has
+	 * been served by a cache outside of the manager.
+	 */
+	void recordNonDefaultConstraintValidatorCacheHit();
+
+	ConstraintValidatorCacheStatistics getCacheStatistics();
+
 	ConstraintValidatorFactory getDefaultConstraintValidatorFactory();
 
 	HibernateConstraintValidatorInitializationContext getDefaultConstraintValidatorInitializationContext();
@@ -11,12 +11,15 @@
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import jakarta.validation.ConstraintValidatorFactory;
 import jakarta.validation.constraints.Null;
 
+import org.hibernate.validator.constraintvalidation.ConstraintValidatorCacheStatistics;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
 import org.hibernate.validator.internal.util.Contracts;
@@ -68,6 +71,18 @@ public boolean isValid(Object value, ConstraintValidatorContext context) {
 	 */
 	private final ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>> constraintValidatorCache;
 
+	/**
+	 * Incremented each time the constraint validators created for a non-default factory or initialization context are
+	 * released.
+	 */
+	private final AtomicInteger nonDefaultConstraintValidatorsGeneration = new AtomicInteger();
+
+	private final LongAdder nonDefaultHitCount = new LongAdder();
+
+	private final LongAdder nonDefaultMissCount = new LongAdder();
+
+	private final LongAdder nonDefaultEvictionCount = new LongAdder();
+
 	/**
 	 * Creates a new {@code ConstraintValidatorManager}.
 	 *
@@ -106,6 +121,11 @@ public boolean isPredefinedScope() {
 		Contracts.assertNotNull( constraintValidatorFactory );
 		Contracts.assertNotNull( initializationContext );
 
+		if ( constraintValidatorFactory != getDefaultConstraintValidatorFactory()
+				|| initializationContext != getDefaultConstraintValidatorInitializationContext() ) {
+			nonDefaultMissCount.increment();
+		}
+
 		CacheKey key = new CacheKey( descriptor.getAnnotationDescriptor(), validatedValueType, constraintValidatorFactory, initializationContext );
 
 		@SuppressWarnings("unchecked")
@@ -133,6 +153,10 @@ public boolean isPredefinedScope() {
 			synchronized (mostRecentlyUsedNonDefaultConstraintValidatorFactoryAndInitializationContextMutex) {
 				if ( key.constraintValidatorFactory != mostRecentlyUsedNonDefaultConstraintValidatorFactory
 						|| key.constraintValidatorInitializationContext != mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext ) {
+					nonDefaultConstraintValidatorsGeneration.incrementAndGet();
+					if ( mostRecentlyUsedNonDefaultConstraintValidatorFactory != null ) {
+						nonDefaultEvictionCount.increment();
+					}
 					clearEntries( mostRecentlyUsedNonDefaultConstraintValidatorFactory, mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext );
 					mostRecentlyUsedNonDefaultConstraintValidatorFactory = key.getConstraintValidatorFactory();
 					mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext = key.getConstraintValidatorInitializationContext();
@@ -162,6 +186,7 @@ private void clearEntries(ConstraintValidatorFactory constraintValidatorFactory,
 
 	@Override
 	public void clear() {
+		nonDefaultConstraintValidatorsGeneration.incrementAndGet();
 		for ( Map.Entry<CacheKey, ConstraintValidator<?, ?>> entry : constraintValidatorCache.entrySet() ) {
 			entry.getKey().getConstraintValidatorFactory().releaseInstance( entry.getValue() );
 		}
@@ -172,6 +197,22 @@ public int numberOfCachedConstraintValidatorInstances() {
 		return constraintValidatorCache.size();
 	}
 
+	@Override
+	public int getNonDefaultConstraintValidatorsGeneration() {
+		return nonDefaultConstraintValidatorsGeneration.get();
+	}
+
+	@Override
+	public void recordNonDefaultConstraintValidatorCacheHit() {
+		nonDefaultHitCount.increment();
+	}
+
+	@Override
+	public ConstraintValidatorCacheStatistics getCacheStatistics() {
+		return new ConstraintValidatorCacheStatisticsImpl( nonDefaultHitCount.sum(), nonDefaultMissCount.sum(), nonDefaultEvictionCount.sum(),
+				constraintValidatorCache.size() );
+	}
+
 	private static final class CacheKey {
 		// These members are not final for optimization purposes
 		private ConstraintAnnotationDescriptor<?> annotationDescriptor;
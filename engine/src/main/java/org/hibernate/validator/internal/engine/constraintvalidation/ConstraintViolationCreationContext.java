@@ -4,8 +4,6 @@
  */
 package org.hibernate.validator.internal.engine.constraintvalidation;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 
 import jakarta.validation.Path;
@@ -17,6 +15,9 @@
 
 /**
  * Container class for the information needed to create a constraint violation.
+ * <p>
+ * The message parameters and expression variables are expected to be immutable: they are shared by the violations
+ * created while they do not change.
  *
  * @author Hardy Ferentschik
  * @author Guillaume Smet
@@ -49,8 +50,8 @@ public ConstraintViolationCreationContext(
 		this.customViolation = customViolation;
 		// at this point we make a copy of the path to avoid side effects
 		this.propertyPath = property.materialize();
-		this.messageParameters = messageParameters != null ? Collections.unmodifiableMap( new HashMap<>( messageParameters ) ) : Collections.emptyMap();
-		this.expressionVariables = expressionVariables != null ? Collections.unmodifiableMap( new HashMap<>( expressionVariables ) ) : Collections.emptyMap();
+		this.messageParameters = messageParameters;
+		this.expressionVariables = expressionVariables;
 		this.dynamicPayload = dynamicPayload;
 	}
 
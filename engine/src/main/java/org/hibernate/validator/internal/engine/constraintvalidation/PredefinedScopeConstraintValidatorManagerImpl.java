@@ -10,6 +10,7 @@
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorFactory;
 
+import org.hibernate.validator.constraintvalidation.ConstraintValidatorCacheStatistics;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
 import org.hibernate.validator.internal.util.Contracts;
@@ -66,4 +67,18 @@ public boolean isPredefinedScope() {
 	@Override
 	public void clear() {
 	}
+
+	@Override
+	public int getNonDefaultConstraintValidatorsGeneration() {
+		return 0;
+	}
+
+	@Override
+	public void recordNonDefaultConstraintValidatorCacheHit() {
+	}
+
+	@Override
+	public ConstraintValidatorCacheStatistics getCacheStatistics() {
+		return ConstraintValidatorCacheStatisticsImpl.EMPTY;
+	}
 }
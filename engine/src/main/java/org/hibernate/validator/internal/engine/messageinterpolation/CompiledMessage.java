@@ -0,0 +1,283 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation;
+
+import static org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper.BEGIN_TERM;
+import static org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper.EL_DESIGNATOR;
+import static org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper.END_TERM;
+import static org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper.ESCAPE_CHARACTER;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+
+import jakarta.validation.MessageInterpolator.Context;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.MessageDescriptorFormatException;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.Token;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenCollector;
+
+/**
+ * A message descriptor, resolved against the resource bundles, compiled into literal segments and interpolation slots.
+ * <p>
+ * The message is parsed once, both for message parameters and for EL expressions, so that rendering it only requires
+ * resolving the interpolation terms and a single {@link StringBuilder} pass.
+ * <p>
+ * The EL expressions are looked up in the message with its parameters already replaced. The single pass rendering is
+ * thus only used when the parameter values cannot change how the EL expressions are parsed, i.e. when each parameter
+ * is either left untouched or replaced by a value free of meta characters. Otherwise, the caller has to parse the EL
+ * expressions in the output of {@link #renderParameters(String[])}.
+ * <p>
+ * Escaped literals are left as is and still have to be replaced in the rendered message, except in the constant
+ * message pre-rendered for the messages without interpolation terms, see {@link #compile(String, UnaryOperator)}.
+ */
+public final class CompiledMessage {
+
+	private static final String[] NO_TERMS = new String[0];
+
+	private final String resolvedMessage;
+
+	/**
+	 * The literal segments: {@code literals[i]} precedes the term {@code i}, the last one follows the last term.
+	 * The EL designator of the terms which are EL expressions is not part of the literals.
+	 */
+	private final String[] literals;
+
+	/**
+	 * The message parameters, as found when parsing the message for parameters.
+	 */
+	private final String[] terms;
+
+	/**
+	 * For each term, the EL expression if the term is the body of an EL expression, {@code null} otherwise.
+	 */
+	private final String[] elExpressions;
+
+	private final int literalsLength;
+
+	/**
+	 * The final message, escaped literals replaced, if the message does not contain any interpolation term and has
+	 * been compiled with an escaped literals replacer, {@code null} otherwise.
+	 */
+	private final String constantMessage;
+
+	private CompiledMessage(String resolvedMessage, String[] literals, String[] terms, String[] elExpressions, String constantMessage) {
+		this.resolvedMessage = resolvedMessage;
+		this.constantMessage = constantMessage;
+		this.literals = literals;
+		this.terms = terms;
+		this.elExpressions = elExpressions;
+
+		int length = 0;
+		for ( String literal : literals ) {
+			length += literal.length();
+		}
+		this.literalsLength = length;
+	}
+
+	/**
+	 * Compiles the given message.
+	 *
+	 * @param resolvedMessage the message, resolved against the resource bundles
+	 * @return the compiled message
+	 * @throws MessageDescriptorFormatException if the message is not a valid message descriptor
+	 */
+	public static CompiledMessage compile(String resolvedMessage) throws MessageDescriptorFormatException {
+		return compile( resolvedMessage, null );
+	}
+
+	/**
+	 * Compiles the given message, pre-rendering it if it does not contain any interpolation term so that all the
+	 * interpolations of the message share the same final {@code String} instance.
+	 *
+	 * @param resolvedMessage the message, resolved against the resource bundles
+	 * @param escapedLiteralsReplacer the function replacing the escaped literals in a rendered message, {@code null}
+	 *        if the message should not be pre-rendered
+	 * @return the compiled message
+	 * @throws MessageDescriptorFormatException if the message is not a valid message descriptor
+	 */
+	public static CompiledMessage compile(String resolvedMessage, UnaryOperator<String> escapedLiteralsReplacer) throws MessageDescriptorFormatException {
+		if ( resolvedMessage.indexOf( BEGIN_TERM ) < 0 ) {
+			return new CompiledMessage( resolvedMessage, new String[]{ resolvedMessage }, NO_TERMS, NO_TERMS,
+					escapedLiteralsReplacer != null ? escapedLiteralsReplacer.apply( resolvedMessage ) : null );
+		}
+
+		List<Token> parameterTokens = new TokenCollector( resolvedMessage, InterpolationTermType.PARAMETER ).getTokenList();
+
+		// Both parsings find the same terms in the same order: the body of an EL expression is a message parameter for
+		// the parameter parsing and the other terms are kept as literal tokens starting with a curly brace by the EL
+		// parsing.
+		List<String> elTerms = new ArrayList<>();
+		for ( Token token : new TokenCollector( resolvedMessage, InterpolationTermType.EL ).getTokenList() ) {
+			if ( token.isParameter() ) {
+				elTerms.add( token.getTokenValue() );
+			}
+			else if ( token.getTokenValue().charAt( 0 ) == BEGIN_TERM ) {
+				elTerms.add( null );
+			}
+		}
+
+		List<String> literals = new ArrayList<>();
+		List<String> terms = new ArrayList<>();
+		StringBuilder literal = new StringBuilder();
+		for ( Token token : parameterTokens ) {
+			if ( !token.isParameter() ) {
+				literal.append( token.getTokenValue() );
+				continue;
+			}
+
+			String elExpression = elTerms.get( terms.size() );
+			if ( elExpression != null ) {
+				// remove the EL designator, it is rendered with the expression
+				literal.setLength( literal.length() - 1 );
+			}
+			literals.add( literal.toString() );
+			literal.setLength( 0 );
+			terms.add( token.getTokenValue() );
+		}
+		literals.add( literal.toString() );
+
+		return new CompiledMessage(
+				resolvedMessage,
+				literals.toArray( new String[0] ),
+				terms.toArray( new String[0] ),
+				elTerms.toArray( new String[0] ),
+				null
+		);
+	}
+
+	public String getResolvedMessage() {
+		return resolvedMessage;
+	}
+
+	public boolean hasInterpolationTerms() {
+		return terms.length > 0;
+	}
+
+	/**
+	 * @return the final message if the message does not contain any interpolation term and has been compiled with an
+	 *         escaped literals replacer, {@code null} otherwise
+	 */
+	public String getConstantMessage() {
+		return constantMessage;
+	}
+
+	/**
+	 * Resolves the message parameters of the message, EL expression bodies included, as the parameter step of the
+	 * interpolation does.
+	 *
+	 * @param context the interpolation context
+	 * @param locale the locale
+	 * @param termResolver the resolver of the message parameters
+	 * @return the value of each message parameter, in the order of the message
+	 */
+	public String[] interpolateParameters(Context context, Locale locale, TermResolver termResolver) {
+		String[] parameterValues = new String[terms.length];
+		for ( int i = 0; i < terms.length; i++ ) {
+			parameterValues[i] = termResolver.interpolate( context, locale, terms[i] );
+		}
+		return parameterValues;
+	}
+
+	/**
+	 * @param parameterValues the values returned by {@link #interpolateParameters(Context, Locale, TermResolver)}
+	 * @return {@code true} if the message can be rendered by {@link #render(String[], Context, Locale, TermResolver)},
+	 *         {@code false} if the parameter values change how the EL expressions are parsed
+	 */
+	public boolean isSinglePassRenderable(String[] parameterValues) {
+		for ( int i = 0; i < terms.length; i++ ) {
+			String parameterValue = parameterValues[i];
+			if ( parameterValue.equals( terms[i] ) ) {
+				continue;
+			}
+			if ( elExpressions[i] != null || containsMetaCharacter( parameterValue ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Renders the message with its parameters replaced and its EL expressions evaluated, if an EL resolver is given.
+	 *
+	 * @param parameterValues the values returned by {@link #interpolateParameters(Context, Locale, TermResolver)}, which
+	 *        must be renderable in a single pass
+	 * @param context the interpolation context
+	 * @param locale the locale
+	 * @param elResolver the resolver of the EL expressions, {@code null} if the EL expressions are not evaluated
+	 * @return the rendered message
+	 */
+	public String render(String[] parameterValues, Context context, Locale locale, TermResolver elResolver) {
+		if ( terms.length == 0 ) {
+			return resolvedMessage;
+		}
+
+		String[] values = new String[terms.length];
+		int length = literalsLength;
+		for ( int i = 0; i < terms.length; i++ ) {
+			String value;
+			if ( elExpressions[i] == null ) {
+				value = parameterValues[i];
+			}
+			else if ( elResolver != null ) {
+				value = elResolver.interpolate( context, locale, elExpressions[i] );
+			}
+			else {
+				value = EL_DESIGNATOR + terms[i];
+			}
+			values[i] = value;
+			length += value.length();
+		}
+
+		return render( values, length );
+	}
+
+	/**
+	 * Renders the message with its parameters replaced, the EL expressions being left for a subsequent parsing.
+	 *
+	 * @param parameterValues the values returned by {@link #interpolateParameters(Context, Locale, TermResolver)}
+	 * @return the message with its parameters replaced
+	 */
+	public String renderParameters(String[] parameterValues) {
+		String[] values = new String[terms.length];
+		int length = literalsLength;
+		for ( int i = 0; i < terms.length; i++ ) {
+			values[i] = elExpressions[i] == null ? parameterValues[i] : EL_DESIGNATOR + parameterValues[i];
+			length += values[i].length();
+		}
+
+		return render( values, length );
+	}
+
+	private String render(String[] values, int length) {
+		StringBuilder message = new StringBuilder( length );
+		for ( int i = 0; i < values.length; i++ ) {
+			message.append( literals[i] ).append( values[i] );
+		}
+		message.append( literals[values.length] );
+		return message.toString();
+	}
+
+	private static boolean containsMetaCharacter(String value) {
+		for ( int i = 0; i < value.length(); i++ ) {
+			switch ( value.charAt( i ) ) {
+				case BEGIN_TERM:
+				case END_TERM:
+				case EL_DESIGNATOR:
+				case ESCAPE_CHARACTER:
+					return true;
+				default:
+					// continue
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return "CompiledMessage{resolvedMessage='" + resolvedMessage + "', terms=" + terms.length + '}';
+	}
+}
@@ -6,7 +6,8 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Locale;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import jakarta.el.ELContext;
 import jakarta.el.ELException;
@@ -14,12 +15,13 @@
 import jakarta.el.MethodNotFoundException;
 import jakarta.el.PropertyNotFoundException;
 import jakarta.el.ValueExpression;
+import jakarta.el.VariableMapper;
 import jakarta.validation.MessageInterpolator;
 
 import org.hibernate.validator.internal.engine.messageinterpolation.el.BeanMethodsELContext;
 import org.hibernate.validator.internal.engine.messageinterpolation.el.BeanPropertiesElContext;
 import org.hibernate.validator.internal.engine.messageinterpolation.el.DisabledFeatureELException;
-import org.hibernate.validator.internal.engine.messageinterpolation.el.RootResolver;
+import org.hibernate.validator.internal.engine.messageinterpolation.el.InterpolationVariableMapper;
 import org.hibernate.validator.internal.engine.messageinterpolation.el.VariablesELContext;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
@@ -37,15 +39,22 @@ public final class ElTermResolver implements TermResolver {
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
 	/**
-	 * Name under which the currently validate value is bound to the EL context.
+	 * The maximum number of parsed expressions kept by the resolver. Once reached, the other expressions are parsed
+	 * each time they are interpolated.
 	 */
-	private static final String VALIDATED_VALUE_NAME = "validatedValue";
+	private static final int MAX_PARSED_EXPRESSIONS = 1_000;
 
 	/**
 	 * Factory for creating EL expressions
 	 */
 	private final ExpressionFactory expressionFactory;
 
+	/**
+	 * The parsed expressions. They do not depend on the expression language feature level, which is only enforced
+	 * by the EL context used for the evaluation, nor on the variables, which are resolved at evaluation time.
+	 */
+	private final ConcurrentMap<String, ValueExpression> parsedExpressions = new ConcurrentHashMap<>();
+
 	/**
 	 * Construct the resolver. The expression factory has to be passed in to ensure that it is
 	 * set up early and to allow for application control.
@@ -59,10 +68,10 @@ public ElTermResolver(ExpressionFactory expressionFactory) {
 	public String interpolate(MessageInterpolator.Context context, Locale locale, String expression) {
 		String resolvedExpression = expression;
 
-		ELContext elContext = getElContext( context );
+		ELContext elContext = getElContext( context, new InterpolationVariableMapper( expressionFactory, context, locale ) );
 
 		try {
-			ValueExpression valueExpression = bindContextValues( expression, context, locale, elContext );
+			ValueExpression valueExpression = getValueExpression( expression );
 			resolvedExpression = (String) valueExpression.getValue( elContext );
 		}
 		catch (DisabledFeatureELException dfee) {
@@ -84,54 +93,40 @@ public String interpolate(MessageInterpolator.Context context, Locale locale, St
 		return resolvedExpression;
 	}
 
-	private ELContext getElContext(MessageInterpolator.Context context) {
+	private ELContext getElContext(MessageInterpolator.Context context, VariableMapper variableMapper) {
 		if ( !( context instanceof HibernateMessageInterpolatorContext ) ) {
-			return new VariablesELContext( expressionFactory );
+			return new VariablesELContext( expressionFactory, variableMapper );
 		}
 
 		switch ( ( (HibernateMessageInterpolatorContext) context ).getExpressionLanguageFeatureLevel() ) {
 			case NONE:
 				throw LOG.expressionsNotResolvedWhenExpressionLanguageFeaturesDisabled();
 			case VARIABLES:
-				return new VariablesELContext( expressionFactory );
+				return new VariablesELContext( expressionFactory, variableMapper );
 			case BEAN_PROPERTIES:
-				return new BeanPropertiesElContext( expressionFactory );
+				return new BeanPropertiesElContext( expressionFactory, variableMapper );
 			case BEAN_METHODS:
-				return new BeanMethodsELContext( expressionFactory );
+				return new BeanMethodsELContext( expressionFactory, variableMapper );
 			default:
 				throw LOG.expressionsLanguageFeatureLevelNotSupported();
 		}
 	}
 
-	private ValueExpression bindContextValues(String messageTemplate, MessageInterpolator.Context messageInterpolatorContext, Locale locale, ELContext elContext) {
-		// bind the validated value
-		ValueExpression valueExpression = expressionFactory.createValueExpression(
-				messageInterpolatorContext.getValidatedValue(),
-				Object.class
-		);
-		elContext.getVariableMapper().setVariable( VALIDATED_VALUE_NAME, valueExpression );
-
-		// bind a formatter instantiated with proper locale
-		valueExpression = expressionFactory.createValueExpression(
-				new FormatterWrapper( locale ),
-				FormatterWrapper.class
-		);
-		elContext.getVariableMapper().setVariable( RootResolver.FORMATTER, valueExpression );
-
-		// map the parameters provided by the annotation values and the parameters + expression variables explicitly
-		// added to the context
-		addVariablesToElContext( elContext, messageInterpolatorContext.getConstraintDescriptor().getAttributes() );
-		if ( messageInterpolatorContext instanceof HibernateMessageInterpolatorContext ) {
-			addVariablesToElContext( elContext, ( (HibernateMessageInterpolatorContext) messageInterpolatorContext ).getExpressionVariables() );
+	private ValueExpression getValueExpression(String expression) {
+		ValueExpression valueExpression = parsedExpressions.get( expression );
+		if ( valueExpression != null ) {
+			return valueExpression;
 		}
 
-		return expressionFactory.createValueExpression( elContext, messageTemplate, String.class );
-	}
-
-	private void addVariablesToElContext(ELContext elContext, Map<String, Object> variables) {
-		for ( Map.Entry<String, Object> entry : variables.entrySet() ) {
-			ValueExpression valueExpression = expressionFactory.createValueExpression( entry.getValue(), Object.class );
-			elContext.getVariableMapper().setVariable( entry.getKey(), valueExpression );
+		// the expression is parsed with a context without any variable so that the variables are not bound to the
+		// parsed expression: they are resolved by the RootResolver against the context of each evaluation
+		valueExpression = expressionFactory.createValueExpression( new VariablesELContext( expressionFactory ), expression, String.class );
+		if ( parsedExpressions.size() < MAX_PARSED_EXPRESSIONS ) {
+			ValueExpression previousValueExpression = parsedExpressions.putIfAbsent( expression, valueExpression );
+			if ( previousValueExpression != null ) {
+				return previousValueExpression;
+			}
 		}
+		return valueExpression;
 	}
 }
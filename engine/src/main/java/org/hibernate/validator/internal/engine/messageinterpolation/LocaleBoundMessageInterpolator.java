@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation;
+
+import java.util.Locale;
+
+import jakarta.validation.MessageInterpolator;
+
+/**
+ * A {@link MessageInterpolator} interpolating all the messages in a locale bound once for all the validations of a
+ * validator, so that the locale resolver of the underlying interpolator is not invoked for each constraint violation.
+ */
+public class LocaleBoundMessageInterpolator implements MessageInterpolator {
+
+	private final MessageInterpolator delegate;
+
+	private final Locale locale;
+
+	public LocaleBoundMessageInterpolator(MessageInterpolator delegate, Locale locale) {
+		this.delegate = delegate;
+		this.locale = locale;
+	}
+
+	public MessageInterpolator getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public String interpolate(String messageTemplate, Context context) {
+		return delegate.interpolate( messageTemplate, context, locale );
+	}
+
+	@Override
+	public String interpolate(String messageTemplate, Context context, Locale locale) {
+		return delegate.interpolate( messageTemplate, context, locale );
+	}
+
+	@Override
+	public String toString() {
+		return "LocaleBoundMessageInterpolator{delegate=" + delegate + ", locale=" + locale + '}';
+	}
+}
@@ -32,10 +32,15 @@ public boolean equals(Object o) {
 
 		LocalizedMessage that = (LocalizedMessage) o;
 
-		if ( !message.equals( that.message ) ) {
+		// the hash codes are precomputed: most of the lookups for another message or locale stop here, the locales are
+		// then compared first as they are usually the same instances
+		if ( hashCode != that.hashCode ) {
+			return false;
+		}
+		if ( locale != that.locale && !locale.equals( that.locale ) ) {
 			return false;
 		}
-		if ( !locale.equals( that.locale ) ) {
+		if ( !message.equals( that.message ) ) {
 			return false;
 		}
 
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.validation.MessageInterpolator;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.expression.SimpleExpression;
+import org.hibernate.validator.internal.engine.messageinterpolation.expression.SimpleExpressionContext;
+import org.hibernate.validator.internal.engine.messageinterpolation.expression.SimpleExpressionException;
+import org.hibernate.validator.internal.engine.messageinterpolation.expression.SimpleExpressionParser;
+import org.hibernate.validator.internal.engine.messageinterpolation.expression.UnknownVariableException;
+import org.hibernate.validator.internal.engine.messageinterpolation.expression.UnsupportedExpressionException;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * Resolver for the expressions written in the subset of the Expression Language supported by
+ * {@link SimpleExpressionParser}, evaluated without an Expression Language implementation.
+ * <p>
+ * As for the EL expressions, an expression which cannot be evaluated is logged and left as is in the message.
+ */
+public final class SimpleExpressionTermResolver implements TermResolver {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	/**
+	 * The maximum number of parsed expressions kept by the resolver. Once reached, the other expressions are parsed
+	 * each time they are interpolated.
+	 */
+	private static final int MAX_PARSED_EXPRESSIONS = 1_000;
+
+	/**
+	 * The parsed expressions. The variables are resolved at evaluation time so they can be shared by all the
+	 * interpolations.
+	 */
+	private final ConcurrentMap<String, SimpleExpression> parsedExpressions = new ConcurrentHashMap<>();
+
+	@Override
+	public String interpolate(MessageInterpolator.Context context, Locale locale, String expression) {
+		try {
+			return getSimpleExpression( expression ).evaluateToString( new SimpleExpressionContext( context, locale ) );
+		}
+		catch (UnsupportedExpressionException uee) {
+			LOG.unsupportedSimpleExpression( expression, uee.getMessage() );
+		}
+		catch (UnknownVariableException uve) {
+			LOG.unknownPropertyInExpressionLanguage( expression, uve );
+		}
+		catch (SimpleExpressionException see) {
+			LOG.errorInExpressionLanguage( expression, see );
+		}
+		catch (Exception e) {
+			LOG.evaluatingExpressionLanguageExpressionCausedException( expression, e );
+		}
+
+		return expression;
+	}
+
+	private SimpleExpression getSimpleExpression(String expression) {
+		SimpleExpression simpleExpression = parsedExpressions.get( expression );
+		if ( simpleExpression != null ) {
+			return simpleExpression;
+		}
+
+		simpleExpression = SimpleExpressionParser.parse( expression );
+		if ( parsedExpressions.size() < MAX_PARSED_EXPRESSIONS ) {
+			SimpleExpression previousSimpleExpression = parsedExpressions.putIfAbsent( expression, simpleExpression );
+			if ( previousSimpleExpression != null ) {
+				return previousSimpleExpression;
+			}
+		}
+		return simpleExpression;
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.el;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.el.ExpressionFactory;
+import jakarta.el.ValueExpression;
+import jakarta.el.VariableMapper;
+import jakarta.validation.MessageInterpolator;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.FormatterWrapper;
+import org.hibernate.validator.messageinterpolation.HibernateMessageInterpolatorContext;
+
+/**
+ * A {@link VariableMapper} exposing the variables of a message interpolation: the validated value, the formatter, the
+ * attributes of the constraint and the expression variables explicitly added to the context.
+ * <p>
+ * The variables are bound lazily, when first resolved, so that only the variables referenced by the expression are
+ * wrapped into a {@link ValueExpression}. If several variables share the same name, the expression variables take
+ * precedence over the constraint attributes, which take precedence over the formatter and the validated value.
+ */
+public class InterpolationVariableMapper extends VariableMapper {
+
+	/**
+	 * Name under which the currently validate value is bound to the EL context.
+	 */
+	public static final String VALIDATED_VALUE_NAME = "validatedValue";
+
+	private final ExpressionFactory expressionFactory;
+
+	private final MessageInterpolator.Context messageInterpolatorContext;
+
+	private final Locale locale;
+
+	private Map<String, ValueExpression> variables;
+
+	public InterpolationVariableMapper(ExpressionFactory expressionFactory, MessageInterpolator.Context messageInterpolatorContext, Locale locale) {
+		this.expressionFactory = expressionFactory;
+		this.messageInterpolatorContext = messageInterpolatorContext;
+		this.locale = locale;
+	}
+
+	@Override
+	public ValueExpression resolveVariable(String variable) {
+		if ( variables != null && variables.containsKey( variable ) ) {
+			return variables.get( variable );
+		}
+
+		ValueExpression valueExpression = bindVariable( variable );
+		if ( valueExpression != null ) {
+			setVariable( variable, valueExpression );
+		}
+		return valueExpression;
+	}
+
+	@Override
+	public ValueExpression setVariable(String variable, ValueExpression expression) {
+		if ( variables == null ) {
+			variables = new HashMap<>();
+		}
+		return variables.put( variable, expression );
+	}
+
+	private ValueExpression bindVariable(String variable) {
+		// the parameters + expression variables explicitly added to the context
+		if ( messageInterpolatorContext instanceof HibernateMessageInterpolatorContext ) {
+			Map<String, Object> expressionVariables = ( (HibernateMessageInterpolatorContext) messageInterpolatorContext ).getExpressionVariables();
+			if ( expressionVariables.containsKey( variable ) ) {
+				return expressionFactory.createValueExpression( expressionVariables.get( variable ), Object.class );
+			}
+		}
+
+		// the parameters provided by the annotation values
+		Map<String, Object> attributes = messageInterpolatorContext.getConstraintDescriptor().getAttributes();
+		if ( attributes.containsKey( variable ) ) {
+			return expressionFactory.createValueExpression( attributes.get( variable ), Object.class );
+		}
+
+		// a formatter instantiated with proper locale
+		if ( RootResolver.FORMATTER.equals( variable ) ) {
+			return expressionFactory.createValueExpression( new FormatterWrapper( locale ), FormatterWrapper.class );
+		}
+
+		// the validated value
+		if ( VALIDATED_VALUE_NAME.equals( variable ) ) {
+			return expressionFactory.createValueExpression( messageInterpolatorContext.getValidatedValue(), Object.class );
+		}
+
+		return null;
+	}
+}
@@ -10,6 +10,8 @@
 import jakarta.el.ELException;
 import jakarta.el.ELResolver;
 import jakarta.el.PropertyNotWritableException;
+import jakarta.el.ValueExpression;
+import jakarta.el.VariableMapper;
 
 import org.hibernate.validator.internal.engine.messageinterpolation.FormatterWrapper;
 
@@ -36,7 +38,19 @@ public Class<?> getType(ELContext context, Object base, Object property) {
 
 	@Override
 	public Object getValue(ELContext context, Object base, Object property) {
-		return null;
+		// the expressions are parsed once and shared, thus the top-level identifiers are not bound at parsing time and
+		// are resolved against the variables of the context used for the evaluation
+		if ( base != null || !( property instanceof String ) ) {
+			return null;
+		}
+
+		ValueExpression variable = resolveVariable( context, (String) property );
+		if ( variable == null ) {
+			return null;
+		}
+
+		context.setPropertyResolved( base, property );
+		return variable.getValue( context );
 	}
 
 	@Override
@@ -73,8 +87,7 @@ private Object evaluateFormatExpression(ELContext context, Object method, Object
 			throw new ELException( "The first argument to Formatter#format must be String" );
 		}
 
-		FormatterWrapper formatterWrapper = (FormatterWrapper) context.getVariableMapper()
-				.resolveVariable( FORMATTER )
+		FormatterWrapper formatterWrapper = (FormatterWrapper) resolveVariable( context, FORMATTER )
 				.getValue( context );
 		Object[] formattingParameters = new Object[params.length - 1];
 		System.arraycopy( params, 1, formattingParameters, 0, params.length - 1 );
@@ -91,4 +104,11 @@ private Object evaluateFormatExpression(ELContext context, Object method, Object
 		return returnValue;
 	}
 
+	private static ValueExpression resolveVariable(ELContext context, String name) {
+		VariableMapper variableMapper = (VariableMapper) context.getContext( VariableMapper.class );
+		if ( variableMapper == null ) {
+			variableMapper = context.getVariableMapper();
+		}
+		return variableMapper != null ? variableMapper.resolveVariable( name ) : null;
+	}
 }
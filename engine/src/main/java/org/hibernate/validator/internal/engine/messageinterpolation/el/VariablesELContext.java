@@ -12,6 +12,7 @@
 import jakarta.el.MapELResolver;
 import jakarta.el.ResourceBundleELResolver;
 import jakarta.el.StandardELContext;
+import jakarta.el.VariableMapper;
 
 /**
  * @author Guillaume Smet
@@ -33,14 +34,27 @@ public class VariablesELContext extends StandardELContext {
 		DEFAULT_RESOLVER = resolver;
 	}
 
+	private final VariableMapper variableMapper;
+
 	public VariablesELContext(ExpressionFactory expressionFactory) {
+		this( expressionFactory, null );
+	}
+
+	public VariablesELContext(ExpressionFactory expressionFactory, VariableMapper variableMapper) {
 		super( expressionFactory );
+		this.variableMapper = variableMapper;
 
 		// In jakarta.el.ELContext, the ExpressionFactory is extracted from the context map. If it is not found, it
 		// defaults to ELUtil.getExpressionFactory() which, if we provided the ExpressionFactory to the
 		// ResourceBundleMessageInterpolator, might not be the same. Thus, we inject the ExpressionFactory in the
 		// context.
 		putContext( ExpressionFactory.class, expressionFactory );
+
+		// The variables are also exposed through the context map as, during the evaluation, the ELResolvers are given
+		// a context returning the variables bound when parsing the expression.
+		if ( variableMapper != null ) {
+			putContext( VariableMapper.class, variableMapper );
+		}
 	}
 
 	@Override
@@ -53,4 +67,9 @@ public ELResolver getELResolver() {
 		return DEFAULT_RESOLVER;
 	}
 
+	@Override
+	public VariableMapper getVariableMapper() {
+		return variableMapper != null ? variableMapper : super.getVariableMapper();
+	}
+
 }
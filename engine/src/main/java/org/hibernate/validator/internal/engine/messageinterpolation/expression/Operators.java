@@ -0,0 +1,430 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.expression;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * The operators and type coercions of the simple expressions, following the rules of the Jakarta Expression Language
+ * specification so that an expression evaluates to the same value as with an Expression Language implementation.
+ */
+final class Operators {
+
+	private static final Long ZERO = 0L;
+
+	private Operators() {
+	}
+
+	// arithmetic operators
+
+	static Object add(Object a, Object b) {
+		return arithmetic( a, b, BigDecimal::add, Double::sum, BigInteger::add, Long::sum );
+	}
+
+	static Object subtract(Object a, Object b) {
+		return arithmetic( a, b, BigDecimal::subtract, (x, y) -> x - y, BigInteger::subtract, (x, y) -> x - y );
+	}
+
+	static Object multiply(Object a, Object b) {
+		return arithmetic( a, b, BigDecimal::multiply, (x, y) -> x * y, BigInteger::multiply, (x, y) -> x * y );
+	}
+
+	static Object divide(Object a, Object b) {
+		if ( a == null && b == null ) {
+			return ZERO;
+		}
+		checkArithmeticOperands( a, b );
+		if ( isBigDecimalOrBigInteger( a ) || isBigDecimalOrBigInteger( b ) ) {
+			return coerceToBigDecimal( a ).divide( coerceToBigDecimal( b ), RoundingMode.HALF_UP );
+		}
+		return coerceToDouble( a ) / coerceToDouble( b );
+	}
+
+	static Object modulo(Object a, Object b) {
+		if ( a == null && b == null ) {
+			return ZERO;
+		}
+		checkArithmeticOperands( a, b );
+		if ( a instanceof BigDecimal || b instanceof BigDecimal || isFloatingPoint( a ) || isFloatingPoint( b ) ) {
+			return coerceToDouble( a ) % coerceToDouble( b );
+		}
+		if ( a instanceof BigInteger || b instanceof BigInteger ) {
+			return coerceToBigInteger( a ).remainder( coerceToBigInteger( b ) );
+		}
+		try {
+			return coerceToLong( a ) % coerceToLong( b );
+		}
+		catch (ArithmeticException e) {
+			throw new SimpleExpressionException( "Division by zero", e );
+		}
+	}
+
+	static Object negate(Object a) {
+		if ( a == null ) {
+			return ZERO;
+		}
+		checkArithmeticOperands( a, a );
+		if ( a instanceof BigDecimal ) {
+			return ( (BigDecimal) a ).negate();
+		}
+		if ( a instanceof BigInteger ) {
+			return ( (BigInteger) a ).negate();
+		}
+		if ( a instanceof String ) {
+			return isFloatingPoint( a ) ? -coerceToDouble( a ) : -coerceToLong( a );
+		}
+		if ( a instanceof Long ) {
+			return -(Long) a;
+		}
+		if ( a instanceof Integer ) {
+			return -(Integer) a;
+		}
+		if ( a instanceof Short ) {
+			return (short) -(Short) a;
+		}
+		if ( a instanceof Byte ) {
+			return (byte) -(Byte) a;
+		}
+		if ( a instanceof Double ) {
+			return -(Double) a;
+		}
+		if ( a instanceof Float ) {
+			return -(Float) a;
+		}
+		throw new SimpleExpressionException( "Unable to negate " + describe( a ) );
+	}
+
+	private static Object arithmetic(Object a, Object b, BigDecimalOperator bigDecimalOperator, DoubleOperator doubleOperator,
+			BigIntegerOperator bigIntegerOperator, LongOperator longOperator) {
+		if ( a == null && b == null ) {
+			return ZERO;
+		}
+		checkArithmeticOperands( a, b );
+		if ( a instanceof BigDecimal || b instanceof BigDecimal ) {
+			return bigDecimalOperator.apply( coerceToBigDecimal( a ), coerceToBigDecimal( b ) );
+		}
+		if ( isFloatingPoint( a ) || isFloatingPoint( b ) ) {
+			if ( a instanceof BigInteger || b instanceof BigInteger ) {
+				return bigDecimalOperator.apply( coerceToBigDecimal( a ), coerceToBigDecimal( b ) );
+			}
+			return doubleOperator.apply( coerceToDouble( a ), coerceToDouble( b ) );
+		}
+		if ( a instanceof BigInteger || b instanceof BigInteger ) {
+			return bigIntegerOperator.apply( coerceToBigInteger( a ), coerceToBigInteger( b ) );
+		}
+		return longOperator.apply( coerceToLong( a ), coerceToLong( b ) );
+	}
+
+	/**
+	 * Unlike the relational operators, the arithmetic operators of the Expression Language implementations do not
+	 * coerce an empty string to zero.
+	 */
+	private static void checkArithmeticOperands(Object a, Object b) {
+		if ( "".equals( a ) || "".equals( b ) ) {
+			throw new SimpleExpressionException( "Unable to use an empty string as an arithmetic operand" );
+		}
+	}
+
+	// relational and equality operators
+
+	static boolean equal(Object a, Object b) {
+		if ( a == b ) {
+			return true;
+		}
+		if ( a == null || b == null ) {
+			return false;
+		}
+		if ( a instanceof BigDecimal || b instanceof BigDecimal ) {
+			return coerceToBigDecimal( a ).equals( coerceToBigDecimal( b ) );
+		}
+		if ( isFloatOrDouble( a ) || isFloatOrDouble( b ) ) {
+			return coerceToDouble( a ) == coerceToDouble( b );
+		}
+		if ( a instanceof BigInteger || b instanceof BigInteger ) {
+			return coerceToBigInteger( a ).equals( coerceToBigInteger( b ) );
+		}
+		if ( isIntegral( a ) || isIntegral( b ) ) {
+			return coerceToLong( a ) == coerceToLong( b );
+		}
+		if ( a instanceof Boolean || b instanceof Boolean ) {
+			return coerceToBoolean( a ) == coerceToBoolean( b );
+		}
+		if ( a instanceof Enum ) {
+			return a.equals( coerceToEnum( b, ( (Enum<?>) a ).getDeclaringClass() ) );
+		}
+		if ( b instanceof Enum ) {
+			return b.equals( coerceToEnum( a, ( (Enum<?>) b ).getDeclaringClass() ) );
+		}
+		if ( a instanceof String || b instanceof String ) {
+			return coerceToString( a ).equals( coerceToString( b ) );
+		}
+		return a.equals( b );
+	}
+
+	/**
+	 * Compares the operands of a relational operator, which is false when either operand is {@code null}.
+	 *
+	 * @return a negative integer, zero, or a positive integer as the first operand is less than, equal to, or greater
+	 *         than the second one, {@code null} if either operand is {@code null}
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static Integer compare(Object a, Object b) {
+		if ( a == b ) {
+			return 0;
+		}
+		if ( a == null || b == null ) {
+			return null;
+		}
+		if ( a instanceof BigDecimal || b instanceof BigDecimal ) {
+			return coerceToBigDecimal( a ).compareTo( coerceToBigDecimal( b ) );
+		}
+		if ( isFloatOrDouble( a ) || isFloatOrDouble( b ) ) {
+			return Double.compare( coerceToDouble( a ), coerceToDouble( b ) );
+		}
+		if ( a instanceof BigInteger || b instanceof BigInteger ) {
+			return coerceToBigInteger( a ).compareTo( coerceToBigInteger( b ) );
+		}
+		if ( isIntegral( a ) || isIntegral( b ) ) {
+			return Long.compare( coerceToLong( a ), coerceToLong( b ) );
+		}
+		if ( a instanceof String || b instanceof String ) {
+			return coerceToString( a ).compareTo( coerceToString( b ) );
+		}
+		try {
+			if ( a instanceof Comparable ) {
+				return ( (Comparable) a ).compareTo( b );
+			}
+			if ( b instanceof Comparable ) {
+				return -( (Comparable) b ).compareTo( a );
+			}
+		}
+		catch (ClassCastException e) {
+			throw new SimpleExpressionException( "Unable to compare " + describe( a ) + " with " + describe( b ), e );
+		}
+		throw new SimpleExpressionException( "Unable to compare " + describe( a ) + " with " + describe( b ) );
+	}
+
+	// other operators
+
+	static boolean isEmpty(Object a) {
+		if ( a == null ) {
+			return true;
+		}
+		if ( a instanceof String ) {
+			return ( (String) a ).isEmpty();
+		}
+		if ( a instanceof Collection ) {
+			return ( (Collection<?>) a ).isEmpty();
+		}
+		if ( a instanceof Map ) {
+			return ( (Map<?, ?>) a ).isEmpty();
+		}
+		if ( a.getClass().isArray() ) {
+			return Array.getLength( a ) == 0;
+		}
+		return false;
+	}
+
+	// coercions
+
+	static boolean coerceToBoolean(Object a) {
+		if ( a == null || "".equals( a ) ) {
+			return false;
+		}
+		if ( a instanceof Boolean ) {
+			return (Boolean) a;
+		}
+		if ( a instanceof String ) {
+			return Boolean.parseBoolean( (String) a );
+		}
+		throw new SimpleExpressionException( "Unable to coerce " + describe( a ) + " to a boolean" );
+	}
+
+	static String coerceToString(Object a) {
+		if ( a == null ) {
+			return "";
+		}
+		if ( a instanceof String ) {
+			return (String) a;
+		}
+		if ( a instanceof Enum ) {
+			return ( (Enum<?>) a ).name();
+		}
+		return a.toString();
+	}
+
+	private static long coerceToLong(Object a) {
+		if ( a == null || "".equals( a ) ) {
+			return 0L;
+		}
+		if ( a instanceof Character ) {
+			return (short) ( (Character) a ).charValue();
+		}
+		if ( a instanceof Number ) {
+			return ( (Number) a ).longValue();
+		}
+		if ( a instanceof String ) {
+			try {
+				return Long.parseLong( (String) a );
+			}
+			catch (NumberFormatException e) {
+				throw new SimpleExpressionException( "Unable to coerce " + describe( a ) + " to a number", e );
+			}
+		}
+		throw new SimpleExpressionException( "Unable to coerce " + describe( a ) + " to a number" );
+	}
+
+	private static double coerceToDouble(Object a) {
+		if ( a == null || "".equals( a ) ) {
+			return 0D;
+		}
+		if ( a instanceof Character ) {
+			return (short) ( (Character) a ).charValue();
+		}
+		if ( a instanceof Number ) {
+			return ( (Number) a ).doubleValue();
+		}
+		if ( a instanceof String ) {
+			try {
+				return Double.parseDouble( (String) a );
+			}
+			catch (NumberFormatException e) {
+				throw new SimpleExpressionException( "Unable to coerce " + describe( a ) + " to a number", e );
+			}
+		}
+		throw new SimpleExpressionException( "Unable to coerce " + describe( a ) + " to a number" );
+	}
+
+	private static BigDecimal coerceToBigDecimal(Object a) {
+		if ( a == null || "".equals( a ) ) {
+			return BigDecimal.ZERO;
+		}
+		if ( a instanceof BigDecimal ) {
+			return (BigDecimal) a;
+		}
+		if ( a instanceof BigInteger ) {
+			return new BigDecimal( (BigInteger) a );
+		}
+		if ( a instanceof Character ) {
+			return BigDecimal.valueOf( (short) ( (Character) a ).charValue() );
+		}
+		if ( isFloatOrDouble( a ) ) {
+			return BigDecimal.valueOf( ( (Number) a ).doubleValue() );
+		}
+		if ( a instanceof Number ) {
+			return BigDecimal.valueOf( ( (Number) a ).longValue() );
+		}
+		if ( a instanceof String ) {
+			try {
+				return new BigDecimal( (String) a );
+			}
+			catch (NumberFormatException e) {
+				throw new SimpleExpressionException( "Unable to coerce " + describe( a ) + " to a number", e );
+			}
+		}
+		throw new SimpleExpressionException( "Unable to coerce " + describe( a ) + " to a number" );
+	}
+
+	private static BigInteger coerceToBigInteger(Object a) {
+		if ( a == null || "".equals( a ) ) {
+			return BigInteger.ZERO;
+		}
+		if ( a instanceof BigInteger ) {
+			return (BigInteger) a;
+		}
+		if ( a instanceof BigDecimal ) {
+			return ( (BigDecimal) a ).toBigInteger();
+		}
+		if ( a instanceof Character ) {
+			return BigInteger.valueOf( (short) ( (Character) a ).charValue() );
+		}
+		if ( a instanceof Number ) {
+			return BigInteger.valueOf( ( (Number) a ).longValue() );
+		}
+		if ( a instanceof String ) {
+			try {
+				return new BigInteger( (String) a );
+			}
+			catch (NumberFormatException e) {
+				throw new SimpleExpressionException( "Unable to coerce " + describe( a ) + " to a number", e );
+			}
+		}
+		throw new SimpleExpressionException( "Unable to coerce " + describe( a ) + " to a number" );
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object coerceToEnum(Object a, Class enumType) {
+		if ( a == null || "".equals( a ) ) {
+			return null;
+		}
+		if ( enumType.isInstance( a ) ) {
+			return a;
+		}
+		if ( a instanceof String ) {
+			try {
+				return Enum.valueOf( enumType, (String) a );
+			}
+			catch (IllegalArgumentException e) {
+				throw new SimpleExpressionException( "Unable to coerce " + describe( a ) + " to " + enumType.getName(), e );
+			}
+		}
+		throw new SimpleExpressionException( "Unable to coerce " + describe( a ) + " to " + enumType.getName() );
+	}
+
+	private static boolean isFloatOrDouble(Object a) {
+		return a instanceof Double || a instanceof Float;
+	}
+
+	/**
+	 * @return {@code true} if the operand is a floating point number or a {@code String} representing one
+	 */
+	private static boolean isFloatingPoint(Object a) {
+		if ( isFloatOrDouble( a ) ) {
+			return true;
+		}
+		if ( a instanceof String ) {
+			String value = (String) a;
+			return value.indexOf( '.' ) >= 0 || value.indexOf( 'e' ) >= 0 || value.indexOf( 'E' ) >= 0;
+		}
+		return false;
+	}
+
+	private static boolean isIntegral(Object a) {
+		return a instanceof Long || a instanceof Integer || a instanceof Short || a instanceof Byte || a instanceof Character;
+	}
+
+	private static boolean isBigDecimalOrBigInteger(Object a) {
+		return a instanceof BigDecimal || a instanceof BigInteger;
+	}
+
+	private static String describe(Object a) {
+		return a == null ? "null" : "'" + a + "' of type " + a.getClass().getName();
+	}
+
+	@FunctionalInterface
+	private interface BigDecimalOperator {
+		BigDecimal apply(BigDecimal a, BigDecimal b);
+	}
+
+	@FunctionalInterface
+	private interface DoubleOperator {
+		double apply(double a, double b);
+	}
+
+	@FunctionalInterface
+	private interface BigIntegerOperator {
+		BigInteger apply(BigInteger a, BigInteger b);
+	}
+
+	@FunctionalInterface
+	private interface LongOperator {
+		long apply(long a, long b);
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.expression;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The access to a property of the value of an expression, as the Expression Language resolves it: the entry of a map
+ * or the value returned by the getter of a bean or the accessor of a record, {@code null} if the value is
+ * {@code null}.
+ * <p>
+ * Only the public getters accessible without reflection tricks are called: as in the Expression Language, the getter
+ * of a non public type is looked up on its public supertypes. The methods declared by {@link Object}, e.g.
+ * {@code getClass()}, are not properties, preventing the expressions from walking the class and class loader of the
+ * values.
+ * <p>
+ * The getter is looked up once per type of value: the last one is kept as the evaluated expressions are usually
+ * applied to values of the same type.
+ */
+final class PropertyAccess implements SimpleExpression {
+
+	private final SimpleExpression base;
+
+	private final String property;
+
+	private volatile Getter lastGetter;
+
+	PropertyAccess(SimpleExpression base, String property) {
+		this.base = base;
+		this.property = property;
+	}
+
+	@Override
+	public Object evaluate(SimpleExpressionContext context) {
+		Object value = base.evaluate( context );
+		if ( value == null ) {
+			return null;
+		}
+		if ( value instanceof Map ) {
+			return ( (Map<?, ?>) value ).get( property );
+		}
+
+		Getter getter = lastGetter;
+		if ( getter == null || getter.type != value.getClass() ) {
+			getter = new Getter( value.getClass(), findGetter( value.getClass() ) );
+			lastGetter = getter;
+		}
+
+		try {
+			return getter.method.invoke( value );
+		}
+		catch (IllegalAccessException e) {
+			throw new SimpleExpressionException( "Property " + property + " of type " + value.getClass().getName() + " is not accessible", e );
+		}
+		catch (InvocationTargetException e) {
+			throw new SimpleExpressionException( "Unable to read property " + property + " of type " + value.getClass().getName(), e.getCause() );
+		}
+	}
+
+	private Method findGetter(Class<?> type) {
+		String capitalizedProperty = property.substring( 0, 1 ).toUpperCase( Locale.ROOT ) + property.substring( 1 );
+
+		Method getter = findPublicMethod( type, "get" + capitalizedProperty );
+		if ( getter == null ) {
+			getter = findPublicMethod( type, "is" + capitalizedProperty );
+			if ( getter != null && getter.getReturnType() != boolean.class ) {
+				getter = null;
+			}
+		}
+		if ( getter == null && type.isRecord() ) {
+			getter = findPublicMethod( type, property );
+		}
+		if ( getter == null || getter.getReturnType() == void.class ) {
+			throw new SimpleExpressionException( "Property " + property + " not found on type " + type.getName() );
+		}
+
+		Method accessibleGetter = findAccessibleMethod( type, getter );
+		if ( accessibleGetter == null ) {
+			throw new SimpleExpressionException( "Property " + property + " of type " + type.getName() + " is not accessible" );
+		}
+		return accessibleGetter;
+	}
+
+	private static Method findPublicMethod(Class<?> type, String name) {
+		try {
+			Method method = type.getMethod( name );
+			return method.getDeclaringClass() == Object.class || Modifier.isStatic( method.getModifiers() ) ? null : method;
+		}
+		catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the given public method if its declaring type is public, otherwise the same method declared by a public
+	 * supertype of the given type, {@code null} if there is none.
+	 */
+	private static Method findAccessibleMethod(Class<?> type, Method method) {
+		if ( type == null ) {
+			return null;
+		}
+		if ( isPublic( type ) ) {
+			try {
+				Method accessibleMethod = type.getMethod( method.getName() );
+				if ( isPublic( accessibleMethod.getDeclaringClass() ) ) {
+					return accessibleMethod;
+				}
+			}
+			catch (NoSuchMethodException e) {
+				// not declared by this type
+			}
+		}
+		for ( Class<?> interfaceType : type.getInterfaces() ) {
+			Method accessibleMethod = findAccessibleMethod( interfaceType, method );
+			if ( accessibleMethod != null ) {
+				return accessibleMethod;
+			}
+		}
+		return findAccessibleMethod( type.getSuperclass(), method );
+	}
+
+	private static boolean isPublic(Class<?> type) {
+		for ( Class<?> current = type; current != null; current = current.getEnclosingClass() ) {
+			if ( !Modifier.isPublic( current.getModifiers() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static final class Getter {
+
+		private final Class<?> type;
+
+		private final Method method;
+
+		private Getter(Class<?> type, Method method) {
+			this.type = type;
+			this.method = method;
+		}
+	}
+}
@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.expression;
+
+/**
+ * A parsed simple expression, which can be evaluated against the variables of several message interpolations.
+ */
+@FunctionalInterface
+public interface SimpleExpression {
+
+	/**
+	 * @param context the variables of the evaluation
+	 * @return the value of the expression, which may be {@code null}
+	 * @throws SimpleExpressionException if the expression cannot be evaluated
+	 */
+	Object evaluate(SimpleExpressionContext context);
+
+	/**
+	 * @param context the variables of the evaluation
+	 * @return the value of the expression coerced to a {@code String}, as an Expression Language implementation does
+	 * @throws SimpleExpressionException if the expression cannot be evaluated
+	 */
+	default String evaluateToString(SimpleExpressionContext context) {
+		return Operators.coerceToString( evaluate( context ) );
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.expression;
+
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.validation.MessageInterpolator;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.FormatterWrapper;
+import org.hibernate.validator.messageinterpolation.HibernateMessageInterpolatorContext;
+
+/**
+ * The variables available to a simple expression: the expression variables explicitly added to the context, the
+ * attributes of the constraint, the formatter and the validated value, in this order of precedence.
+ * <p>
+ * When evaluating a script, the variables are the bindings of the script, or the single variable of an
+ * {@link org.hibernate.validator.constraints.Expression} constraint.
+ */
+public class SimpleExpressionContext {
+
+	static final String FORMATTER = "formatter";
+
+	static final String VALIDATED_VALUE = "validatedValue";
+
+	private final MessageInterpolator.Context messageInterpolatorContext;
+
+	private final Locale locale;
+
+	private final Map<String, Object> bindings;
+
+	private final String variableName;
+
+	private final Object variableValue;
+
+	private FormatterWrapper formatter;
+
+	public SimpleExpressionContext(MessageInterpolator.Context messageInterpolatorContext, Locale locale) {
+		this.messageInterpolatorContext = messageInterpolatorContext;
+		this.locale = locale;
+		this.bindings = null;
+		this.variableName = null;
+		this.variableValue = null;
+	}
+
+	public SimpleExpressionContext(Map<String, Object> bindings) {
+		this.messageInterpolatorContext = null;
+		this.locale = null;
+		this.bindings = bindings;
+		this.variableName = null;
+		this.variableValue = null;
+	}
+
+	public SimpleExpressionContext(String variableName, Object variableValue) {
+		this.messageInterpolatorContext = null;
+		this.locale = null;
+		this.bindings = null;
+		this.variableName = variableName;
+		this.variableValue = variableValue;
+	}
+
+	Object getVariable(String name) {
+		if ( variableName != null ) {
+			if ( variableName.equals( name ) ) {
+				return variableValue;
+			}
+			throw new UnknownVariableException( name );
+		}
+		if ( bindings != null ) {
+			if ( bindings.containsKey( name ) ) {
+				return bindings.get( name );
+			}
+			throw new UnknownVariableException( name );
+		}
+
+		if ( messageInterpolatorContext instanceof HibernateMessageInterpolatorContext ) {
+			Map<String, Object> expressionVariables = ( (HibernateMessageInterpolatorContext) messageInterpolatorContext ).getExpressionVariables();
+			if ( expressionVariables.containsKey( name ) ) {
+				return expressionVariables.get( name );
+			}
+		}
+
+		Map<String, Object> attributes = messageInterpolatorContext.getConstraintDescriptor().getAttributes();
+		if ( attributes.containsKey( name ) ) {
+			return attributes.get( name );
+		}
+
+		if ( FORMATTER.equals( name ) ) {
+			return getFormatter();
+		}
+
+		if ( VALIDATED_VALUE.equals( name ) ) {
+			return messageInterpolatorContext.getValidatedValue();
+		}
+
+		throw new UnknownVariableException( name );
+	}
+
+	FormatterWrapper getFormatter() {
+		if ( formatter == null ) {
+			formatter = new FormatterWrapper( locale );
+		}
+		return formatter;
+	}
+}
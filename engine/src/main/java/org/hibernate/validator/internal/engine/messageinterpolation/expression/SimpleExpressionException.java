@@ -0,0 +1,19 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.expression;
+
+/**
+ * Raised when a simple expression cannot be parsed or evaluated.
+ */
+public class SimpleExpressionException extends RuntimeException {
+
+	SimpleExpressionException(String message) {
+		super( message );
+	}
+
+	SimpleExpressionException(String message, Throwable cause) {
+		super( message, cause );
+	}
+}
@@ -0,0 +1,571 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.expression;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.FormatterWrapper;
+
+/**
+ * Parser of the subset of the Expression Language supported by the simple expressions.
+ * <p>
+ * The supported subset covers what the constraint messages commonly use:
+ * <ul>
+ * <li>the integer, floating point, string, boolean and {@code null} literals,</li>
+ * <li>the variables, i.e. the validated value, the constraint attributes and the expression variables,</li>
+ * <li>the arithmetic, relational, equality, logical, {@code empty}, string concatenation and conditional operators,
+ * with their keyword forms,</li>
+ * <li>the {@code formatter.format(...)} method call.</li>
+ * </ul>
+ * Property accesses, other method calls, functions, collection constructions, lambda expressions, assignments and the
+ * {@code instanceof} operator are not supported: an {@link UnsupportedExpressionException} is raised when parsing them.
+ * <p>
+ * The scripts, parsed by {@link #parseScript(String)}, additionally support the property accesses, e.g.
+ * {@code _this.startDate < _this.endDate}, but not the {@code formatter.format(...)} method call.
+ */
+public final class SimpleExpressionParser {
+
+	private static final String FORMAT = "format";
+
+	private static final Map<String, String> KEYWORD_OPERATORS = Map.ofEntries(
+			Map.entry( "and", "&&" ),
+			Map.entry( "or", "||" ),
+			Map.entry( "not", "!" ),
+			Map.entry( "eq", "==" ),
+			Map.entry( "ne", "!=" ),
+			Map.entry( "lt", "<" ),
+			Map.entry( "gt", ">" ),
+			Map.entry( "le", "<=" ),
+			Map.entry( "ge", ">=" ),
+			Map.entry( "div", "/" ),
+			Map.entry( "mod", "%" ),
+			Map.entry( "empty", "empty" ),
+			Map.entry( "instanceof", "instanceof" )
+	);
+
+	/**
+	 * The operators, longest first so that they are matched greedily.
+	 */
+	private static final String[] OPERATORS = {
+			"==", "!=", "<=", ">=", "&&", "||", "+=", "->",
+			"<", ">", "!", "+", "-", "*", "/", "%", "?", ":", "(", ")", ",", ".", "[", "]", "{", "}", "=", ";"
+	};
+
+	private final String expression;
+
+	private final List<Token> tokens;
+
+	private final boolean script;
+
+	private int position;
+
+	private SimpleExpressionParser(String expression, boolean script) {
+		this.expression = expression;
+		this.tokens = tokenize( expression );
+		this.script = script;
+	}
+
+	/**
+	 * Parses the given expression.
+	 *
+	 * @param expression the expression, including its {@code ${} and {@code }} delimiters
+	 * @return the parsed expression
+	 * @throws UnsupportedExpressionException if the expression uses a construct outside the supported subset
+	 * @throws SimpleExpressionException if the expression is not valid
+	 */
+	public static SimpleExpression parse(String expression) {
+		if ( !expression.startsWith( "${" ) || !expression.endsWith( "}" ) ) {
+			throw new SimpleExpressionException( "Expression " + expression + " is not an immediate expression" );
+		}
+		return new SimpleExpressionParser( expression.substring( 2, expression.length() - 1 ), false ).parse();
+	}
+
+	/**
+	 * Parses the given script, i.e. an expression without delimiters which may access the properties of its variables.
+	 *
+	 * @param script the script
+	 * @return the parsed script
+	 * @throws UnsupportedExpressionException if the script uses a construct outside the supported subset
+	 * @throws SimpleExpressionException if the script is not valid
+	 */
+	public static SimpleExpression parseScript(String script) {
+		return new SimpleExpressionParser( script, true ).parse();
+	}
+
+	private SimpleExpression parse() {
+		SimpleExpression parsedExpression = parseConditional();
+		Token token = peek();
+		if ( token.kind != TokenKind.EOF ) {
+			if ( token.isOperator( ";" ) || token.isOperator( "=" ) || token.isOperator( "->" ) ) {
+				throw unsupported( token );
+			}
+			throw unexpected( token );
+		}
+		return parsedExpression;
+	}
+
+	private SimpleExpression parseConditional() {
+		SimpleExpression condition = parseOr();
+		if ( !consumeOperator( "?" ) ) {
+			return condition;
+		}
+		SimpleExpression whenTrue = parseConditional();
+		expectOperator( ":" );
+		SimpleExpression whenFalse = parseConditional();
+		return context -> Operators.coerceToBoolean( condition.evaluate( context ) ) ? whenTrue.evaluate( context ) : whenFalse.evaluate( context );
+	}
+
+	private SimpleExpression parseOr() {
+		SimpleExpression left = parseAnd();
+		while ( consumeOperator( "||" ) ) {
+			SimpleExpression l = left;
+			SimpleExpression r = parseAnd();
+			left = context -> Operators.coerceToBoolean( l.evaluate( context ) ) || Operators.coerceToBoolean( r.evaluate( context ) );
+		}
+		return left;
+	}
+
+	private SimpleExpression parseAnd() {
+		SimpleExpression left = parseEquality();
+		while ( consumeOperator( "&&" ) ) {
+			SimpleExpression l = left;
+			SimpleExpression r = parseEquality();
+			left = context -> Operators.coerceToBoolean( l.evaluate( context ) ) && Operators.coerceToBoolean( r.evaluate( context ) );
+		}
+		return left;
+	}
+
+	private SimpleExpression parseEquality() {
+		SimpleExpression left = parseRelational();
+		while ( true ) {
+			SimpleExpression l = left;
+			if ( consumeOperator( "==" ) ) {
+				SimpleExpression r = parseRelational();
+				left = context -> Operators.equal( l.evaluate( context ), r.evaluate( context ) );
+			}
+			else if ( consumeOperator( "!=" ) ) {
+				SimpleExpression r = parseRelational();
+				left = context -> !Operators.equal( l.evaluate( context ), r.evaluate( context ) );
+			}
+			else {
+				return left;
+			}
+		}
+	}
+
+	private SimpleExpression parseRelational() {
+		SimpleExpression left = parseConcatenation();
+		while ( true ) {
+			SimpleExpression l = left;
+			if ( consumeOperator( "<" ) ) {
+				SimpleExpression r = parseConcatenation();
+				left = context -> compare( l, r, context, c -> c < 0 );
+			}
+			else if ( consumeOperator( ">" ) ) {
+				SimpleExpression r = parseConcatenation();
+				left = context -> compare( l, r, context, c -> c > 0 );
+			}
+			else if ( consumeOperator( "<=" ) ) {
+				SimpleExpression r = parseConcatenation();
+				left = context -> compare( l, r, context, c -> c <= 0 );
+			}
+			else if ( consumeOperator( ">=" ) ) {
+				SimpleExpression r = parseConcatenation();
+				left = context -> compare( l, r, context, c -> c >= 0 );
+			}
+			else if ( peek().isOperator( "instanceof" ) ) {
+				throw unsupported( peek() );
+			}
+			else {
+				return left;
+			}
+		}
+	}
+
+	private SimpleExpression parseConcatenation() {
+		SimpleExpression left = parseAdditive();
+		while ( consumeOperator( "+=" ) ) {
+			SimpleExpression l = left;
+			SimpleExpression r = parseAdditive();
+			left = context -> Operators.coerceToString( l.evaluate( context ) ) + Operators.coerceToString( r.evaluate( context ) );
+		}
+		return left;
+	}
+
+	private SimpleExpression parseAdditive() {
+		SimpleExpression left = parseMultiplicative();
+		while ( true ) {
+			SimpleExpression l = left;
+			if ( consumeOperator( "+" ) ) {
+				SimpleExpression r = parseMultiplicative();
+				left = context -> Operators.add( l.evaluate( context ), r.evaluate( context ) );
+			}
+			else if ( consumeOperator( "-" ) ) {
+				SimpleExpression r = parseMultiplicative();
+				left = context -> Operators.subtract( l.evaluate( context ), r.evaluate( context ) );
+			}
+			else {
+				return left;
+			}
+		}
+	}
+
+	private SimpleExpression parseMultiplicative() {
+		SimpleExpression left = parseUnary();
+		while ( true ) {
+			SimpleExpression l = left;
+			if ( consumeOperator( "*" ) ) {
+				SimpleExpression r = parseUnary();
+				left = context -> Operators.multiply( l.evaluate( context ), r.evaluate( context ) );
+			}
+			else if ( consumeOperator( "/" ) ) {
+				SimpleExpression r = parseUnary();
+				left = context -> Operators.divide( l.evaluate( context ), r.evaluate( context ) );
+			}
+			else if ( consumeOperator( "%" ) ) {
+				SimpleExpression r = parseUnary();
+				left = context -> Operators.modulo( l.evaluate( context ), r.evaluate( context ) );
+			}
+			else {
+				return left;
+			}
+		}
+	}
+
+	private SimpleExpression parseUnary() {
+		if ( consumeOperator( "-" ) ) {
+			SimpleExpression operand = parseUnary();
+			return context -> Operators.negate( operand.evaluate( context ) );
+		}
+		if ( consumeOperator( "!" ) ) {
+			SimpleExpression operand = parseUnary();
+			return context -> !Operators.coerceToBoolean( operand.evaluate( context ) );
+		}
+		if ( consumeOperator( "empty" ) ) {
+			SimpleExpression operand = parseUnary();
+			return context -> Operators.isEmpty( operand.evaluate( context ) );
+		}
+		return parsePrimary();
+	}
+
+	private SimpleExpression parsePrimary() {
+		Token token = next();
+		switch ( token.kind ) {
+			case LITERAL:
+				Object value = token.value;
+				return context -> value;
+			case IDENTIFIER:
+				return parseIdentifier( token );
+			case OPERATOR:
+				if ( token.isOperator( "(" ) ) {
+					SimpleExpression parenthesizedExpression = parseConditional();
+					expectOperator( ")" );
+					if ( peek().isOperator( "(" ) ) {
+						// lambda expression invocation
+						throw unsupported( peek() );
+					}
+					return parenthesizedExpression;
+				}
+				if ( token.isOperator( "[" ) || token.isOperator( "{" ) ) {
+					// list, set or map construction
+					throw unsupported( token );
+				}
+				throw unexpected( token );
+			default:
+				throw unexpected( token );
+		}
+	}
+
+	private SimpleExpression parseIdentifier(Token identifier) {
+		String name = (String) identifier.value;
+		Token token = peek();
+
+		if ( token.isOperator( "->" ) || token.isOperator( "(" ) || token.isOperator( "[" ) || token.isOperator( ":" ) && isFunctionNamespace() ) {
+			// lambda expression, function call or property access
+			throw unsupported( token );
+		}
+		if ( !token.isOperator( "." ) ) {
+			return context -> context.getVariable( name );
+		}
+		if ( script ) {
+			return parsePropertyAccesses( context -> context.getVariable( name ) );
+		}
+
+		next();
+		Token method = next();
+		if ( !SimpleExpressionContext.FORMATTER.equals( name ) || method.kind != TokenKind.IDENTIFIER || !FORMAT.equals( method.value )
+				|| !peek().isOperator( "(" ) ) {
+			throw unsupported( token );
+		}
+		next();
+
+		List<SimpleExpression> arguments = new ArrayList<>();
+		if ( !consumeOperator( ")" ) ) {
+			do {
+				arguments.add( parseConditional() );
+			}
+			while ( consumeOperator( "," ) );
+			expectOperator( ")" );
+		}
+		if ( arguments.isEmpty() ) {
+			throw new SimpleExpressionException( "Method " + name + "." + FORMAT + " requires a format" );
+		}
+		if ( peek().isOperator( "." ) || peek().isOperator( "[" ) ) {
+			throw unsupported( peek() );
+		}
+
+		SimpleExpression[] argumentArray = arguments.toArray( new SimpleExpression[0] );
+		return context -> format( context, name, argumentArray );
+	}
+
+	private SimpleExpression parsePropertyAccesses(SimpleExpression base) {
+		SimpleExpression parsedExpression = base;
+		while ( consumeOperator( "." ) ) {
+			Token property = next();
+			if ( property.kind != TokenKind.IDENTIFIER ) {
+				throw unexpected( property );
+			}
+			if ( peek().isOperator( "(" ) || peek().isOperator( "[" ) ) {
+				// method call or indexed access
+				throw unsupported( peek() );
+			}
+			parsedExpression = new PropertyAccess( parsedExpression, (String) property.value );
+		}
+		return parsedExpression;
+	}
+
+	/**
+	 * A colon following an identifier is a function namespace if it is not the separator of a conditional expression,
+	 * i.e. if it is directly followed by an identifier and a parenthesis.
+	 */
+	private boolean isFunctionNamespace() {
+		return position + 2 < tokens.size()
+				&& tokens.get( position + 1 ).kind == TokenKind.IDENTIFIER
+				&& tokens.get( position + 2 ).isOperator( "(" );
+	}
+
+	private static Object format(SimpleExpressionContext context, String name, SimpleExpression[] arguments) {
+		Object formatter = context.getVariable( name );
+		if ( !( formatter instanceof FormatterWrapper ) ) {
+			throw new UnsupportedExpressionException( "Method " + FORMAT + " is only supported on the formatter" );
+		}
+
+		String format = Operators.coerceToString( arguments[0].evaluate( context ) );
+		Object[] args = new Object[arguments.length - 1];
+		for ( int i = 1; i < arguments.length; i++ ) {
+			args[i - 1] = arguments[i].evaluate( context );
+		}
+		return ( (FormatterWrapper) formatter ).format( format, args );
+	}
+
+	private static boolean compare(SimpleExpression left, SimpleExpression right, SimpleExpressionContext context, IntPredicate predicate) {
+		Integer comparison = Operators.compare( left.evaluate( context ), right.evaluate( context ) );
+		// relational operators are false when an operand is null
+		return comparison != null && predicate.test( comparison );
+	}
+
+	private Token peek() {
+		return tokens.get( position );
+	}
+
+	private Token next() {
+		Token token = tokens.get( position );
+		if ( token.kind != TokenKind.EOF ) {
+			position++;
+		}
+		return token;
+	}
+
+	private boolean consumeOperator(String operator) {
+		if ( peek().isOperator( operator ) ) {
+			position++;
+			return true;
+		}
+		return false;
+	}
+
+	private void expectOperator(String operator) {
+		Token token = next();
+		if ( !token.isOperator( operator ) ) {
+			throw unexpected( token );
+		}
+	}
+
+	private SimpleExpressionException unexpected(Token token) {
+		if ( token.kind == TokenKind.EOF ) {
+			return new SimpleExpressionException( "Unexpected end of expression " + expression );
+		}
+		return new SimpleExpressionException( "Unexpected '" + token.text + "' at position " + token.position + " in expression " + expression );
+	}
+
+	private UnsupportedExpressionException unsupported(Token token) {
+		return new UnsupportedExpressionException( "Unsupported '" + token.text + "' at position " + token.position + " in expression " + expression );
+	}
+
+	private static List<Token> tokenize(String expression) {
+		List<Token> tokens = new ArrayList<>();
+		int length = expression.length();
+		int i = 0;
+		while ( i < length ) {
+			char c = expression.charAt( i );
+			if ( Character.isWhitespace( c ) ) {
+				i++;
+			}
+			else if ( Character.isDigit( c ) || c == '.' && i + 1 < length && Character.isDigit( expression.charAt( i + 1 ) ) ) {
+				i = tokenizeNumber( expression, i, tokens );
+			}
+			else if ( c == '\'' || c == '"' ) {
+				i = tokenizeString( expression, i, tokens );
+			}
+			else if ( Character.isJavaIdentifierStart( c ) ) {
+				int start = i;
+				while ( i < length && Character.isJavaIdentifierPart( expression.charAt( i ) ) ) {
+					i++;
+				}
+				String identifier = expression.substring( start, i );
+				tokens.add( identifierToken( identifier, start ) );
+			}
+			else {
+				String operator = matchOperator( expression, i );
+				if ( operator == null ) {
+					throw new SimpleExpressionException( "Unexpected '" + c + "' at position " + i + " in expression " + expression );
+				}
+				tokens.add( new Token( TokenKind.OPERATOR, operator, operator, i ) );
+				i += operator.length();
+			}
+		}
+		tokens.add( new Token( TokenKind.EOF, "", null, length ) );
+		return tokens;
+	}
+
+	private static Token identifierToken(String identifier, int position) {
+		switch ( identifier ) {
+			case "true":
+				return new Token( TokenKind.LITERAL, identifier, Boolean.TRUE, position );
+			case "false":
+				return new Token( TokenKind.LITERAL, identifier, Boolean.FALSE, position );
+			case "null":
+				return new Token( TokenKind.LITERAL, identifier, null, position );
+			default:
+				String operator = KEYWORD_OPERATORS.get( identifier );
+				if ( operator != null ) {
+					return new Token( TokenKind.OPERATOR, identifier, operator, position );
+				}
+				return new Token( TokenKind.IDENTIFIER, identifier, identifier, position );
+		}
+	}
+
+	private static int tokenizeNumber(String expression, int start, List<Token> tokens) {
+		int length = expression.length();
+		int i = start;
+		boolean floatingPoint = false;
+		while ( i < length && Character.isDigit( expression.charAt( i ) ) ) {
+			i++;
+		}
+		if ( i < length && expression.charAt( i ) == '.' ) {
+			floatingPoint = true;
+			i++;
+			while ( i < length && Character.isDigit( expression.charAt( i ) ) ) {
+				i++;
+			}
+		}
+		if ( i < length && ( expression.charAt( i ) == 'e' || expression.charAt( i ) == 'E' ) ) {
+			int exponent = i + 1;
+			if ( exponent < length && ( expression.charAt( exponent ) == '+' || expression.charAt( exponent ) == '-' ) ) {
+				exponent++;
+			}
+			if ( exponent < length && Character.isDigit( expression.charAt( exponent ) ) ) {
+				floatingPoint = true;
+				i = exponent;
+				while ( i < length && Character.isDigit( expression.charAt( i ) ) ) {
+					i++;
+				}
+			}
+		}
+
+		String text = expression.substring( start, i );
+		Object value;
+		if ( floatingPoint ) {
+			value = Double.valueOf( text );
+		}
+		else {
+			try {
+				value = Long.valueOf( text );
+			}
+			catch (NumberFormatException e) {
+				value = new BigInteger( text );
+			}
+		}
+		tokens.add( new Token( TokenKind.LITERAL, text, value, start ) );
+		return i;
+	}
+
+	private static int tokenizeString(String expression, int start, List<Token> tokens) {
+		char quote = expression.charAt( start );
+		StringBuilder value = new StringBuilder();
+		int length = expression.length();
+		int i = start + 1;
+		while ( i < length ) {
+			char c = expression.charAt( i );
+			if ( c == quote ) {
+				tokens.add( new Token( TokenKind.LITERAL, expression.substring( start, i + 1 ), value.toString(), start ) );
+				return i + 1;
+			}
+			if ( c == '\\' && i + 1 < length ) {
+				char escaped = expression.charAt( i + 1 );
+				if ( escaped == '\\' || escaped == '\'' || escaped == '"' ) {
+					value.append( escaped );
+					i += 2;
+					continue;
+				}
+			}
+			value.append( c );
+			i++;
+		}
+		throw new SimpleExpressionException( "Unterminated string literal at position " + start + " in expression " + expression );
+	}
+
+	private static String matchOperator(String expression, int position) {
+		for ( String operator : OPERATORS ) {
+			if ( expression.startsWith( operator, position ) ) {
+				return operator;
+			}
+		}
+		return null;
+	}
+
+	private enum TokenKind {
+		LITERAL,
+		IDENTIFIER,
+		OPERATOR,
+		EOF
+	}
+
+	private static final class Token {
+
+		private final TokenKind kind;
+
+		private final String text;
+
+		private final Object value;
+
+		private final int position;
+
+		private Token(TokenKind kind, String text, Object value, int position) {
+			this.kind = kind;
+			this.text = text;
+			this.value = value;
+			this.position = position;
+		}
+
+		private boolean isOperator(String operator) {
+			return kind == TokenKind.OPERATOR && operator.equals( value );
+		}
+	}
+}
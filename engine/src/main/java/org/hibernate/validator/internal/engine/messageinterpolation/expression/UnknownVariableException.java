@@ -0,0 +1,16 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.expression;
+
+/**
+ * Raised when an expression references a variable which is neither an expression variable, a constraint attribute,
+ * the formatter nor the validated value.
+ */
+public class UnknownVariableException extends SimpleExpressionException {
+
+	UnknownVariableException(String variable) {
+		super( "Unknown variable " + variable );
+	}
+}
@@ -0,0 +1,16 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.expression;
+
+/**
+ * Raised when an expression uses a construct of the Expression Language which is not part of the supported subset,
+ * e.g. a property access, a method call other than {@code formatter.format(...)} or a lambda expression.
+ */
+public class UnsupportedExpressionException extends SimpleExpressionException {
+
+	UnsupportedExpressionException(String message) {
+		super( message );
+	}
+}
@@ -0,0 +1,10 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * Parser and evaluator of the subset of the Expression Language commonly used in constraint messages and script
+ * assertions, not requiring an Expression Language implementation.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.expression;
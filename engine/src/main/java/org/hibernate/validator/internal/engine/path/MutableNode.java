@@ -223,6 +223,25 @@ public static MutableNode createReturnValue(MutableNode parent) {
 		);
 	}
 
+	/**
+	 * Creates a copy of the given node, sharing its parent. Allows to update the node independently of the original.
+	 */
+	public static MutableNode createCopy(MutableNode node) {
+		return new MutableNode(
+				node.name,
+				node.parent,
+				node.isIterable,
+				node.index,
+				node.key,
+				node.kind,
+				node.parameterTypes,
+				node.parameterIndex,
+				node.value,
+				node.containerClass,
+				node.typeArgumentIndex
+		);
+	}
+
 	public void makeIterable() {
 		this.isIterable = true;
 		this.index = null;
@@ -557,12 +576,14 @@ static MutableNode[] constructPath(MutableNode leaf) {
 			}
 		}
 		else {
-			leaf.nodes = new MutableNode[leaf.size - 1];
+			// the array is only published once filled as the ancestors of a node may be shared between threads
+			MutableNode[] nodes = new MutableNode[leaf.size - 1];
 			MutableNode curr = leaf;
 			while ( curr.parent != null ) {
-				leaf.nodes[curr.size - 2] = curr;
+				nodes[curr.size - 2] = curr;
 				curr = curr.parent;
 			}
+			leaf.nodes = nodes;
 		}
 
 		return leaf.nodes;
@@ -96,6 +96,14 @@ public static MutablePath createCopy(MutablePath path) {
 		return new MutablePath( path );
 	}
 
+	/**
+	 * Creates a copy of the given path whose leaf node is copied too, so that the leaf node of the copy can be updated
+	 * without affecting the original path, e.g. from another thread.
+	 */
+	public static MutablePath createCopyWithLeafNodeCopy(MutablePath path) {
+		return new MutablePath( MutableNode.createCopy( path.currentLeafNode ) );
+	}
+
 	public static MutablePath createCopyWithoutLeafNode(MutablePath path) {
 		return new MutablePath( path.currentLeafNode.getParent() );
 	}
@@ -179,6 +187,16 @@ public void setLeafNodeTypeParameter(Class<?> containerClass, Integer typeArgume
 		currentLeafNode.setTypeParameter( containerClass, typeArgumentIndex );
 	}
 
+	/**
+	 * Moves the leaf of this path to the given node, e.g. to get back to a previous state of the path once an element
+	 * has been traversed.
+	 *
+	 * @param leafNode the new leaf node of this path
+	 */
+	public void resetLeafNode(MutableNode leafNode) {
+		currentLeafNode = leafNode;
+	}
+
 	public void removeLeafNode() {
 		if ( currentLeafNode != null ) {
 			currentLeafNode = currentLeafNode.getParent();
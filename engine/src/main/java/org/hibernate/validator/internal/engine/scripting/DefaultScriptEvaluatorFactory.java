@@ -5,21 +5,27 @@
 package org.hibernate.validator.internal.engine.scripting;
 
 import java.lang.invoke.MethodHandles;
+import java.util.List;
 
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineManager;
 
 import org.hibernate.validator.internal.util.actions.GetClassLoader;
+import org.hibernate.validator.internal.util.actions.GetInstancesFromServiceLoader;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.spi.scripting.AbstractCachingScriptEvaluatorFactory;
 import org.hibernate.validator.spi.scripting.ScriptEngineScriptEvaluator;
 import org.hibernate.validator.spi.scripting.ScriptEvaluationException;
 import org.hibernate.validator.spi.scripting.ScriptEvaluator;
+import org.hibernate.validator.spi.scripting.ScriptEvaluatorProvider;
 
 /**
  * Factory responsible for the creation of JSR 223 based {@link ScriptEngineScriptEvaluator}s. This
  * class is thread-safe.
+ * <p>
+ * The evaluators of the {@link ScriptEvaluatorProvider}s discovered through the service loader, then the built-in
+ * {@link SimpleExpressionScriptEvaluator}, take precedence over the JSR 223 script engines.
  *
  * @author Gunnar Morling
  * @author Kevin Pollet &lt;kevin.pollet@serli.com&gt; (C) 2011 SERLI
@@ -36,6 +42,8 @@ public class DefaultScriptEvaluatorFactory extends AbstractCachingScriptEvaluato
 
 	private volatile ScriptEngineManager threadContextClassLoaderScriptEngineManager;
 
+	private volatile List<ScriptEvaluatorProvider> scriptEvaluatorProviders;
+
 	public DefaultScriptEvaluatorFactory(ClassLoader externalClassLoader) {
 		classLoader = externalClassLoader == null ? DefaultScriptEvaluatorFactory.class.getClassLoader() : externalClassLoader;
 	}
@@ -47,10 +55,22 @@ public void clear() {
 		classLoader = null;
 		scriptEngineManager = null;
 		threadContextClassLoaderScriptEngineManager = null;
+		scriptEvaluatorProviders = null;
 	}
 
 	@Override
 	protected ScriptEvaluator createNewScriptEvaluator(String languageName) throws ScriptEvaluationException {
+		for ( ScriptEvaluatorProvider scriptEvaluatorProvider : getScriptEvaluatorProviders() ) {
+			ScriptEvaluator scriptEvaluator = scriptEvaluatorProvider.getScriptEvaluator( languageName );
+			if ( scriptEvaluator != null ) {
+				return scriptEvaluator;
+			}
+		}
+
+		if ( SimpleExpressionScriptEvaluator.LANGUAGE_NAME.equals( languageName ) ) {
+			return new SimpleExpressionScriptEvaluator();
+		}
+
 		ScriptEngine engine = getScriptEngineManager().getEngineByName( languageName );
 
 		// fall back to the TCCL
@@ -76,6 +96,17 @@ private ScriptEngineManager getScriptEngineManager() {
 		return scriptEngineManager;
 	}
 
+	private List<ScriptEvaluatorProvider> getScriptEvaluatorProviders() {
+		if ( scriptEvaluatorProviders == null ) {
+			synchronized (this) {
+				if ( scriptEvaluatorProviders == null ) {
+					scriptEvaluatorProviders = GetInstancesFromServiceLoader.action( classLoader, ScriptEvaluatorProvider.class );
+				}
+			}
+		}
+		return scriptEvaluatorProviders;
+	}
+
 	private ScriptEngineManager getThreadContextClassLoaderScriptEngineManager() {
 		if ( threadContextClassLoaderScriptEngineManager == null ) {
 			synchronized (this) {
@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.scripting;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.expression.SimpleExpression;
+import org.hibernate.validator.internal.engine.messageinterpolation.expression.SimpleExpressionContext;
+import org.hibernate.validator.internal.engine.messageinterpolation.expression.SimpleExpressionException;
+import org.hibernate.validator.internal.engine.messageinterpolation.expression.SimpleExpressionParser;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.spi.scripting.PreparedScript;
+import org.hibernate.validator.spi.scripting.ScriptEvaluationException;
+import org.hibernate.validator.spi.scripting.ScriptEvaluator;
+
+/**
+ * Built-in {@link ScriptEvaluator} of the {@code expression} language: the subset of the Expression Language supported
+ * by the simple expressions, property accesses included, e.g. {@code _this.startDate < _this.endDate}. The scripts are
+ * evaluated without any JSR 223 script engine. This class is thread-safe.
+ *
+ * @see SimpleExpressionParser#parseScript(String)
+ */
+public class SimpleExpressionScriptEvaluator implements ScriptEvaluator {
+
+	public static final String LANGUAGE_NAME = "expression";
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	@Override
+	public Object evaluate(String script, Map<String, Object> bindings) throws ScriptEvaluationException {
+		return prepare( script ).evaluate( bindings );
+	}
+
+	/**
+	 * Parses the given script once. The prepared scripts are not cached: the caller keeps them as long as it needs
+	 * them.
+	 */
+	@Override
+	public PreparedScript prepare(String script) {
+		SimpleExpression expression;
+		try {
+			expression = SimpleExpressionParser.parseScript( script );
+		}
+		catch (SimpleExpressionException e) {
+			// the error is reported when evaluating the script, as for the JSR 223 script engines
+			return bindings -> {
+				throw LOG.getErrorExecutingScriptException( script, e );
+			};
+		}
+
+		return bindings -> {
+			try {
+				return expression.evaluate( new SimpleExpressionContext( bindings ) );
+			}
+			catch (RuntimeException e) {
+				throw LOG.getErrorExecutingScriptException( script, e );
+			}
+		};
+	}
+}
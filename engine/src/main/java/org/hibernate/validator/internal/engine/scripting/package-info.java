@@ -4,6 +4,6 @@
  */
 
 /**
- * Classes related to the evaluation of script with the JSR 223 ScriptEngine.
+ * Classes related to the evaluation of script with the JSR 223 ScriptEngine or the built-in expression evaluator.
  */
 package org.hibernate.validator.internal.engine.scripting;
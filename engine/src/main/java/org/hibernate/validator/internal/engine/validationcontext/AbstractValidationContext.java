@@ -4,21 +4,21 @@
  */
 package org.hibernate.validator.internal.engine.validationcontext;
 
-import java.lang.invoke.MethodHandles;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import jakarta.validation.ConstraintValidatorFactory;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Path;
 import jakarta.validation.TraversableResolver;
-import jakarta.validation.ValidationException;
 import jakarta.validation.Validator;
 import jakarta.validation.metadata.ConstraintDescriptor;
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.internal.engine.MessageInterpolation;
 import org.hibernate.validator.internal.engine.MessageInterpolatorContext;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorContextImpl;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
@@ -28,8 +28,6 @@
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 import org.hibernate.validator.internal.metadata.core.MetaConstraint;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
-import org.hibernate.validator.internal.util.logging.Log;
-import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.util.stereotypes.Lazy;
 import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
 
@@ -48,8 +46,6 @@
  */
 abstract class AbstractValidationContext<T> implements BaseBeanValidationContext<T> {
 
-	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
-
 	/**
 	 * Caches and manages life cycle of constraint validator instances.
 	 */
@@ -58,17 +54,17 @@
 	/**
 	 * The root bean of the validation.
 	 */
-	private final T rootBean;
+	private T rootBean;
 
 	/**
 	 * The root bean class of the validation.
 	 */
-	private final Class<T> rootBeanClass;
+	private Class<T> rootBeanClass;
 
 	/**
 	 * The metadata of the root bean.
 	 */
-	private final BeanMetaData<T> rootBeanMetaData;
+	private BeanMetaData<T> rootBeanMetaData;
 
 	/**
 	 * The constraint factory which should be used in this context.
@@ -83,7 +79,7 @@
 	/**
 	 * Allows a Jakarta Persistence provider to decide whether a property should be validated.
 	 */
-	private final TraversableResolver traversableResolver;
+	private TraversableResolver traversableResolver;
 
 	/**
 	 * The constraint validator initialization context.
@@ -93,10 +89,15 @@
 	/**
 	 * Indicates if the tracking of already validated bean should be disabled.
 	 */
-	private final boolean processedBeanTrackingEnabled;
+	private boolean processedBeanTrackingEnabled;
 
 	protected final ConstraintValidatorContextImpl constraintValidatorReusableContext;
 
+	/**
+	 * The number of constraint violations after which the following ones are discarded and the validation is aborted.
+	 */
+	private int maxViolations;
+
 	/**
 	 * Contains all failing constraints so far.
 	 */
@@ -125,6 +126,7 @@ protected AbstractValidationContext(
 		this.rootBeanMetaData = rootBeanMetaData;
 
 		this.processedBeanTrackingEnabled = processedBeanTrackingEnabled;
+		this.maxViolations = validatorScopedContext.getMaxViolations();
 
 		this.constraintValidatorReusableContext = new ConstraintValidatorContextImpl(
 				validatorScopedContext.getClockProvider(),
@@ -134,6 +136,28 @@ protected AbstractValidationContext(
 		);
 	}
 
+	/**
+	 * Prepares this context for another validation call.
+	 * <p>
+	 * Used when the validation contexts are recycled: the constraint violations collected so far are detached from this
+	 * context as they are owned by the caller of the previous validation call.
+	 */
+	protected void reset(
+			TraversableResolver traversableResolver,
+			T rootBean,
+			Class<T> rootBeanClass,
+			BeanMetaData<T> rootBeanMetaData,
+			boolean processedBeanTrackingEnabled
+	) {
+		this.traversableResolver = traversableResolver;
+		this.rootBean = rootBean;
+		this.rootBeanClass = rootBeanClass;
+		this.rootBeanMetaData = rootBeanMetaData;
+		this.processedBeanTrackingEnabled = processedBeanTrackingEnabled;
+		this.maxViolations = validatorScopedContext.getMaxViolations();
+		this.failingConstraintViolations = null;
+	}
+
 	@Override
 	public T getRootBean() {
 		return rootBean;
@@ -209,22 +233,62 @@ public Set<ConstraintViolation<T>> getFailingConstraints() {
 		return failingConstraintViolations;
 	}
 
+	@Override
+	public void streamFailingConstraints(Consumer<? super ConstraintViolation<T>> violationConsumer, int maxViolations) {
+		this.failingConstraintViolations = new StreamedConstraintViolations<>( violationConsumer );
+		this.maxViolations = Math.min( this.maxViolations, maxViolations );
+	}
+
+	protected boolean isStreamingFailingConstraints() {
+		return failingConstraintViolations instanceof StreamedConstraintViolations;
+	}
+
+	@Override
+	public boolean isMaxViolationsReached() {
+		return failingConstraintViolations != null && failingConstraintViolations.size() >= maxViolations;
+	}
+
 	@Override
 	public void addConstraintFailure(
 			ValueContext<?, ?> valueContext,
 			ConstraintViolationCreationContext constraintViolationCreationContext
 	) {
+		// the violation would be discarded anyway, no need to interpolate its message
+		if ( isMaxViolationsReached() ) {
+			return;
+		}
+
 		String messageTemplate = constraintViolationCreationContext.getMessage();
-		String interpolatedMessage = interpolate(
-				messageTemplate,
-				constraintViolationCreationContext.getExpressionLanguageFeatureLevel(),
-				constraintViolationCreationContext.isCustomViolation(),
-				valueContext.getCurrentValidatedValue(),
-				constraintViolationCreationContext.getConstraintDescriptor(),
-				constraintViolationCreationContext.getPath(),
-				constraintViolationCreationContext.getMessageParameters(),
-				constraintViolationCreationContext.getExpressionVariables()
-		);
+
+		String interpolatedMessage;
+		MessageInterpolation deferredMessageInterpolation;
+		if ( isConstantMessageTemplate( messageTemplate, constraintViolationCreationContext ) ) {
+			// the template is the interpolated message, no need to build an interpolation context
+			interpolatedMessage = messageTemplate;
+			deferredMessageInterpolation = null;
+		}
+		else {
+			MessageInterpolatorContext messageInterpolatorContext = createMessageInterpolatorContext(
+					constraintViolationCreationContext.getExpressionLanguageFeatureLevel(),
+					constraintViolationCreationContext.isCustomViolation(),
+					valueContext.getCurrentValidatedValue(),
+					constraintViolationCreationContext.getConstraintDescriptor(),
+					constraintViolationCreationContext.getPath(),
+					constraintViolationCreationContext.getMessageParameters(),
+					constraintViolationCreationContext.getExpressionVariables()
+			);
+
+			if ( validatorScopedContext.isDeferredMessageInterpolation() ) {
+				interpolatedMessage = null;
+				deferredMessageInterpolation = new MessageInterpolation( validatorScopedContext.getMessageInterpolator(), messageTemplate,
+						messageInterpolatorContext );
+			}
+			else {
+				interpolatedMessage = MessageInterpolation.interpolate( validatorScopedContext.getMessageInterpolator(), messageTemplate,
+						messageInterpolatorContext );
+				deferredMessageInterpolation = null;
+			}
+		}
 
 		Path path = constraintViolationCreationContext.getPath();
 
@@ -232,6 +296,7 @@ public void addConstraintFailure(
 				createConstraintViolation(
 						messageTemplate,
 						interpolatedMessage,
+						deferredMessageInterpolation,
 						path,
 						constraintViolationCreationContext.getConstraintDescriptor(),
 						valueContext,
@@ -240,9 +305,20 @@ public void addConstraintFailure(
 		);
 	}
 
+	@Override
+	public void join(BaseBeanValidationContext<T> fork) {
+		for ( ConstraintViolation<T> violation : fork.getFailingConstraints() ) {
+			if ( isMaxViolationsReached() ) {
+				return;
+			}
+			getInitializedFailingConstraintViolations().add( violation );
+		}
+	}
+
 	protected abstract ConstraintViolation<T> createConstraintViolation(
 			String messageTemplate,
 			String interpolatedMessage,
+			MessageInterpolation deferredMessageInterpolation,
 			Path propertyPath,
 			ConstraintDescriptor<?> constraintDescriptor,
 			ValueContext<?, ?> valueContext,
@@ -279,8 +355,17 @@ public ConstraintValidatorContextImpl createConstraintValidatorContextFor(Constr
 	@Override
 	public abstract String toString();
 
-	private String interpolate(
-			String messageTemplate,
+	private boolean isConstantMessageTemplate(String messageTemplate, ConstraintViolationCreationContext constraintViolationCreationContext) {
+		if ( !validatorScopedContext.isConstantMessageTemplatesInterpolatedAsIs() || constraintViolationCreationContext.isCustomViolation() ) {
+			return false;
+		}
+		ConstraintDescriptor<?> constraintDescriptor = constraintViolationCreationContext.getConstraintDescriptor();
+		return constraintDescriptor instanceof ConstraintDescriptorImpl
+				&& ( (ConstraintDescriptorImpl<?>) constraintDescriptor ).isConstantMessageTemplate()
+				&& messageTemplate == constraintDescriptor.getMessageTemplate();
+	}
+
+	private MessageInterpolatorContext createMessageInterpolatorContext(
 			ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel,
 			boolean customViolation,
 			Object validatedValue,
@@ -288,7 +373,7 @@ private String interpolate(
 			Path path,
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables) {
-		MessageInterpolatorContext context = new MessageInterpolatorContext(
+		return new MessageInterpolatorContext(
 				descriptor,
 				validatedValue,
 				getRootBeanClass(),
@@ -299,19 +384,6 @@ private String interpolate(
 				customViolation,
 				validatorScopedContext.getConstraintValidatorPayload()
 		);
-
-		try {
-			return validatorScopedContext.getMessageInterpolator().interpolate(
-					messageTemplate,
-					context
-			);
-		}
-		catch (ValidationException ve) {
-			throw ve;
-		}
-		catch (Exception e) {
-			throw LOG.getExceptionOccurredDuringMessageInterpolationException( e );
-		}
 	}
 
 	private Set<ConstraintViolation<T>> getInitializedFailingConstraintViolations() {
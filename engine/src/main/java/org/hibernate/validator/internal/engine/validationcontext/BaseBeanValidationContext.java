@@ -4,10 +4,14 @@
  */
 package org.hibernate.validator.internal.engine.validationcontext;
 
+import java.util.function.Consumer;
+
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.TraversableResolver;
 import jakarta.validation.Validator;
 
 import org.hibernate.validator.internal.engine.ValidatorImpl;
+import org.hibernate.validator.internal.engine.valuecontext.BeanValueContext;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 import org.hibernate.validator.internal.metadata.core.MetaConstraint;
@@ -49,4 +53,48 @@
 	default boolean appliesTo(MetaConstraint<?> metaConstraint) {
 		return true;
 	}
+
+	/**
+	 * @return a value context released earlier in this validation call via
+	 * {@link #recycleValueContext(BeanValueContext)}, to be reset before being used again, or {@code null} if there is
+	 * none
+	 */
+	default BeanValueContext<?, Object> pollRecycledValueContext() {
+		return null;
+	}
+
+	/**
+	 * Notifies this context that the given value context, used to validate a cascaded bean, is not referenced anymore
+	 * and may be reused. Ignored unless the validation contexts are recycled.
+	 */
+	default void recycleValueContext(BeanValueContext<?, Object> valueContext) {
+	}
+
+	/**
+	 * Sends the constraint violations of this validation call to the given consumer as they are found, instead of
+	 * collecting them. {@link #getFailingConstraints()} then only reflects the number of violations sent.
+	 *
+	 * @param violationConsumer the consumer of the constraint violations
+	 * @param maxViolations the number of violations after which the following ones are discarded and the validation is
+	 * stopped
+	 */
+	void streamFailingConstraints(Consumer<? super ConstraintViolation<T>> violationConsumer, int maxViolations);
+
+	/**
+	 * Creates a context collecting the constraint violations of a part of this validation call, which can then be
+	 * validated concurrently with the rest of the call. The constraint violations of the fork are merged into this
+	 * context with {@link #join(BaseBeanValidationContext)}.
+	 *
+	 * @param traversableResolver the traversable resolver of the fork, as the one of this context is not necessarily
+	 * thread-safe
+	 * @return the fork, or {@code null} if this context cannot be forked
+	 */
+	default BaseBeanValidationContext<T> fork(TraversableResolver traversableResolver) {
+		return null;
+	}
+
+	/**
+	 * Adds the constraint violations collected by the given fork of this context to the ones of this context.
+	 */
+	void join(BaseBeanValidationContext<T> fork);
 }
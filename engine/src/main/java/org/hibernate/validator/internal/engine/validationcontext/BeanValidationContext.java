@@ -4,6 +4,9 @@
  */
 package org.hibernate.validator.internal.engine.validationcontext;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+
 import jakarta.validation.ConstraintValidatorFactory;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Path;
@@ -12,10 +15,13 @@
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.engine.ConstraintViolationImpl;
+import org.hibernate.validator.internal.engine.MessageInterpolation;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintViolationCreationContext;
+import org.hibernate.validator.internal.engine.valuecontext.BeanValueContext;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.internal.util.stereotypes.Lazy;
 
 /**
  * Implementation of {@link AbstractValidationContext} for the validation of a bean.
@@ -24,6 +30,24 @@
  */
 class BeanValidationContext<T> extends AbstractValidationContext<T> {
 
+	/**
+	 * Whether this context is recycled through a {@link ValidationContextPool}, in which case the value contexts of the
+	 * cascaded beans are recycled too.
+	 */
+	private final boolean recyclable;
+
+	/**
+	 * Whether this context can be forked. The forks themselves cannot be forked, so that only the outermost cascaded
+	 * containers are validated in parallel.
+	 */
+	private final boolean forkable;
+
+	/**
+	 * The value contexts released by the previous cascades, ready to be reused.
+	 */
+	@Lazy
+	private Deque<BeanValueContext<?, Object>> recycledValueContexts;
+
 	BeanValidationContext(
 			ConstraintValidatorManager constraintValidatorManager,
 			ConstraintValidatorFactory constraintValidatorFactory,
@@ -32,16 +56,77 @@
 			HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext,
 			T rootBean,
 			Class<T> rootBeanClass,
-			BeanMetaData<T> rootBeanMetaData
+			BeanMetaData<T> rootBeanMetaData,
+			boolean recyclable,
+			boolean forkable
 	) {
 		super( constraintValidatorManager, constraintValidatorFactory, validatorScopedContext, traversableResolver, constraintValidatorInitializationContext,
 				rootBean, rootBeanClass, rootBeanMetaData, rootBeanMetaData.isTrackingEnabled()
 		);
+		this.recyclable = recyclable;
+		this.forkable = forkable;
+	}
+
+	void reset(TraversableResolver traversableResolver, T rootBean, Class<T> rootBeanClass, BeanMetaData<T> rootBeanMetaData) {
+		reset( traversableResolver, rootBean, rootBeanClass, rootBeanMetaData, rootBeanMetaData.isTrackingEnabled() );
+	}
+
+	/**
+	 * Drops the references to the objects of the completed validation call so that they are not retained by the pool.
+	 */
+	void clear() {
+		reset( null, null, null, null, false );
+		if ( recycledValueContexts != null ) {
+			for ( BeanValueContext<?, Object> valueContext : recycledValueContexts ) {
+				valueContext.clear();
+			}
+		}
+	}
+
+	@Override
+	public BaseBeanValidationContext<T> fork(TraversableResolver traversableResolver) {
+		// the violations of a fork are collected until it is joined, which would defeat the streaming of the violations
+		if ( !forkable || isStreamingFailingConstraints() ) {
+			return null;
+		}
+
+		return new BeanValidationContext<>(
+				getConstraintValidatorManager(),
+				getConstraintValidatorFactory(),
+				validatorScopedContext,
+				traversableResolver,
+				getConstraintValidatorInitializationContext(),
+				getRootBean(),
+				getRootBeanClass(),
+				getRootBeanMetaData(),
+				false,
+				false
+		);
+	}
+
+	@Override
+	public BeanValueContext<?, Object> pollRecycledValueContext() {
+		return recycledValueContexts == null ? null : recycledValueContexts.pollFirst();
+	}
+
+	@Override
+	public void recycleValueContext(BeanValueContext<?, Object> valueContext) {
+		if ( !recyclable ) {
+			return;
+		}
+		if ( recycledValueContexts == null ) {
+			recycledValueContexts = new ArrayDeque<>();
+		}
+		recycledValueContexts.addFirst( valueContext );
+	}
+
+	boolean isRecyclable() {
+		return recyclable;
 	}
 
 	@Override
 	protected ConstraintViolation<T> createConstraintViolation(
-			String messageTemplate, String interpolatedMessage, Path propertyPath,
+			String messageTemplate, String interpolatedMessage, MessageInterpolation deferredMessageInterpolation, Path propertyPath,
 			ConstraintDescriptor<?> constraintDescriptor, ValueContext<?, ?> localContext,
 			ConstraintViolationCreationContext constraintViolationCreationContext) {
 		return ConstraintViolationImpl.forBeanValidation(
@@ -49,6 +134,7 @@ protected ConstraintViolation<T> createConstraintViolation(
 				constraintViolationCreationContext.getMessageParameters(),
 				constraintViolationCreationContext.getExpressionVariables(),
 				interpolatedMessage,
+				deferredMessageInterpolation,
 				getRootBeanClass(),
 				getRootBean(),
 				localContext.getCurrentBean(),
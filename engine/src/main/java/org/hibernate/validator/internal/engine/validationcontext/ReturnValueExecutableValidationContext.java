@@ -15,6 +15,7 @@
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.engine.ConstraintViolationImpl;
+import org.hibernate.validator.internal.engine.MessageInterpolation;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintViolationCreationContext;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
@@ -86,13 +87,14 @@ private static boolean isTrackingEnabled(Optional<ExecutableMetaData> executable
 	}
 
 	@Override
-	protected ConstraintViolation<T> createConstraintViolation(String messageTemplate, String interpolatedMessage, Path propertyPath, ConstraintDescriptor<?> constraintDescriptor,
+	protected ConstraintViolation<T> createConstraintViolation(String messageTemplate, String interpolatedMessage, MessageInterpolation deferredMessageInterpolation, Path propertyPath, ConstraintDescriptor<?> constraintDescriptor,
 			ValueContext<?, ?> valueContext, ConstraintViolationCreationContext constraintViolationCreationContext) {
 		return ConstraintViolationImpl.forReturnValueValidation(
 				messageTemplate,
 				constraintViolationCreationContext.getMessageParameters(),
 				constraintViolationCreationContext.getExpressionVariables(),
 				interpolatedMessage,
+				deferredMessageInterpolation,
 				getRootBeanClass(),
 				getRootBean(),
 				valueContext.getCurrentBean(),
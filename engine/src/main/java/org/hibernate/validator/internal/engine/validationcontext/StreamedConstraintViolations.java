@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.validationcontext;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+import jakarta.validation.ConstraintViolation;
+
+/**
+ * A write-only set of constraint violations, sending the added violations to a consumer instead of retaining them.
+ * <p>
+ * Only the number of violations is kept, so that the validation logic relying on the number of failing constraints,
+ * e.g. to stop the validation of a group sequence, behaves as with a regular set. As a consequence, the violations are
+ * not deduplicated and the set cannot be iterated.
+ *
+ * @param <T> the type of the root bean
+ */
+final class StreamedConstraintViolations<T> extends AbstractSet<ConstraintViolation<T>> {
+
+	private final Consumer<? super ConstraintViolation<T>> violationConsumer;
+
+	private int size;
+
+	StreamedConstraintViolations(Consumer<? super ConstraintViolation<T>> violationConsumer) {
+		this.violationConsumer = violationConsumer;
+	}
+
+	@Override
+	public boolean add(ConstraintViolation<T> violation) {
+		size++;
+		violationConsumer.accept( violation );
+		return true;
+	}
+
+	@Override
+	public Iterator<ConstraintViolation<T>> iterator() {
+		return Collections.emptyIterator();
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+}
@@ -55,6 +55,12 @@ void addConstraintFailure(
 
 	Set<ConstraintViolation<T>> getFailingConstraints();
 
+	/**
+	 * @return {@code true} if no further constraint violation can be reported by this context, in which case the
+	 * validation can be stopped
+	 */
+	boolean isMaxViolationsReached();
+
 	ConstraintValidatorContextImpl createConstraintValidatorContextFor(ConstraintDescriptorImpl<?> constraintDescriptor, MutablePath path);
 
 	void markConstraintProcessed(ValueContext<?, ?> valueContext, MetaConstraint<?> metaConstraint);
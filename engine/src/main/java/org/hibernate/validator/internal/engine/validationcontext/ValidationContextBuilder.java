@@ -27,21 +27,38 @@ public class ValidationContextBuilder {
 	private final TraversableResolver traversableResolver;
 	private final HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext;
 	private final ValidatorScopedContext validatorScopedContext;
+	private final ValidationContextPool validationContextPool;
 
+	/**
+	 * @param validationContextPool the pool used to recycle the contexts of the bean validation calls, {@code null} if
+	 * they are not recycled. The pool must only hold contexts created with the same validator resources as the ones
+	 * passed to this builder.
+	 */
 	public ValidationContextBuilder(
 			ConstraintValidatorManager constraintValidatorManager,
 			ConstraintValidatorFactory constraintValidatorFactory,
 			ValidatorScopedContext validatorScopedContext,
 			TraversableResolver traversableResolver,
-			HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext) {
+			HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext,
+			ValidationContextPool validationContextPool) {
 		this.constraintValidatorManager = constraintValidatorManager;
 		this.constraintValidatorFactory = constraintValidatorFactory;
 		this.traversableResolver = traversableResolver;
 		this.constraintValidatorInitializationContext = constraintValidatorInitializationContext;
 		this.validatorScopedContext = validatorScopedContext;
+		this.validationContextPool = validationContextPool;
 	}
 
 	public <T> BaseBeanValidationContext<T> forValidate(Class<T> rootBeanClass, BeanMetaData<T> rootBeanMetaData, T rootBean) {
+		if ( validationContextPool != null ) {
+			@SuppressWarnings("unchecked")
+			BeanValidationContext<T> recycledContext = (BeanValidationContext<T>) validationContextPool.poll();
+			if ( recycledContext != null ) {
+				recycledContext.reset( traversableResolver, rootBean, rootBeanClass, rootBeanMetaData );
+				return recycledContext;
+			}
+		}
+
 		return new BeanValidationContext<>(
 				constraintValidatorManager,
 				constraintValidatorFactory,
@@ -50,7 +67,9 @@ public <T> BaseBeanValidationContext<T> forValidate(Class<T> rootBeanClass, Bean
 				constraintValidatorInitializationContext,
 				rootBean,
 				rootBeanClass,
-				rootBeanMetaData
+				rootBeanMetaData,
+				validationContextPool != null,
+				true
 		);
 	}
 
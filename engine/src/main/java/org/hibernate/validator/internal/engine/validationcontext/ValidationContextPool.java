@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.validationcontext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded pool of the {@link BeanValidationContext}s used by the bean validation calls of a validator.
+ * <p>
+ * The pool is not bound to threads: a context is taken from the pool for the duration of a validation call and given
+ * back once the call is complete, whatever the thread it is executed on. It is thus safe to use from virtual threads,
+ * which may be unmounted in the middle of a validation, and from nested validation calls, which simply get another
+ * context. When the pool is empty, a new context is created; when it is full, the released context is discarded.
+ * <p>
+ * The slots are accessed with atomic operations only, so that the pool never blocks.
+ */
+public final class ValidationContextPool {
+
+	private final AtomicReferenceArray<BeanValidationContext<?>> contexts;
+
+	public ValidationContextPool(int size) {
+		this.contexts = new AtomicReferenceArray<>( size );
+	}
+
+	public static ValidationContextPool forAvailableProcessors() {
+		return new ValidationContextPool( Math.max( 4, 2 * Runtime.getRuntime().availableProcessors() ) );
+	}
+
+	/**
+	 * @return a context previously released to the pool, or {@code null} if the pool is empty
+	 */
+	BeanValidationContext<?> poll() {
+		int length = contexts.length();
+		int start = ThreadLocalRandom.current().nextInt( length );
+		for ( int i = 0; i < length; i++ ) {
+			int index = ( start + i ) % length;
+			if ( contexts.get( index ) != null ) {
+				BeanValidationContext<?> context = contexts.getAndSet( index, null );
+				if ( context != null ) {
+					return context;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Gives back a context once the validation call using it is complete. The context must not be used by the caller
+	 * afterwards. Contexts which have not been obtained from a pool are ignored.
+	 */
+	public void release(BaseBeanValidationContext<?> validationContext) {
+		if ( !( validationContext instanceof BeanValidationContext<?> beanValidationContext ) || !beanValidationContext.isRecyclable() ) {
+			return;
+		}
+
+		beanValidationContext.clear();
+
+		int length = contexts.length();
+		int start = ThreadLocalRandom.current().nextInt( length );
+		for ( int i = 0; i < length; i++ ) {
+			if ( contexts.compareAndSet( ( start + i ) % length, null, beanValidationContext ) ) {
+				return;
+			}
+		}
+	}
+}
@@ -5,13 +5,17 @@
 package org.hibernate.validator.internal.engine.validationcontext;
 
 import java.time.Duration;
+import java.util.Locale;
 
 import jakarta.validation.ClockProvider;
 import jakarta.validation.MessageInterpolator;
+import jakarta.validation.MessageInterpolator.Context;
 import jakarta.validation.Validator;
 
 import org.hibernate.validator.internal.engine.ValidatorFactoryScopedContext;
+import org.hibernate.validator.internal.engine.messageinterpolation.LocaleBoundMessageInterpolator;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
+import org.hibernate.validator.messageinterpolation.AbstractMessageInterpolator;
 import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
 
@@ -27,6 +31,12 @@ public class ValidatorScopedContext {
 	 */
 	private final MessageInterpolator messageInterpolator;
 
+	/**
+	 * Whether the message interpolator implements the built-in interpolation algorithm, thus returning the constant
+	 * message templates as is.
+	 */
+	private final boolean constantMessageTemplatesInterpolatedAsIs;
+
 	/**
 	 * The parameter name provider.
 	 */
@@ -60,6 +70,18 @@ public class ValidatorScopedContext {
 	 */
 	private final boolean failFastOnPropertyViolation;
 
+	/**
+	 * Hibernate Validator specific limit on the number of constraint violations after which the validation is aborted,
+	 * {@link Integer#MAX_VALUE} if not limited.
+	 */
+	private final int maxViolations;
+
+	/**
+	 * Hibernate Validator specific flag to defer the interpolation of the constraint violation messages until they are
+	 * requested.
+	 */
+	private final boolean deferredMessageInterpolation;
+
 	/**
 	 * Hibernate Validator specific flag to disable the {@code TraversableResolver} result cache.
 	 */
@@ -84,12 +106,15 @@ public class ValidatorScopedContext {
 
 	public ValidatorScopedContext(ValidatorFactoryScopedContext validatorFactoryScopedContext) {
 		this.messageInterpolator = validatorFactoryScopedContext.getMessageInterpolator();
+		this.constantMessageTemplatesInterpolatedAsIs = isBuiltInInterpolationAlgorithm( this.messageInterpolator );
 		this.parameterNameProvider = validatorFactoryScopedContext.getParameterNameProvider();
 		this.clockProvider = validatorFactoryScopedContext.getClockProvider();
 		this.temporalValidationTolerance = validatorFactoryScopedContext.getTemporalValidationTolerance();
 		this.scriptEvaluatorFactory = validatorFactoryScopedContext.getScriptEvaluatorFactory();
 		this.failFast = validatorFactoryScopedContext.isFailFast();
 		this.failFastOnPropertyViolation = validatorFactoryScopedContext.isFailFastOnPropertyViolation();
+		this.maxViolations = validatorFactoryScopedContext.getMaxViolations() > 0 ? validatorFactoryScopedContext.getMaxViolations() : Integer.MAX_VALUE;
+		this.deferredMessageInterpolation = validatorFactoryScopedContext.isDeferredMessageInterpolation();
 		this.traversableResolverResultCacheEnabled = validatorFactoryScopedContext.isTraversableResolverResultCacheEnabled();
 		this.constraintValidatorPayload = validatorFactoryScopedContext.getConstraintValidatorPayload();
 		this.constraintExpressionLanguageFeatureLevel = validatorFactoryScopedContext.getConstraintExpressionLanguageFeatureLevel();
@@ -101,6 +126,15 @@ public MessageInterpolator getMessageInterpolator() {
 		return this.messageInterpolator;
 	}
 
+	/**
+	 * @return {@code true} if the constant message templates, as defined by
+	 *         {@link org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl#isConstantMessageTemplate()},
+	 *         can be used as interpolated messages without invoking the message interpolator
+	 */
+	public boolean isConstantMessageTemplatesInterpolatedAsIs() {
+		return this.constantMessageTemplatesInterpolatedAsIs;
+	}
+
 	public ExecutableParameterNameProvider getParameterNameProvider() {
 		return this.parameterNameProvider;
 	}
@@ -125,6 +159,14 @@ public boolean isFailFastOnPropertyViolation() {
 		return this.failFastOnPropertyViolation;
 	}
 
+	public int getMaxViolations() {
+		return this.maxViolations;
+	}
+
+	public boolean isDeferredMessageInterpolation() {
+		return this.deferredMessageInterpolation;
+	}
+
 	public boolean isTraversableResolverResultCacheEnabled() {
 		return this.traversableResolverResultCacheEnabled;
 	}
@@ -144,4 +186,23 @@ public ExpressionLanguageFeatureLevel getCustomViolationExpressionLanguageFeatur
 	public boolean isShowValidatedValuesInTraceLogs() {
 		return showValidatedValuesInTraceLogs;
 	}
+
+	private static boolean isBuiltInInterpolationAlgorithm(MessageInterpolator messageInterpolator) {
+		if ( messageInterpolator instanceof LocaleBoundMessageInterpolator ) {
+			messageInterpolator = ( (LocaleBoundMessageInterpolator) messageInterpolator ).getDelegate();
+		}
+		if ( !( messageInterpolator instanceof AbstractMessageInterpolator ) ) {
+			return false;
+		}
+
+		// a subclass overriding the interpolation entry points might alter the constant messages
+		try {
+			Class<?> interpolatorClass = messageInterpolator.getClass();
+			return interpolatorClass.getMethod( "interpolate", String.class, Context.class ).getDeclaringClass() == AbstractMessageInterpolator.class
+					&& interpolatorClass.getMethod( "interpolate", String.class, Context.class, Locale.class ).getDeclaringClass() == AbstractMessageInterpolator.class;
+		}
+		catch (NoSuchMethodException | SecurityException e) {
+			return false;
+		}
+	}
 }
@@ -52,11 +52,43 @@ public void reset(Object currentBean, MutablePath propertyPath, BeanMetaData<?>
 		this.currentBeanMetaData = currentBeanMetaData;
 		this.currentValidatable = currentBeanMetaData;
 		this.currentBean = currentBean;
-		this.propertyPath = propertyPath;
-		this.alreadyProcessedGroups = null;
-		this.alreadyProcessedMetaConstraints = null;
+		this.propertyPath.resetLeafNode( propertyPath.getLeafNode() );
 		this.currentGroup = null;
 		this.previousGroup = null;
+		clearTrackers();
+	}
+
+	/**
+	 * Resets this context so that it can be reused for another bean, possibly with another parent context.
+	 */
+	public void reset(ValueContext<?, ?> parentContext, Object currentBean, MutablePath propertyPath, BeanMetaData<?> currentBeanMetaData) {
+		this.parentContext = parentContext;
+		reset( currentBean, propertyPath, currentBeanMetaData );
+	}
+
+	/**
+	 * Releases the references to the validated objects held by this context, while keeping its trackers for a later
+	 * reuse.
+	 */
+	public void clear() {
+		this.parentContext = null;
+		this.currentBean = null;
+		this.currentBeanMetaData = null;
+		this.currentValidatable = null;
+		this.currentGroup = null;
+		this.previousGroup = null;
+		resetValueState( new ValueState<>( null, null ) );
+		clearTrackers();
+	}
+
+	private void clearTrackers() {
+		// the trackers are cleared rather than dropped so that their storage is reused
+		if ( this.alreadyProcessedGroups != null ) {
+			this.alreadyProcessedGroups.clear();
+		}
+		if ( this.alreadyProcessedMetaConstraints != null ) {
+			this.alreadyProcessedMetaConstraints.clear();
+		}
 	}
 
 	@Override
@@ -77,6 +109,8 @@ public void markCurrentGroupAsProcessed() {
 		if ( this.previousGroup != null && this.previousGroup != this.currentGroup ) {
 			if ( this.alreadyProcessedGroups == null ) {
 				this.alreadyProcessedGroups = new HashSet<>();
+			}
+			if ( this.alreadyProcessedGroups.isEmpty() ) {
 				this.alreadyProcessedGroups.add( this.previousGroup );
 			}
 			this.alreadyProcessedGroups.add( this.currentGroup );
@@ -7,6 +7,7 @@
 import java.lang.reflect.TypeVariable;
 
 import org.hibernate.validator.internal.engine.groups.Group;
+import org.hibernate.validator.internal.engine.path.MutableNode;
 import org.hibernate.validator.internal.engine.path.MutablePath;
 import org.hibernate.validator.internal.engine.valueextraction.AnnotatedObject;
 import org.hibernate.validator.internal.engine.valueextraction.ArrayElement;
@@ -27,7 +28,7 @@
  */
 public abstract sealed class ValueContext<T, V> permits BeanValueContext, ExecutableValueContext {
 
-	protected final ValueContext<?, ?> parentContext;
+	protected ValueContext<?, ?> parentContext;
 
 	private final ExecutableParameterNameProvider parameterNameProvider;
 
@@ -38,8 +39,12 @@
 
 	/**
 	 * The current property path we are validating.
+	 * <p>
+	 * The path is owned by this context and updated in place while traversing the bean, so that no copy is created
+	 * for each visited element. As a consequence, it must be materialized or copied by anyone who needs to keep it
+	 * beyond the current validation step.
 	 */
-	protected MutablePath propertyPath;
+	protected final MutablePath propertyPath;
 
 	/**
 	 * The current group we are validating.
@@ -63,7 +68,7 @@
 		this.parameterNameProvider = parameterNameProvider;
 		this.currentBean = currentBean;
 		this.currentValidatable = validatable;
-		this.propertyPath = propertyPath;
+		this.propertyPath = MutablePath.createCopy( propertyPath );
 	}
 
 	public final MutablePath getPropertyPath() {
@@ -91,29 +96,21 @@ public final Object getCurrentValidatedValue() {
 	}
 
 	public final void appendNode(Cascadable node) {
-		MutablePath newPath = MutablePath.createCopy( propertyPath );
-		node.appendTo( newPath );
-		propertyPath = newPath;
+		node.appendTo( propertyPath );
 	}
 
 	public final void appendNode(ConstraintLocation location) {
-		MutablePath newPath = MutablePath.createCopy( propertyPath );
-		location.appendTo( parameterNameProvider, newPath );
-		propertyPath = newPath;
+		location.appendTo( parameterNameProvider, propertyPath );
 	}
 
 	public final void appendTypeParameterNode(String nodeName) {
 		if ( propertyPath.needToAddContainerElementNode( nodeName ) ) {
-			MutablePath newPath = MutablePath.createCopy( propertyPath );
-			newPath.addContainerElementNode( nodeName );
-			propertyPath = newPath;
+			propertyPath.addContainerElementNode( nodeName );
 		}
 	}
 
 	public void appendEmptyNode() {
-		MutablePath newPath = MutablePath.createCopy( propertyPath );
-		newPath.addEmptyNode();
-		propertyPath = newPath;
+		propertyPath.addEmptyNode();
 	}
 
 	public final void updateNode(ConstraintLocation location) {
@@ -176,11 +173,11 @@ public final boolean validatingDefault() {
 	}
 
 	public final ValueState<V> getCurrentValueState() {
-		return new ValueState<>( propertyPath, currentValue );
+		return new ValueState<>( propertyPath.getLeafNode(), currentValue );
 	}
 
 	public final void resetValueState(ValueState<V> valueState) {
-		this.propertyPath = valueState.getPropertyPath();
+		this.propertyPath.resetLeafNode( valueState.getLeafNode() );
 		this.currentValue = valueState.getCurrentValue();
 	}
 
@@ -205,17 +202,17 @@ public Object getValue(Object parent, ConstraintLocation location) {
 
 	public static class ValueState<V> {
 
-		private final MutablePath propertyPath;
+		private final MutableNode leafNode;
 
 		private final V currentValue;
 
-		ValueState(MutablePath propertyPath, V currentValue) {
-			this.propertyPath = propertyPath;
+		ValueState(MutableNode leafNode, V currentValue) {
+			this.leafNode = leafNode;
 			this.currentValue = currentValue;
 		}
 
-		public MutablePath getPropertyPath() {
-			return propertyPath;
+		public MutableNode getLeafNode() {
+			return leafNode;
 		}
 
 		public V getCurrentValue() {
@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.metadata;
+
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
+
+/**
+ * An immutable {@link BeanMetaDataCacheStatistics} snapshot.
+ */
+public final class BeanMetaDataCacheStatisticsImpl implements BeanMetaDataCacheStatistics {
+
+	public static final BeanMetaDataCacheStatisticsImpl EMPTY = new BeanMetaDataCacheStatisticsImpl( 0, 0, 0, 0 );
+
+	private final long hitCount;
+
+	private final long missCount;
+
+	private final long rebuildCount;
+
+	private final int size;
+
+	public BeanMetaDataCacheStatisticsImpl(long hitCount, long missCount, long rebuildCount, int size) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.rebuildCount = rebuildCount;
+		this.size = size;
+	}
+
+	public BeanMetaDataCacheStatisticsImpl plus(BeanMetaDataCacheStatistics other) {
+		return new BeanMetaDataCacheStatisticsImpl(
+				hitCount + other.getHitCount(),
+				missCount + other.getMissCount(),
+				rebuildCount + other.getRebuildCount(),
+				size + other.getSize()
+		);
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount;
+	}
+
+	@Override
+	public long getRebuildCount() {
+		return rebuildCount;
+	}
+
+	@Override
+	public int getSize() {
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		return "BeanMetaDataCacheStatistics{"
+				+ "hitCount=" + hitCount
+				+ ", missCount=" + missCount
+				+ ", rebuildCount=" + rebuildCount
+				+ ", size=" + size
+				+ '}';
+	}
+}
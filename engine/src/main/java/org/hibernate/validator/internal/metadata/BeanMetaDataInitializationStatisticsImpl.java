@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.metadata;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.validator.metadata.BeanMetaDataInitializationStatistics;
+
+/**
+ * An immutable {@link BeanMetaDataInitializationStatistics} snapshot.
+ */
+public final class BeanMetaDataInitializationStatisticsImpl implements BeanMetaDataInitializationStatistics {
+
+	private final int beanClassCount;
+
+	private final int parallelism;
+
+	private final Duration annotationProcessingTime;
+
+	private final Duration xmlProcessingTime;
+
+	private final Duration programmaticProcessingTime;
+
+	private final Duration aggregationTime;
+
+	private final Duration totalTime;
+
+	private BeanMetaDataInitializationStatisticsImpl(int beanClassCount, int parallelism, Recorder recorder, long totalNanos) {
+		this.beanClassCount = beanClassCount;
+		this.parallelism = parallelism;
+		this.annotationProcessingTime = Duration.ofNanos( recorder.get( Phase.ANNOTATION ) );
+		this.xmlProcessingTime = Duration.ofNanos( recorder.get( Phase.XML ) );
+		this.programmaticProcessingTime = Duration.ofNanos( recorder.get( Phase.PROGRAMMATIC ) );
+		this.aggregationTime = Duration.ofNanos( recorder.get( Phase.AGGREGATION ) );
+		this.totalTime = Duration.ofNanos( totalNanos );
+	}
+
+	@Override
+	public int getBeanClassCount() {
+		return beanClassCount;
+	}
+
+	@Override
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	@Override
+	public Duration getAnnotationProcessingTime() {
+		return annotationProcessingTime;
+	}
+
+	@Override
+	public Duration getXmlProcessingTime() {
+		return xmlProcessingTime;
+	}
+
+	@Override
+	public Duration getProgrammaticProcessingTime() {
+		return programmaticProcessingTime;
+	}
+
+	@Override
+	public Duration getAggregationTime() {
+		return aggregationTime;
+	}
+
+	@Override
+	public Duration getTotalTime() {
+		return totalTime;
+	}
+
+	@Override
+	public String toString() {
+		return "BeanMetaDataInitializationStatistics{"
+				+ "beanClassCount=" + beanClassCount
+				+ ", parallelism=" + parallelism
+				+ ", annotationProcessingTime=" + annotationProcessingTime
+				+ ", xmlProcessingTime=" + xmlProcessingTime
+				+ ", programmaticProcessingTime=" + programmaticProcessingTime
+				+ ", aggregationTime=" + aggregationTime
+				+ ", totalTime=" + totalTime
+				+ '}';
+	}
+
+	/**
+	 * The phases of the initialization of the bean metadata.
+	 */
+	public enum Phase {
+		ANNOTATION,
+		XML,
+		PROGRAMMATIC,
+		AGGREGATION
+	}
+
+	/**
+	 * Records the time spent in each phase, possibly from several threads, during the initialization of the bean
+	 * metadata.
+	 */
+	public static final class Recorder {
+
+		private final long startNanos = System.nanoTime();
+
+		private final LongAdder[] phaseNanos = new LongAdder[Phase.values().length];
+
+		public Recorder() {
+			for ( int i = 0; i < phaseNanos.length; i++ ) {
+				phaseNanos[i] = new LongAdder();
+			}
+		}
+
+		/**
+		 * Records the time elapsed in the given phase since {@code startNanos}.
+		 *
+		 * @return the current {@link System#nanoTime()}, so that consecutive phases can be chained
+		 */
+		public long record(Phase phase, long startNanos) {
+			long nanos = System.nanoTime();
+			phaseNanos[phase.ordinal()].add( nanos - startNanos );
+			return nanos;
+		}
+
+		private long get(Phase phase) {
+			return phaseNanos[phase.ordinal()].sum();
+		}
+
+		public BeanMetaDataInitializationStatisticsImpl complete(int beanClassCount, int parallelism) {
+			return new BeanMetaDataInitializationStatisticsImpl( beanClassCount, parallelism, this, System.nanoTime() - startNanos );
+		}
+	}
+}
@@ -5,6 +5,7 @@
 package org.hibernate.validator.internal.metadata;
 
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
 
 /**
  * This manager is in charge of providing all constraint related meta data
@@ -17,4 +18,6 @@ public interface BeanMetaDataManager {
 	<T> BeanMetaData<T> getBeanMetaData(Class<T> beanClass);
 
 	void clear();
+
+	BeanMetaDataCacheStatistics getStatistics();
 }
@@ -5,13 +5,16 @@
 package org.hibernate.validator.internal.metadata;
 
 import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
-import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
-import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
 import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
 
 import java.util.ArrayList;
-import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.validator.internal.engine.ConstraintCreationContext;
 import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
@@ -26,12 +29,14 @@
 import org.hibernate.validator.internal.metadata.raw.BeanConfiguration;
 import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
 import org.hibernate.validator.internal.util.CollectionHelper;
-import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.ExecutableHelper;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
 import org.hibernate.validator.internal.util.classhierarchy.ClassHierarchyHelper;
 import org.hibernate.validator.internal.util.stereotypes.Immutable;
+import org.hibernate.validator.metadata.BeanMetaDataCache;
+import org.hibernate.validator.metadata.BeanMetaDataCacheFactory;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
 import org.hibernate.validator.spi.tracking.ProcessedBeansTrackingVoter;
 
@@ -47,26 +52,14 @@
  * with meta data provided by the given <i>eager</i> providers. If the cache
  * doesn't contain the meta data for a requested type it will be retrieved on
  * demand using the annotation based provider.
+ * <p>
+ * The eviction policy of the cache is defined by the {@link BeanMetaDataCacheFactory}.
  *
  * @author Gunnar Morling
  * @author Chris Beckey &lt;cbeckey@paypal.com&gt;
  * @author Guillaume Smet
 */
 public class BeanMetaDataManagerImpl implements BeanMetaDataManager {
-	/**
-	 * The default initial capacity for this cache.
-	 */
-	private static final int DEFAULT_INITIAL_CAPACITY = 16;
-
-	/**
-	 * The default load factor for this cache.
-	 */
-	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
-
-	/**
-	 * The default concurrency level for this cache.
-	 */
-	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
 
 	/**
 	 * Additional metadata providers used for meta data retrieval if
@@ -85,7 +78,31 @@ public class BeanMetaDataManagerImpl implements BeanMetaDataManager {
 	/**
 	 * Used to cache the constraint meta data for validated entities
 	 */
-	private final ConcurrentReferenceHashMap<Class<?>, BeanMetaData<?>> beanMetaDataCache;
+	private final BeanMetaDataCache<BeanMetaData<?>> beanMetaDataCache;
+
+	/**
+	 * Marks the classes whose meta data has already been built and cached, to detect the rebuilds following an eviction.
+	 * A {@link ClassValue} is used so that the bean classes can still be unloaded.
+	 */
+	private final ClassValue<AtomicBoolean> builtBeanClasses = new ClassValue<>() {
+
+		@Override
+		protected AtomicBoolean computeValue(Class<?> type) {
+			return new AtomicBoolean();
+		}
+	};
+
+	/**
+	 * The metadata being built, so that concurrent requests for the same class wait for it instead of building it
+	 * again. Completed exceptionally if building the metadata failed, in which case the next request builds it again.
+	 */
+	private final ConcurrentMap<Class<?>, CompletableFuture<BeanMetaData<?>>> pendingBeanMetaData = new ConcurrentHashMap<>();
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder rebuildCount = new LongAdder();
 
 	/**
 	 * Used for resolving type parameters. Thread-safe.
@@ -114,6 +131,21 @@ public BeanMetaDataManagerImpl(ConstraintCreationContext constraintCreationConte
 			List<MetaDataProvider> optionalMetaDataProviders,
 			MethodValidationConfiguration methodValidationConfiguration,
 			ProcessedBeansTrackingVoter processedBeansTrackingVoter) {
+		this( constraintCreationContext, executableHelper, parameterNameProvider, javaBeanHelper, beanMetaDataClassNormalizer,
+				validationOrderGenerator, optionalMetaDataProviders, methodValidationConfiguration, processedBeansTrackingVoter,
+				BeanMetaDataCacheFactory.soft() );
+	}
+
+	public BeanMetaDataManagerImpl(ConstraintCreationContext constraintCreationContext,
+			ExecutableHelper executableHelper,
+			ExecutableParameterNameProvider parameterNameProvider,
+			JavaBeanHelper javaBeanHelper,
+			BeanMetaDataClassNormalizer beanMetaDataClassNormalizer,
+			ValidationOrderGenerator validationOrderGenerator,
+			List<MetaDataProvider> optionalMetaDataProviders,
+			MethodValidationConfiguration methodValidationConfiguration,
+			ProcessedBeansTrackingVoter processedBeansTrackingVoter,
+			BeanMetaDataCacheFactory beanMetaDataCacheFactory) {
 		this.constraintCreationContext = constraintCreationContext;
 		this.executableHelper = executableHelper;
 		this.parameterNameProvider = parameterNameProvider;
@@ -122,14 +154,7 @@ public BeanMetaDataManagerImpl(ConstraintCreationContext constraintCreationConte
 		this.methodValidationConfiguration = methodValidationConfiguration;
 		this.processedBeansTrackingVoter = processedBeansTrackingVoter;
 
-		this.beanMetaDataCache = new ConcurrentReferenceHashMap<>(
-				DEFAULT_INITIAL_CAPACITY,
-				DEFAULT_LOAD_FACTOR,
-				DEFAULT_CONCURRENCY_LEVEL,
-				SOFT,
-				SOFT,
-				EnumSet.of( IDENTITY_COMPARISONS )
-		);
+		this.beanMetaDataCache = beanMetaDataCacheFactory.createCache();
 
 		AnnotationProcessingOptions annotationProcessingOptions = getAnnotationProcessingOptionsFromNonDefaultProviders( optionalMetaDataProviders );
 		AnnotationMetaDataProvider defaultProvider = new AnnotationMetaDataProvider(
@@ -161,19 +186,72 @@ public <T> BeanMetaData<T> getBeanMetaData(Class<T> beanClass) {
 		BeanMetaData<? super T> beanMetaData = (BeanMetaData<? super T>) beanMetaDataCache.get( normalizedBeanClass );
 
 		if ( beanMetaData != null ) {
+			hitCount.increment();
+			return (BeanMetaData<T>) beanMetaData;
+		}
+
+		missCount.increment();
+
+		// only one thread builds the metadata of a given class, the others wait for it
+		CompletableFuture<BeanMetaData<?>> pending = new CompletableFuture<>();
+		CompletableFuture<BeanMetaData<?>> concurrentlyPending = pendingBeanMetaData.putIfAbsent( normalizedBeanClass, pending );
+		if ( concurrentlyPending != null ) {
+			return (BeanMetaData<T>) await( concurrentlyPending );
+		}
+
+		try {
+			beanMetaData = buildAndCacheBeanMetaData( normalizedBeanClass );
+			pending.complete( beanMetaData );
 			return (BeanMetaData<T>) beanMetaData;
 		}
+		catch (RuntimeException | Error e) {
+			pending.completeExceptionally( e );
+			throw e;
+		}
+		finally {
+			pendingBeanMetaData.remove( normalizedBeanClass, pending );
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> BeanMetaData<T> buildAndCacheBeanMetaData(Class<T> beanClass) {
+		// the metadata might have been cached by a thread which was done building it before we registered our future
+		BeanMetaData<T> beanMetaData = (BeanMetaData<T>) beanMetaDataCache.get( beanClass );
+		if ( beanMetaData != null ) {
+			return beanMetaData;
+		}
 
-		beanMetaData = createBeanMetaData( normalizedBeanClass );
-		BeanMetaData<? super T> previousBeanMetaData =
-				(BeanMetaData<? super T>) beanMetaDataCache.putIfAbsent( normalizedBeanClass, beanMetaData );
+		beanMetaData = createBeanMetaData( beanClass );
+		BeanMetaData<T> previousBeanMetaData = (BeanMetaData<T>) beanMetaDataCache.putIfAbsent( beanClass, beanMetaData );
 
 		// we return the previous value if not null
 		if ( previousBeanMetaData != null ) {
-			return (BeanMetaData<T>) previousBeanMetaData;
+			return previousBeanMetaData;
+		}
+
+		if ( builtBeanClasses.get( beanClass ).getAndSet( true ) ) {
+			rebuildCount.increment();
 		}
 
-		return (BeanMetaData<T>) beanMetaData;
+		return beanMetaData;
+	}
+
+	/**
+	 * Waits for the metadata built by another thread, rethrowing the exception raised while building it if any.
+	 */
+	private static BeanMetaData<?> await(CompletableFuture<BeanMetaData<?>> pending) {
+		try {
+			return pending.join();
+		}
+		catch (CompletionException e) {
+			if ( e.getCause() instanceof RuntimeException runtimeException ) {
+				throw runtimeException;
+			}
+			if ( e.getCause() instanceof Error error ) {
+				throw error;
+			}
+			throw e;
+		}
 	}
 
 	@Override
@@ -185,6 +263,11 @@ public int numberOfCachedBeanMetaDataInstances() {
 		return beanMetaDataCache.size();
 	}
 
+	@Override
+	public BeanMetaDataCacheStatistics getStatistics() {
+		return new BeanMetaDataCacheStatisticsImpl( hitCount.sum(), missCount.sum(), rebuildCount.sum(), beanMetaDataCache.size() );
+	}
+
 	/**
 	 * Creates a {@link org.hibernate.validator.internal.metadata.aggregated.BeanMetaData} containing the meta data from all meta
 	 * data providers for the given type and its hierarchy.
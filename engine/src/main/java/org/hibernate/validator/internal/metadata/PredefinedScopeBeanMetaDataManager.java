@@ -11,14 +11,20 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 import jakarta.validation.metadata.BeanDescriptor;
 import jakarta.validation.metadata.ConstraintDescriptor;
@@ -35,9 +41,11 @@
 import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
 import org.hibernate.validator.internal.engine.tracking.PredefinedScopeProcessedBeansTrackingStrategy;
 import org.hibernate.validator.internal.engine.tracking.ProcessedBeansTrackingStrategy;
+import org.hibernate.validator.internal.metadata.BeanMetaDataInitializationStatisticsImpl.Phase;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaDataBuilder;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaDataImpl;
+import org.hibernate.validator.internal.metadata.aggregated.DefaultGroupValidationPlan;
 import org.hibernate.validator.internal.metadata.aggregated.ExecutableMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.PropertyMetaData;
 import org.hibernate.validator.internal.metadata.core.AnnotationProcessingOptions;
@@ -46,13 +54,16 @@
 import org.hibernate.validator.internal.metadata.facets.Cascadable;
 import org.hibernate.validator.internal.metadata.provider.AnnotationMetaDataProvider;
 import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
+import org.hibernate.validator.internal.metadata.provider.XmlMetaDataProvider;
 import org.hibernate.validator.internal.metadata.raw.BeanConfiguration;
 import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
 import org.hibernate.validator.internal.util.ExecutableHelper;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
 import org.hibernate.validator.internal.util.classhierarchy.ClassHierarchyHelper;
 import org.hibernate.validator.internal.util.classhierarchy.Filters;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
+import org.hibernate.validator.metadata.BeanMetaDataInitializationStatistics;
 import org.hibernate.validator.spi.tracking.ProcessedBeansTrackingVoter;
 
 public class PredefinedScopeBeanMetaDataManager implements BeanMetaDataManager {
@@ -64,8 +75,14 @@ public class PredefinedScopeBeanMetaDataManager implements BeanMetaDataManager {
 	 */
 	private final ConcurrentMap<Class<?>, BeanMetaData<?>> beanMetaDataMap = new ConcurrentHashMap<>();
 
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
 	private final ProcessedBeansTrackingStrategy processedBeansTrackingStrategy;
 
+	private final BeanMetaDataInitializationStatistics initializationStatistics;
+
 	public PredefinedScopeBeanMetaDataManager(
 			ConstraintCreationContext constraintCreationContext,
 			ExecutableHelper executableHelper,
@@ -76,7 +93,9 @@ public PredefinedScopeBeanMetaDataManager(
 			MethodValidationConfiguration methodValidationConfiguration,
 			BeanMetaDataClassNormalizer beanMetaDataClassNormalizer,
 			ProcessedBeansTrackingVoter processedBeansTrackingVoter,
-			Set<Class<?>> beanClassesToInitialize
+			Set<Class<?>> beanClassesToInitialize,
+			int initializationParallelism,
+			BeanMetaDataInitializationStatisticsImpl.Recorder initializationRecorder
 	) {
 		AnnotationProcessingOptions annotationProcessingOptions = getAnnotationProcessingOptionsFromNonDefaultProviders( optionalMetaDataProviders );
 		AnnotationMetaDataProvider defaultProvider = new AnnotationMetaDataProvider(
@@ -85,15 +104,22 @@ public PredefinedScopeBeanMetaDataManager(
 				annotationProcessingOptions
 		);
 
-		List<MetaDataProvider> metaDataProviders = new ArrayList<>( optionalMetaDataProviders.size() + 1 );
+		List<PhasedMetaDataProvider> metaDataProviders = new ArrayList<>( optionalMetaDataProviders.size() + 1 );
 		// We add the annotation based metadata provider at the first position so that the entire metadata model is assembled
 		// first.
 		// The other optional metadata providers will then contribute their additional metadata to the preexisting model.
 		// This helps to mitigate issues like HV-1450.
-		metaDataProviders.add( defaultProvider );
-		metaDataProviders.addAll( optionalMetaDataProviders );
+		metaDataProviders.add( new PhasedMetaDataProvider( defaultProvider, Phase.ANNOTATION ) );
+		for ( MetaDataProvider optionalMetaDataProvider : optionalMetaDataProviders ) {
+			metaDataProviders.add( new PhasedMetaDataProvider(
+					optionalMetaDataProvider,
+					optionalMetaDataProvider instanceof XmlMetaDataProvider ? Phase.XML : Phase.PROGRAMMATIC
+			) );
+		}
 
-		Map<Class<?>, BeanMetaData<?>> rawBeanMetaDataMap = new HashMap<>();
+		// the classes are collected in a deterministic order, each class of the hierarchies being built once
+		List<Class<?>> classesToInitialize = new ArrayList<>();
+		Set<Class<?>> collectedClasses = new HashSet<>();
 		for ( Class<?> validatedClass : beanClassesToInitialize ) {
 			Class<?> normalizedValidatedClass = beanMetaDataClassNormalizer.normalize( validatedClass );
 
@@ -105,21 +131,30 @@ public PredefinedScopeBeanMetaDataManager(
 
 			// note that the hierarchy also contains the initial class
 			for ( Class<?> hierarchyElement : classHierarchy ) {
-				if ( rawBeanMetaDataMap.containsKey( hierarchyElement ) ) {
-					continue;
+				if ( collectedClasses.add( hierarchyElement ) ) {
+					classesToInitialize.add( hierarchyElement );
 				}
-
-				rawBeanMetaDataMap.put(
-						hierarchyElement,
-						createBeanMetaData(
-								constraintCreationContext, executableHelper, parameterNameProvider,
-								javaBeanHelper, validationOrderGenerator, optionalMetaDataProviders, methodValidationConfiguration,
-								processedBeansTrackingVoter, metaDataProviders, hierarchyElement
-						)
-				);
 			}
 		}
 
+		int parallelism = Math.max( 1, Math.min( initializationParallelism, classesToInitialize.size() ) );
+		BeanMetaData<?>[] rawBeanMetaData = createBeanMetaData(
+				classesToInitialize,
+				beanClass -> createBeanMetaData(
+						constraintCreationContext, executableHelper, parameterNameProvider,
+						javaBeanHelper, validationOrderGenerator, optionalMetaDataProviders, methodValidationConfiguration,
+						processedBeansTrackingVoter, metaDataProviders, initializationRecorder, beanClass
+				),
+				parallelism
+		);
+
+		long startNanos = System.nanoTime();
+
+		Map<Class<?>, BeanMetaData<?>> rawBeanMetaDataMap = new LinkedHashMap<>();
+		for ( int i = 0; i < rawBeanMetaData.length; i++ ) {
+			rawBeanMetaDataMap.put( classesToInitialize.get( i ), rawBeanMetaData[i] );
+		}
+
 		this.beanMetaDataClassNormalizer = beanMetaDataClassNormalizer;
 		this.processedBeansTrackingStrategy = new PredefinedScopeProcessedBeansTrackingStrategy(
 				rawBeanMetaDataMap
@@ -132,6 +167,9 @@ public PredefinedScopeBeanMetaDataManager(
 					injectTrackingInformation( rawBeanMetaDataEntry.getValue(), processedBeansTrackingStrategy, processedBeansTrackingVoter )
 			);
 		}
+
+		initializationRecorder.record( Phase.AGGREGATION, startNanos );
+		this.initializationStatistics = initializationRecorder.complete( classesToInitialize.size(), parallelism );
 	}
 
 	@SuppressWarnings("unchecked")
@@ -139,7 +177,11 @@ public PredefinedScopeBeanMetaDataManager(
 	public <T> BeanMetaData<T> getBeanMetaData(Class<T> beanClass) {
 		Class<?> normalizedBeanClass = beanMetaDataClassNormalizer.normalize( beanClass );
 		BeanMetaData<T> beanMetaData = (BeanMetaData<T>) beanMetaDataMap.get( normalizedBeanClass );
-		if ( beanMetaData == null ) {
+		if ( beanMetaData != null ) {
+			hitCount.increment();
+		}
+		else {
+			missCount.increment();
 			// note that if at least one element of the hierarchy is constrained, the child classes should really be initialized
 			// otherwise they will be considered unconstrained.
 			beanMetaData = (BeanMetaData<T>) beanMetaDataMap.computeIfAbsent( normalizedBeanClass, UninitializedBeanMetaData::new );
@@ -151,6 +193,10 @@ public Collection<BeanMetaData<?>> getBeanMetaData() {
 		return beanMetaDataMap.values();
 	}
 
+	public BeanMetaDataInitializationStatistics getInitializationStatistics() {
+		return initializationStatistics;
+	}
+
 	public ProcessedBeansTrackingStrategy getProcessedBeansTrackingStrategy() {
 		return processedBeansTrackingStrategy;
 	}
@@ -160,6 +206,75 @@ public void clear() {
 		beanMetaDataMap.clear();
 	}
 
+	@Override
+	public BeanMetaDataCacheStatistics getStatistics() {
+		// the metadata is built at bootstrap and never evicted
+		return new BeanMetaDataCacheStatisticsImpl( hitCount.sum(), missCount.sum(), 0, beanMetaDataMap.size() );
+	}
+
+	/**
+	 * Creates the metadata of the given classes, in parallel if the parallelism is greater than one.
+	 * <p>
+	 * If the metadata of several classes cannot be created, the exception raised for the first of them is rethrown, as
+	 * when the metadata are created sequentially.
+	 *
+	 * @return the metadata of the classes, in the order of the classes
+	 */
+	private static BeanMetaData<?>[] createBeanMetaData(List<Class<?>> beanClasses, Function<Class<?>, BeanMetaData<?>> beanMetaDataFactory,
+			int parallelism) {
+		BeanMetaData<?>[] beanMetaData = new BeanMetaData<?>[beanClasses.size()];
+
+		if ( parallelism == 1 ) {
+			for ( int i = 0; i < beanMetaData.length; i++ ) {
+				beanMetaData[i] = beanMetaDataFactory.apply( beanClasses.get( i ) );
+			}
+			return beanMetaData;
+		}
+
+		Throwable[] failures = new Throwable[beanMetaData.length];
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		ForkJoinPool pool = new ForkJoinPool(
+				parallelism,
+				p -> {
+					ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( p );
+					thread.setContextClassLoader( contextClassLoader );
+					return thread;
+				},
+				null,
+				false
+		);
+		try {
+			List<ForkJoinTask<?>> tasks = new ArrayList<>( beanMetaData.length );
+			for ( int i = 0; i < beanMetaData.length; i++ ) {
+				int index = i;
+				tasks.add( pool.submit( () -> {
+					try {
+						beanMetaData[index] = beanMetaDataFactory.apply( beanClasses.get( index ) );
+					}
+					catch (RuntimeException | Error e) {
+						failures[index] = e;
+					}
+				} ) );
+			}
+			for ( ForkJoinTask<?> task : tasks ) {
+				task.join();
+			}
+		}
+		finally {
+			pool.shutdown();
+		}
+
+		for ( Throwable failure : failures ) {
+			if ( failure instanceof RuntimeException runtimeException ) {
+				throw runtimeException;
+			}
+			if ( failure instanceof Error error ) {
+				throw error;
+			}
+		}
+		return beanMetaData;
+	}
+
 	/**
 	 * Creates a {@link org.hibernate.validator.internal.metadata.aggregated.BeanMetaData} containing the meta data from all meta
 	 * data providers for the given type and its hierarchy.
@@ -177,22 +292,31 @@ private static <T> BeanMetaDataImpl<T> createBeanMetaData(
 			List<MetaDataProvider> optionalMetaDataProviders,
 			MethodValidationConfiguration methodValidationConfiguration,
 			ProcessedBeansTrackingVoter processedBeansTrackingVoter,
-			List<MetaDataProvider> metaDataProviders,
+			List<PhasedMetaDataProvider> metaDataProviders,
+			BeanMetaDataInitializationStatisticsImpl.Recorder initializationRecorder,
 			Class<T> clazz
 	) {
+		long startNanos = System.nanoTime();
+
 		BeanMetaDataBuilder<T> builder = BeanMetaDataBuilder.getInstance(
 				constraintCreationContext, executableHelper, parameterNameProvider,
 				validationOrderGenerator, clazz, methodValidationConfiguration,
 				processedBeansTrackingVoter
 		);
 
-		for ( MetaDataProvider provider : metaDataProviders ) {
-			for ( BeanConfiguration<? super T> beanConfiguration : getBeanConfigurationForHierarchy( provider, clazz ) ) {
+		for ( PhasedMetaDataProvider provider : metaDataProviders ) {
+			startNanos = initializationRecorder.record( Phase.AGGREGATION, startNanos );
+			List<BeanConfiguration<? super T>> beanConfigurations = getBeanConfigurationForHierarchy( provider.metaDataProvider(), clazz );
+			startNanos = initializationRecorder.record( provider.phase(), startNanos );
+
+			for ( BeanConfiguration<? super T> beanConfiguration : beanConfigurations ) {
 				builder.add( beanConfiguration );
 			}
 		}
 
-		return builder.build();
+		BeanMetaDataImpl<T> beanMetaData = builder.build();
+		initializationRecorder.record( Phase.AGGREGATION, startNanos );
+		return beanMetaData;
 	}
 
 	/**
@@ -237,6 +361,9 @@ private static <T> BeanMetaData<T> injectTrackingInformation(
 		return new BeanMetaDataImpl<>( (BeanMetaDataImpl<T>) rawBeanMetaData, processedBeansTrackingStrategy, processedBeansTrackingVoter );
 	}
 
+	private record PhasedMetaDataProvider(MetaDataProvider metaDataProvider, Phase phase) {
+	}
+
 	private static class UninitializedBeanMetaData<T> implements BeanMetaData<T> {
 
 		private final Class<T> beanClass;
@@ -245,6 +372,8 @@ private static <T> BeanMetaData<T> injectTrackingInformation(
 
 		private final List<Class<? super T>> classHierarchy;
 
+		private volatile DefaultGroupValidationPlan<T> defaultGroupValidationPlan;
+
 		@SuppressWarnings("unchecked")
 		private UninitializedBeanMetaData(Class<T> beanClass) {
 			this.beanClass = beanClass;
@@ -346,6 +475,25 @@ public List<Class<? super T>> getClassHierarchy() {
 		public boolean isTrackingEnabled() {
 			return true;
 		}
+
+		@Override
+		public DefaultGroupValidationPlan<T> getDefaultGroupValidationPlan(BeanMetaDataManager beanMetaDataManager) {
+			DefaultGroupValidationPlan<T> defaultGroupValidationPlan = this.defaultGroupValidationPlan;
+
+			if ( defaultGroupValidationPlan == null ) {
+				synchronized (this) {
+					defaultGroupValidationPlan = this.defaultGroupValidationPlan;
+
+					if ( defaultGroupValidationPlan == null ) {
+						defaultGroupValidationPlan = DefaultGroupValidationPlan.of( this, beanMetaDataManager );
+
+						this.defaultGroupValidationPlan = defaultGroupValidationPlan;
+					}
+				}
+			}
+
+			return defaultGroupValidationPlan;
+		}
 	}
 
 	private static class UninitializedBeanDescriptor implements BeanDescriptor {
@@ -14,6 +14,7 @@
 import jakarta.validation.metadata.BeanDescriptor;
 
 import org.hibernate.validator.internal.engine.groups.Sequence;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
 import org.hibernate.validator.internal.metadata.core.MetaConstraint;
 import org.hibernate.validator.internal.metadata.facets.Validatable;
 
@@ -145,6 +146,16 @@
 	 */
 	List<Class<? super T>> getClassHierarchy();
 
+	/**
+	 * Returns the plan used to validate the default group of this bean, built on first access.
+	 *
+	 * @param beanMetaDataManager the manager which provided this bean metadata, used to resolve the metadata of the
+	 * super classes
+	 *
+	 * @return the default group validation plan of this bean
+	 */
+	DefaultGroupValidationPlan<T> getDefaultGroupValidationPlan(BeanMetaDataManager beanMetaDataManager);
+
 	/**
 	 * @return {@code true} if the bean class is required to be tracked; {@code false} otherwise.
 	 */
@@ -30,6 +30,7 @@
 import org.hibernate.validator.internal.engine.groups.ValidationOrder;
 import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
 import org.hibernate.validator.internal.engine.tracking.ProcessedBeansTrackingStrategy;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
 import org.hibernate.validator.internal.metadata.core.MetaConstraint;
 import org.hibernate.validator.internal.metadata.descriptor.BeanDescriptorImpl;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
@@ -186,6 +187,11 @@
 	 */
 	private volatile BeanDescriptor beanDescriptor;
 
+	/**
+	 * The plan used to validate the default group of this bean. Lazily created.
+	 */
+	private volatile DefaultGroupValidationPlan<T> defaultGroupValidationPlan;
+
 	/**
 	 * The number of distinct interfaces declaring constraints, or 0 if none.
 	 */
@@ -472,6 +478,25 @@ public boolean isTrackingEnabled() {
 		return trackingEnabled;
 	}
 
+	@Override
+	public DefaultGroupValidationPlan<T> getDefaultGroupValidationPlan(BeanMetaDataManager beanMetaDataManager) {
+		DefaultGroupValidationPlan<T> defaultGroupValidationPlan = this.defaultGroupValidationPlan;
+
+		if ( defaultGroupValidationPlan == null ) {
+			synchronized (this) {
+				defaultGroupValidationPlan = this.defaultGroupValidationPlan;
+
+				if ( defaultGroupValidationPlan == null ) {
+					defaultGroupValidationPlan = DefaultGroupValidationPlan.of( this, beanMetaDataManager );
+
+					this.defaultGroupValidationPlan = defaultGroupValidationPlan;
+				}
+			}
+		}
+
+		return defaultGroupValidationPlan;
+	}
+
 	private static BeanDescriptor createBeanDescriptor(Class<?> beanClass, Set<MetaConstraint<?>> classMetaConstraints,
 			Map<String, PropertyMetaData> propertyMetaDataMap, Map<Signature, ExecutableMetaData> executableMetaDataMap,
 			boolean defaultGroupSequenceRedefined,
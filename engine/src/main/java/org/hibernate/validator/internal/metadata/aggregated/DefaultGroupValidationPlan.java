@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.metadata.aggregated;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.metadata.core.MetaConstraint;
+
+/**
+ * The validation of the default group of a bean, lowered once into a flat array of steps.
+ * <p>
+ * There is one step per class of the hierarchy that has to be visited, the hosting bean metadata of each class being
+ * resolved once when the plan is built instead of being looked up for every validation. As the first class redefining
+ * the default group sequence ends the hierarchy traversal, the plan stops there.
+ * <p>
+ * The steps strongly reference the metadata of the super classes resolved when the plan is built, even if the cache of
+ * the manager evicts it later on, e.g. with the soft or bounded caches. It is not stale: the metadata of a class is the
+ * same whenever the manager builds it, so the steps and the metadata rebuilt after the eviction are equivalent, the
+ * evicted metadata being retained as long as the plan is.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @param <T> The type of the bean.
+ */
+public final class DefaultGroupValidationPlan<T> {
+
+	private static final MetaConstraint<?>[] EMPTY_META_CONSTRAINTS = new MetaConstraint<?>[0];
+
+	private final Step<T>[] steps;
+
+	private DefaultGroupValidationPlan(Step<T>[] steps) {
+		this.steps = steps;
+	}
+
+	/**
+	 * Builds the plan of the given bean, resolving the metadata of its super classes through the given manager.
+	 *
+	 * @param beanMetaData the metadata of the bean
+	 * @param beanMetaDataManager the manager which provided {@code beanMetaData}
+	 * @param <T> the type of the bean
+	 *
+	 * @return the default group validation plan of the bean
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> DefaultGroupValidationPlan<T> of(BeanMetaData<T> beanMetaData, BeanMetaDataManager beanMetaDataManager) {
+		List<Step<T>> steps = new ArrayList<>( beanMetaData.getClassHierarchy().size() );
+
+		for ( Class<? super T> clazz : beanMetaData.getClassHierarchy() ) {
+			BeanMetaData<? super T> hostingBeanMetaData = clazz == beanMetaData.getBeanClass()
+					? beanMetaData
+					: beanMetaDataManager.getBeanMetaData( clazz );
+
+			Step<T> step = new Step<>( clazz, hostingBeanMetaData );
+			steps.add( step );
+
+			// the first class redefining the default group sequence applies it to the whole hierarchy
+			if ( step.isDefaultGroupSequenceRedefined() ) {
+				break;
+			}
+		}
+
+		return new DefaultGroupValidationPlan<>( (Step<T>[]) steps.toArray( new Step<?>[0] ) );
+	}
+
+	/**
+	 * @return the steps of the plan, in validation order; the returned array must not be modified
+	 */
+	public Step<T>[] getSteps() {
+		return steps;
+	}
+
+	private static MetaConstraint<?>[] toArray(Set<MetaConstraint<?>> metaConstraints) {
+		return metaConstraints.isEmpty() ? EMPTY_META_CONSTRAINTS : metaConstraints.toArray( EMPTY_META_CONSTRAINTS );
+	}
+
+	/**
+	 * The validation of the constraints hosted by one class of the hierarchy.
+	 * <p>
+	 * If the hosting class redefines the default group sequence, the constraints cover the whole hierarchy, otherwise
+	 * only the ones declared directly on the hosting class.
+	 *
+	 * @param <T> The type of the validated bean.
+	 */
+	public static final class Step<T> {
+
+		private final Class<? super T> hostingClass;
+
+		private final BeanMetaData<? super T> hostingBeanMetaData;
+
+		private final boolean defaultGroupSequenceRedefined;
+
+		private final MetaConstraint<?>[] propertyMetaConstraints;
+
+		private final MetaConstraint<?>[] classMetaConstraints;
+
+		private final MetaConstraint<?>[] allMetaConstraints;
+
+		private Step(Class<? super T> hostingClass, BeanMetaData<? super T> hostingBeanMetaData) {
+			this.hostingClass = hostingClass;
+			this.hostingBeanMetaData = hostingBeanMetaData;
+			this.defaultGroupSequenceRedefined = hostingBeanMetaData.isDefaultGroupSequenceRedefined();
+
+			if ( defaultGroupSequenceRedefined ) {
+				this.propertyMetaConstraints = toArray( hostingBeanMetaData.getPropertyMetaConstraints() );
+				this.classMetaConstraints = toArray( hostingBeanMetaData.getClassMetaConstraints() );
+				this.allMetaConstraints = toArray( hostingBeanMetaData.getAllMetaConstraints() );
+			}
+			else {
+				this.propertyMetaConstraints = toArray( hostingBeanMetaData.getDirectPropertyMetaConstraints() );
+				this.classMetaConstraints = toArray( hostingBeanMetaData.getDirectClassMetaConstraints() );
+				this.allMetaConstraints = toArray( hostingBeanMetaData.getAllDirectMetaConstraints() );
+			}
+		}
+
+		public Class<? super T> getHostingClass() {
+			return hostingClass;
+		}
+
+		public BeanMetaData<? super T> getHostingBeanMetaData() {
+			return hostingBeanMetaData;
+		}
+
+		public boolean isDefaultGroupSequenceRedefined() {
+			return defaultGroupSequenceRedefined;
+		}
+
+		public MetaConstraint<?>[] getPropertyMetaConstraints() {
+			return propertyMetaConstraints;
+		}
+
+		public MetaConstraint<?>[] getClassMetaConstraints() {
+			return classMetaConstraints;
+		}
+
+		public MetaConstraint<?>[] getAllMetaConstraints() {
+			return allMetaConstraints;
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.metadata.cache;
+
+import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.validator.internal.util.Contracts;
+import org.hibernate.validator.metadata.BeanMetaDataCache;
+import org.hibernate.validator.metadata.BeanMetaDataCacheFactory;
+
+/**
+ * A {@link BeanMetaDataCache} strongly referencing at most a given number of metadata instances and evicting the ones
+ * not used recently.
+ * <p>
+ * The recency is approximated with the CLOCK algorithm: the lookups do not lock nor update any shared state, they only
+ * set the reference bit of the accessed entry if it is not already set. When metadata is added to a full cache, the
+ * eviction hand sweeps the entries from where it stopped the last time, clearing the reference bits until it finds an
+ * entry which has not been used since the previous sweep. The eviction is thus amortized constant time, and it only
+ * locks the other evictions, which are rare compared to the lookups and cheap compared to the construction of the
+ * metadata.
+ *
+ * @param <V> the type of the cached metadata
+ */
+public class BoundedBeanMetaDataCache<V> implements BeanMetaDataCache<V> {
+
+	private final int maxSize;
+
+	private final ConcurrentMap<Class<?>, Entry<V>> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * The eviction hand, guarded by {@code this}. The iterators of {@link ConcurrentHashMap} are weakly consistent, so
+	 * the hand can be kept while entries are added and removed.
+	 */
+	private Iterator<Map.Entry<Class<?>, Entry<V>>> hand;
+
+	public BoundedBeanMetaDataCache(int maxSize) {
+		Contracts.assertTrue( maxSize > 0, MESSAGES.parameterShouldBeGreaterThanOrEqualTo( "maxSize", 1 ) );
+		this.maxSize = maxSize;
+	}
+
+	public static BeanMetaDataCacheFactory factory(int maxSize) {
+		Contracts.assertTrue( maxSize > 0, MESSAGES.parameterShouldBeGreaterThanOrEqualTo( "maxSize", 1 ) );
+
+		return new BeanMetaDataCacheFactory() {
+
+			@Override
+			public <V> BeanMetaDataCache<V> createCache() {
+				return new BoundedBeanMetaDataCache<>( maxSize );
+			}
+
+			@Override
+			public String toString() {
+				return "bounded(" + maxSize + ")";
+			}
+		};
+	}
+
+	@Override
+	public V get(Class<?> beanClass) {
+		Entry<V> entry = entries.get( beanClass );
+		if ( entry == null ) {
+			return null;
+		}
+
+		// only write the bit when needed so that the hot entries are not written on each lookup
+		if ( !entry.referenced ) {
+			entry.referenced = true;
+		}
+		return entry.metaData;
+	}
+
+	@Override
+	public V putIfAbsent(Class<?> beanClass, V metaData) {
+		Entry<V> previousEntry = entries.putIfAbsent( beanClass, new Entry<>( metaData ) );
+		if ( previousEntry != null ) {
+			return previousEntry.metaData;
+		}
+
+		while ( entries.size() > maxSize && evictNotRecentlyUsed( beanClass ) ) {
+			// keep evicting, other threads may have added metadata concurrently
+		}
+		return null;
+	}
+
+	@Override
+	public void clear() {
+		entries.clear();
+		synchronized (this) {
+			// the hand would otherwise retain the next entry
+			hand = null;
+		}
+	}
+
+	@Override
+	public int size() {
+		return entries.size();
+	}
+
+	private synchronized boolean evictNotRecentlyUsed(Class<?> addedBeanClass) {
+		// the first full turn clears all the bits; the third one evicts the referenced entries anyway in case concurrent
+		// lookups keep setting the bits again
+		int turns = 0;
+		while ( true ) {
+			if ( hand == null || !hand.hasNext() ) {
+				hand = entries.entrySet().iterator();
+				if ( !hand.hasNext() || ++turns > 3 ) {
+					return false;
+				}
+			}
+
+			Map.Entry<Class<?>, Entry<V>> candidate = hand.next();
+			// never evict the metadata which has just been added, so that the caller can use it
+			if ( candidate.getKey() == addedBeanClass ) {
+				continue;
+			}
+			if ( candidate.getValue().referenced && turns < 3 ) {
+				candidate.getValue().referenced = false;
+				continue;
+			}
+			if ( entries.remove( candidate.getKey(), candidate.getValue() ) ) {
+				return true;
+			}
+		}
+	}
+
+	private static class Entry<V> {
+
+		private final V metaData;
+
+		private volatile boolean referenced;
+
+		private Entry(V metaData) {
+			this.metaData = metaData;
+		}
+	}
+}
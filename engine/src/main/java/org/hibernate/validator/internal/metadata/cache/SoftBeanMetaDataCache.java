@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.metadata.cache;
+
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
+
+import java.util.EnumSet;
+
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+import org.hibernate.validator.metadata.BeanMetaDataCache;
+import org.hibernate.validator.metadata.BeanMetaDataCacheFactory;
+
+/**
+ * A {@link BeanMetaDataCache} softly referencing both the bean classes and their metadata.
+ *
+ * @param <V> the type of the cached metadata
+ */
+public class SoftBeanMetaDataCache<V> implements BeanMetaDataCache<V> {
+
+	public static final BeanMetaDataCacheFactory FACTORY = new BeanMetaDataCacheFactory() {
+
+		@Override
+		public <V> BeanMetaDataCache<V> createCache() {
+			return new SoftBeanMetaDataCache<>();
+		}
+
+		@Override
+		public String toString() {
+			return "soft";
+		}
+	};
+
+	/**
+	 * The default initial capacity for this cache.
+	 */
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+	/**
+	 * The default load factor for this cache.
+	 */
+	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+	/**
+	 * The default concurrency level for this cache.
+	 */
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+	private final ConcurrentReferenceHashMap<Class<?>, V> metaDataMap = new ConcurrentReferenceHashMap<>(
+			DEFAULT_INITIAL_CAPACITY,
+			DEFAULT_LOAD_FACTOR,
+			DEFAULT_CONCURRENCY_LEVEL,
+			SOFT,
+			SOFT,
+			EnumSet.of( IDENTITY_COMPARISONS )
+	);
+
+	@Override
+	public V get(Class<?> beanClass) {
+		return metaDataMap.get( beanClass );
+	}
+
+	@Override
+	public V putIfAbsent(Class<?> beanClass, V metaData) {
+		return metaDataMap.putIfAbsent( beanClass, metaData );
+	}
+
+	@Override
+	public void clear() {
+		metaDataMap.clear();
+	}
+
+	@Override
+	public int size() {
+		return metaDataMap.size();
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.metadata.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.validator.metadata.BeanMetaDataCache;
+import org.hibernate.validator.metadata.BeanMetaDataCacheFactory;
+
+/**
+ * A {@link BeanMetaDataCache} strongly referencing the metadata until it is cleared.
+ * <p>
+ * The metadata is stored in a {@link ClassValue}, i.e. alongside the bean class itself, so that the lookups neither
+ * hash nor lock and the cache does not prevent the bean class from being unloaded. Clearing the cache replaces the
+ * {@code ClassValue}, the entries of the previous one being released by the JVM once it is not referenced anymore.
+ *
+ * @param <V> the type of the cached metadata
+ */
+public class StrongBeanMetaDataCache<V> implements BeanMetaDataCache<V> {
+
+	public static final BeanMetaDataCacheFactory FACTORY = new BeanMetaDataCacheFactory() {
+
+		@Override
+		public <V> BeanMetaDataCache<V> createCache() {
+			return new StrongBeanMetaDataCache<>();
+		}
+
+		@Override
+		public String toString() {
+			return "strong";
+		}
+	};
+
+	private volatile MetaDataClassValue<V> metaData = new MetaDataClassValue<>();
+
+	private final AtomicInteger size = new AtomicInteger();
+
+	@Override
+	public V get(Class<?> beanClass) {
+		return metaData.get( beanClass ).get();
+	}
+
+	@Override
+	public V putIfAbsent(Class<?> beanClass, V metaData) {
+		V previousMetaData = this.metaData.get( beanClass ).compareAndExchange( null, metaData );
+		if ( previousMetaData == null ) {
+			size.incrementAndGet();
+		}
+		return previousMetaData;
+	}
+
+	@Override
+	public void clear() {
+		metaData = new MetaDataClassValue<>();
+		size.set( 0 );
+	}
+
+	@Override
+	public int size() {
+		return size.get();
+	}
+
+	private static class MetaDataClassValue<V> extends ClassValue<AtomicReference<V>> {
+
+		@Override
+		protected AtomicReference<V> computeValue(Class<?> type) {
+			return new AtomicReference<>();
+		}
+	}
+}
@@ -0,0 +1,9 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * Built-in implementations of the bean metadata cache.
+ */
+package org.hibernate.validator.internal.metadata.cache;
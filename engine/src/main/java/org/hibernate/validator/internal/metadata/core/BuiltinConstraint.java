@@ -67,6 +67,7 @@ enum BuiltinConstraint {
 	ORG_HIBERNATE_VALIDATOR_CONSTRAINTS_NULL_OR_NOT_BLANK( "org.hibernate.validator.constraints.NullOrNotBlank" ),
 	ORG_HIBERNATE_VALIDATOR_CONSTRAINTS_NULL_OR_NOT_EMPTY( "org.hibernate.validator.constraints.NullOrNotEmpty" ),
 	ORG_HIBERNATE_VALIDATOR_CONSTRAINTS_EAN( "org.hibernate.validator.constraints.EAN", Arrays.asList( ORG_HIBERNATE_VALIDATOR_CONSTRAINTS_MOD10_CHECK ) ),
+	ORG_HIBERNATE_VALIDATOR_CONSTRAINTS_EXPRESSION( "org.hibernate.validator.constraints.Expression" ),
 	ORG_HIBERNATE_VALIDATOR_CONSTRAINTS_PARAMETER_SCRIPT_ASSERT( "org.hibernate.validator.constraints.ParameterScriptAssert" ),
 	ORG_HIBERNATE_VALIDATOR_CONSTRAINTS_PORT( "org.hibernate.validator.constraints.Port" ),
 	ORG_HIBERNATE_VALIDATOR_CONSTRAINTS_RANGE( "org.hibernate.validator.constraints.Range",
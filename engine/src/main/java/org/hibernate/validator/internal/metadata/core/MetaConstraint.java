@@ -129,6 +129,14 @@ public boolean validateConstraint(ValidationContext<?> validationContext, ValueC
 		return success;
 	}
 
+	/**
+	 * Initializes the constraint validators of this constraint for the default constraint validator factory and
+	 * initialization context if not done already.
+	 */
+	public void initializeDefaultConstraintValidators(ConstraintValidatorManager constraintValidatorManager) {
+		constraintTree.initializeDefaultConstraintValidators( constraintValidatorManager );
+	}
+
 	public ConstraintLocation getLocation() {
 		return location;
 	}
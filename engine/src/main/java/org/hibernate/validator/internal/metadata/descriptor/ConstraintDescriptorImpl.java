@@ -159,6 +159,12 @@
 	 */
 	private final CompositionType compositionType;
 
+	/**
+	 * Whether the message template contains neither parameters, EL expressions nor escaped literals, in which case the
+	 * template is also the interpolated message for the built-in interpolation algorithm, whatever the locale.
+	 */
+	private final boolean constantMessageTemplate;
+
 	private final int hashCode;
 
 	public ConstraintDescriptorImpl(ConstraintHelper constraintHelper,
@@ -220,6 +226,8 @@ public ConstraintDescriptorImpl(ConstraintHelper constraintHelper,
 			this.matchingConstraintValidatorDescriptors = CollectionHelper.toImmutableList( crossParameterValidatorDescriptors );
 		}
 
+		this.constantMessageTemplate = isConstantMessageTemplate( annotationDescriptor.getMessage() );
+
 		this.hashCode = annotationDescriptor.hashCode();
 	}
 
@@ -256,6 +264,14 @@ public String getMessageTemplate() {
 		return annotationDescriptor.getMessage();
 	}
 
+	/**
+	 * @return {@code true} if the message template does not contain any interpolation term or escaped literal, i.e. if
+	 *         it is returned as is by the built-in interpolation algorithm
+	 */
+	public boolean isConstantMessageTemplate() {
+		return constantMessageTemplate;
+	}
+
 	@Override
 	public Set<Class<?>> getGroups() {
 		return groups;
@@ -474,6 +490,10 @@ else if ( hasParameters && !hasReturnValue ) {
 		return constraintType;
 	}
 
+	private static boolean isConstantMessageTemplate(String messageTemplate) {
+		return messageTemplate != null && messageTemplate.indexOf( '{' ) < 0 && messageTemplate.indexOf( '\\' ) < 0;
+	}
+
 	private static ValidateUnwrappedValue determineValueUnwrapping(Set<Class<? extends Payload>> payloads, Constrainable constrainable, Class<? extends Annotation> annotationType) {
 		if ( payloads.contains( Unwrapping.Unwrap.class ) ) {
 			if ( payloads.contains( Unwrapping.Skip.class ) ) {
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.properties.javabean;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+import org.hibernate.validator.internal.properties.PropertyAccessor;
+import org.hibernate.validator.internal.util.ReflectionHelper;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * A {@link PropertyAccessor} calling the getter through a class generated at runtime instead of using reflection.
+ * <p>
+ * The class is spun by {@link LambdaMetafactory} as a hidden nestmate of the class declaring the getter, so the
+ * getter is invoked directly, even if it is private. Generating the class requires full privilege access to the
+ * declaring class: if the declaring class is in a different module than Hibernate Validator (e.g. loaded by another
+ * class loader or in a named module not opened to Hibernate Validator), no accessor is generated and the caller is
+ * expected to fall back to reflection.
+ */
+final class GeneratedGetterAccessor implements PropertyAccessor {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final MethodType FUNCTION_FACTORY_TYPE = MethodType.methodType( Function.class );
+
+	private static final MethodType FUNCTION_APPLY_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	private final String getterName;
+
+	private final Function<Object, Object> getter;
+
+	private GeneratedGetterAccessor(String getterName, Function<Object, Object> getter) {
+		this.getterName = getterName;
+		this.getter = getter;
+	}
+
+	/**
+	 * Generates an accessor for the given getter.
+	 *
+	 * @param getter the getter
+	 *
+	 * @return the generated accessor or {@code null} if the accessor could not be generated
+	 */
+	static PropertyAccessor of(Method getter) {
+		Class<?> declaringClass = getter.getDeclaringClass();
+
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn( declaringClass, MethodHandles.lookup() );
+			if ( !lookup.hasFullPrivilegeAccess() ) {
+				LOG.unableToGeneratePropertyAccessor( getter, "no full privilege access to " + declaringClass.getName() );
+				return null;
+			}
+
+			MethodHandle getterHandle = lookup.unreflect( getter );
+			CallSite callSite = LambdaMetafactory.metafactory(
+					lookup,
+					"apply",
+					FUNCTION_FACTORY_TYPE,
+					FUNCTION_APPLY_TYPE,
+					getterHandle,
+					MethodType.methodType( ReflectionHelper.boxedType( getter.getReturnType() ), declaringClass )
+			);
+
+			@SuppressWarnings("unchecked")
+			Function<Object, Object> function = (Function<Object, Object>) callSite.getTarget().invoke();
+			return new GeneratedGetterAccessor( getter.getName(), function );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			LOG.unableToGeneratePropertyAccessor( getter, e.toString() );
+			return null;
+		}
+	}
+
+	@Override
+	public Object getValueFrom(Object bean) {
+		try {
+			return getter.apply( bean );
+		}
+		catch (Throwable e) {
+			// wrapped as when the getter is invoked through reflection, the errors and the checked exceptions thrown
+			// without being declared included
+			throw LOG.getUnableToAccessMemberException( getterName, e );
+		}
+	}
+}
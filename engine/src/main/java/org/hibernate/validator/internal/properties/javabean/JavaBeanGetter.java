@@ -33,13 +33,23 @@ public class JavaBeanGetter extends JavaBeanMethod implements Getter {
 	 */
 	private final Class<?> declaringClass;
 
+	/**
+	 * Whether the accessor of this getter should be generated at runtime instead of relying on reflection.
+	 */
+	private final boolean generatedAccessor;
+
 	public JavaBeanGetter(Class<?> declaringClass, Method method, String propertyName, String resolvedPropertyName) {
+		this( declaringClass, method, propertyName, resolvedPropertyName, false );
+	}
+
+	public JavaBeanGetter(Class<?> declaringClass, Method method, String propertyName, String resolvedPropertyName, boolean generatedAccessor) {
 		super( method );
 		Contracts.assertNotNull( propertyName, "Property name cannot be null." );
 
 		this.declaringClass = declaringClass;
 		this.propertyName = propertyName;
 		this.resolvedPropertyName = resolvedPropertyName;
+		this.generatedAccessor = generatedAccessor;
 	}
 
 	@Override
@@ -84,10 +94,15 @@ public PropertyAccessor createAccessor() {
 		if ( isHibernateValidatorEnhancedBean( executable.getDeclaringClass() ) ) {
 			return new EnhancedBeanGetterAccessor( executable.getName() );
 		}
-		else {
-			return new GetterAccessor( executable );
+
+		if ( generatedAccessor ) {
+			PropertyAccessor accessor = GeneratedGetterAccessor.of( executable );
+			if ( accessor != null ) {
+				return accessor;
+			}
 		}
 
+		return new GetterAccessor( executable );
 	}
 
 	@Override
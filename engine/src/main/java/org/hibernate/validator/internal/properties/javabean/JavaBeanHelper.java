@@ -34,10 +34,17 @@ public class JavaBeanHelper implements PropertyNodeNameProviderContext {
 
 	private final GetterPropertySelectionStrategy getterPropertySelectionStrategy;
 	private final PropertyNodeNameProvider propertyNodeNameProvider;
+	private final boolean generatedPropertyAccessors;
 
 	public JavaBeanHelper(GetterPropertySelectionStrategy getterPropertySelectionStrategy, PropertyNodeNameProvider propertyNodeNameProvider) {
+		this( getterPropertySelectionStrategy, propertyNodeNameProvider, false );
+	}
+
+	public JavaBeanHelper(GetterPropertySelectionStrategy getterPropertySelectionStrategy, PropertyNodeNameProvider propertyNodeNameProvider,
+			boolean generatedPropertyAccessors) {
 		this.getterPropertySelectionStrategy = getterPropertySelectionStrategy;
 		this.propertyNodeNameProvider = propertyNodeNameProvider;
+		this.generatedPropertyAccessors = generatedPropertyAccessors;
 	}
 
 	@Override
@@ -79,7 +86,7 @@ private Optional<JavaBeanGetter> findGetter(Class<?> declaringClass, String prop
 		}
 		else {
 			return Optional.of( new JavaBeanGetter( declaringClass, getter, property, propertyNodeNameProvider.getName(
-					new JavaBeanPropertyImpl( declaringClass, property, getter.getName() ), this ) ) );
+					new JavaBeanPropertyImpl( declaringClass, property, getter.getName() ), this ), generatedPropertyAccessors ) );
 		}
 	}
 
@@ -121,7 +128,7 @@ public JavaBeanMethod executable(Class<?> declaringClass, Method method) {
 		Optional<String> correspondingProperty = getterPropertySelectionStrategy.getProperty( executable );
 		if ( correspondingProperty.isPresent() ) {
 			return new JavaBeanGetter( declaringClass, method, correspondingProperty.get(), propertyNodeNameProvider.getName(
-					new JavaBeanPropertyImpl( declaringClass, correspondingProperty.get(), method.getName() ), this ) );
+					new JavaBeanPropertyImpl( declaringClass, correspondingProperty.get(), method.getName() ), this ), generatedPropertyAccessors );
 		}
 
 		return new JavaBeanMethod( method );
@@ -9,6 +9,7 @@
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.WARN;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.ElementType;
 import java.lang.invoke.MethodHandles.Lookup;
@@ -16,6 +17,7 @@
 import java.lang.reflect.Member;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.net.URL;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
@@ -350,7 +352,7 @@ RuntimeException getTryingToInstantiateAnnotationWithUnknownAttributesException(
 	IllegalArgumentException getMemberIsNeitherAFieldNorAMethodException(Member member);
 
 	@Message(id = 90, value = "Unable to access %s.")
-	ValidationException getUnableToAccessMemberException(String memberName, @Cause Exception e);
+	ValidationException getUnableToAccessMemberException(String memberName, @Cause Throwable e);
 
 	@Message(id = 91, value = "%s has to be a primitive type.")
 	IllegalArgumentException getHasToBeAPrimitiveTypeException(@FormatWith(ClassObjectFormatter.class) Class<?> clazz);
@@ -968,4 +970,58 @@ ConstraintDefinitionException getConstraintValidatorDefinitionConstraintMismatch
 
 	@Message(id = 275, value = "The minRequired parameter (%1$d) cannot exceed the number of values (%2$d).")
 	IllegalArgumentException getMinRequiredCannotExceedNumberOfValuesException(int minRequired, int valuesLength);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 276, value = "Unable to generate an accessor for getter %1$s, falling back to reflection: %2$s")
+	void unableToGeneratePropertyAccessor(@FormatWith(ExecutableFormatter.class) Executable getter, String reason);
+
+	@Message(id = 277, value = "Unable to read the constrained types index %1$s.")
+	ValidationException getUnableToReadConstrainedTypesIndexException(URL index, @Cause IOException e);
+
+	@Message(id = 278, value = "Unable to parse the %1$s property %2$s. It should be an integer.")
+	ValidationException getUnableToParseIntegerPropertyException(String propertyKey, String propertyValue, @Cause Exception e);
+
+	@Message(id = 279, value = "Unable to instantiate bean metadata cache factory class %s.")
+	ValidationException getUnableToInstantiateBeanMetaDataCacheFactoryClassException(String beanMetaDataCacheFactoryClassName, @Cause Exception e);
+
+	@LogMessage(level = WARN)
+	@Message(id = 280, value = "Expression '%s' is not supported by the simple expression message interpolator: %s")
+	void unsupportedSimpleExpression(String expression, String reason);
+
+	@Message(id = 281, value = "Unable to read the message catalog %1$s.")
+	ValidationException getUnableToReadMessageCatalogException(java.nio.file.Path catalog, @Cause IOException e);
+
+	@Message(id = 282, value = "%1$s is not a valid message catalog.")
+	ValidationException getInvalidMessageCatalogException(java.nio.file.Path catalog);
+
+	@Message(id = 283, value = "Unable to write the message catalog %1$s.")
+	ValidationException getUnableToWriteMessageCatalogException(java.nio.file.Path catalog, @Cause IOException e);
+
+	@Message(id = 284, value = "Expression \"%s\" is not a valid expression.")
+	ConstraintDeclarationException getInvalidExpressionException(String expression, @Cause Exception e);
+
+	@Message(id = 285, value = "Error during evaluation of expression \"%s\" occurred.")
+	ConstraintDeclarationException getErrorDuringExpressionEvaluationException(String expression, @Cause Exception e);
+
+	@Message(id = 286, value = "Expression \"%1$s\" returned %2$s, but must return either true or false.")
+	ConstraintDeclarationException getExpressionMustReturnTrueOrFalseException(String expression, Object evaluationResult);
+
+	@LogMessage(level = WARN)
+	@Message(id = 287, value = "Unable to load the type %1$s listed in the constrained types index %2$s, it is ignored.")
+	void unableToLoadConstrainedType(String className, URL index, @Cause Throwable e);
+
+	@Message(id = 288, value = "Unexpected exception during the parallel validation of the elements of a cascaded container.")
+	ValidationException getUnexpectedExceptionDuringParallelCascadeException(@Cause Throwable e);
+
+	@LogMessage(level = WARN)
+	@Message(id = 289, value = "Unable to build in the background the metadata of %1$s, it will be built again on its first validation.")
+	void unableToWarmUpBeanMetaData(@FormatWith(ClassObjectFormatter.class) Class<?> beanClass, @Cause Throwable e);
+
+	@LogMessage(level = INFO)
+	@Message(id = 290, value = "The message catalog %1$s has been generated from other messages, it is generated again.")
+	void messageCatalogOutdated(java.nio.file.Path catalog);
+
+	@LogMessage(level = WARN)
+	@Message(id = 291, value = "Unable to load the class %1$s listed in the %2$s property, its metadata is not built in the background.")
+	void unableToLoadBeanClassToWarmUp(String className, String propertyName, @Cause Throwable e);
 }
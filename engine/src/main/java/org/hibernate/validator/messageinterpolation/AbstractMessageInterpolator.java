@@ -23,6 +23,7 @@
 
 import org.hibernate.validator.Incubating;
 import org.hibernate.validator.internal.engine.PredefinedScopeValidatorFactoryImpl;
+import org.hibernate.validator.internal.engine.messageinterpolation.CompiledMessage;
 import org.hibernate.validator.internal.engine.messageinterpolation.DefaultLocaleResolver;
 import org.hibernate.validator.internal.engine.messageinterpolation.DefaultLocaleResolverContext;
 import org.hibernate.validator.internal.engine.messageinterpolation.InterpolationTermType;
@@ -115,17 +116,14 @@ public abstract class AbstractMessageInterpolator implements MessageInterpolator
 	private final ResourceBundleLocator contributorResourceBundleLocator;
 
 	/**
-	 * Step 1-3 of message interpolation can be cached. We do this in this map.
+	 * Step 1-3 of message interpolation can be cached, as well as the parsing of the resolved message for steps 4 and 5.
+	 * We do this in this map.
 	 */
-	private final ConcurrentReferenceHashMap<LocalizedMessage, String> resolvedMessages;
+	private final ConcurrentReferenceHashMap<LocalizedMessage, CompiledMessage> compiledMessages;
 
 	/**
-	 * Step 4 of message interpolation replaces message parameters. The token list for message parameters is cached in this map.
-	 */
-	private final ConcurrentReferenceHashMap<String, List<Token>> tokenizedParameterMessages;
-
-	/**
-	 * Step 5 of message interpolation replaces EL expressions. The token list for EL expressions is cached in this map.
+	 * Step 5 of message interpolation replaces EL expressions. When the message parameters cannot be replaced in the
+	 * same pass as the EL expressions, the token list for EL expressions is cached in this map.
 	 */
 	private final ConcurrentReferenceHashMap<String, List<Token>> tokenizedELMessages;
 
@@ -300,15 +298,7 @@ public AbstractMessageInterpolator(ResourceBundleLocator userResourceBundleLocat
 
 		this.cachingEnabled = cacheMessages;
 		if ( cachingEnabled ) {
-			this.resolvedMessages = new ConcurrentReferenceHashMap<LocalizedMessage, String>(
-					DEFAULT_INITIAL_CAPACITY,
-					DEFAULT_LOAD_FACTOR,
-					DEFAULT_CONCURRENCY_LEVEL,
-					SOFT,
-					SOFT,
-					EnumSet.noneOf( ConcurrentReferenceHashMap.Option.class )
-			);
-			this.tokenizedParameterMessages = new ConcurrentReferenceHashMap<String, List<Token>>(
+			this.compiledMessages = new ConcurrentReferenceHashMap<LocalizedMessage, CompiledMessage>(
 					DEFAULT_INITIAL_CAPACITY,
 					DEFAULT_LOAD_FACTOR,
 					DEFAULT_CONCURRENCY_LEVEL,
@@ -326,8 +316,7 @@ public AbstractMessageInterpolator(ResourceBundleLocator userResourceBundleLocat
 			);
 		}
 		else {
-			resolvedMessages = null;
-			tokenizedParameterMessages = null;
+			compiledMessages = null;
 			tokenizedELMessages = null;
 		}
 	}
@@ -389,36 +378,51 @@ private String interpolateMessage(String message, Context context, Locale locale
 			return replaceEscapedLiterals( message );
 		}
 
-		String resolvedMessage = null;
+		CompiledMessage compiledMessage;
 
-		// either retrieve message from cache, or if message is not yet there or caching is disabled,
-		// perform message resolution algorithm (step 1)
+		// either retrieve the compiled message from cache, or if message is not yet there or caching is disabled,
+		// perform message resolution algorithm (step 1) and parse the resolved message
 		if ( cachingEnabled ) {
-			resolvedMessage = resolvedMessages.computeIfAbsent( new LocalizedMessage( message, locale ), lm -> resolveMessage( message, locale ) );
+			compiledMessage = compiledMessages.computeIfAbsent( new LocalizedMessage( message, locale ),
+					lm -> CompiledMessage.compile( resolveMessage( message, locale ), this::replaceEscapedLiterals ) );
+
+			// the messages resolved to a constant, e.g. the built-in messages without parameters, are rendered once
+			// and all their violations share the same String instance
+			if ( compiledMessage.getConstantMessage() != null ) {
+				return compiledMessage.getConstantMessage();
+			}
 		}
 		else {
-			resolvedMessage = resolveMessage( message, locale );
+			compiledMessage = CompiledMessage.compile( resolveMessage( message, locale ) );
 		}
 
+		String resolvedMessage = compiledMessage.getResolvedMessage();
+
 		// there's no need for steps 2-3 unless there's `{param}`/`${expr}` in the message
-		if ( resolvedMessage.indexOf( '{' ) > -1 ) {
+		if ( compiledMessage.hasInterpolationTerms() ) {
 			// resolve parameter expressions (step 2)
-			resolvedMessage = interpolateExpression(
-					new TokenIterator( resolvedMessage, getParameterTokens( resolvedMessage, tokenizedParameterMessages, InterpolationTermType.PARAMETER ) ),
-					context,
-					locale
-			);
+			String[] parameterValues = compiledMessage.interpolateParameters( context, locale, this::interpolate );
 
 			// resolve EL expressions (step 3)
 			// in the standard Hibernate Validator execution flow, the context is always an instance of
 			// HibernateMessageInterpolatorContext
 			// but it can be a spec Context in the Jakarta Validation TCK.
-			if ( !( context instanceof HibernateMessageInterpolatorContext )
-					|| ( (HibernateMessageInterpolatorContext) context ).getExpressionLanguageFeatureLevel() != ExpressionLanguageFeatureLevel.NONE ) {
-				resolvedMessage = interpolateExpression(
-						new TokenIterator( resolvedMessage, getParameterTokens( resolvedMessage, tokenizedELMessages, InterpolationTermType.EL ) ),
-						context,
-						locale );
+			boolean interpolateExpressionLanguage = !( context instanceof HibernateMessageInterpolatorContext )
+					|| ( (HibernateMessageInterpolatorContext) context ).getExpressionLanguageFeatureLevel() != ExpressionLanguageFeatureLevel.NONE;
+
+			if ( compiledMessage.isSinglePassRenderable( parameterValues ) ) {
+				resolvedMessage = compiledMessage.render( parameterValues, context, locale, interpolateExpressionLanguage ? this::interpolate : null );
+			}
+			else {
+				// the parameter values may contain EL expressions or meta characters, the EL expressions have to be
+				// looked up in the message with its parameters replaced
+				resolvedMessage = compiledMessage.renderParameters( parameterValues );
+				if ( interpolateExpressionLanguage ) {
+					resolvedMessage = interpolateExpression(
+							new TokenIterator( resolvedMessage, getParameterTokens( resolvedMessage, tokenizedELMessages, InterpolationTermType.EL ) ),
+							context,
+							locale );
+				}
 			}
 		}
 
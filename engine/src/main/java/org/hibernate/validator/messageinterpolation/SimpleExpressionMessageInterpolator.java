@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.messageinterpolation;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+
+import org.hibernate.validator.Incubating;
+import org.hibernate.validator.internal.engine.messageinterpolation.DefaultLocaleResolver;
+import org.hibernate.validator.internal.engine.messageinterpolation.ParameterTermResolver;
+import org.hibernate.validator.internal.engine.messageinterpolation.SimpleExpressionTermResolver;
+import org.hibernate.validator.internal.engine.messageinterpolation.TermInterpolator;
+import org.hibernate.validator.spi.messageinterpolation.LocaleResolver;
+
+/**
+ * Resource bundle message interpolator evaluating the EL expressions restricted to a subset of the Expression
+ * Language, without requiring an Expression Language implementation.
+ * <p>
+ * The supported subset covers the expressions of the built-in constraint messages and the common custom ones:
+ * literals, the {@code validatedValue}, the constraint attributes and the expression variables, the arithmetic,
+ * relational, logical, {@code empty} and conditional operators, and {@code formatter.format(...)}. The expressions are
+ * evaluated with the type coercions of the Expression Language so that they render as with the
+ * {@link ResourceBundleMessageInterpolator}.
+ * <p>
+ * Expressions outside of this subset, e.g. accessing a bean property or calling any other method, are logged and left
+ * as is in the message.
+ *
+ * @since 9.2
+ */
+@Incubating
+public class SimpleExpressionMessageInterpolator extends AbstractMessageInterpolator {
+
+	private final SimpleExpressionTermResolver simpleExpressionTermResolver = new SimpleExpressionTermResolver();
+
+	public SimpleExpressionMessageInterpolator() {
+		this( Collections.emptySet(), Locale.getDefault(), new DefaultLocaleResolver(), false );
+	}
+
+	public SimpleExpressionMessageInterpolator(Set<Locale> locales, Locale defaultLocale, boolean preloadResourceBundles) {
+		this( locales, defaultLocale, new DefaultLocaleResolver(), preloadResourceBundles );
+	}
+
+	public SimpleExpressionMessageInterpolator(Set<Locale> locales, Locale defaultLocale, LocaleResolver localeResolver, boolean preloadResourceBundles) {
+		super( locales, defaultLocale, localeResolver, preloadResourceBundles );
+	}
+
+	@Override
+	protected String interpolate(Context context, Locale locale, String term) {
+		if ( TermInterpolator.isElExpression( term ) ) {
+			return simpleExpressionTermResolver.interpolate( context, locale, term );
+		}
+		else {
+			return ParameterTermResolver.INSTANCE.interpolate( context, locale, term );
+		}
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.metadata;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Stores the bean metadata built by a validator factory, keyed by the normalized bean class.
+ * <p>
+ * The metadata is opaque to the cache. When it is not present, because it was never built or because the cache
+ * evicted it, the metadata is built again, which is expensive: the eviction policy of the cache is a trade-off between
+ * the memory retained and the latency of the validation calls following an eviction.
+ * <p>
+ * Implementations must be thread-safe and {@link #get(Class)} should not block, as it is called for each validated
+ * bean.
+ *
+ * @param <V> the type of the cached metadata
+ * @since 9.2
+ * @see BeanMetaDataCacheFactory
+ */
+@Incubating
+public interface BeanMetaDataCache<V> {
+
+	/**
+	 * @param beanClass the normalized bean class
+	 * @return the metadata cached for the given class, {@code null} if none
+	 */
+	V get(Class<?> beanClass);
+
+	/**
+	 * Caches the given metadata unless metadata is already cached for the given class.
+	 *
+	 * @param beanClass the normalized bean class
+	 * @param metaData the metadata to cache
+	 * @return the metadata previously cached for the given class, {@code null} if the given metadata has been cached
+	 */
+	V putIfAbsent(Class<?> beanClass, V metaData);
+
+	/**
+	 * Removes all the cached metadata.
+	 */
+	void clear();
+
+	/**
+	 * @return the number of cached metadata instances
+	 */
+	int size();
+}
@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.metadata;
+
+import org.hibernate.validator.Incubating;
+import org.hibernate.validator.internal.metadata.cache.BoundedBeanMetaDataCache;
+import org.hibernate.validator.internal.metadata.cache.SoftBeanMetaDataCache;
+import org.hibernate.validator.internal.metadata.cache.StrongBeanMetaDataCache;
+
+/**
+ * Creates the {@link BeanMetaDataCache}s of a validator factory.
+ * <p>
+ * A validator factory may create several caches, e.g. one per parameter name provider used by its validators.
+ * <p>
+ * The built-in policies are available through {@link #soft()}, the default, {@link #strong()} and
+ * {@link #bounded(int)}. This contract is not used by the predefined scope validator factory, which builds the
+ * metadata of all its beans at bootstrap and keeps it for its whole lifetime.
+ * <p>
+ * The metadata of a bean references the metadata of its superclasses, which thus remains reachable as long as the
+ * metadata of one of its subclasses is cached, even if a cache has dropped it. The metadata of a class being the same
+ * whenever it is built, the metadata rebuilt after such an eviction is equivalent: only the memory is not reclaimed
+ * until the metadata of the subclasses is dropped too.
+ *
+ * @since 9.2
+ */
+@Incubating
+public interface BeanMetaDataCacheFactory {
+
+	/**
+	 * @param <V> the type of the cached metadata
+	 * @return a new empty cache
+	 */
+	<V> BeanMetaDataCache<V> createCache();
+
+	/**
+	 * Returns the default cache factory, referencing the metadata through soft references: the metadata may be
+	 * dropped when the heap is short of memory, in which case it is rebuilt on the next validation of the bean.
+	 *
+	 * @return the soft cache factory
+	 */
+	static BeanMetaDataCacheFactory soft() {
+		return SoftBeanMetaDataCache.FACTORY;
+	}
+
+	/**
+	 * Returns a cache factory strongly referencing the metadata until the validator factory is closed: the metadata
+	 * is never rebuilt but it is retained even if the bean is not validated anymore.
+	 * <p>
+	 * The lookups are done through a {@link ClassValue}, so they do not involve any hashing or locking.
+	 *
+	 * @return the strong cache factory
+	 */
+	static BeanMetaDataCacheFactory strong() {
+		return StrongBeanMetaDataCache.FACTORY;
+	}
+
+	/**
+	 * Returns a cache factory strongly referencing at most {@code maxSize} metadata instances per cache, evicting the
+	 * metadata not used recently when more beans are validated.
+	 *
+	 * @param maxSize the maximum number of metadata instances retained by each cache, must be at least 1
+	 * @return the bounded cache factory
+	 */
+	static BeanMetaDataCacheFactory bounded(int maxSize) {
+		return BoundedBeanMetaDataCache.factory( maxSize );
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.metadata;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * A snapshot of the bean metadata cache statistics of a validator factory.
+ * <p>
+ * A high number of rebuilds indicates that the cache evicts metadata which is still in use, see
+ * {@link BeanMetaDataCacheFactory}.
+ *
+ * @since 9.2
+ */
+@Incubating
+public interface BeanMetaDataCacheStatistics {
+
+	/**
+	 * @return the number of metadata lookups served by the cache
+	 */
+	long getHitCount();
+
+	/**
+	 * @return the number of metadata lookups which required building the metadata
+	 */
+	long getMissCount();
+
+	/**
+	 * @return the number of times the metadata of a bean has been built again after having been evicted from the cache
+	 */
+	long getRebuildCount();
+
+	/**
+	 * @return the number of metadata instances currently cached
+	 */
+	int getSize();
+}
@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.metadata;
+
+import java.time.Duration;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * The statistics of the initialization of the bean metadata of a predefined scope validator factory.
+ * <p>
+ * The metadata of the classes is built in parallel: the time spent in each phase is summed over the threads building
+ * the metadata and the sum of the phases may thus exceed the {@link #getTotalTime() total time}.
+ *
+ * @since 9.2
+ */
+@Incubating
+public interface BeanMetaDataInitializationStatistics {
+
+	/**
+	 * @return the number of classes whose metadata has been built, superclasses of the beans to initialize included
+	 */
+	int getBeanClassCount();
+
+	/**
+	 * @return the number of threads which have built the metadata
+	 */
+	int getParallelism();
+
+	/**
+	 * @return the time spent reading the constraints declared by annotations
+	 */
+	Duration getAnnotationProcessingTime();
+
+	/**
+	 * @return the time spent parsing the XML mappings and reading the constraints they declare
+	 */
+	Duration getXmlProcessingTime();
+
+	/**
+	 * @return the time spent reading the constraints declared by the programmatic mappings
+	 */
+	Duration getProgrammaticProcessingTime();
+
+	/**
+	 * @return the time spent merging the constraints of the different sources and of the class hierarchies into the
+	 * bean metadata
+	 */
+	Duration getAggregationTime();
+
+	/**
+	 * @return the elapsed time of the initialization of the bean metadata, from the parsing of the XML mappings to the
+	 * completion of the metadata
+	 */
+	Duration getTotalTime();
+}
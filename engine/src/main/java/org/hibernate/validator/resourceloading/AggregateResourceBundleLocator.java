@@ -172,4 +172,8 @@ public ResourceBundle getResourceBundle(Locale locale) {
 		return sourceBundles.isEmpty() ? null : new AggregateResourceBundle( sourceBundles );
 	}
 
+	List<PlatformResourceBundleLocator> getResourceBundleLocators() {
+		return resourceBundleLocators;
+	}
+
 }
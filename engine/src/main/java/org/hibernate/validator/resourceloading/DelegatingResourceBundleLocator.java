@@ -32,4 +32,8 @@ public DelegatingResourceBundleLocator(ResourceBundleLocator delegate) {
 	public ResourceBundle getResourceBundle(Locale locale) {
 		return delegate == null ? null : delegate.getResourceBundle( locale );
 	}
+
+	ResourceBundleLocator getDelegate() {
+		return delegate;
+	}
 }
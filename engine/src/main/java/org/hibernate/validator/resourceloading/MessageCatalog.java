@@ -0,0 +1,263 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.resourceloading;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+import org.hibernate.validator.internal.util.CollectionHelper;
+import org.hibernate.validator.internal.util.Version;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.spi.resourceloading.ResourceBundleLocator;
+
+/**
+ * Reads and writes the binary message catalogs served by {@link MessageCatalogResourceBundleLocator}.
+ * <p>
+ * A catalog starts with a header listing the locales and the offset of their partition. Each partition contains the
+ * messages of a locale, flattened with the messages of its parent bundles, as an index of entries sorted by key
+ * followed by the keys and values. Offsets are absolute positions in the file and the strings are stored as UTF-16
+ * code units so that the keys can be compared without being decoded:
+ * <pre>
+ * header:    int magic, int version, long fingerprint, int localeCount, (int tagLength, char[] tag, int partitionOffset) * localeCount
+ * partition: int entryCount, (int keyOffset, int keyLength, int valueOffset, int valueLength) * entryCount, char[] data
+ * </pre>
+ * The fingerprint identifies the sources of the catalog, see {@link #fingerprint(ResourceBundleLocator, Set)}.
+ */
+final class MessageCatalog {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final int MAGIC = 0x48564d43;
+
+	private static final int VERSION = 2;
+
+	static final int ENTRY_SIZE = 4 * Integer.BYTES;
+
+	private MessageCatalog() {
+	}
+
+	/**
+	 * Maps the given catalog in memory and builds a bundle for each of its locales.
+	 */
+	static Map<Locale, ResourceBundle> read(Path catalog) {
+		ByteBuffer buffer;
+		try ( FileChannel channel = FileChannel.open( catalog, StandardOpenOption.READ ) ) {
+			// the mapping stays valid once the channel is closed
+			buffer = channel.map( FileChannel.MapMode.READ_ONLY, 0, channel.size() );
+		}
+		catch (IOException e) {
+			throw LOG.getUnableToReadMessageCatalogException( catalog, e );
+		}
+
+		try {
+			if ( buffer.getInt() != MAGIC || buffer.getInt() != VERSION ) {
+				throw LOG.getInvalidMessageCatalogException( catalog );
+			}
+			// the fingerprint is only checked when the catalog may be generated again
+			buffer.getLong();
+
+			int localeCount = buffer.getInt();
+			Map<Locale, ResourceBundle> bundles = CollectionHelper.newHashMap( localeCount );
+			for ( int i = 0; i < localeCount; i++ ) {
+				int tagLength = buffer.getInt();
+				if ( tagLength < 0 || (long) tagLength * Character.BYTES > buffer.remaining() ) {
+					throw LOG.getInvalidMessageCatalogException( catalog );
+				}
+				char[] tag = new char[tagLength];
+				buffer.asCharBuffer().get( tag );
+				buffer.position( buffer.position() + tag.length * Character.BYTES );
+				int partitionOffset = buffer.getInt();
+
+				bundles.put( Locale.forLanguageTag( new String( tag ) ), new MessageCatalogResourceBundle( buffer, partitionOffset ) );
+			}
+			return CollectionHelper.toImmutableMap( bundles );
+		}
+		catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException | NegativeArraySizeException e) {
+			throw LOG.getInvalidMessageCatalogException( catalog );
+		}
+	}
+
+	/**
+	 * Indicates whether the given catalog exists and has been generated from the sources identified by the given
+	 * fingerprint by this version of Hibernate Validator.
+	 */
+	static boolean isUpToDate(Path catalog, long fingerprint) {
+		try ( DataInputStream input = new DataInputStream( Files.newInputStream( catalog ) ) ) {
+			return input.readInt() == MAGIC && input.readInt() == VERSION && input.readLong() == fingerprint;
+		}
+		catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Computes the fingerprint of the sources of a catalog: the version of Hibernate Validator, the locales of the
+	 * catalog and the checksums of the properties files the given locator loads the messages of these locales from.
+	 * <p>
+	 * The properties files are known for the {@link PlatformResourceBundleLocator}s and the
+	 * {@link AggregateResourceBundleLocator}s, either used directly or through a {@link DelegatingResourceBundleLocator}.
+	 * The messages provided by other locators are not part of the fingerprint.
+	 */
+	static long fingerprint(ResourceBundleLocator resourceBundleLocator, Set<Locale> locales) {
+		Set<String> tags = new TreeSet<>();
+		for ( Locale locale : locales ) {
+			tags.add( locale.toLanguageTag() );
+		}
+		Set<String> checksums = new TreeSet<>();
+		collectPropertiesChecksums( resourceBundleLocator, locales, checksums );
+
+		CRC32 fingerprint = new CRC32();
+		fingerprint.update( Version.getVersionString().getBytes( StandardCharsets.UTF_8 ) );
+		for ( String tag : tags ) {
+			fingerprint.update( ( ';' + tag ).getBytes( StandardCharsets.UTF_8 ) );
+		}
+		for ( String checksum : checksums ) {
+			fingerprint.update( ( ';' + checksum ).getBytes( StandardCharsets.UTF_8 ) );
+		}
+		return fingerprint.getValue();
+	}
+
+	private static void collectPropertiesChecksums(ResourceBundleLocator resourceBundleLocator, Set<Locale> locales, Set<String> checksums) {
+		if ( resourceBundleLocator instanceof PlatformResourceBundleLocator platformResourceBundleLocator ) {
+			platformResourceBundleLocator.collectPropertiesChecksums( locales, checksums );
+		}
+		else if ( resourceBundleLocator instanceof DelegatingResourceBundleLocator delegatingResourceBundleLocator ) {
+			if ( delegatingResourceBundleLocator instanceof AggregateResourceBundleLocator aggregateResourceBundleLocator ) {
+				for ( PlatformResourceBundleLocator platformResourceBundleLocator : aggregateResourceBundleLocator.getResourceBundleLocators() ) {
+					platformResourceBundleLocator.collectPropertiesChecksums( locales, checksums );
+				}
+			}
+			collectPropertiesChecksums( delegatingResourceBundleLocator.getDelegate(), locales, checksums );
+		}
+	}
+
+	/**
+	 * Writes a catalog containing the messages of the given locales, as returned by the given locator. The catalog is
+	 * written to a temporary file first and then moved so that the catalog is never read while partially written.
+	 */
+	static void write(Path catalog, ResourceBundleLocator resourceBundleLocator, Set<Locale> locales) {
+		Map<Locale, Map<String, String>> messagesByLocale = new TreeMap<>( (l1, l2) -> l1.toLanguageTag().compareTo( l2.toLanguageTag() ) );
+		for ( Locale locale : locales ) {
+			ResourceBundle bundle = resourceBundleLocator.getResourceBundle( locale );
+			if ( bundle == null ) {
+				LOG.resourceBundleNotPreLoaded( locale );
+				continue;
+			}
+			Map<String, String> messages = new TreeMap<>();
+			for ( String key : bundle.keySet() ) {
+				Object value = bundle.getObject( key );
+				if ( value instanceof String ) {
+					messages.put( key, (String) value );
+				}
+			}
+			messagesByLocale.put( locale, messages );
+		}
+
+		try {
+			Path directory = catalog.toAbsolutePath().getParent();
+			Files.createDirectories( directory );
+			Path temporaryCatalog = Files.createTempFile( directory, catalog.getFileName().toString(), ".tmp" );
+			try {
+				try ( OutputStream outputStream = Files.newOutputStream( temporaryCatalog ) ) {
+					write( outputStream, fingerprint( resourceBundleLocator, locales ), messagesByLocale );
+				}
+				try {
+					Files.move( temporaryCatalog, catalog, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+				}
+				catch (AtomicMoveNotSupportedException e) {
+					Files.move( temporaryCatalog, catalog, StandardCopyOption.REPLACE_EXISTING );
+				}
+			}
+			finally {
+				Files.deleteIfExists( temporaryCatalog );
+			}
+		}
+		catch (IOException e) {
+			throw LOG.getUnableToWriteMessageCatalogException( catalog, e );
+		}
+	}
+
+	private static void write(OutputStream outputStream, long fingerprint, Map<Locale, Map<String, String>> messagesByLocale) throws IOException {
+		List<String> tags = new ArrayList<>( messagesByLocale.size() );
+		int headerSize = 3 * Integer.BYTES + Long.BYTES;
+		for ( Locale locale : messagesByLocale.keySet() ) {
+			String tag = locale.toLanguageTag();
+			tags.add( tag );
+			headerSize += Integer.BYTES + tag.length() * Character.BYTES + Integer.BYTES;
+		}
+
+		List<byte[]> partitions = new ArrayList<>( messagesByLocale.size() );
+		int partitionOffset = headerSize;
+		List<Integer> partitionOffsets = new ArrayList<>( messagesByLocale.size() );
+		for ( Map<String, String> messages : messagesByLocale.values() ) {
+			byte[] partition = partition( messages, partitionOffset );
+			partitions.add( partition );
+			partitionOffsets.add( partitionOffset );
+			partitionOffset += partition.length;
+		}
+
+		DataOutputStream output = new DataOutputStream( outputStream );
+		output.writeInt( MAGIC );
+		output.writeInt( VERSION );
+		output.writeLong( fingerprint );
+		output.writeInt( tags.size() );
+		for ( int i = 0; i < tags.size(); i++ ) {
+			output.writeInt( tags.get( i ).length() );
+			output.writeChars( tags.get( i ) );
+			output.writeInt( partitionOffsets.get( i ) );
+		}
+		for ( byte[] partition : partitions ) {
+			output.write( partition );
+		}
+		output.flush();
+	}
+
+	private static byte[] partition(Map<String, String> messages, int partitionOffset) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream( bytes );
+
+		output.writeInt( messages.size() );
+		int dataOffset = partitionOffset + Integer.BYTES + messages.size() * ENTRY_SIZE;
+		for ( Map.Entry<String, String> message : messages.entrySet() ) {
+			int keyLength = message.getKey().length();
+			int valueLength = message.getValue().length();
+			output.writeInt( dataOffset );
+			output.writeInt( keyLength );
+			output.writeInt( dataOffset + keyLength * Character.BYTES );
+			output.writeInt( valueLength );
+			dataOffset += ( keyLength + valueLength ) * Character.BYTES;
+		}
+		for ( Map.Entry<String, String> message : messages.entrySet() ) {
+			output.writeChars( message.getKey() );
+			output.writeChars( message.getValue() );
+		}
+		output.flush();
+
+		return bytes.toByteArray();
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.resourceloading;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A {@link ResourceBundle} serving the messages of a locale partition of a memory-mapped message catalog.
+ * <p>
+ * The keys are looked up by a binary search comparing them with the keys of the catalog in place. The values are
+ * decoded the first time they are requested and then kept, so that looking up a message does not allocate once it
+ * has been looked up.
+ *
+ * @see MessageCatalog
+ */
+class MessageCatalogResourceBundle extends ResourceBundle {
+
+	private final ByteBuffer catalog;
+
+	private final int entryCount;
+
+	private final int entriesOffset;
+
+	private final AtomicReferenceArray<String> values;
+
+	MessageCatalogResourceBundle(ByteBuffer catalog, int partitionOffset) {
+		this.catalog = catalog;
+		this.entryCount = catalog.getInt( partitionOffset );
+		this.entriesOffset = partitionOffset + Integer.BYTES;
+
+		if ( entryCount < 0 || entriesOffset + (long) entryCount * MessageCatalog.ENTRY_SIZE > catalog.limit() ) {
+			throw new IndexOutOfBoundsException( "Invalid message catalog partition at offset " + partitionOffset );
+		}
+
+		this.values = new AtomicReferenceArray<>( entryCount );
+	}
+
+	@Override
+	protected Object handleGetObject(String key) {
+		int index = indexOf( key );
+		if ( index < 0 ) {
+			return null;
+		}
+
+		String value = values.get( index );
+		if ( value == null ) {
+			int entryOffset = entriesOffset + index * MessageCatalog.ENTRY_SIZE;
+			value = decode( catalog.getInt( entryOffset + 2 * Integer.BYTES ), catalog.getInt( entryOffset + 3 * Integer.BYTES ) );
+			if ( !values.compareAndSet( index, null, value ) ) {
+				value = values.get( index );
+			}
+		}
+		return value;
+	}
+
+	@Override
+	protected Set<String> handleKeySet() {
+		Set<String> keys = new HashSet<>();
+		for ( int i = 0; i < entryCount; i++ ) {
+			int entryOffset = entriesOffset + i * MessageCatalog.ENTRY_SIZE;
+			keys.add( decode( catalog.getInt( entryOffset ), catalog.getInt( entryOffset + Integer.BYTES ) ) );
+		}
+		return keys;
+	}
+
+	@Override
+	public Enumeration<String> getKeys() {
+		return Collections.enumeration( handleKeySet() );
+	}
+
+	private int indexOf(String key) {
+		int low = 0;
+		int high = entryCount - 1;
+		while ( low <= high ) {
+			int middle = ( low + high ) >>> 1;
+			int entryOffset = entriesOffset + middle * MessageCatalog.ENTRY_SIZE;
+			int comparison = compare( catalog.getInt( entryOffset ), catalog.getInt( entryOffset + Integer.BYTES ), key );
+			if ( comparison < 0 ) {
+				low = middle + 1;
+			}
+			else if ( comparison > 0 ) {
+				high = middle - 1;
+			}
+			else {
+				return middle;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Compares the key stored at the given offset with the given key, as {@link String#compareTo(String)} does.
+	 */
+	private int compare(int offset, int length, String key) {
+		int commonLength = Math.min( length, key.length() );
+		for ( int i = 0; i < commonLength; i++ ) {
+			char c = catalog.getChar( offset + i * Character.BYTES );
+			if ( c != key.charAt( i ) ) {
+				return c - key.charAt( i );
+			}
+		}
+		return length - key.length();
+	}
+
+	private String decode(int offset, int length) {
+		char[] chars = new char[length];
+		for ( int i = 0; i < length; i++ ) {
+			chars[i] = catalog.getChar( offset + i * Character.BYTES );
+		}
+		return new String( chars );
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.resourceloading;
+
+import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import org.hibernate.validator.Incubating;
+import org.hibernate.validator.internal.util.Contracts;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.stereotypes.Immutable;
+import org.hibernate.validator.spi.resourceloading.ResourceBundleLocator;
+
+/**
+ * A resource bundle locator serving the messages from a precompiled message catalog.
+ * <p>
+ * A message catalog is a binary file containing, for each of its locales, the messages of the bundle returned by
+ * another locator for this locale, parent bundles included. It is generated by
+ * {@link #writeCatalog(Path, ResourceBundleLocator, Set)}, either at build time or on first start, and memory-mapped
+ * when the locator is created: all the locales are thus available from the start, without loading and merging the
+ * properties files, and the messages do not occupy the heap until they are looked up.
+ * <p>
+ * When a locale is not part of the catalog, the bundle of the same language, then the bundle of the root locale are
+ * returned if they are part of the catalog.
+ * <p>
+ * A catalog records the fingerprint of its sources: the version of Hibernate Validator, its locales and the checksums
+ * of the properties files the messages have been loaded from. When the locator is allowed to generate the catalog, an
+ * outdated catalog is generated again. The properties files are only known for a {@link PlatformResourceBundleLocator}
+ * or an {@link AggregateResourceBundleLocator}, possibly wrapped in a {@link DelegatingResourceBundleLocator}: with
+ * other locators, the catalog has to be deleted whenever their messages change.
+ *
+ * @since 9.2
+ */
+@Incubating
+public class MessageCatalogResourceBundleLocator implements ResourceBundleLocator {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	@Immutable
+	private final Map<Locale, ResourceBundle> resourceBundles;
+
+	/**
+	 * Creates a new {@link MessageCatalogResourceBundleLocator} serving the messages of an existing catalog.
+	 *
+	 * @param catalog the path of the catalog
+	 */
+	public MessageCatalogResourceBundleLocator(Path catalog) {
+		Contracts.assertNotNull( catalog, MESSAGES.parameterMustNotBeNull( "catalog" ) );
+
+		this.resourceBundles = MessageCatalog.read( catalog );
+	}
+
+	/**
+	 * Creates a new {@link MessageCatalogResourceBundleLocator}, generating the catalog from the given locator if it
+	 * does not exist yet or if it has been generated from other sources.
+	 *
+	 * @param catalog the path of the catalog
+	 * @param resourceBundleLocator the locator providing the messages if the catalog has to be generated
+	 * @param locales the locales of the catalog
+	 */
+	public MessageCatalogResourceBundleLocator(Path catalog, ResourceBundleLocator resourceBundleLocator, Set<Locale> locales) {
+		Contracts.assertNotNull( catalog, MESSAGES.parameterMustNotBeNull( "catalog" ) );
+		Contracts.assertNotNull( resourceBundleLocator, MESSAGES.parameterMustNotBeNull( "resourceBundleLocator" ) );
+		Contracts.assertNotNull( locales, MESSAGES.parameterMustNotBeNull( "locales" ) );
+
+		if ( !Files.exists( catalog ) ) {
+			MessageCatalog.write( catalog, resourceBundleLocator, locales );
+		}
+		else if ( !MessageCatalog.isUpToDate( catalog, MessageCatalog.fingerprint( resourceBundleLocator, locales ) ) ) {
+			LOG.messageCatalogOutdated( catalog );
+			MessageCatalog.write( catalog, resourceBundleLocator, locales );
+		}
+		this.resourceBundles = MessageCatalog.read( catalog );
+	}
+
+	/**
+	 * Writes a message catalog containing the messages of the given locales.
+	 *
+	 * @param catalog the path of the catalog, replaced if it already exists
+	 * @param resourceBundleLocator the locator providing the messages, e.g. a {@link PlatformResourceBundleLocator}
+	 * @param locales the locales of the catalog
+	 */
+	public static void writeCatalog(Path catalog, ResourceBundleLocator resourceBundleLocator, Set<Locale> locales) {
+		Contracts.assertNotNull( catalog, MESSAGES.parameterMustNotBeNull( "catalog" ) );
+		Contracts.assertNotNull( resourceBundleLocator, MESSAGES.parameterMustNotBeNull( "resourceBundleLocator" ) );
+		Contracts.assertNotNull( locales, MESSAGES.parameterMustNotBeNull( "locales" ) );
+
+		MessageCatalog.write( catalog, resourceBundleLocator, locales );
+	}
+
+	/**
+	 * @return the locales of the catalog
+	 */
+	public Set<Locale> getLocales() {
+		return resourceBundles.keySet();
+	}
+
+	@Override
+	public ResourceBundle getResourceBundle(Locale locale) {
+		ResourceBundle resourceBundle = resourceBundles.get( locale );
+		if ( resourceBundle != null ) {
+			return resourceBundle;
+		}
+
+		if ( !locale.getCountry().isEmpty() || !locale.getVariant().isEmpty() || !locale.getScript().isEmpty() ) {
+			resourceBundle = resourceBundles.get( new Locale( locale.getLanguage() ) );
+			if ( resourceBundle != null ) {
+				return resourceBundle;
+			}
+		}
+
+		return resourceBundles.get( Locale.ROOT );
+	}
+}
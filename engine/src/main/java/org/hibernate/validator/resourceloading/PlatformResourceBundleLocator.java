@@ -11,6 +11,7 @@
 import java.lang.invoke.MethodHandles;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
@@ -20,6 +21,7 @@
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.zip.CRC32;
 
 import org.hibernate.validator.Incubating;
 import org.hibernate.validator.internal.util.CollectionHelper;
@@ -184,6 +186,49 @@ public ResourceBundle getResourceBundle(Locale locale) {
 		return doGetResourceBundle( locale );
 	}
 
+	/**
+	 * Collects the checksums of the properties files this locator loads the bundles of the given locales from, parent
+	 * bundles included, whatever the class loader they are visible from.
+	 *
+	 * @param locales the locales of the bundles
+	 * @param checksums the set the checksums are added to, as {@code resourceName=checksum}
+	 */
+	void collectPropertiesChecksums(Collection<Locale> locales, Set<String> checksums) {
+		List<ClassLoader> classLoaders = new ArrayList<>( 3 );
+		if ( classLoader != null ) {
+			classLoaders.add( classLoader );
+		}
+		ClassLoader contextClassLoader = GetClassLoader.fromContext();
+		if ( contextClassLoader != null ) {
+			classLoaders.add( contextClassLoader );
+		}
+		classLoaders.add( GetClassLoader.fromClass( PlatformResourceBundleLocator.class ) );
+
+		ResourceBundle.Control control = ResourceBundle.Control.getControl( ResourceBundle.Control.FORMAT_PROPERTIES );
+		for ( Locale locale : locales ) {
+			for ( Locale candidateLocale : control.getCandidateLocales( bundleName, locale ) ) {
+				String resourceName = control.toResourceName( control.toBundleName( bundleName, candidateLocale ), "properties" );
+				for ( ClassLoader loader : classLoaders ) {
+					Enumeration<URL> urls = GetResources.action( loader, resourceName );
+					while ( urls.hasMoreElements() ) {
+						checksums.add( resourceName + '=' + checksum( urls.nextElement() ) );
+					}
+				}
+			}
+		}
+	}
+
+	private static long checksum(URL url) {
+		try ( InputStream propertyStream = url.openStream() ) {
+			CRC32 checksum = new CRC32();
+			checksum.update( propertyStream.readAllBytes() );
+			return checksum.getValue();
+		}
+		catch (IOException e) {
+			return -1L;
+		}
+	}
+
 	private ResourceBundle doGetResourceBundle(Locale locale) {
 		ResourceBundle rb = null;
 
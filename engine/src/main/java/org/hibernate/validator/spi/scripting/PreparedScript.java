@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.spi.scripting;
+
+import java.util.Map;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * A script prepared once by a {@link ScriptEvaluator}, e.g. compiled, and then evaluated against the bindings of each
+ * validation. Implementations must be thread-safe.
+ *
+ * @since 9.2
+ */
+@Incubating
+@FunctionalInterface
+public interface PreparedScript {
+
+	/**
+	 * Evaluates the script with the given bindings.
+	 *
+	 * @param bindings the bindings to be used
+	 *
+	 * @return the result of script evaluation
+	 *
+	 * @throws ScriptEvaluationException in case an error occurred during the script evaluation
+	 */
+	Object evaluate(Map<String, Object> bindings) throws ScriptEvaluationException;
+}
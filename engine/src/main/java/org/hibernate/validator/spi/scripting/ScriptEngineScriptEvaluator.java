@@ -7,7 +7,10 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
 
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptEngine;
+import javax.script.ScriptException;
 import javax.script.SimpleBindings;
 
 import org.hibernate.validator.Incubating;
@@ -16,6 +19,10 @@
 
 /**
  * A wrapper around JSR 223 {@link ScriptEngine}s. This class is thread-safe.
+ * <p>
+ * The {@link #prepare(String) prepared} scripts are compiled once if the engine is {@link Compilable}. They are not
+ * cached: the caller keeps them as long as it needs them, e.g. the {@code @ScriptAssert} validators for their
+ * lifetime.
  *
  * @author Gunnar Morling
  * @author Kevin Pollet &lt;kevin.pollet@serli.com&gt; (C) 2011 SERLI
@@ -28,6 +35,8 @@ public class ScriptEngineScriptEvaluator implements ScriptEvaluator {
 
 	private final ScriptEngine engine;
 
+	private final boolean threadSafe;
+
 	/**
 	 * Creates a new script executor.
 	 *
@@ -35,6 +44,7 @@ public class ScriptEngineScriptEvaluator implements ScriptEvaluator {
 	 */
 	public ScriptEngineScriptEvaluator(ScriptEngine engine) {
 		this.engine = engine;
+		this.threadSafe = engineAllowsParallelAccessFromMultipleThreads();
 	}
 
 	/**
@@ -50,19 +60,62 @@ public ScriptEngineScriptEvaluator(ScriptEngine engine) {
 	 */
 	@Override
 	public Object evaluate(String script, Map<String, Object> bindings) throws ScriptEvaluationException {
-		if ( engineAllowsParallelAccessFromMultipleThreads() ) {
-			return doEvaluate( script, bindings );
+		return evaluate( script, null, bindings );
+	}
+
+	/**
+	 * Prepares the given script, compiling it if the engine is {@link Compilable}. If the script cannot be compiled, it
+	 * is evaluated from its source so that the error is reported when evaluating it.
+	 *
+	 * @param script the script to be prepared
+	 *
+	 * @return the prepared script
+	 */
+	@Override
+	public PreparedScript prepare(String script) {
+		if ( engine instanceof Compilable ) {
+			try {
+				CompiledScript compiledScript = compile( script );
+				return bindings -> evaluate( script, compiledScript, bindings );
+			}
+			catch (ScriptException e) {
+				// the error is reported when evaluating the script
+			}
+		}
+		return bindings -> evaluate( script, null, bindings );
+	}
+
+	private CompiledScript compile(String script) throws ScriptException {
+		if ( threadSafe ) {
+			return ( (Compilable) engine ).compile( script );
+		}
+		else {
+			synchronized (engine) {
+				return ( (Compilable) engine ).compile( script );
+			}
+		}
+	}
+
+	/**
+	 * Executes the given script, using the given variable bindings. The execution of the script happens either synchronized or
+	 * unsynchronized, depending on the engine's threading abilities.
+	 */
+	private Object evaluate(String script, CompiledScript compiledScript, Map<String, Object> bindings) throws ScriptEvaluationException {
+		if ( threadSafe ) {
+			return doEvaluate( script, compiledScript, bindings );
 		}
 		else {
 			synchronized (engine) {
-				return doEvaluate( script, bindings );
+				return doEvaluate( script, compiledScript, bindings );
 			}
 		}
 	}
 
-	private Object doEvaluate(String script, Map<String, Object> bindings) throws ScriptEvaluationException {
+	private Object doEvaluate(String script, CompiledScript compiledScript, Map<String, Object> bindings) throws ScriptEvaluationException {
 		try {
-			return engine.eval( script, new SimpleBindings( bindings ) );
+			// the bindings are wrapped, not copied
+			SimpleBindings scriptBindings = new SimpleBindings( bindings );
+			return compiledScript != null ? compiledScript.eval( scriptBindings ) : engine.eval( script, scriptBindings );
 		}
 		catch (Exception e) {
 			throw LOG.getErrorExecutingScriptException( script, e );
@@ -36,4 +36,19 @@ public interface ScriptEvaluator {
 	 * @throws ScriptEvaluationException in case an error occurred during the script evaluation
 	 */
 	Object evaluate(String script, Map<String, Object> bindings) throws ScriptEvaluationException;
+
+	/**
+	 * Prepares a {@code script} expression to be evaluated several times, e.g. by compiling it once.
+	 * <p>
+	 * The default implementation evaluates the script from its source each time.
+	 *
+	 * @param script a script to prepare
+	 *
+	 * @return the prepared script
+	 *
+	 * @since 9.2
+	 */
+	default PreparedScript prepare(String script) {
+		return bindings -> evaluate( script, bindings );
+	}
 }
@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.spi.scripting;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Provides the {@link ScriptEvaluator}s of the languages not evaluated through JSR 223, e.g. an embedded expression
+ * language.
+ * <p>
+ * The providers are discovered by the default {@link ScriptEvaluatorFactory} through the {@link java.util.ServiceLoader}
+ * mechanism and take precedence over the built-in evaluators and the JSR 223 script engines.
+ *
+ * @since 9.2
+ */
+@Incubating
+public interface ScriptEvaluatorProvider {
+
+	/**
+	 * Retrieves a script evaluator for the given language.
+	 *
+	 * @param languageName the name of a scripting language
+	 *
+	 * @return a script evaluator for the given language, {@code null} if the language is not supported by this
+	 * provider
+	 */
+	ScriptEvaluator getScriptEvaluator(String languageName);
+}
@@ -14,8 +14,10 @@
 import java.util.Map;
 
 import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintValidatorContext.ConstraintViolationBuilder;
 import jakarta.validation.ValidationException;
 
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorContextImpl;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintViolationCreationContext;
 import org.hibernate.validator.internal.engine.path.MutablePath;
@@ -222,6 +224,57 @@ public void testContainerElementNode() {
 				.containerElement( "<list element>", true, null, 3, List.class, 0 ) );
 	}
 
+	@Test
+	public void testInterleavedBuilders() {
+		ConstraintValidatorContextImpl context = createEmptyHibernateConstraintValidatorReusableContext();
+		ConstraintViolationBuilder builder1 = context.buildConstraintViolationWithTemplate( "message1" );
+		ConstraintViolationBuilder builder2 = context.buildConstraintViolationWithTemplate( "message2" );
+		builder1.addPropertyNode( "foo" ).addConstraintViolation();
+		builder2.addPropertyNode( "bar" ).addConstraintViolation();
+
+		List<ConstraintViolationCreationContext> constraintViolationCreationContextList = context.getConstraintViolationCreationContexts();
+		assertEquals( constraintViolationCreationContextList.size(), 2 );
+		assertMessageAndPath( constraintViolationCreationContextList.get( 0 ), "message1", pathWith().property( "foo" ) );
+		assertMessageAndPath( constraintViolationCreationContextList.get( 1 ), "message2", pathWith().property( "bar" ) );
+	}
+
+	@Test
+	public void testMessageParametersAreCapturedWhenTheViolationIsAdded() {
+		ConstraintValidatorContextImpl context = createEmptyHibernateConstraintValidatorReusableContext();
+		HibernateConstraintValidatorContext hibernateContext = context.unwrap( HibernateConstraintValidatorContext.class );
+		hibernateContext.addMessageParameter( "param", 1 );
+		hibernateContext.buildConstraintViolationWithTemplate( "message1" ).addPropertyNode( "foo" ).addConstraintViolation();
+		hibernateContext.buildConstraintViolationWithTemplate( "message2" ).addPropertyNode( "bar" ).addConstraintViolation();
+		hibernateContext.addMessageParameter( "param", 2 );
+		hibernateContext.buildConstraintViolationWithTemplate( "message3" ).addConstraintViolation();
+
+		List<ConstraintViolationCreationContext> constraintViolationCreationContextList = context.getConstraintViolationCreationContexts();
+		assertEquals( constraintViolationCreationContextList.get( 0 ).getMessageParameters(), Map.of( "param", 1 ) );
+		assertSame( constraintViolationCreationContextList.get( 1 ).getMessageParameters(), constraintViolationCreationContextList.get( 0 ).getMessageParameters() );
+		assertEquals( constraintViolationCreationContextList.get( 2 ).getMessageParameters(), Map.of( "param", 2 ) );
+		assertEquals( constraintViolationCreationContextList.get( 0 ).getMessageParameters(), Map.of( "param", 1 ) );
+	}
+
+	@Test
+	public void testContextCanBeReusedForAnotherConstraint() {
+		ConstraintValidatorContextImpl context = createEmptyHibernateConstraintValidatorReusableContext();
+		context.buildConstraintViolationWithTemplate( message ).addPropertyNode( "foo" );
+
+		MutablePath path = MutablePath.createRootPath();
+		path.addPropertyNode( "bar" );
+		context.resetAsRegularContext( path, null );
+		context.disableDefaultConstraintViolation();
+		context.buildConstraintViolationWithTemplate( message )
+				.addPropertyNode( "baz" ).inIterable().atIndex( 1 )
+				.addConstraintViolation();
+
+		List<ConstraintViolationCreationContext> constraintViolationCreationContextList = context.getConstraintViolationCreationContexts();
+		assertEquals( constraintViolationCreationContextList.size(), 1 );
+		assertMessageAndPath( constraintViolationCreationContextList.get( 0 ), message, pathWith()
+				.property( "bar" )
+				.property( "baz", true, null, 1 ) );
+	}
+
 	private ConstraintValidatorContextImpl createEmptyHibernateConstraintValidatorReusableContext() {
 		MutablePath path = MutablePath.createRootPath();
 		path.addBeanNode();
@@ -51,6 +51,7 @@
 import org.hibernate.validator.constraints.Currency;
 import org.hibernate.validator.constraints.DateTimeFormat;
 import org.hibernate.validator.constraints.EAN;
+import org.hibernate.validator.constraints.Expression;
 import org.hibernate.validator.constraints.ISBN;
 import org.hibernate.validator.constraints.Length;
 import org.hibernate.validator.constraints.LuhnCheck;
@@ -185,6 +186,7 @@ public void testMessageProperties() throws NoSuchMethodException, SecurityExcept
 							violationOf( DurationMax.class ),
 							violationOf( DurationMin.class ),
 							violationOf( ScriptAssert.class ),
+							violationOf( Expression.class ),
 							violationOf( UUID.class )
 					);
 
@@ -221,6 +223,7 @@ private void collectInvalidMessages(Locale locale, List<String> invalidMessages,
 	}
 
 	@ScriptAssert(lang = "groovy", script = "_this.scriptAssert")
+	@Expression("_this.expression")
 	private static class Bean {
 
 		@AssertFalse
@@ -384,6 +387,11 @@ private static class Bean {
 
 		@SuppressWarnings("unused")
 		private boolean scriptAssert = false;
+
+		@SuppressWarnings("unused")
+		public boolean isExpression() {
+			return false;
+		}
 	}
 
 	private static class ParameterScriptAssertBean {
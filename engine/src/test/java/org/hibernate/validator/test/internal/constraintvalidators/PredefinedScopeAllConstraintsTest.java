@@ -50,6 +50,7 @@
 import org.hibernate.validator.constraints.Currency;
 import org.hibernate.validator.constraints.DateTimeFormat;
 import org.hibernate.validator.constraints.EAN;
+import org.hibernate.validator.constraints.Expression;
 import org.hibernate.validator.constraints.ISBN;
 import org.hibernate.validator.constraints.Length;
 import org.hibernate.validator.constraints.LuhnCheck;
@@ -143,6 +144,7 @@ public void testConstraints() throws NoSuchMethodException, SecurityException {
 		testConstraint( DurationMax.class, new DurationMaxBean() );
 		testConstraint( DurationMin.class, new DurationMinBean() );
 		testConstraint( ScriptAssert.class, new ScriptAssertBean() );
+		testConstraint( Expression.class, new ExpressionBean() );
 		testConstraint( UUID.class, new UUIDBean() );
 		testConstraint( DateTimeFormat.class, new DateTimeFormatBean() );
 
@@ -488,6 +490,15 @@ private static class ScriptAssertBean {
 		private boolean scriptAssert = false;
 	}
 
+	@Expression("_this.expression")
+	private static class ExpressionBean {
+
+		@SuppressWarnings("unused")
+		public boolean isExpression() {
+			return false;
+		}
+	}
+
 	private static class ParameterScriptAssertBean {
 
 		@ParameterScriptAssert(lang = "groovy", script = "test")
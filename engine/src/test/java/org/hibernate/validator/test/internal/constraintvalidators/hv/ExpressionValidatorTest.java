@@ -0,0 +1,180 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.hv;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+
+import java.time.LocalDate;
+
+import jakarta.validation.ConstraintDeclarationException;
+import jakarta.validation.Validator;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.cfg.ConstraintMapping;
+import org.hibernate.validator.cfg.defs.ExpressionDef;
+import org.hibernate.validator.constraints.Expression;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link Expression} and {@link org.hibernate.validator.internal.constraintvalidators.hv.ExpressionValidator}.
+ */
+public class ExpressionValidatorTest {
+
+	private final Validator validator = ValidatorUtil.getValidator();
+
+	@Test
+	public void expressionEvaluatesToTrue() {
+		assertNoViolations( validator.validate( new Event( LocalDate.of( 2009, 9, 20 ), LocalDate.of( 2009, 9, 21 ) ) ) );
+	}
+
+	@Test
+	public void expressionEvaluatesToFalse() {
+		assertThat( validator.validate( new Event( LocalDate.of( 2009, 9, 21 ), LocalDate.of( 2009, 9, 20 ) ) ) ).containsOnlyViolations(
+				violationOf( Expression.class )
+						.withMessage( "expression \"_this.startDate < _this.endDate\" didn't evaluate to true" )
+						.withPropertyPath( pathWith()
+								.bean()
+						)
+		);
+	}
+
+	@Test
+	public void expressionUsingCustomizedAliasAndReportingOnAProperty() {
+		@Expression(value = "_.quantity > 0 && _.quantity <= _.maxQuantity", alias = "_", reportOn = "quantity")
+		class Order extends Quantity {
+
+			Order(int quantity) {
+				super( quantity );
+			}
+		}
+
+		assertNoViolations( validator.validate( new Order( 5 ) ) );
+		assertThat( validator.validate( new Order( 11 ) ) ).containsOnlyViolations(
+				violationOf( Expression.class )
+						.withPropertyPath( pathWith()
+								.property( "quantity" )
+						)
+		);
+		assertThat( validator.validate( new Order( 0 ) ) ).containsOnlyViolations(
+				violationOf( Expression.class )
+		);
+	}
+
+	@Test
+	public void nullPropertiesAreHandled() {
+		assertNoViolations( validator.validate( new QuantityHolder() ) );
+	}
+
+	@Test(expectedExceptions = ConstraintDeclarationException.class, expectedExceptionsMessageRegExp = "HV000284.*")
+	public void invalidExpressionRaisesException() {
+		@Expression("_this.quantity >")
+		class Order extends Quantity {
+
+			Order(int quantity) {
+				super( quantity );
+			}
+		}
+
+		validator.validate( new Order( 1 ) );
+	}
+
+	@Test(expectedExceptions = ConstraintDeclarationException.class, expectedExceptionsMessageRegExp = "HV000286.*")
+	public void expressionNotReturningABooleanRaisesException() {
+		@Expression("_this.quantity + 1")
+		class Order extends Quantity {
+
+			Order(int quantity) {
+				super( quantity );
+			}
+		}
+
+		validator.validate( new Order( 1 ) );
+	}
+
+	@Test(expectedExceptions = ConstraintDeclarationException.class, expectedExceptionsMessageRegExp = "HV000285.*")
+	public void unknownVariableRaisesException() {
+		@Expression("this.quantity > 0")
+		class Order extends Quantity {
+
+			Order(int quantity) {
+				super( quantity );
+			}
+		}
+
+		validator.validate( new Order( 1 ) );
+	}
+
+	@Test
+	public void programmaticDefinition() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		ConstraintMapping mapping = configuration.createConstraintMapping();
+		mapping.type( Quantity.class )
+				.constraint( new ExpressionDef().value( "_this.quantity <= _this.maxQuantity" ).reportOn( "quantity" ) );
+
+		Validator validator = configuration.addMapping( mapping )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertNoViolations( validator.validate( new Quantity( 10 ) ) );
+		assertThat( validator.validate( new Quantity( 11 ) ) ).containsOnlyViolations(
+				violationOf( Expression.class )
+						.withPropertyPath( pathWith()
+								.property( "quantity" )
+						)
+		);
+	}
+
+	@Expression("_this.startDate < _this.endDate")
+	public static class Event {
+
+		private final LocalDate startDate;
+
+		private final LocalDate endDate;
+
+		Event(LocalDate startDate, LocalDate endDate) {
+			this.startDate = startDate;
+			this.endDate = endDate;
+		}
+
+		public LocalDate getStartDate() {
+			return startDate;
+		}
+
+		public LocalDate getEndDate() {
+			return endDate;
+		}
+	}
+
+	@Expression("empty _this.quantity.dates || _this.quantity.dates.size > 0")
+	public static class QuantityHolder {
+
+		public Quantity getQuantity() {
+			return null;
+		}
+	}
+
+	public static class Quantity {
+
+		private final int quantity;
+
+		Quantity(int quantity) {
+			this.quantity = quantity;
+		}
+
+		public int getQuantity() {
+			return quantity;
+		}
+
+		public int getMaxQuantity() {
+			return 10;
+		}
+	}
+}
@@ -94,6 +94,33 @@ public TmpType(Date startDate, Date endDate) {
 		);
 	}
 
+	@Test
+	public void expressionReferencingAnnotatedObject() throws Exception {
+		@ScriptAssert(lang = "expression", script = "_this.startDate < _this.endDate")
+		class TmpType extends CalendarEvent {
+			public TmpType(Date startDate, Date endDate) {
+				super( startDate, endDate );
+			}
+		}
+
+		Date startDate = new GregorianCalendar( 2009, 8, 20 ).getTime();
+		Date endDate = new GregorianCalendar( 2009, 8, 21 ).getTime();
+
+		assertNoViolations( validator.validate( new TmpType( startDate, endDate ) ) );
+		assertThat( validator.validate( new TmpType( endDate, startDate ) ) ).containsOnlyViolations(
+				violationOf( ScriptAssert.class )
+		);
+	}
+
+	@Test(expectedExceptions = ConstraintDeclarationException.class)
+	public void illegalExpressionRaisesException() throws Exception {
+		@ScriptAssert(lang = "expression", script = "_this.foo(")
+		class TmpType {
+		}
+
+		assertNoViolations( validator.validate( new TmpType() ) );
+	}
+
 	@Test(expectedExceptions = IllegalArgumentException.class)
 	public void emptyLanguageNameRaisesException() throws Exception {
 		getInitializedValidator( "", "script" );
@@ -251,7 +278,7 @@ private ConstraintAnnotationDescriptor<ScriptAssert> getScriptAssert(String lang
 	 *
 	 * @author Gunnar Morling
 	 */
-	private static class CalendarEvent {
+	public static class CalendarEvent {
 
 		private final Date startDate;
 
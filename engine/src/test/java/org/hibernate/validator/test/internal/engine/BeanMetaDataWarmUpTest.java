@@ -0,0 +1,384 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.hibernate.validator.testutils.ValidatorUtil.getConfiguration;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.GroupDefinitionException;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.groups.Default;
+
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.metadata.BeanMetaDataCache;
+import org.hibernate.validator.metadata.BeanMetaDataCacheFactory;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the background build of the bean metadata of the validator factory.
+ */
+public class BeanMetaDataWarmUpTest {
+
+	private static final int THREAD_COUNT = 8;
+
+	private CountingBeanMetaDataCacheFactory cacheFactory;
+
+	private DeferredExecutor executor;
+
+	@BeforeMethod
+	public void setUp() {
+		cacheFactory = new CountingBeanMetaDataCacheFactory();
+		executor = new DeferredExecutor();
+	}
+
+	@AfterMethod(alwaysRun = true)
+	public void tearDown() {
+		executor.runAll();
+	}
+
+	@Test
+	public void testBeanMetaDataIsBuiltInTheBackground() throws Exception {
+		HibernateValidatorFactory validatorFactory = getConfiguration()
+				.beanMetaDataCacheFactory( cacheFactory )
+				.warmUpBeanMetaData( Set.of( Order.class, Customer.class ) )
+				.beanMetaDataWarmUpExecutor( executor )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		CompletableFuture<Void> warmUp = validatorFactory.getBeanMetaDataWarmUp();
+		assertFalse( warmUp.isDone() );
+
+		executor.runAll();
+		warmUp.get();
+		assertEquals( cacheFactory.getBuildCount( Order.class ), 1 );
+		assertEquals( cacheFactory.getBuildCount( Customer.class ), 1 );
+		assertEquals( validatorFactory.getBeanMetaDataCacheStatistics().getSize(), 2 );
+
+		assertThat( validatorFactory.getValidator().validate( new Order() ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "number" )
+		);
+		assertEquals( cacheFactory.getBuildCount( Order.class ), 1 );
+	}
+
+	@Test
+	public void testValidationBeforeTheWarmUpBuildsTheMetaDataOnce() throws Exception {
+		HibernateValidatorFactory validatorFactory = getConfiguration()
+				.beanMetaDataCacheFactory( cacheFactory )
+				.warmUpBeanMetaData( Set.of( Order.class ) )
+				.beanMetaDataWarmUpExecutor( executor )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		// the warm-up has not run yet: the metadata is built on demand
+		assertThat( validatorFactory.getValidator().validate( new Order() ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "number" )
+		);
+		assertEquals( cacheFactory.getBuildCount( Order.class ), 1 );
+
+		executor.runAll();
+		validatorFactory.getBeanMetaDataWarmUp().get();
+		assertEquals( cacheFactory.getBuildCount( Order.class ), 1 );
+	}
+
+	@Test
+	public void testConcurrentRequestsBuildTheMetaDataOnce() throws Exception {
+		Validator validator = getConfiguration()
+				.beanMetaDataCacheFactory( cacheFactory )
+				.buildValidatorFactory()
+				.getValidator();
+
+		ExecutorService executorService = Executors.newFixedThreadPool( THREAD_COUNT );
+		try {
+			CountDownLatch start = new CountDownLatch( 1 );
+			List<Future<Set<ConstraintViolation<Order>>>> validations = new ArrayList<>();
+			for ( int i = 0; i < THREAD_COUNT; i++ ) {
+				validations.add( executorService.submit( () -> {
+					start.await();
+					return validator.validate( new Order() );
+				} ) );
+			}
+			start.countDown();
+
+			for ( Future<Set<ConstraintViolation<Order>>> validation : validations ) {
+				assertThat( validation.get() ).containsOnlyViolations(
+						violationOf( NotNull.class ).withProperty( "number" )
+				);
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+		assertEquals( cacheFactory.getBuildCount( Order.class ), 1 );
+	}
+
+	@Test
+	public void testFailedWarmUpIsReportedAndTheMetaDataBuiltOnDemand() {
+		HibernateValidatorFactory validatorFactory = getConfiguration()
+				.warmUpBeanMetaData( Set.of( InvalidGroupSequenceBean.class ) )
+				.beanMetaDataWarmUpExecutor( executor )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		executor.runAll();
+		try {
+			validatorFactory.getBeanMetaDataWarmUp().get();
+			fail( "The warm-up should have failed" );
+		}
+		catch (InterruptedException | ExecutionException e) {
+			assertTrue( e.getCause() instanceof GroupDefinitionException );
+		}
+
+		try {
+			validatorFactory.getValidator().validate( new InvalidGroupSequenceBean() );
+			fail( "The metadata of the bean should have been built again and failed" );
+		}
+		catch (GroupDefinitionException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testBeanMetaDataWarmUpConfiguredByProperties() throws Exception {
+		HibernateValidatorFactory validatorFactory = getConfiguration()
+				.beanMetaDataCacheFactory( cacheFactory )
+				.externalClassLoader( new ConstrainedTypesIndexClassLoader() )
+				.addProperty( HibernateValidatorConfiguration.BEAN_METADATA_WARM_UP_CLASSES, Customer.class.getName() )
+				.addProperty( HibernateValidatorConfiguration.BEAN_METADATA_WARM_UP_PACKAGES, BeanMetaDataWarmUpTest.class.getPackageName() )
+				.beanMetaDataWarmUpExecutor( executor )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		executor.runAll();
+		validatorFactory.getBeanMetaDataWarmUp().get();
+		assertEquals( cacheFactory.getBuildCount( Order.class ), 1 );
+		assertEquals( cacheFactory.getBuildCount( Customer.class ), 1 );
+		// the indexed bean of another package is ignored
+		assertEquals( validatorFactory.getBeanMetaDataCacheStatistics().getSize(), 2 );
+	}
+
+	@Test
+	public void testClassOfThePropertyWhichCannotBeLoadedIsIgnored() throws Exception {
+		HibernateValidatorFactory validatorFactory = getConfiguration()
+				.beanMetaDataCacheFactory( cacheFactory )
+				.addProperty( HibernateValidatorConfiguration.BEAN_METADATA_WARM_UP_CLASSES, "org.example.DoesNotExist, " + Customer.class.getName() )
+				.beanMetaDataWarmUpExecutor( executor )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		executor.runAll();
+		validatorFactory.getBeanMetaDataWarmUp().get();
+		assertEquals( cacheFactory.getBuildCount( Customer.class ), 1 );
+		assertEquals( validatorFactory.getBeanMetaDataCacheStatistics().getSize(), 1 );
+	}
+
+	@Test
+	public void testMetaDataBuiltWhileClosingIsReleased() throws Exception {
+		CountDownLatch buildCompleted = new CountDownLatch( 1 );
+		CountDownLatch closed = new CountDownLatch( 1 );
+		BeanMetaDataCacheFactory blockingCacheFactory = new BeanMetaDataCacheFactory() {
+
+			@Override
+			public <V> BeanMetaDataCache<V> createCache() {
+				return new ForwardingBeanMetaDataCache<>( cacheFactory.createCache() ) {
+
+					@Override
+					public V putIfAbsent(Class<?> beanClass, V metaData) {
+						buildCompleted.countDown();
+						awaitUninterruptibly( closed );
+						return super.putIfAbsent( beanClass, metaData );
+					}
+				};
+			}
+		};
+
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		try {
+			HibernateValidatorFactory validatorFactory = getConfiguration()
+					.beanMetaDataCacheFactory( blockingCacheFactory )
+					.warmUpBeanMetaData( Set.of( Order.class ) )
+					.beanMetaDataWarmUpExecutor( executorService )
+					.buildValidatorFactory()
+					.unwrap( HibernateValidatorFactory.class );
+
+			buildCompleted.await();
+			validatorFactory.close();
+			closed.countDown();
+
+			validatorFactory.getBeanMetaDataWarmUp().get();
+			assertEquals( cacheFactory.getBuildCount( Order.class ), 1 );
+			assertEquals( validatorFactory.getBeanMetaDataCacheStatistics().getSize(), 0 );
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testNothingToWarmUp() {
+		HibernateValidatorFactory validatorFactory = getConfiguration()
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		assertTrue( validatorFactory.getBeanMetaDataWarmUp().isDone() );
+	}
+
+	private static class Order {
+
+		@NotNull
+		private String number;
+	}
+
+	private static class Customer {
+
+		@NotNull
+		private String name = "name";
+	}
+
+	@GroupSequence({ Default.class })
+	private static class InvalidGroupSequenceBean {
+
+		@NotNull
+		private String property;
+	}
+
+	/**
+	 * Runs the submitted tasks when asked to.
+	 */
+	private static class DeferredExecutor implements Executor {
+
+		private final List<Runnable> tasks = Collections.synchronizedList( new ArrayList<>() );
+
+		@Override
+		public void execute(Runnable task) {
+			tasks.add( task );
+		}
+
+		private void runAll() {
+			List<Runnable> tasksToRun;
+			synchronized ( tasks ) {
+				tasksToRun = new ArrayList<>( tasks );
+				tasks.clear();
+			}
+			tasksToRun.forEach( Runnable::run );
+		}
+	}
+
+	private static void awaitUninterruptibly(CountDownLatch latch) {
+		try {
+			latch.await();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Forwards the calls to another cache.
+	 */
+	private static class ForwardingBeanMetaDataCache<V> implements BeanMetaDataCache<V> {
+
+		private final BeanMetaDataCache<V> delegate;
+
+		private ForwardingBeanMetaDataCache(BeanMetaDataCache<V> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public V get(Class<?> beanClass) {
+			return delegate.get( beanClass );
+		}
+
+		@Override
+		public V putIfAbsent(Class<?> beanClass, V metaData) {
+			return delegate.putIfAbsent( beanClass, metaData );
+		}
+
+		@Override
+		public void clear() {
+			delegate.clear();
+		}
+
+		@Override
+		public int size() {
+			return delegate.size();
+		}
+	}
+
+	/**
+	 * Counts the metadata put in the caches, i.e. the number of times the metadata of each class has been built.
+	 */
+	private static class CountingBeanMetaDataCacheFactory implements BeanMetaDataCacheFactory {
+
+		private final ConcurrentMap<Class<?>, AtomicInteger> builds = new ConcurrentHashMap<>();
+
+		private int getBuildCount(Class<?> beanClass) {
+			AtomicInteger buildCount = builds.get( beanClass );
+			return buildCount != null ? buildCount.get() : 0;
+		}
+
+		@Override
+		public <V> BeanMetaDataCache<V> createCache() {
+			return new ForwardingBeanMetaDataCache<>( BeanMetaDataCacheFactory.strong().<V>createCache() ) {
+
+				@Override
+				public V putIfAbsent(Class<?> beanClass, V metaData) {
+					builds.computeIfAbsent( beanClass, ignored -> new AtomicInteger() ).incrementAndGet();
+					return super.putIfAbsent( beanClass, metaData );
+				}
+			};
+		}
+	}
+
+	/**
+	 * Exposes a test index as the constrained types index generated by the annotation processor.
+	 */
+	private static class ConstrainedTypesIndexClassLoader extends ClassLoader {
+
+		private static final String CONSTRAINED_TYPES_INDEX = "META-INF/hibernate-validator/constrained-types";
+
+		private ConstrainedTypesIndexClassLoader() {
+			super( BeanMetaDataWarmUpTest.class.getClassLoader() );
+		}
+
+		@Override
+		public Enumeration<URL> getResources(String name) throws IOException {
+			if ( CONSTRAINED_TYPES_INDEX.equals( name ) ) {
+				return Collections.enumeration( Collections.singletonList(
+						BeanMetaDataWarmUpTest.class.getResource( "constrained-types" ) ) );
+			}
+			return super.getResources( name );
+		}
+	}
+}
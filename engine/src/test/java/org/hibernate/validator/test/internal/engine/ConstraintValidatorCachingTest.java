@@ -38,6 +38,8 @@
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.constraintvalidation.ConstraintValidatorCacheStatistics;
 import org.hibernate.validator.constraintvalidation.spi.DefaultConstraintValidatorFactory;
 import org.hibernate.validator.internal.constraintvalidators.bv.NotNullValidator;
 import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.MinValidatorForInteger;
@@ -124,6 +126,46 @@ public void testConstraintValidatorInstancesAreCachedPerConstraintValidatorFacto
 		constraintValidatorFactory2.assertAllConstraintValidatorInstancesReleased();
 	}
 
+	@Test
+	public void testConstraintValidatorInstancesOfContextScopedValidatorsAreCachedPerConstraint() {
+		HibernateValidatorFactory factory = getConfiguration().buildValidatorFactory().unwrap( HibernateValidatorFactory.class );
+		OnceInstanceOnlyConstraintValidatorFactory constraintValidatorFactory1 = new OnceInstanceOnlyConstraintValidatorFactory();
+		OnceInstanceOnlyConstraintValidatorFactory constraintValidatorFactory2 = new OnceInstanceOnlyConstraintValidatorFactory();
+
+		Person john = new Person( "John Doe" );
+		john.setAge( 36 );
+		john.addAddress( new Address( "Mysterious Lane", "Mysterious" ) );
+
+		Validator validator1 = factory.usingContext().constraintValidatorFactory( constraintValidatorFactory1 ).getValidator();
+		assertNoViolations( validator1.validate( john ) );
+		assertNoViolations( validator1.validate( john ) );
+		ConstraintValidatorCacheStatistics statistics = factory.getConstraintValidatorCacheStatistics();
+		assertTrue( statistics.getMissCount() > 0 );
+		assertEquals( statistics.getEvictionCount(), 0 );
+
+		// once the constraints have cached their validators, the lookups do not reach the factory cache anymore
+		assertNoViolations( validator1.validate( john ) );
+		ConstraintValidatorCacheStatistics secondStatistics = factory.getConstraintValidatorCacheStatistics();
+		assertTrue( secondStatistics.getHitCount() > statistics.getHitCount() );
+		assertEquals( secondStatistics.getMissCount(), statistics.getMissCount() );
+		constraintValidatorFactory1.assertSize( 3 );
+
+		// using another factory releases the instances of the first one
+		Validator validator2 = factory.usingContext().constraintValidatorFactory( constraintValidatorFactory2 ).getValidator();
+		assertNoViolations( validator2.validate( john ) );
+		constraintValidatorFactory2.assertSize( 3 );
+		constraintValidatorFactory1.assertAllConstraintValidatorInstancesReleased();
+		assertEquals( factory.getConstraintValidatorCacheStatistics().getEvictionCount(), 1 );
+
+		// the released instances are not used anymore
+		assertNoViolations( validator1.validate( john ) );
+		constraintValidatorFactory1.assertSize( 3 );
+		constraintValidatorFactory2.assertAllConstraintValidatorInstancesReleased();
+
+		factory.close();
+		constraintValidatorFactory1.assertAllConstraintValidatorInstancesReleased();
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HV-243")
 	public void testConstraintValidatorInstancesAreCachedPerConstraint() {
@@ -0,0 +1,344 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.batchvalidation;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.lang.annotation.ElementType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.TraversableResolver;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import org.hibernate.validator.BatchValidator;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link BatchValidator}.
+ */
+public class BatchValidationTest {
+
+	@Test
+	public void testUnwrap() {
+		Validator validator = ValidatorUtil.getValidator();
+		assertSame( validator.unwrap( BatchValidator.class ), validator );
+	}
+
+	@Test
+	public void testViolationsAreKeyedByIndex() {
+		BatchValidator validator = ValidatorUtil.getValidator().unwrap( BatchValidator.class );
+
+		Map<Integer, Set<ConstraintViolation<Order>>> violations = validator.validateAll( Arrays.asList(
+				new Order( "ref-0", new Line( 1 ) ),
+				new Order( null, new Line( 1 ) ),
+				new Order( "ref-2", new Line( 1 ) ),
+				new Order( "ref-3", new Line( 0 ) )
+		) );
+
+		assertEquals( new ArrayList<>( violations.keySet() ), Arrays.asList( 1, 3 ) );
+		assertThat( violations.get( 1 ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "reference" )
+		);
+		assertThat( violations.get( 3 ) ).containsOnlyViolations(
+				violationOf( Min.class ).withPropertyPath( pathWith()
+						.property( "line" )
+						.property( "quantity" ) )
+		);
+	}
+
+	@Test
+	public void testBatchReportsTheSameViolationsAsIndividualValidations() {
+		Validator validator = ValidatorUtil.getValidator();
+		List<Object> objects = createMixedObjects( 500 );
+
+		Map<Integer, Set<ConstraintViolation<Object>>> violations = validator.unwrap( BatchValidator.class ).validateAll( objects );
+		assertSameViolations( validator, objects, violations );
+	}
+
+	@Test
+	public void testGroups() {
+		BatchValidator validator = ValidatorUtil.getValidator().unwrap( BatchValidator.class );
+		List<Order> orders = Arrays.asList( new Order( null, new Line( 0 ) ), new Order( "ref-1", new Line( 1 ) ) );
+
+		Map<Integer, Set<ConstraintViolation<Order>>> violations = validator.validateAll( orders, Extended.class );
+		assertEquals( violations.keySet(), Set.of( 1 ) );
+		assertThat( violations.get( 1 ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "comment" )
+		);
+	}
+
+	@Test
+	public void testNonListIterable() {
+		BatchValidator validator = ValidatorUtil.getValidator().unwrap( BatchValidator.class );
+		Set<Order> orders = new LinkedHashSet<>( Arrays.asList( new Order( "ref-0", new Line( 1 ) ), new Order( null, new Line( 1 ) ) ) );
+
+		assertEquals( validator.validateAll( orders ).keySet(), Set.of( 1 ) );
+		assertEquals( validator.validateAll( orders, ForkJoinPool.commonPool() ).keySet(), Set.of( 1 ) );
+	}
+
+	@Test
+	public void testParallelBatch() {
+		Validator validator = ValidatorUtil.getValidator();
+		List<Object> objects = createMixedObjects( 2_000 );
+
+		ForkJoinPool executor = new ForkJoinPool( 4 );
+		try {
+			for ( int i = 0; i < 5; i++ ) {
+				Map<Integer, Set<ConstraintViolation<Object>>> violations = validator.unwrap( BatchValidator.class )
+						.validateAll( objects, executor );
+				assertSameViolations( validator, objects, violations );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testParallelBatchWithRejectingExecutor() {
+		Validator validator = ValidatorUtil.getValidator();
+		List<Object> objects = createMixedObjects( 100 );
+
+		Map<Integer, Set<ConstraintViolation<Object>>> violations = validator.unwrap( BatchValidator.class )
+				.validateAll( objects, task -> {
+					throw new RejectedExecutionException();
+				} );
+		assertSameViolations( validator, objects, violations );
+	}
+
+	@Test(timeOut = 30_000)
+	public void testParallelBatchFromTheThreadOfABusyExecutor() throws Exception {
+		Validator validator = ValidatorUtil.getValidator();
+		List<Object> objects = createMixedObjects( 100 );
+
+		ForkJoinPool executor = new ForkJoinPool( 2 );
+		CountDownLatch busy = new CountDownLatch( 1 );
+		CountDownLatch release = new CountDownLatch( 1 );
+		try {
+			// the other thread of the executor is kept busy, the helper submitted by the batch never runs before it ends
+			executor.execute( () -> {
+				busy.countDown();
+				awaitUninterruptibly( release );
+			} );
+			busy.await();
+
+			Map<Integer, Set<ConstraintViolation<Object>>> violations = executor.submit(
+					() -> validator.unwrap( BatchValidator.class ).validateAll( objects, executor )
+			).get();
+			assertSameViolations( validator, objects, violations );
+		}
+		finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test(timeOut = 30_000)
+	public void testParallelBatchWithExecutorNotRunningTheTasks() {
+		Validator validator = ValidatorUtil.getValidator();
+		List<Object> objects = createMixedObjects( 100 );
+		List<Runnable> tasks = new ArrayList<>();
+
+		Map<Integer, Set<ConstraintViolation<Object>>> violations = validator.unwrap( BatchValidator.class )
+				.validateAll( objects, new ForkJoinPool( 4 ) {
+
+					@Override
+					public void execute(Runnable task) {
+						tasks.add( task );
+					}
+				} );
+		assertSameViolations( validator, objects, violations );
+
+		// the helpers starting after the batch has been validated have nothing left to do
+		assertTrue( !tasks.isEmpty() );
+		tasks.forEach( Runnable::run );
+	}
+
+	@Test
+	public void testTraversableResolverResultsAreCachedPerObject() {
+		CountingTraversableResolver traversableResolver = new CountingTraversableResolver();
+		BatchValidator validator = ValidatorUtil.getConfiguration()
+				.traversableResolver( traversableResolver )
+				.buildValidatorFactory()
+				.getValidator()
+				.unwrap( BatchValidator.class );
+		Line sharedLine = new Line( 0 );
+		List<Order> orders = Arrays.asList( new Order( "ref-0", sharedLine ), new Order( "ref-1", sharedLine ) );
+
+		assertEquals( validator.validateAll( orders ).keySet(), Set.of( 0, 1 ) );
+		assertEquals( traversableResolver.getReachableCount( sharedLine ), 2 );
+
+		traversableResolver.reset();
+		assertEquals( validator.validateAll( orders, ForkJoinPool.commonPool() ).keySet(), Set.of( 0, 1 ) );
+		assertEquals( traversableResolver.getReachableCount( sharedLine ), 2 );
+	}
+
+	@Test
+	public void testNullElement() {
+		BatchValidator validator = ValidatorUtil.getValidator().unwrap( BatchValidator.class );
+		List<Order> orders = Arrays.asList( new Order( "ref-0", new Line( 1 ) ), null );
+
+		try {
+			validator.validateAll( orders );
+			fail( "Expected an IllegalArgumentException" );
+		}
+		catch (IllegalArgumentException e) {
+			// expected
+		}
+
+		try {
+			validator.validateAll( orders, ForkJoinPool.commonPool() );
+			fail( "Expected an IllegalArgumentException" );
+		}
+		catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testNullIterable() {
+		ValidatorUtil.getValidator().unwrap( BatchValidator.class ).validateAll( null );
+	}
+
+	private static void awaitUninterruptibly(CountDownLatch latch) {
+		try {
+			latch.await();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static List<Object> createMixedObjects(int size) {
+		List<Object> objects = new ArrayList<>();
+		for ( int i = 0; i < size; i++ ) {
+			switch ( i % 3 ) {
+				case 0:
+					objects.add( new Order( i % 2 == 0 ? null : "ref-" + i, new Line( i % 5 ) ) );
+					break;
+				case 1:
+					objects.add( new Line( i % 4 ) );
+					break;
+				default:
+					objects.add( "not a bean" );
+			}
+		}
+		return objects;
+	}
+
+	private static void assertSameViolations(Validator validator, List<Object> objects, Map<Integer, Set<ConstraintViolation<Object>>> violations) {
+		int previousIndex = -1;
+		for ( Integer index : violations.keySet() ) {
+			assertTrue( index > previousIndex, "The violations should be ordered by index" );
+			previousIndex = index;
+		}
+
+		for ( int i = 0; i < objects.size(); i++ ) {
+			Set<ConstraintViolation<Object>> expected = validator.validate( objects.get( i ) );
+			if ( expected.isEmpty() ) {
+				assertTrue( !violations.containsKey( i ), "No violation expected for element " + i );
+			}
+			else {
+				assertEquals( toPaths( violations.get( i ) ), toPaths( expected ), "Unexpected violations for element " + i );
+				for ( ConstraintViolation<Object> violation : violations.get( i ) ) {
+					assertSame( violation.getRootBean(), objects.get( i ) );
+				}
+			}
+		}
+	}
+
+	private static Set<String> toPaths(Set<ConstraintViolation<Object>> violations) {
+		Set<String> paths = new HashSet<>();
+		for ( ConstraintViolation<Object> violation : violations ) {
+			paths.add( violation.getPropertyPath() + " " + violation.getMessageTemplate() );
+		}
+		return paths;
+	}
+
+	public interface Extended {
+	}
+
+	/**
+	 * Counts the calls to {@link #isReachable} per traversable object.
+	 */
+	private static class CountingTraversableResolver implements TraversableResolver {
+
+		private final Map<Object, Integer> reachableCounts = new IdentityHashMap<>();
+
+		@Override
+		public synchronized boolean isReachable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType,
+				Path pathToTraversableObject, ElementType elementType) {
+			if ( traversableObject != null ) {
+				reachableCounts.merge( traversableObject, 1, Integer::sum );
+			}
+			return true;
+		}
+
+		@Override
+		public boolean isCascadable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType,
+				Path pathToTraversableObject, ElementType elementType) {
+			return true;
+		}
+
+		private synchronized int getReachableCount(Object traversableObject) {
+			return reachableCounts.getOrDefault( traversableObject, 0 );
+		}
+
+		private synchronized void reset() {
+			reachableCounts.clear();
+		}
+	}
+
+	private static class Order {
+
+		@NotNull
+		private final String reference;
+
+		@NotNull(groups = Extended.class)
+		private final String comment;
+
+		@Valid
+		private final Line line;
+
+		private Order(String reference, Line line) {
+			this.reference = reference;
+			this.comment = reference == null ? "nothing to add" : null;
+			this.line = line;
+		}
+	}
+
+	private static class Line {
+
+		@Min(1)
+		private final int quantity;
+
+		private Line(int quantity) {
+			this.quantity = quantity;
+		}
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.constraintvalidation;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.hibernate.validator.testutils.ValidatorUtil.getConfiguration;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Payload;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+
+import org.hibernate.validator.HibernateValidatorFactory;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the initialization of the constraint validators created by the default constraint validator factory.
+ */
+public class ConstraintValidatorInitializationTest {
+
+	private static final int THREAD_COUNT = 8;
+
+	private static final AtomicInteger INITIALIZATION_COUNT = new AtomicInteger();
+
+	private static final AtomicBoolean FAIL_INITIALIZATION = new AtomicBoolean();
+
+	private ExecutorService executor;
+
+	@BeforeMethod
+	public void setUp() {
+		INITIALIZATION_COUNT.set( 0 );
+		FAIL_INITIALIZATION.set( false );
+		executor = Executors.newFixedThreadPool( THREAD_COUNT );
+	}
+
+	@AfterMethod(alwaysRun = true)
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testConcurrentFirstValidationsInitializeTheConstraintValidatorOnce() throws Exception {
+		Validator validator = getConfiguration().buildValidatorFactory().getValidator();
+
+		CountDownLatch start = new CountDownLatch( 1 );
+		List<Future<Set<ConstraintViolation<Order>>>> validations = new ArrayList<>();
+		for ( int i = 0; i < THREAD_COUNT; i++ ) {
+			validations.add( executor.submit( () -> {
+				start.await();
+				return validator.validate( new Order( "" ) );
+			} ) );
+		}
+		start.countDown();
+
+		for ( Future<Set<ConstraintViolation<Order>>> validation : validations ) {
+			assertThat( validation.get() ).containsOnlyViolations(
+					violationOf( SlowlyInitialized.class )
+			);
+		}
+		assertEquals( INITIALIZATION_COUNT.get(), 1 );
+	}
+
+	@Test
+	public void testConstraintValidatorsAreInitializedBeforeTheFirstValidation() {
+		HibernateValidatorFactory validatorFactory = getConfiguration().buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		validatorFactory.initializeConstraintValidators( Set.of( Order.class, Customer.class ), executor ).join();
+		assertEquals( INITIALIZATION_COUNT.get(), 2 );
+
+		Validator validator = validatorFactory.getValidator();
+		assertThat( validator.validate( new Order( "" ) ) ).containsOnlyViolations(
+				violationOf( SlowlyInitialized.class )
+		);
+		assertThat( validator.validate( new Customer( new Order( "" ) ) ) ).containsOnlyViolations(
+				violationOf( SlowlyInitialized.class ),
+				violationOf( SlowlyInitialized.class )
+		);
+		assertEquals( INITIALIZATION_COUNT.get(), 2 );
+	}
+
+	@Test
+	public void testFailedInitializationIsPropagatedAndRetried() {
+		HibernateValidatorFactory validatorFactory = getConfiguration().buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		FAIL_INITIALIZATION.set( true );
+		CompletableFuture<Void> initialization = validatorFactory.initializeConstraintValidators( Set.of( Order.class ), executor );
+		try {
+			initialization.join();
+			fail( "The initialization of the constraint validator should have failed" );
+		}
+		catch (CompletionException e) {
+			assertTrue( initialization.isCompletedExceptionally() );
+		}
+
+		FAIL_INITIALIZATION.set( false );
+		assertThat( validatorFactory.getValidator().validate( new Order( "" ) ) ).containsOnlyViolations(
+				violationOf( SlowlyInitialized.class )
+		);
+		assertEquals( INITIALIZATION_COUNT.get(), 1 );
+	}
+
+	private static class Order {
+
+		@SlowlyInitialized
+		private final String number;
+
+		private Order(String number) {
+			this.number = number;
+		}
+	}
+
+	private static class Customer {
+
+		@SlowlyInitialized(message = "the name must not be empty")
+		private final String name = "";
+
+		@Valid
+		private final Order order;
+
+		private Customer(Order order) {
+			this.order = order;
+		}
+	}
+
+	@Documented
+	@Constraint(validatedBy = SlowlyInitializedValidator.class)
+	@Target({ FIELD })
+	@Retention(RUNTIME)
+	public @interface SlowlyInitialized {
+
+		String message() default "must not be empty";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class SlowlyInitializedValidator implements ConstraintValidator<SlowlyInitialized, String> {
+
+		@Override
+		public void initialize(SlowlyInitialized constraintAnnotation) {
+			if ( FAIL_INITIALIZATION.get() ) {
+				throw new IllegalStateException( "Initialization failure" );
+			}
+			INITIALIZATION_COUNT.incrementAndGet();
+			try {
+				Thread.sleep( 50 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			return value == null || !value.isEmpty();
+		}
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.generatedaccessors;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.internal.engine.DefaultPropertyNodeNameProvider;
+import org.hibernate.validator.internal.properties.DefaultGetterPropertySelectionStrategy;
+import org.hibernate.validator.internal.properties.PropertyAccessor;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the runtime generation of property accessors.
+ */
+public class GeneratedPropertyAccessorsTest {
+
+	@Test
+	public void testGeneratedAccessorsProduceTheSameViolations() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.generatedPropertyAccessors( true );
+
+		assertViolations( configuration.buildValidatorFactory().getValidator() );
+		assertViolations( ValidatorUtil.getValidator() );
+	}
+
+	@Test
+	public void testGeneratedAccessorsUsingProperty() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.addProperty( HibernateValidatorConfiguration.GENERATED_PROPERTY_ACCESSORS, Boolean.TRUE.toString() );
+
+		assertViolations( configuration.buildValidatorFactory().getValidator() );
+	}
+
+	@Test
+	public void testAccessorIsGeneratedForGetters() {
+		JavaBeanHelper javaBeanHelper = new JavaBeanHelper( new DefaultGetterPropertySelectionStrategy(), new DefaultPropertyNodeNameProvider(), true );
+
+		Order order = new Order( null, 3, "ab", false );
+
+		PropertyAccessor privateGetterAccessor = javaBeanHelper.findDeclaredGetter( Order.class, "reference" ).get().createAccessor();
+		assertEquals( privateGetterAccessor.getClass().getSimpleName(), "GeneratedGetterAccessor" );
+		assertNull( privateGetterAccessor.getValueFrom( order ) );
+
+		PropertyAccessor primitiveGetterAccessor = javaBeanHelper.findDeclaredGetter( Order.class, "quantity" ).get().createAccessor();
+		assertEquals( primitiveGetterAccessor.getValueFrom( order ), 3 );
+
+		PropertyAccessor booleanGetterAccessor = javaBeanHelper.findDeclaredGetter( Order.class, "confirmed" ).get().createAccessor();
+		assertEquals( booleanGetterAccessor.getValueFrom( order ), Boolean.FALSE );
+	}
+
+	@Test
+	public void testReflectionIsUsedWhenGenerationIsDisabled() {
+		JavaBeanHelper javaBeanHelper = new JavaBeanHelper( new DefaultGetterPropertySelectionStrategy(), new DefaultPropertyNodeNameProvider() );
+
+		PropertyAccessor accessor = javaBeanHelper.findDeclaredGetter( Order.class, "reference" ).get().createAccessor();
+		assertEquals( accessor.getClass().getSimpleName(), "GetterAccessor" );
+	}
+
+	@Test
+	public void testExceptionOfGetterIsWrapped() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.generatedPropertyAccessors( true );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		try {
+			validator.validate( new FailingBean() );
+			fail( "Expected a ValidationException" );
+		}
+		catch (ValidationException e) {
+			assertTrue( e.getMessage().startsWith( "HV000090" ), e.getMessage() );
+			assertEquals( e.getCause().getClass(), IllegalStateException.class );
+			assertEquals( e.getCause().getMessage(), "Invalid state" );
+		}
+	}
+
+	@Test
+	public void testUndeclaredCheckedExceptionOfGetterIsWrapped() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.generatedPropertyAccessors( true );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		try {
+			validator.validate( new SneakyFailingBean() );
+			fail( "Expected a ValidationException" );
+		}
+		catch (ValidationException e) {
+			assertTrue( e.getMessage().startsWith( "HV000090" ), e.getMessage() );
+			assertEquals( e.getCause().getClass(), IOException.class );
+		}
+	}
+
+	private static void assertViolations(Validator validator) {
+		Set<ConstraintViolation<Order>> constraintViolations = validator.validate( new Order( null, 0, "a", false ) );
+
+		assertThat( constraintViolations ).containsOnlyViolations(
+				violationOf( NotNull.class ).withPropertyPath( pathWith().property( "reference" ) ),
+				violationOf( Min.class ).withPropertyPath( pathWith().property( "quantity" ) ),
+				violationOf( Size.class ).withPropertyPath( pathWith().property( "customer" ) ),
+				violationOf( AssertTrue.class ).withPropertyPath( pathWith().property( "confirmed" ) )
+		);
+	}
+
+	private static class Order {
+
+		private final String reference;
+
+		private final int quantity;
+
+		@Size(min = 2)
+		private final String customer;
+
+		private final boolean confirmed;
+
+		private Order(String reference, int quantity, String customer, boolean confirmed) {
+			this.reference = reference;
+			this.quantity = quantity;
+			this.customer = customer;
+			this.confirmed = confirmed;
+		}
+
+		@NotNull
+		private String getReference() {
+			return reference;
+		}
+
+		@Min(1)
+		public int getQuantity() {
+			return quantity;
+		}
+
+		@AssertTrue
+		public boolean isConfirmed() {
+			return confirmed;
+		}
+	}
+
+	private static class FailingBean {
+
+		@NotNull
+		public String getValue() {
+			throw new IllegalStateException( "Invalid state" );
+		}
+	}
+
+	private static class SneakyFailingBean {
+
+		@NotNull
+		public String getValue() {
+			// throws a checked exception without declaring it
+			return SneakyFailingBean.<RuntimeException>sneakyThrow( new IOException( "Unavailable" ) );
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <E extends Throwable> String sneakyThrow(Throwable e) throws E {
+			throw (E) e;
+		}
+	}
+}
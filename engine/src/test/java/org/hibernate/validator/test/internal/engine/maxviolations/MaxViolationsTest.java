@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.maxviolations;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Min;
+
+import org.hibernate.validator.BaseHibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.StreamingValidator;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the {@link BaseHibernateValidatorConfiguration#MAX_VIOLATIONS} option.
+ */
+public class MaxViolationsTest {
+
+	private static final ForkJoinPool EXECUTOR = new ForkJoinPool( 4 );
+
+	@AfterClass
+	public static void shutdownExecutor() {
+		EXECUTOR.shutdownNow();
+	}
+
+	@Test
+	public void testNoLimitByDefault() {
+		assertEquals( ValidatorUtil.getValidator().validate( createOrder( 1_000 ) ).size(), 1_000 );
+	}
+
+	@Test
+	public void testMaxViolationsUsingProgrammaticConfiguration() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		Validator validator = configuration.maxViolations( 10 ).buildValidatorFactory().getValidator();
+
+		assertEquals( validator.validate( createOrder( 1_000 ) ).size(), 10 );
+		assertEquals( validator.validate( createOrder( 5 ) ).size(), 5 );
+	}
+
+	@Test
+	public void testMaxViolationsUsingProperty() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.addProperty( BaseHibernateValidatorConfiguration.MAX_VIOLATIONS, "3" );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		assertEquals( validator.validate( createOrder( 1_000 ) ).size(), 3 );
+	}
+
+	@Test
+	public void testMaxViolationsUsingValidatorContext() {
+		ValidatorFactory factory = ValidatorUtil.getConfiguration( HibernateValidator.class ).buildValidatorFactory();
+		Validator limitedValidator = factory.unwrap( HibernateValidatorFactory.class ).usingContext()
+				.maxViolations( 7 )
+				.getValidator();
+
+		assertEquals( limitedValidator.validate( createOrder( 1_000 ) ).size(), 7 );
+		assertEquals( factory.getValidator().validate( createOrder( 1_000 ) ).size(), 1_000 );
+	}
+
+	@Test
+	public void testNegativeValueDisablesTheLimit() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		Validator validator = configuration.maxViolations( -1 ).buildValidatorFactory().getValidator();
+
+		assertEquals( validator.validate( createOrder( 100 ) ).size(), 100 );
+	}
+
+	@Test
+	public void testMaxViolationsWithStreaming() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		StreamingValidator validator = configuration.maxViolations( 10 ).buildValidatorFactory().getValidator()
+				.unwrap( StreamingValidator.class );
+
+		List<ConstraintViolation<Order>> streamedViolations = new ArrayList<>();
+		assertEquals( validator.validate( createOrder( 1_000 ), streamedViolations::add ), 10 );
+		assertEquals( streamedViolations.size(), 10 );
+
+		// the lowest of the two limits applies
+		assertEquals( validator.validate( createOrder( 1_000 ), violation -> { }, 4 ), 4 );
+		assertEquals( validator.validate( createOrder( 1_000 ), violation -> { }, 50 ), 10 );
+	}
+
+	@Test
+	public void testMaxViolationsWithParallelCascade() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.maxViolations( 25 )
+				.parallelCascadeThreshold( 10 )
+				.parallelCascadeExecutor( EXECUTOR );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		for ( int i = 0; i < 5; i++ ) {
+			Set<ConstraintViolation<Order>> violations = validator.validate( createOrder( 5_000 ) );
+			assertEquals( violations.size(), 25 );
+			// as for a sequential validation, the violations are the ones of the first elements
+			for ( ConstraintViolation<Order> violation : violations ) {
+				assertEquals( ( (Line) violation.getLeafBean() ).index < 25, true, "Unexpected violation " + violation );
+			}
+		}
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000278.*")
+	public void testInvalidPropertyValue() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.addProperty( BaseHibernateValidatorConfiguration.MAX_VIOLATIONS, "many" );
+		configuration.buildValidatorFactory();
+	}
+
+	private static Order createOrder(int lineCount) {
+		Order order = new Order();
+		for ( int i = 0; i < lineCount; i++ ) {
+			order.lines.add( new Line( i ) );
+		}
+		return order;
+	}
+
+	private static class Order {
+
+		private final List<@Valid Line> lines = new ArrayList<>();
+	}
+
+	private static class Line {
+
+		private final int index;
+
+		@Min(1)
+		private final int quantity = 0;
+
+		private Line(int index) {
+			this.index = index;
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import jakarta.validation.MessageInterpolator.Context;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.CompiledMessage;
+import org.hibernate.validator.internal.engine.messageinterpolation.InterpolationTermType;
+import org.hibernate.validator.internal.engine.messageinterpolation.TermResolver;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.MessageDescriptorFormatException;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenCollector;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenIterator;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link CompiledMessage}, checking it renders the messages as the parameter then EL interpolation steps do.
+ */
+public class CompiledMessageTest {
+
+	private static final List<String> MESSAGES = List.of(
+			"no term",
+			"must be less than {max}",
+			"{a}{b}",
+			"${a}",
+			"must be less than ${a == 1 ? 'or equal to ' : ''}{b}",
+			"$${a} {b}",
+			"\\${a} {b}",
+			"\\{a} {a}",
+			"{a} \\\\{b}",
+			"${'\\{'} {a}",
+			"$ {a} $",
+			"{a}$",
+			"${a}{b}${c}",
+			"$\\{a} {c}"
+	);
+
+	private static final List<Map<String, String>> PARAMETERS = List.of(
+			Collections.emptyMap(),
+			Map.of( "a", "1", "b", "2", "c", "3", "max", "10" ),
+			Map.of( "b", "2" ),
+			Map.of( "a", "${1 + 1}", "b", "}" ),
+			Map.of( "a", "\\", "b", "$" ),
+			Map.of( "a", "{b}", "b", "x", "c", "\\{" )
+	);
+
+	@Test
+	public void testRenderingMatchesTheTwoStepsInterpolation() {
+		for ( String message : MESSAGES ) {
+			for ( Map<String, String> parameters : PARAMETERS ) {
+				TermResolver termResolver = new MapTermResolver( parameters );
+				for ( boolean expressionLanguage : new boolean[]{ true, false } ) {
+					assertEquals(
+							outcome( () -> render( CompiledMessage.compile( message ), termResolver, expressionLanguage ) ),
+							outcome( () -> interpolateInTwoSteps( message, termResolver, expressionLanguage ) ),
+							"Unexpected rendering of " + message + " with " + parameters + " (EL: " + expressionLanguage + ")"
+					);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testSinglePassRendering() {
+		TermResolver termResolver = new MapTermResolver( Map.of( "b", "2" ) );
+
+		CompiledMessage compiledMessage = CompiledMessage.compile( "must be less than ${a == 1 ? 'or equal to ' : ''}{b}" );
+		String[] parameterValues = compiledMessage.interpolateParameters( null, Locale.ROOT, termResolver );
+		assertTrue( compiledMessage.isSinglePassRenderable( parameterValues ) );
+		assertEquals(
+				compiledMessage.render( parameterValues, null, Locale.ROOT, termResolver ),
+				"must be less than <${a == 1 ? 'or equal to ' : ''}>2"
+		);
+		assertEquals(
+				compiledMessage.render( parameterValues, null, Locale.ROOT, null ),
+				"must be less than ${a == 1 ? 'or equal to ' : ''}2"
+		);
+	}
+
+	@Test
+	public void testParameterValuesChangingTheExpressions() {
+		CompiledMessage compiledMessage = CompiledMessage.compile( "${b} {a}" );
+
+		TermResolver termResolver = new MapTermResolver( Map.of( "a", "${1 + 1}" ) );
+		assertFalse( compiledMessage.isSinglePassRenderable( compiledMessage.interpolateParameters( null, Locale.ROOT, termResolver ) ) );
+
+		termResolver = new MapTermResolver( Map.of( "b", "2" ) );
+		assertFalse( compiledMessage.isSinglePassRenderable( compiledMessage.interpolateParameters( null, Locale.ROOT, termResolver ) ) );
+	}
+
+	@Test
+	public void testMessageWithoutTerm() {
+		CompiledMessage compiledMessage = CompiledMessage.compile( "may not be null" );
+
+		assertFalse( compiledMessage.hasInterpolationTerms() );
+		assertEquals( compiledMessage.render( new String[0], null, Locale.ROOT, null ), "may not be null" );
+	}
+
+	@Test(expectedExceptions = MessageDescriptorFormatException.class)
+	public void testInvalidMessage() {
+		CompiledMessage.compile( "must be less than {max" );
+	}
+
+	private static String outcome(Supplier<String> interpolation) {
+		try {
+			return interpolation.get();
+		}
+		catch (MessageDescriptorFormatException e) {
+			return e.getMessage();
+		}
+	}
+
+	private static String render(CompiledMessage compiledMessage, TermResolver termResolver, boolean expressionLanguage) {
+		String[] parameterValues = compiledMessage.interpolateParameters( null, Locale.ROOT, termResolver );
+		if ( compiledMessage.isSinglePassRenderable( parameterValues ) ) {
+			return compiledMessage.render( parameterValues, null, Locale.ROOT, expressionLanguage ? termResolver : null );
+		}
+
+		String message = compiledMessage.renderParameters( parameterValues );
+		return expressionLanguage ? interpolate( message, InterpolationTermType.EL, termResolver ) : message;
+	}
+
+	private static String interpolateInTwoSteps(String message, TermResolver termResolver, boolean expressionLanguage) {
+		if ( message.indexOf( '{' ) < 0 ) {
+			return message;
+		}
+		String interpolatedMessage = interpolate( message, InterpolationTermType.PARAMETER, termResolver );
+		return expressionLanguage ? interpolate( interpolatedMessage, InterpolationTermType.EL, termResolver ) : interpolatedMessage;
+	}
+
+	private static String interpolate(String message, InterpolationTermType termType, TermResolver termResolver) {
+		TokenIterator tokenIterator = new TokenIterator( message, new TokenCollector( message, termType ).getTokenList() );
+		while ( tokenIterator.hasMoreInterpolationTerms() ) {
+			tokenIterator.replaceCurrentInterpolationTerm( termResolver.interpolate( null, Locale.ROOT, tokenIterator.nextInterpolationTerm() ) );
+		}
+		return tokenIterator.getInterpolatedMessage();
+	}
+
+	private static class MapTermResolver implements TermResolver {
+
+		private final Map<String, String> parameters;
+
+		private MapTermResolver(Map<String, String> parameters) {
+			this.parameters = parameters;
+		}
+
+		@Override
+		public String interpolate(Context context, Locale locale, String term) {
+			if ( term.startsWith( "$" ) ) {
+				return "<" + term + ">";
+			}
+			return parameters.getOrDefault( term.substring( 1, term.length() - 1 ), term );
+		}
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the messages which do not depend on the constraint violation: the constant templates are used as is and
+ * the messages resolved to a constant are rendered once.
+ */
+public class ConstantMessageInterpolationTest {
+
+	@Test
+	public void testMessagesResolvedToAConstantShareTheSameInstance() {
+		Validator validator = getValidator( null, false );
+
+		String message = validator.validate( new Order( null, "123" ) ).iterator().next().getMessage();
+		assertEquals( message, "must not be null" );
+
+		Set<ConstraintViolation<Order>> violations = validator.validate( new Order( null, "123" ) );
+		assertSame( violations.iterator().next().getMessage(), message );
+	}
+
+	@Test
+	public void testConstantTemplateIsTheMessage() {
+		for ( boolean deferredMessageInterpolation : new boolean[]{ false, true } ) {
+			Set<ConstraintViolation<Order>> violations = getValidator( null, deferredMessageInterpolation )
+					.validate( new Order( "ABC", "12" ) );
+			assertEquals( violations.size(), 1 );
+
+			ConstraintViolation<Order> violation = violations.iterator().next();
+			assertSame( violation.getMessage(), violation.getConstraintDescriptor().getMessageTemplate() );
+			assertEquals( violation.getMessage(), "invalid number" );
+		}
+	}
+
+	@Test
+	public void testEscapedLiteralsAreStillReplaced() {
+		Set<ConstraintViolation<Order>> violations = getValidator( null, false ).validate( new Order( "ABC", "1234567" ) );
+		assertEquals( violations.size(), 1 );
+		assertEquals( violations.iterator().next().getMessage(), "number too long, {max} exceeded" );
+	}
+
+	@Test
+	public void testOverriddenInterpolationIsInvoked() {
+		MessageInterpolator messageInterpolator = new ResourceBundleMessageInterpolator() {
+
+			@Override
+			public String interpolate(String message, Context context) {
+				return super.interpolate( message, context ).toUpperCase( Locale.ROOT );
+			}
+		};
+
+		Iterator<ConstraintViolation<Order>> violations = getValidator( messageInterpolator, false )
+				.validate( new Order( "ABC", "12" ) )
+				.iterator();
+		assertEquals( violations.next().getMessage(), "INVALID NUMBER" );
+	}
+
+	private static Validator getValidator(MessageInterpolator messageInterpolator, boolean deferredMessageInterpolation) {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class, Locale.ENGLISH );
+		if ( messageInterpolator != null ) {
+			configuration.messageInterpolator( messageInterpolator );
+		}
+		return configuration.deferredMessageInterpolation( deferredMessageInterpolation )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	private static class Order {
+
+		@NotNull
+		private final String code;
+
+		@Size(min = 3, message = "invalid number")
+		@Size(max = 6, message = "number too long, \\{max\\} exceeded")
+		private final String number;
+
+		private Order(String code, String number) {
+			this.code = code;
+			this.number = number;
+		}
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+
+import org.hibernate.validator.BaseHibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the deferred interpolation of the constraint violation messages.
+ */
+public class DeferredMessageInterpolationTest {
+
+	@Test
+	public void testMessageIsInterpolatedOnFirstAccess() {
+		CountingMessageInterpolator messageInterpolator = new CountingMessageInterpolator();
+		Validator validator = getValidator( messageInterpolator, true );
+
+		Set<ConstraintViolation<Order>> violations = validator.validate( new Order( null, 20 ) );
+		assertEquals( violations.size(), 2 );
+		assertEquals( messageInterpolator.interpolations.get(), 0 );
+
+		for ( ConstraintViolation<Order> violation : violations ) {
+			violation.getMessageTemplate();
+			violation.getPropertyPath();
+		}
+		assertEquals( messageInterpolator.interpolations.get(), 0 );
+
+		ConstraintViolation<Order> violation = violations.iterator().next();
+		String message = violation.getMessage();
+		assertEquals( violation.getMessage(), message );
+		assertEquals( messageInterpolator.interpolations.get(), 1 );
+	}
+
+	@Test
+	public void testSameMessagesAsEagerInterpolation() {
+		Order order = new Order( null, 20 );
+
+		assertEquals(
+				toMessages( getValidator( null, true ).validate( order ) ),
+				toMessages( getValidator( null, false ).validate( order ) )
+		);
+	}
+
+	@Test
+	public void testDeferredMessageInterpolationUsingProperty() {
+		CountingMessageInterpolator messageInterpolator = new CountingMessageInterpolator();
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.messageInterpolator( messageInterpolator )
+				.addProperty( BaseHibernateValidatorConfiguration.DEFERRED_MESSAGE_INTERPOLATION, "true" );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		assertEquals( validator.validate( new Order( null, 20 ) ).size(), 2 );
+		assertEquals( messageInterpolator.interpolations.get(), 0 );
+	}
+
+	@Test
+	public void testDeferredMessageInterpolationUsingValidatorContext() {
+		CountingMessageInterpolator messageInterpolator = new CountingMessageInterpolator();
+		ValidatorFactory factory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.messageInterpolator( messageInterpolator )
+				.buildValidatorFactory();
+		Validator validator = factory.unwrap( HibernateValidatorFactory.class ).usingContext()
+				.deferredMessageInterpolation( true )
+				.getValidator();
+
+		assertEquals( validator.validate( new Order( null, 20 ) ).size(), 2 );
+		assertEquals( messageInterpolator.interpolations.get(), 0 );
+
+		assertEquals( factory.getValidator().validate( new Order( null, 20 ) ).size(), 2 );
+		assertEquals( messageInterpolator.interpolations.get(), 2 );
+	}
+
+	@Test
+	public void testToStringInterpolatesTheMessage() {
+		Validator validator = getValidator( null, true );
+
+		ConstraintViolation<Order> violation = validator.validate( new Order( "ref", 20 ) ).iterator().next();
+		assertTrue( violation.toString().contains( "interpolatedMessage='must be less than or equal to 10'" ), violation.toString() );
+	}
+
+	@Test
+	public void testInterpolationErrorIsThrownByGetMessage() {
+		Validator validator = getValidator( new FailingMessageInterpolator(), true );
+
+		Set<ConstraintViolation<Order>> violations = validator.validate( new Order( "ref", 20 ) );
+		assertEquals( violations.size(), 1 );
+
+		try {
+			violations.iterator().next().getMessage();
+			fail( "Expected a ValidationException" );
+		}
+		catch (ValidationException e) {
+			assertEquals( e.getCause().getClass(), IllegalStateException.class );
+		}
+	}
+
+	@Test
+	public void testToStringFallsBackToTheMessageTemplateOnInterpolationError() {
+		Validator validator = getValidator( new FailingMessageInterpolator(), true );
+
+		ConstraintViolation<Order> violation = validator.validate( new Order( "ref", 20 ) ).iterator().next();
+		assertTrue( violation.toString().contains( "interpolatedMessage='{jakarta.validation.constraints.Max.message}'" ), violation.toString() );
+	}
+
+	@Test
+	public void testEquality() {
+		Validator deferredValidator = getValidator( null, true );
+		Order order = new Order( "ref", 20 );
+
+		ConstraintViolation<Order> violation = deferredValidator.validate( order ).iterator().next();
+		ConstraintViolation<Order> sameViolation = deferredValidator.validate( order ).iterator().next();
+		assertEquals( sameViolation, violation );
+		assertEquals( sameViolation.hashCode(), violation.hashCode() );
+
+		ConstraintViolation<Order> otherViolation = deferredValidator.validate( new Order( "ref", 20 ) ).iterator().next();
+		assertNotEquals( otherViolation, violation );
+
+		ConstraintViolation<Order> eagerViolation = getValidator( null, false ).validate( order ).iterator().next();
+		assertFalse( eagerViolation.equals( violation ) );
+		assertFalse( violation.equals( eagerViolation ) );
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testSerializationInterpolatesTheMessage() throws Exception {
+		CountingMessageInterpolator messageInterpolator = new CountingMessageInterpolator();
+		ConstraintViolation<Order> violation = getValidator( messageInterpolator, true ).validate( new Order( "ref", 20 ) )
+				.iterator().next();
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( ObjectOutputStream out = new ObjectOutputStream( bytes ) ) {
+			out.writeObject( violation );
+		}
+		assertEquals( messageInterpolator.interpolations.get(), 1 );
+
+		ConstraintViolation<Order> deserializedViolation;
+		try ( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ) ) {
+			deserializedViolation = (ConstraintViolation<Order>) in.readObject();
+		}
+		assertEquals( deserializedViolation.getMessage(), violation.getMessage() );
+		assertEquals( messageInterpolator.interpolations.get(), 1 );
+	}
+
+	private static Validator getValidator(MessageInterpolator messageInterpolator, boolean deferredMessageInterpolation) {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		if ( messageInterpolator != null ) {
+			configuration.messageInterpolator( messageInterpolator );
+		}
+		return configuration.deferredMessageInterpolation( deferredMessageInterpolation )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	private static Set<String> toMessages(Set<ConstraintViolation<Order>> violations) {
+		Set<String> messages = new HashSet<>();
+		for ( ConstraintViolation<Order> violation : violations ) {
+			messages.add( violation.getPropertyPath() + " " + violation.getMessage() );
+		}
+		return messages;
+	}
+
+	private static class CountingMessageInterpolator implements MessageInterpolator {
+
+		private final MessageInterpolator delegate = ValidatorUtil.getConfiguration().getDefaultMessageInterpolator();
+
+		private final AtomicInteger interpolations = new AtomicInteger();
+
+		@Override
+		public String interpolate(String messageTemplate, Context context) {
+			interpolations.incrementAndGet();
+			return delegate.interpolate( messageTemplate, context );
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context, Locale locale) {
+			interpolations.incrementAndGet();
+			return delegate.interpolate( messageTemplate, context, locale );
+		}
+	}
+
+	private static class FailingMessageInterpolator implements MessageInterpolator {
+
+		@Override
+		public String interpolate(String messageTemplate, Context context) {
+			throw new IllegalStateException( "Interpolation failure" );
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context, Locale locale) {
+			throw new IllegalStateException( "Interpolation failure" );
+		}
+	}
+
+	private static class Order implements Serializable {
+
+		@NotNull
+		private final String reference;
+
+		@Max(10)
+		private final Integer quantity;
+
+		private Order(String reference, Integer quantity) {
+			this.reference = reference;
+			this.quantity = quantity;
+		}
+	}
+}
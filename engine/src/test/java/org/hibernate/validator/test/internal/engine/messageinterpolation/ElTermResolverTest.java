@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static org.testng.Assert.assertEquals;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.el.ELContext;
+import jakarta.el.ELResolver;
+import jakarta.el.ExpressionFactory;
+import jakarta.el.MethodExpression;
+import jakarta.el.ValueExpression;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.internal.engine.MessageInterpolatorContext;
+import org.hibernate.validator.internal.engine.messageinterpolation.ElTermResolver;
+import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.internal.metadata.location.ConstraintLocation.ConstraintLocationKind;
+import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
+import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the parsed expressions shared by the {@link ElTermResolver}.
+ */
+public class ElTermResolverTest {
+
+	private CountingExpressionFactory expressionFactory;
+	private ElTermResolver resolver;
+	private ConstraintDescriptorImpl<Size> sizeDescriptor;
+
+	@BeforeMethod
+	public void setUp() {
+		expressionFactory = new CountingExpressionFactory( ExpressionFactory.newInstance() );
+		resolver = new ElTermResolver( expressionFactory );
+
+		sizeDescriptor = new ConstraintDescriptorImpl<>(
+				ConstraintHelper.forAllBuiltinConstraints(),
+				null,
+				new ConstraintAnnotationDescriptor.Builder<>( Size.class ).build(),
+				ConstraintLocationKind.FIELD
+		);
+	}
+
+	@Test
+	public void testExpressionIsParsedOnce() {
+		for ( int i = 0; i < 3; i++ ) {
+			assertEquals(
+					resolver.interpolate( createContext( i, Collections.emptyMap(), ExpressionLanguageFeatureLevel.VARIABLES ), Locale.ROOT, "${validatedValue}" ),
+					String.valueOf( i )
+			);
+		}
+		assertEquals( expressionFactory.parsedExpressions.get(), 1 );
+	}
+
+	@Test
+	public void testParsedExpressionIsSharedByTheFeatureLevels() {
+		User user = new User();
+		user.setAge( 18 );
+
+		assertEquals(
+				resolver.interpolate( createContext( user, Collections.emptyMap(), ExpressionLanguageFeatureLevel.BEAN_PROPERTIES ), Locale.ROOT, "${validatedValue.age}" ),
+				"18"
+		);
+		// bean properties are not accessible when only the variables are enabled
+		assertEquals(
+				resolver.interpolate( createContext( user, Collections.emptyMap(), ExpressionLanguageFeatureLevel.VARIABLES ), Locale.ROOT, "${validatedValue.age}" ),
+				"${validatedValue.age}"
+		);
+		assertEquals( expressionFactory.parsedExpressions.get(), 1 );
+	}
+
+	@Test
+	public void testExpressionVariablesTakePrecedenceOverAttributes() {
+		assertEquals(
+				resolver.interpolate( createContext( "value", Collections.emptyMap(), ExpressionLanguageFeatureLevel.VARIABLES ), Locale.ROOT, "${min}-${max}" ),
+				"0-2147483647"
+		);
+		assertEquals(
+				resolver.interpolate( createContext( "value", Map.of( "min", 5 ), ExpressionLanguageFeatureLevel.VARIABLES ), Locale.ROOT, "${min}-${max}" ),
+				"5-2147483647"
+		);
+	}
+
+	@Test
+	public void testFormatter() {
+		assertEquals(
+				resolver.interpolate( createContext( 1.5, Collections.emptyMap(), ExpressionLanguageFeatureLevel.VARIABLES ), Locale.FRANCE, "${formatter.format('%1$.2f', validatedValue)}" ),
+				"1,50"
+		);
+		assertEquals(
+				resolver.interpolate( createContext( 2.5, Collections.emptyMap(), ExpressionLanguageFeatureLevel.VARIABLES ), Locale.US, "${formatter.format('%1$.2f', validatedValue)}" ),
+				"2.50"
+		);
+		assertEquals( expressionFactory.parsedExpressions.get(), 1 );
+	}
+
+	private MessageInterpolator.Context createContext(Object validatedValue, Map<String, Object> expressionVariables,
+			ExpressionLanguageFeatureLevel expressionLanguageFeatureLevel) {
+		return new MessageInterpolatorContext(
+				sizeDescriptor,
+				validatedValue,
+				null,
+				null,
+				Collections.emptyMap(),
+				expressionVariables,
+				expressionLanguageFeatureLevel,
+				false,
+				null
+		);
+	}
+
+	private static class CountingExpressionFactory extends ExpressionFactory {
+
+		private final ExpressionFactory delegate;
+
+		private final AtomicInteger parsedExpressions = new AtomicInteger();
+
+		private CountingExpressionFactory(ExpressionFactory delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public ValueExpression createValueExpression(ELContext context, String expression, Class<?> expectedType) {
+			parsedExpressions.incrementAndGet();
+			return delegate.createValueExpression( context, expression, expectedType );
+		}
+
+		@Override
+		public ValueExpression createValueExpression(Object instance, Class<?> expectedType) {
+			return delegate.createValueExpression( instance, expectedType );
+		}
+
+		@Override
+		public MethodExpression createMethodExpression(ELContext context, String expression, Class<?> expectedReturnType,
+				Class<?>[] expectedParamTypes) {
+			return delegate.createMethodExpression( context, expression, expectedReturnType, expectedParamTypes );
+		}
+
+		@Override
+		public <T> T coerceToType(Object obj, Class<T> targetType) {
+			return delegate.coerceToType( obj, targetType );
+		}
+
+		@Override
+		public ELResolver getStreamELResolver() {
+			return delegate.getStreamELResolver();
+		}
+
+		@Override
+		public Map<String, Method> getInitFunctionMap() {
+			return delegate.getInitFunctionMap();
+		}
+	}
+}
@@ -7,13 +7,18 @@
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.MessageInterpolator;
 import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.AssertFalse;
 import jakarta.validation.metadata.ConstraintDescriptor;
 
 import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorFactory;
 import org.hibernate.validator.spi.messageinterpolation.LocaleResolver;
 import org.hibernate.validator.spi.messageinterpolation.LocaleResolverContext;
 import org.hibernate.validator.testutil.TestForIssue;
@@ -63,6 +68,47 @@ public void run() {
 		} );
 	}
 
+	@Test
+	public void testLocaleBoundToTheValidatorContext() {
+		CountingLocaleResolver localeResolver = new CountingLocaleResolver();
+		ValidatorFactory validatorFactory = Validation.byProvider( HibernateValidator.class )
+				.configure()
+				.localeResolver( localeResolver )
+				.buildValidatorFactory();
+
+		Validator validator = validatorFactory.unwrap( HibernateValidatorFactory.class ).usingContext()
+				.locale( Locale.ITALY )
+				.getValidator();
+		assertThat( validator.validate( new Bean() ) ).extracting( ConstraintViolation::getMessage )
+				.containsExactly( "deve essere false" );
+		assertThat( localeResolver.resolutions.get() ).isZero();
+
+		validator = validatorFactory.unwrap( HibernateValidatorFactory.class ).usingContext()
+				.locale( Locale.ITALY )
+				.locale( null )
+				.getValidator();
+		assertThat( validator.validate( new Bean() ) ).extracting( ConstraintViolation::getMessage )
+				.containsExactly( "doit avoir la valeur faux" );
+		assertThat( localeResolver.resolutions.get() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testLocaleBoundToTheValidatorContextWithDeferredMessageInterpolation() {
+		CountingLocaleResolver localeResolver = new CountingLocaleResolver();
+		ValidatorFactory validatorFactory = Validation.byProvider( HibernateValidator.class )
+				.configure()
+				.localeResolver( localeResolver )
+				.buildValidatorFactory();
+
+		Validator validator = validatorFactory.unwrap( HibernateValidatorFactory.class ).usingContext()
+				.deferredMessageInterpolation( true )
+				.locale( Locale.ITALY )
+				.getValidator();
+		assertThat( validator.validate( new Bean() ) ).extracting( ConstraintViolation::getMessage )
+				.containsExactly( "deve essere false" );
+		assertThat( localeResolver.resolutions.get() ).isZero();
+	}
+
 	private void runWithCustomValidationXml(String validationXmlName, Runnable runnable) {
 		new ValidationXmlTestHelper( LocaleResolverTest.class ).runWithCustomValidationXml( validationXmlName, runnable );
 	}
@@ -77,6 +123,23 @@ public Locale resolve(LocaleResolverContext context) {
 		}
 	}
 
+	public static class CountingLocaleResolver implements LocaleResolver {
+
+		private final AtomicInteger resolutions = new AtomicInteger();
+
+		@Override
+		public Locale resolve(LocaleResolverContext context) {
+			resolutions.incrementAndGet();
+			return Locale.FRANCE;
+		}
+	}
+
+	private static class Bean {
+
+		@AssertFalse
+		private boolean enabled = true;
+	}
+
 	private static class TestContext implements MessageInterpolator.Context {
 
 		@Override
@@ -0,0 +1,197 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static org.hibernate.validator.testutils.ValidatorUtil.getConfiguration;
+import static org.testng.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import jakarta.el.ExpressionFactory;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.constraints.LuhnCheck;
+import org.hibernate.validator.constraints.time.DurationMax;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.hibernate.validator.internal.engine.MessageInterpolatorContext;
+import org.hibernate.validator.internal.engine.messageinterpolation.ElTermResolver;
+import org.hibernate.validator.internal.engine.messageinterpolation.SimpleExpressionTermResolver;
+import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.internal.metadata.location.ConstraintLocation.ConstraintLocationKind;
+import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
+import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
+import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
+import org.hibernate.validator.messageinterpolation.SimpleExpressionMessageInterpolator;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link SimpleExpressionMessageInterpolator}, checking the expressions render as with an Expression
+ * Language implementation.
+ */
+public class SimpleExpressionMessageInterpolatorTest {
+
+	private static final List<String> EXPRESSIONS = List.of(
+			"${validatedValue}",
+			"${1 + 2}",
+			"${1.5 + 2}",
+			"${'1.5' + 1}",
+			"${10 / 4}",
+			"${10 % 3} ${10 mod 3} ${-7 div 2}",
+			"${-min} ${max - 1} ${max + 1}",
+			"${(1 + 2) * 3} ${1e3} ${.5}",
+			"${min == 0} ${min eq '0'} ${min != max}",
+			"${min < max} ${min ge max} ${'a' lt 'b'}",
+			"${empty validatedValue} ${not empty ''} ${!true}",
+			"${min == 0 ? 'zero' : 'other'}",
+			"${'a' += min += \"b\"}",
+			"${'it\\'s'}",
+			"${null} ${null + null}",
+			"${true and false or true} ${'true' && true}",
+			"${formatter.format('%1$.2f', 1.5)}",
+			"${formatter.format('%s-%s', min, max)}",
+			"${validatedValue + 1} ${validatedValue * 2} ${-validatedValue} ${validatedValue / 0}",
+			"${validatedValue == 42} ${validatedValue == 0} ${validatedValue == false}",
+			"${validatedValue > 1} ${validatedValue < 1}",
+			"${validatedValue && true}",
+			"${1 / 0} ${1 % 0}",
+			"${validatedValue == 'abcd'}",
+			"${unknown}",
+			"${min +}"
+	);
+
+	private static final List<Object> VALIDATED_VALUES = List.of(
+			"abcd",
+			1.5,
+			new BigDecimal( "2.50" ),
+			42L,
+			""
+	);
+
+	private ConstraintDescriptorImpl<Size> sizeDescriptor;
+
+	@BeforeMethod
+	public void setUp() {
+		sizeDescriptor = new ConstraintDescriptorImpl<>(
+				ConstraintHelper.forAllBuiltinConstraints(),
+				null,
+				new ConstraintAnnotationDescriptor.Builder<>( Size.class ).build(),
+				ConstraintLocationKind.FIELD
+		);
+	}
+
+	@Test
+	public void testExpressionsEvaluateAsWithExpressionLanguage() {
+		ElTermResolver elTermResolver = new ElTermResolver( ExpressionFactory.newInstance() );
+		SimpleExpressionTermResolver simpleExpressionTermResolver = new SimpleExpressionTermResolver();
+
+		for ( String expression : EXPRESSIONS ) {
+			for ( Object validatedValue : VALIDATED_VALUES ) {
+				MessageInterpolator.Context context = createContext( validatedValue );
+				for ( String term : terms( expression ) ) {
+					assertEquals(
+							simpleExpressionTermResolver.interpolate( context, Locale.US, term ),
+							elTermResolver.interpolate( context, Locale.US, term ),
+							"Unexpected value of " + term + " for " + validatedValue
+					);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testFormatterUsesTheLocale() {
+		SimpleExpressionTermResolver resolver = new SimpleExpressionTermResolver();
+
+		assertEquals( resolver.interpolate( createContext( 1.5 ), Locale.FRANCE, "${formatter.format('%1$.2f', validatedValue)}" ), "1,50" );
+		assertEquals( resolver.interpolate( createContext( 2.5 ), Locale.US, "${formatter.format('%1$.2f', validatedValue)}" ), "2.50" );
+	}
+
+	@Test
+	public void testUnsupportedExpressionsAreLeftAsIs() {
+		SimpleExpressionTermResolver resolver = new SimpleExpressionTermResolver();
+		MessageInterpolator.Context context = createContext( "abcd" );
+
+		for ( String expression : List.of( "${validatedValue.bytes}", "${validatedValue.length()}", "${validatedValue[0]}", "${[1, 2]}",
+				"${x -> x}", "${fn:length(validatedValue)}", "${min = 2}", "${validatedValue instanceof String}" ) ) {
+			assertEquals( resolver.interpolate( context, Locale.US, expression ), expression );
+		}
+	}
+
+	@Test
+	public void testBuiltInMessagesMatchTheResourceBundleMessageInterpolator() {
+		Validator elValidator = getConfiguration().messageInterpolator( new ResourceBundleMessageInterpolator() ).buildValidatorFactory().getValidator();
+		Validator simpleExpressionValidator = getConfiguration().messageInterpolator( new SimpleExpressionMessageInterpolator() ).buildValidatorFactory()
+				.getValidator();
+
+		Order order = new Order();
+		List<String> messages = messages( simpleExpressionValidator, order );
+
+		assertEquals( messages.size(), 7 );
+		assertEquals( messages, messages( elValidator, order ) );
+	}
+
+	private static List<String> messages(Validator validator, Object bean) {
+		return validator.validate( bean ).stream()
+				.map( violation -> violation.getPropertyPath() + ": " + violation.getMessage() )
+				.sorted()
+				.collect( Collectors.toList() );
+	}
+
+	private static List<String> terms(String expression) {
+		// the resolvers are given a single expression
+		return List.of( expression.split( " (?=\\$\\{)" ) );
+	}
+
+	private MessageInterpolator.Context createContext(Object validatedValue) {
+		return new MessageInterpolatorContext(
+				sizeDescriptor,
+				validatedValue,
+				null,
+				null,
+				Collections.emptyMap(),
+				Map.of(),
+				ExpressionLanguageFeatureLevel.VARIABLES,
+				false,
+				null
+		);
+	}
+
+	private static class Order {
+
+		@DecimalMax("100.00")
+		private BigDecimal price = new BigDecimal( "150.00" );
+
+		@DecimalMax(value = "20.00", inclusive = false)
+		private BigDecimal discount = new BigDecimal( "30.00" );
+
+		@DecimalMin(value = "1.00", inclusive = false)
+		private BigDecimal quantity = BigDecimal.ZERO;
+
+		@DurationMax(days = 1, hours = 2)
+		private Duration preparation = Duration.ofDays( 3 );
+
+		@DurationMin(minutes = 30, inclusive = false)
+		private Duration delivery = Duration.ofMinutes( 10 );
+
+		@DurationMax(seconds = 1, millis = 500, inclusive = false)
+		private Duration validation = Duration.ofSeconds( 3 );
+
+		@LuhnCheck
+		private String cardNumber = "4111111111111112";
+	}
+}
@@ -0,0 +1,319 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.parallelcascade;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Payload;
+import jakarta.validation.Valid;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the parallel validation of the elements of large cascaded containers.
+ */
+public class ParallelCascadeTest {
+
+	private static final int SIZE = 1_000;
+
+	/**
+	 * A dedicated pool, so that the elements are validated concurrently whatever the number of processors.
+	 */
+	private static final ForkJoinPool EXECUTOR = new ForkJoinPool( 4 );
+
+	@Test
+	public void testParallelValidationReportsTheSameViolationsAsSequentialValidation() {
+		Order order = createOrder( SIZE, 7 );
+
+		Set<String> expected = toPaths( getValidator( 0 ).validate( order ) );
+		Set<String> actual = toPaths( getValidator( 10 ).validate( order ) );
+
+		assertEquals( expected.size(), SIZE / 7 + 1 + SIZE / 7 + 1 );
+		assertEquals( actual, expected );
+	}
+
+	@Test
+	public void testViolationPathsContainTheElementIndexAndKey() {
+		Order order = createOrder( 20, 20 );
+
+		assertThat( getValidator( 2 ).validate( order ) ).containsOnlyViolations(
+				violationOf( Min.class ).withPropertyPath( pathWith()
+						.property( "lines" )
+						.property( "quantity", true, null, 0, List.class, 0 ) ),
+				violationOf( Min.class ).withPropertyPath( pathWith()
+						.property( "linesByReference" )
+						.property( "quantity", true, "ref-0", null, Map.class, 1 ) )
+		);
+	}
+
+	@Test
+	public void testFailFastReportsTheFirstViolationOfTheSequentialValidation() {
+		Order order = createOrder( SIZE, 1 );
+		order.lines.get( 0 ).quantity = 1;
+		order.lines.get( 1 ).quantity = 1;
+		order.linesByReference.values().forEach( line -> line.quantity = 1 );
+
+		for ( int i = 0; i < 20; i++ ) {
+			Set<ConstraintViolation<Order>> violations = getFailFastValidator( 10 ).validate( order );
+			assertThat( violations ).containsOnlyViolations(
+					violationOf( Min.class ).withPropertyPath( pathWith()
+							.property( "lines" )
+							.property( "quantity", true, null, 2, List.class, 0 ) )
+			);
+		}
+	}
+
+	@Test
+	public void testThresholdUsingProperty() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.addProperty( HibernateValidatorConfiguration.PARALLEL_CASCADE_THRESHOLD, "10" );
+
+		CountingForkJoinPool executor = new CountingForkJoinPool( 4 );
+		try {
+			configuration.parallelCascadeExecutor( executor );
+
+			try ( ValidatorFactory factory = configuration.buildValidatorFactory() ) {
+				assertEquals( factory.getValidator().validate( createOrder( SIZE, 7 ) ).size(), SIZE / 7 + 1 + SIZE / 7 + 1 );
+			}
+			assertTrue( executor.executedTasks.get() > 0 );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testCustomExecutor() {
+		ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+			configuration.parallelCascadeThreshold( 10 )
+					.parallelCascadeExecutor( executor );
+
+			try ( ValidatorFactory factory = configuration.buildValidatorFactory() ) {
+				Order order = createOrder( SIZE, 7 );
+				assertEquals( toPaths( factory.getValidator().validate( order ) ), toPaths( getValidator( 0 ).validate( order ) ) );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testRejectingExecutor() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.parallelCascadeThreshold( 10 )
+				.parallelCascadeExecutor( task -> {
+					throw new RejectedExecutionException();
+				} );
+
+		try ( ValidatorFactory factory = configuration.buildValidatorFactory() ) {
+			assertEquals( factory.getValidator().validate( createOrder( SIZE, 7 ) ).size(), SIZE / 7 + 1 + SIZE / 7 + 1 );
+		}
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000288.*")
+	public void testUndeclaredCheckedExceptionIsRethrown() {
+		List<Item> items = new ArrayList<>();
+		for ( int i = 0; i < SIZE; i++ ) {
+			items.add( new Item( i == SIZE / 2 ? 1 : 0 ) );
+		}
+
+		getValidator( 10 ).validate( new Basket( items ) );
+	}
+
+	@Test
+	public void testExecutorThreadsUseTheContextClassLoaderOfTheValidatingThread() {
+		List<Item> items = new ArrayList<>();
+		for ( int i = 0; i < SIZE; i++ ) {
+			items.add( new Item( 0 ) );
+		}
+
+		Thread currentThread = Thread.currentThread();
+		ClassLoader originalContextClassLoader = currentThread.getContextClassLoader();
+		ForkJoinPool executor = new ForkJoinPool( 4, pool -> {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( pool );
+			thread.setContextClassLoader( originalContextClassLoader );
+			return thread;
+		}, null, false );
+		ClassLoader contextClassLoader = new ClassLoader( originalContextClassLoader ) {
+		};
+		try {
+			HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+			configuration.parallelCascadeThreshold( 10 )
+					.parallelCascadeExecutor( executor );
+
+			try ( ValidatorFactory factory = configuration.buildValidatorFactory() ) {
+				RecordingContextClassLoaderValidator.CONTEXT_CLASS_LOADERS.clear();
+				currentThread.setContextClassLoader( contextClassLoader );
+				factory.getValidator().validate( new Basket( items ) );
+			}
+		}
+		finally {
+			currentThread.setContextClassLoader( originalContextClassLoader );
+			executor.shutdownNow();
+		}
+
+		assertEquals( RecordingContextClassLoaderValidator.CONTEXT_CLASS_LOADERS, Set.of( contextClassLoader ) );
+	}
+
+	private static Validator getValidator(int threshold) {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.parallelCascadeThreshold( threshold )
+				.parallelCascadeExecutor( EXECUTOR );
+		return configuration.buildValidatorFactory().getValidator();
+	}
+
+	private static Validator getFailFastValidator(int threshold) {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.parallelCascadeThreshold( threshold )
+				.parallelCascadeExecutor( EXECUTOR )
+				.failFast( true );
+		return configuration.buildValidatorFactory().getValidator();
+	}
+
+	private static Order createOrder(int size, int invalidEvery) {
+		List<Line> lines = new ArrayList<>();
+		Map<String, Line> linesByReference = new LinkedHashMap<>();
+		for ( int i = 0; i < size; i++ ) {
+			Line line = new Line( i % invalidEvery == 0 ? 0 : 1 );
+			lines.add( line );
+			linesByReference.put( "ref-" + i, new Line( line.quantity ) );
+		}
+		return new Order( lines, linesByReference );
+	}
+
+	private static Set<String> toPaths(Set<? extends ConstraintViolation<?>> violations) {
+		return violations.stream()
+				.map( violation -> violation.getPropertyPath().toString() )
+				.collect( Collectors.toSet() );
+	}
+
+	private static class CountingForkJoinPool extends ForkJoinPool {
+
+		private final AtomicInteger executedTasks = new AtomicInteger();
+
+		private CountingForkJoinPool(int parallelism) {
+			super( parallelism );
+		}
+
+		@Override
+		public void execute(Runnable task) {
+			executedTasks.incrementAndGet();
+			super.execute( task );
+		}
+	}
+
+	@Target({ TYPE, FIELD })
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = RecordingContextClassLoaderValidator.class)
+	public @interface RecordContextClassLoader {
+
+		String message() default "";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class RecordingContextClassLoaderValidator implements ConstraintValidator<RecordContextClassLoader, Integer> {
+
+		private static final Set<ClassLoader> CONTEXT_CLASS_LOADERS = ConcurrentHashMap.newKeySet();
+
+		@Override
+		public boolean isValid(Integer value, ConstraintValidatorContext context) {
+			CONTEXT_CLASS_LOADERS.add( Thread.currentThread().getContextClassLoader() );
+			if ( value == 1 ) {
+				// throws a checked exception without declaring it
+				return RecordingContextClassLoaderValidator.<RuntimeException>sneakyThrow( new IOException( "Item unavailable" ) );
+			}
+			return true;
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <E extends Throwable> boolean sneakyThrow(Throwable e) throws E {
+			throw (E) e;
+		}
+	}
+
+	private static class Basket {
+
+		private final List<@Valid Item> items;
+
+		private Basket(List<Item> items) {
+			this.items = items;
+		}
+	}
+
+	private static class Item {
+
+		@RecordContextClassLoader
+		private final int state;
+
+		private Item(int state) {
+			this.state = state;
+		}
+	}
+
+	private static class Order {
+
+		private final List<@NotNull @Valid Line> lines;
+
+		private final Map<String, @Valid Line> linesByReference;
+
+		private Order(List<Line> lines, Map<String, Line> linesByReference) {
+			this.lines = lines;
+			this.linesByReference = linesByReference;
+		}
+	}
+
+	private static class Line {
+
+		@Min(1)
+		private int quantity;
+
+		private Line(int quantity) {
+			this.quantity = quantity;
+		}
+	}
+}
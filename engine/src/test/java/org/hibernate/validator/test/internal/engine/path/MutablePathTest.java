@@ -12,6 +12,7 @@
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 import java.lang.reflect.Method;
@@ -22,6 +23,7 @@
 import java.util.Set;
 
 import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ElementKind;
 import jakarta.validation.Path;
 import jakarta.validation.Valid;
 import jakarta.validation.Validator;
@@ -33,6 +35,9 @@
 import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
 import org.hibernate.validator.internal.engine.path.MutablePath;
 import org.hibernate.validator.internal.engine.tracking.DefaultProcessedBeansTrackingVoter;
+import org.hibernate.validator.internal.engine.valuecontext.BeanValueContext;
+import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
+import org.hibernate.validator.internal.engine.valuecontext.ValueContexts;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManagerImpl;
 import org.hibernate.validator.internal.metadata.DefaultBeanMetaDataClassNormalizer;
@@ -257,6 +262,34 @@ public void testCreationOfExecutablePath() throws Exception {
 		assertEquals( methodParameterPath.toString(), "addItem" );
 	}
 
+	@Test
+	public void testValueContextUpdatesItsPathInPlace() {
+		MutablePath rootPath = MutablePath.createRootPath();
+		BeanValueContext<Object, Object> valueContext = ValueContexts.getLocalExecutionContextForRootBean(
+				new ExecutableParameterNameProvider( new DefaultParameterNameProvider() ),
+				new Object(),
+				null,
+				rootPath
+		);
+
+		MutablePath path = valueContext.getPropertyPath();
+		ValueContext.ValueState<Object> originalValueState = valueContext.getCurrentValueState();
+
+		valueContext.appendTypeParameterNode( "element" );
+		assertSame( valueContext.getPropertyPath(), path );
+		assertEquals( path.getLeafNode().getKind(), ElementKind.CONTAINER_ELEMENT );
+
+		Path materializedPath = path.materialize();
+
+		valueContext.resetValueState( originalValueState );
+		assertSame( valueContext.getPropertyPath(), path );
+		assertTrue( path.getLeafNode().isRootPath() );
+
+		// the materialized path and the path given to the context are not affected
+		assertEquals( materializedPath.toString(), "element" );
+		assertNull( rootPath.getLeafNode().getName() );
+	}
+
 	@Test(expectedExceptions = IllegalArgumentException.class)
 	public void testCreationOfExecutablePathFailsDueToMissingExecutable() {
 		MutablePath.createPathForExecutable( null );
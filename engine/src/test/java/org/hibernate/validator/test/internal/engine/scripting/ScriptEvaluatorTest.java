@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.scripting;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Map;
+
+import javax.script.ScriptEngineManager;
+
+import org.hibernate.validator.internal.engine.scripting.DefaultScriptEvaluatorFactory;
+import org.hibernate.validator.internal.engine.scripting.SimpleExpressionScriptEvaluator;
+import org.hibernate.validator.spi.scripting.PreparedScript;
+import org.hibernate.validator.spi.scripting.ScriptEngineScriptEvaluator;
+import org.hibernate.validator.spi.scripting.ScriptEvaluationException;
+import org.hibernate.validator.spi.scripting.ScriptEvaluator;
+import org.hibernate.validator.spi.scripting.ScriptEvaluatorProvider;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the preparation of the scripts and the selection of the {@link ScriptEvaluator}s.
+ */
+public class ScriptEvaluatorTest {
+
+	@Test
+	public void testPreparedScriptsAreReusable() {
+		ScriptEvaluator scriptEvaluator = new ScriptEngineScriptEvaluator( new ScriptEngineManager().getEngineByName( "groovy" ) );
+
+		PreparedScript preparedScript = scriptEvaluator.prepare( "a + b" );
+
+		assertEquals( preparedScript.evaluate( Map.of( "a", 1, "b", 2 ) ), 3 );
+		assertEquals( preparedScript.evaluate( Map.of( "a", 3, "b", 4 ) ), 7 );
+		assertEquals( scriptEvaluator.evaluate( "a + b", Map.of( "a", 5, "b", 6 ) ), 11 );
+	}
+
+	@Test(expectedExceptions = ScriptEvaluationException.class)
+	public void testInvalidScriptIsReportedWhenEvaluated() {
+		PreparedScript preparedScript = new ScriptEngineScriptEvaluator( new ScriptEngineManager().getEngineByName( "groovy" ) )
+				.prepare( "a +" );
+
+		preparedScript.evaluate( Map.of( "a", 1 ) );
+	}
+
+	@Test
+	public void testExpressionScripts() {
+		ScriptEvaluator scriptEvaluator = new SimpleExpressionScriptEvaluator();
+		Date startDate = new GregorianCalendar( 2009, 8, 20 ).getTime();
+		Date endDate = new GregorianCalendar( 2009, 8, 21 ).getTime();
+
+		PreparedScript preparedScript = scriptEvaluator.prepare( "_this.startDate lt _this.endDate" );
+		assertEquals( preparedScript.evaluate( Map.of( "_this", new CalendarEvent( startDate, endDate ) ) ), true );
+		assertEquals( preparedScript.evaluate( Map.of( "_this", new CalendarEvent( endDate, startDate ) ) ), false );
+
+		assertEquals( scriptEvaluator.evaluate( "not empty _this.name and _this.valid", Map.of( "_this", new Item( "foo", true ) ) ), true );
+		assertEquals( scriptEvaluator.evaluate( "_this.quantity.max > 10", Map.of( "_this", Map.of( "quantity", Map.of( "max", 20 ) ) ) ), true );
+		assertEquals( scriptEvaluator.evaluate( "_this.range.min + _this.range.max", Map.of( "_this", new Period( new Range( 1, 2 ) ) ) ), 3L );
+		assertNull( scriptEvaluator.evaluate( "_this.range.min", Map.of( "_this", new Period( null ) ) ) );
+	}
+
+	@Test(expectedExceptions = ScriptEvaluationException.class)
+	public void testExpressionScriptsDoNotSupportMethodCalls() {
+		new SimpleExpressionScriptEvaluator().evaluate( "_this.startDate.before(_this.endDate)", Map.of( "_this", new Object() ) );
+	}
+
+	@Test(expectedExceptions = ScriptEvaluationException.class)
+	public void testUnknownPropertyIsReported() {
+		new SimpleExpressionScriptEvaluator().evaluate( "_this.foo", Map.of( "_this", new Item( "foo", true ) ) );
+	}
+
+	@Test(expectedExceptions = ScriptEvaluationException.class)
+	public void testClassIsNotAProperty() {
+		new SimpleExpressionScriptEvaluator().evaluate( "_this.class.classLoader", Map.of( "_this", new Item( "foo", true ) ) );
+	}
+
+	@Test(expectedExceptions = ScriptEvaluationException.class)
+	public void testPropertyOfNonPublicTypeIsNotAccessible() {
+		new SimpleExpressionScriptEvaluator().evaluate( "_this.name", Map.of( "_this", new HiddenItem() ) );
+	}
+
+	@Test
+	public void testPropertyOfNonPublicTypeIsAccessibleThroughPublicSupertype() {
+		assertEquals( new SimpleExpressionScriptEvaluator().evaluate( "_this.name", Map.of( "_this", new HiddenNamed() ) ), "hidden" );
+	}
+
+	@Test
+	public void testScriptEvaluatorSelection() {
+		DefaultScriptEvaluatorFactory scriptEvaluatorFactory = new DefaultScriptEvaluatorFactory( null );
+
+		assertTrue( scriptEvaluatorFactory.getScriptEvaluatorByLanguageName( "expression" ) instanceof SimpleExpressionScriptEvaluator );
+		assertTrue( scriptEvaluatorFactory.getScriptEvaluatorByLanguageName( "groovy" ) instanceof ScriptEngineScriptEvaluator );
+		assertEquals( scriptEvaluatorFactory.getScriptEvaluatorByLanguageName( ConstantScriptEvaluatorProvider.LANGUAGE_NAME )
+				.evaluate( "anything", Map.of() ), true );
+	}
+
+	public static class ConstantScriptEvaluatorProvider implements ScriptEvaluatorProvider {
+
+		private static final String LANGUAGE_NAME = "constant-true";
+
+		@Override
+		public ScriptEvaluator getScriptEvaluator(String languageName) {
+			return LANGUAGE_NAME.equals( languageName ) ? (script, bindings) -> true : null;
+		}
+	}
+
+	public static class CalendarEvent {
+
+		private final Date startDate;
+
+		private final Date endDate;
+
+		private CalendarEvent(Date startDate, Date endDate) {
+			this.startDate = startDate;
+			this.endDate = endDate;
+		}
+
+		public Date getStartDate() {
+			return startDate;
+		}
+
+		public Date getEndDate() {
+			return endDate;
+		}
+	}
+
+	public static class Item {
+
+		private final String name;
+
+		private final boolean valid;
+
+		private Item(String name, boolean valid) {
+			this.name = name;
+			this.valid = valid;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public boolean isValid() {
+			return valid;
+		}
+	}
+
+	private static class HiddenItem {
+
+		public String getName() {
+			return "hidden";
+		}
+	}
+
+	public interface Named {
+
+		String getName();
+	}
+
+	private static class HiddenNamed implements Named {
+
+		@Override
+		public String getName() {
+			return "hidden";
+		}
+	}
+
+	public record Range(int min, int max) {
+	}
+
+	public record Period(Range range) {
+	}
+}
@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.streaming;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.StreamingValidator;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link StreamingValidator}.
+ */
+public class StreamingValidationTest {
+
+	@Test
+	public void testViolationsAreSentToTheConsumer() {
+		Validator validator = ValidatorUtil.getValidator();
+		Import csvImport = createImport( 1_000 );
+
+		List<ConstraintViolation<Import>> streamedViolations = new ArrayList<>();
+		int count = validator.unwrap( StreamingValidator.class ).validate( csvImport, streamedViolations::add );
+
+		assertEquals( count, 501 );
+		assertEquals( streamedViolations.size(), 501 );
+		assertEquals( toPaths( streamedViolations ), toPaths( validator.validate( csvImport ) ) );
+		for ( ConstraintViolation<Import> violation : streamedViolations ) {
+			assertSame( violation.getRootBean(), csvImport );
+		}
+	}
+
+	@Test
+	public void testMaxViolations() {
+		StreamingValidator validator = ValidatorUtil.getValidator().unwrap( StreamingValidator.class );
+
+		List<ConstraintViolation<Import>> streamedViolations = new ArrayList<>();
+		int count = validator.validate( createImport( 1_000 ), streamedViolations::add, 10 );
+
+		assertEquals( count, 10 );
+		assertEquals( streamedViolations.size(), 10 );
+	}
+
+	@Test
+	public void testValidBean() {
+		StreamingValidator validator = ValidatorUtil.getValidator().unwrap( StreamingValidator.class );
+
+		Import csvImport = new Import( "import.csv" );
+		csvImport.rows.add( new Row( 1 ) );
+
+		assertEquals( validator.validate( csvImport, violation -> {
+			throw new IllegalStateException( "No violation expected" );
+		} ), 0 );
+	}
+
+	@Test
+	public void testGroupSequenceStopsAtTheFirstFailingGroup() {
+		StreamingValidator validator = ValidatorUtil.getValidator().unwrap( StreamingValidator.class );
+
+		Import csvImport = createImport( 10 );
+		csvImport.name = null;
+
+		List<ConstraintViolation<Import>> streamedViolations = new ArrayList<>();
+		int count = validator.validate( csvImport, streamedViolations::add, ImportChecks.class );
+
+		assertEquals( count, 1 );
+		assertThat( new HashSet<>( streamedViolations ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" )
+		);
+	}
+
+	@Test
+	public void testStreamingWithPoolingAndParallelCascade() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.validationContextPooling( true )
+				.parallelCascadeThreshold( 10 )
+				.parallelCascadeExecutor( ForkJoinPool.commonPool() );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+		Import csvImport = createImport( 1_000 );
+
+		for ( int i = 0; i < 3; i++ ) {
+			Thread callingThread = Thread.currentThread();
+			List<ConstraintViolation<Import>> streamedViolations = new ArrayList<>();
+			validator.unwrap( StreamingValidator.class ).validate( csvImport, violation -> {
+				assertSame( Thread.currentThread(), callingThread );
+				streamedViolations.add( violation );
+			} );
+
+			assertEquals( toPaths( streamedViolations ), toPaths( validator.validate( csvImport ) ) );
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testMaxViolationsMustBePositive() {
+		ValidatorUtil.getValidator().unwrap( StreamingValidator.class ).validate( createImport( 1 ), violation -> { }, 0 );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testConsumerMustNotBeNull() {
+		ValidatorUtil.getValidator().unwrap( StreamingValidator.class ).validate( createImport( 1 ), (Consumer<ConstraintViolation<Import>>) null );
+	}
+
+	private static Import createImport(int rowCount) {
+		Import csvImport = new Import( "import.csv" );
+		for ( int i = 0; i < rowCount; i++ ) {
+			csvImport.rows.add( new Row( i % 2 ) );
+		}
+		return csvImport;
+	}
+
+	private static Set<String> toPaths(Iterable<ConstraintViolation<Import>> violations) {
+		Set<String> paths = new HashSet<>();
+		for ( ConstraintViolation<Import> violation : violations ) {
+			paths.add( violation.getPropertyPath() + " " + violation.getMessageTemplate() );
+		}
+		return paths;
+	}
+
+	public interface NameChecks {
+	}
+
+	public interface RowChecks {
+	}
+
+	@GroupSequence({ NameChecks.class, RowChecks.class })
+	public interface ImportChecks {
+	}
+
+	private static class Import {
+
+		@NotNull(groups = NameChecks.class)
+		private String name;
+
+		@Size(max = 100)
+		private final List<@Valid Row> rows = new ArrayList<>();
+
+		private Import(String name) {
+			this.name = name;
+		}
+	}
+
+	private static class Row {
+
+		@Min(value = 1)
+		@Min(value = 1, groups = RowChecks.class)
+		private final int quantity;
+
+		private Row(int quantity) {
+			this.quantity = quantity;
+		}
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.validationcontextpooling;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Payload;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.groups.Default;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the recycling of the validation contexts.
+ */
+public class ValidationContextPoolingTest {
+
+	@Test
+	public void testRecycledContextsProduceTheSameViolations() {
+		Validator validator = getValidatorWithPooling();
+
+		Order invalidOrder = createOrder( null, 0 );
+		Set<ConstraintViolation<Order>> firstViolations = validator.validate( invalidOrder );
+		assertOrderViolations( firstViolations );
+
+		assertThat( validator.validate( createOrder( "ref", 1 ) ) ).isEmpty();
+
+		// the violations of a previous call are not affected by the recycling of its context
+		assertOrderViolations( firstViolations );
+		assertOrderViolations( validator.validate( invalidOrder ) );
+		assertEquals( validator.validate( invalidOrder, Default.class, Extended.class ).size(), 4 );
+		assertOrderViolations( validator.validate( invalidOrder ) );
+	}
+
+	@Test
+	public void testPoolingUsingProperty() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.addProperty( HibernateValidatorConfiguration.VALIDATION_CONTEXT_POOLING, Boolean.TRUE.toString() );
+
+		try ( ValidatorFactory factory = configuration.buildValidatorFactory() ) {
+			Validator validator = factory.getValidator();
+			assertOrderViolations( validator.validate( createOrder( null, 0 ) ) );
+			assertOrderViolations( validator.validate( createOrder( null, 0 ) ) );
+		}
+	}
+
+	@Test
+	public void testNestedValidationGetsItsOwnContext() {
+		Validator validator = getValidatorWithPooling();
+		NestedValidationValidator.validator = validator;
+
+		try {
+			for ( int i = 0; i < 3; i++ ) {
+				assertThat( validator.validate( new Wrapper( createOrder( null, 0 ) ) ) ).containsOnlyViolations(
+						violationOf( ValidOrder.class )
+				);
+				assertThat( validator.validate( new Wrapper( createOrder( "ref", 1 ) ) ) ).isEmpty();
+			}
+		}
+		finally {
+			NestedValidationValidator.validator = null;
+		}
+	}
+
+	@Test
+	public void testConcurrentValidations() throws Exception {
+		Validator validator = getValidatorWithPooling();
+
+		ExecutorService executor = Executors.newFixedThreadPool( 8 );
+		try {
+			List<Callable<Integer>> tasks = new ArrayList<>();
+			for ( int i = 0; i < 200; i++ ) {
+				boolean valid = i % 2 == 0;
+				tasks.add( () -> validator.validate( valid ? createOrder( "ref", 1 ) : createOrder( null, 0 ) ).size() );
+			}
+
+			List<Future<Integer>> results = executor.invokeAll( tasks );
+			for ( int i = 0; i < results.size(); i++ ) {
+				assertEquals( results.get( i ).get().intValue(), i % 2 == 0 ? 0 : 3 );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static Validator getValidatorWithPooling() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.validationContextPooling( true );
+		return configuration.buildValidatorFactory().getValidator();
+	}
+
+	private static Order createOrder(String reference, int quantity) {
+		Customer customer = new Customer( reference == null ? null : "Bob" );
+		Order order = new Order( reference, customer, Arrays.asList( new Line( 1 ), new Line( quantity ) ) );
+		customer.lastOrder = order;
+		return order;
+	}
+
+	private static void assertOrderViolations(Set<ConstraintViolation<Order>> violations) {
+		assertThat( violations ).containsOnlyViolations(
+				violationOf( NotNull.class ).withPropertyPath( pathWith().property( "reference" ) ),
+				violationOf( NotNull.class ).withPropertyPath( pathWith().property( "customer" ).property( "name" ) ),
+				violationOf( Min.class ).withPropertyPath( pathWith().property( "lines" ).property( "quantity", true, null, 1, List.class, 0 ) )
+		);
+	}
+
+	public interface Extended {
+	}
+
+	private static class Order {
+
+		@NotNull
+		@NotNull(groups = Extended.class)
+		private final String reference;
+
+		@Valid
+		private final Customer customer;
+
+		private final List<@Valid Line> lines;
+
+		private Order(String reference, Customer customer, List<Line> lines) {
+			this.reference = reference;
+			this.customer = customer;
+			this.lines = lines;
+		}
+	}
+
+	private static class Customer {
+
+		@NotNull
+		private final String name;
+
+		@Valid
+		private Order lastOrder;
+
+		private Customer(String name) {
+			this.name = name;
+		}
+	}
+
+	private static class Line {
+
+		@Min(1)
+		private final int quantity;
+
+		private Line(int quantity) {
+			this.quantity = quantity;
+		}
+	}
+
+	@ValidOrder
+	private static class Wrapper {
+
+		private final Order order;
+
+		private Wrapper(Order order) {
+			this.order = order;
+		}
+	}
+
+	@Documented
+	@Constraint(validatedBy = NestedValidationValidator.class)
+	@Target({ TYPE })
+	@Retention(RUNTIME)
+	public @interface ValidOrder {
+
+		String message() default "invalid order";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class NestedValidationValidator implements ConstraintValidator<ValidOrder, Wrapper> {
+
+		private static volatile Validator validator;
+
+		@Override
+		public boolean isValid(Wrapper wrapper, ConstraintValidatorContext context) {
+			return validator.validate( wrapper.order ).isEmpty();
+		}
+	}
+}
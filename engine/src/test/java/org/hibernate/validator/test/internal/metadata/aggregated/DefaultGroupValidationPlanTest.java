@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.metadata.aggregated;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutils.ConstraintValidatorInitializationHelper.getDummyConstraintCreationContext;
+
+import java.util.Collections;
+
+import jakarta.validation.GroupSequence;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import org.hibernate.validator.internal.engine.DefaultParameterNameProvider;
+import org.hibernate.validator.internal.engine.DefaultPropertyNodeNameProvider;
+import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
+import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
+import org.hibernate.validator.internal.engine.tracking.DefaultProcessedBeansTrackingVoter;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManagerImpl;
+import org.hibernate.validator.internal.metadata.DefaultBeanMetaDataClassNormalizer;
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.internal.metadata.aggregated.DefaultGroupValidationPlan;
+import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
+import org.hibernate.validator.internal.properties.DefaultGetterPropertySelectionStrategy;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
+import org.hibernate.validator.internal.util.ExecutableHelper;
+import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
+import org.hibernate.validator.internal.util.TypeResolutionHelper;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link DefaultGroupValidationPlan}.
+ */
+public class DefaultGroupValidationPlanTest {
+
+	private BeanMetaDataManagerImpl beanMetaDataManager;
+
+	@BeforeMethod
+	public void setUpBeanMetaDataManager() {
+		beanMetaDataManager = new BeanMetaDataManagerImpl(
+				getDummyConstraintCreationContext(),
+				new ExecutableHelper( new TypeResolutionHelper() ),
+				new ExecutableParameterNameProvider( new DefaultParameterNameProvider() ),
+				new JavaBeanHelper( new DefaultGetterPropertySelectionStrategy(), new DefaultPropertyNodeNameProvider() ),
+				new DefaultBeanMetaDataClassNormalizer(),
+				new ValidationOrderGenerator(),
+				Collections.<MetaDataProvider>emptyList(),
+				new MethodValidationConfiguration.Builder().build(),
+				new DefaultProcessedBeansTrackingVoter()
+		);
+	}
+
+	@Test
+	public void planContainsOneStepPerClassOfTheHierarchy() {
+		BeanMetaData<Child> beanMetaData = beanMetaDataManager.getBeanMetaData( Child.class );
+
+		DefaultGroupValidationPlan.Step<Child>[] steps = beanMetaData.getDefaultGroupValidationPlan( beanMetaDataManager ).getSteps();
+
+		assertThat( steps ).hasSize( 3 );
+
+		assertThat( steps[0].getHostingClass() ).isEqualTo( Child.class );
+		assertThat( steps[0].getHostingBeanMetaData() ).isSameAs( beanMetaData );
+		assertThat( steps[0].getPropertyMetaConstraints() ).hasSize( 1 );
+		assertThat( steps[0].getClassMetaConstraints() ).isEmpty();
+		assertThat( steps[0].getAllMetaConstraints() ).hasSize( 1 );
+
+		assertThat( steps[1].getHostingClass() ).isEqualTo( Parent.class );
+		assertThat( steps[1].getHostingBeanMetaData() ).isSameAs( beanMetaDataManager.getBeanMetaData( Parent.class ) );
+		assertThat( steps[1].isDefaultGroupSequenceRedefined() ).isFalse();
+		assertThat( steps[1].getAllMetaConstraints() ).hasSize( 1 );
+
+		assertThat( steps[2].getHostingClass() ).isEqualTo( Object.class );
+		assertThat( steps[2].getAllMetaConstraints() ).isEmpty();
+	}
+
+	@Test
+	public void planStopsAtTheFirstClassRedefiningTheDefaultGroupSequence() {
+		BeanMetaData<ChildOfRedefiningParent> beanMetaData = beanMetaDataManager.getBeanMetaData( ChildOfRedefiningParent.class );
+
+		DefaultGroupValidationPlan.Step<ChildOfRedefiningParent>[] steps = beanMetaData.getDefaultGroupValidationPlan( beanMetaDataManager ).getSteps();
+
+		assertThat( steps ).hasSize( 2 );
+		assertThat( steps[0].isDefaultGroupSequenceRedefined() ).isFalse();
+		assertThat( steps[1].getHostingClass() ).isEqualTo( RedefiningParent.class );
+		assertThat( steps[1].isDefaultGroupSequenceRedefined() ).isTrue();
+		// the constraints of the whole hierarchy are validated with the redefined sequence
+		assertThat( steps[1].getAllMetaConstraints() ).hasSize( 1 );
+	}
+
+	@Test
+	public void planIsBuiltOnlyOnce() {
+		BeanMetaData<Child> beanMetaData = beanMetaDataManager.getBeanMetaData( Child.class );
+
+		assertThat( beanMetaData.getDefaultGroupValidationPlan( beanMetaDataManager ) )
+				.isSameAs( beanMetaData.getDefaultGroupValidationPlan( beanMetaDataManager ) );
+	}
+
+	private static class Parent {
+
+		@Min(1)
+		private int count;
+	}
+
+	private static class Child extends Parent {
+
+		@NotNull
+		private String name;
+	}
+
+	@GroupSequence({ RedefiningParent.class, Extended.class })
+	private static class RedefiningParent {
+
+		@NotNull(groups = Extended.class)
+		private String code;
+	}
+
+	private static class ChildOfRedefiningParent extends RedefiningParent {
+	}
+
+	private interface Extended {
+	}
+}
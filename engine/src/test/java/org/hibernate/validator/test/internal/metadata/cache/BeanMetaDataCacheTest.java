@@ -0,0 +1,201 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.metadata.cache;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+
+import org.hibernate.validator.BaseHibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.metadata.BeanMetaDataCache;
+import org.hibernate.validator.metadata.BeanMetaDataCacheFactory;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the {@link BeanMetaDataCacheFactory} implementations and the bean metadata cache statistics.
+ */
+public class BeanMetaDataCacheTest {
+
+	@Test
+	public void testStatisticsWithDefaultCache() {
+		HibernateValidatorFactory factory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+		Validator validator = factory.getValidator();
+
+		validator.validate( new Foo() );
+		BeanMetaDataCacheStatistics initialStatistics = factory.getBeanMetaDataCacheStatistics();
+		// the metadata of Foo and of its superclass, Object
+		assertEquals( initialStatistics.getMissCount(), 2 );
+		assertEquals( initialStatistics.getSize(), 2 );
+
+		validator.validate( new Foo() );
+		validator.validate( new Foo() );
+
+		BeanMetaDataCacheStatistics statistics = factory.getBeanMetaDataCacheStatistics();
+		assertEquals( statistics.getMissCount(), 2 );
+		assertTrue( statistics.getHitCount() >= initialStatistics.getHitCount() + 2 );
+		assertEquals( statistics.getRebuildCount(), 0 );
+		assertEquals( statistics.getSize(), 2 );
+	}
+
+	@Test
+	public void testStrongCacheUsingProperty() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.addProperty( BaseHibernateValidatorConfiguration.BEAN_METADATA_CACHE, "strong" );
+		HibernateValidatorFactory factory = configuration.buildValidatorFactory().unwrap( HibernateValidatorFactory.class );
+		Validator validator = factory.getValidator();
+
+		assertEquals( validator.validate( new Foo() ).size(), 1 );
+		assertEquals( validator.validate( new Bar() ).size(), 1 );
+		assertEquals( validator.validate( new Foo() ).size(), 1 );
+
+		BeanMetaDataCacheStatistics statistics = factory.getBeanMetaDataCacheStatistics();
+		assertEquals( statistics.getMissCount(), 3 );
+		assertEquals( statistics.getRebuildCount(), 0 );
+		assertEquals( statistics.getSize(), 3 );
+	}
+
+	@Test
+	public void testBoundedCacheEvictsAndRebuilds() {
+		HibernateValidatorFactory factory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.beanMetaDataCacheFactory( BeanMetaDataCacheFactory.bounded( 3 ) )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+		Validator validator = factory.getValidator();
+
+		// the metadata of Object, the superclass of the beans, is also cached and used by each validation
+		validator.validate( new Foo() );
+		validator.validate( new Bar() );
+		validator.validate( new Foo() );
+		// Bar is the only one not used since it was added
+		validator.validate( new Baz() );
+		assertEquals( factory.getBeanMetaDataCacheStatistics().getSize(), 3 );
+		assertEquals( factory.getBeanMetaDataCacheStatistics().getRebuildCount(), 0 );
+
+		assertEquals( validator.validate( new Bar() ).size(), 1 );
+
+		BeanMetaDataCacheStatistics statistics = factory.getBeanMetaDataCacheStatistics();
+		assertEquals( statistics.getMissCount(), 5 );
+		assertEquals( statistics.getRebuildCount(), 1 );
+		assertEquals( statistics.getSize(), 3 );
+	}
+
+	@Test
+	public void testCustomCacheFactoryUsingProperty() {
+		CountingBeanMetaDataCacheFactory.CREATED_CACHES.set( 0 );
+
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.addProperty( BaseHibernateValidatorConfiguration.BEAN_METADATA_CACHE, CountingBeanMetaDataCacheFactory.class.getName() );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		assertEquals( validator.validate( new Foo() ).size(), 1 );
+		assertEquals( CountingBeanMetaDataCacheFactory.CREATED_CACHES.get(), 1 );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000279.*")
+	public void testInvalidCacheFactoryProperty() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.addProperty( BaseHibernateValidatorConfiguration.BEAN_METADATA_CACHE, "org.example.DoesNotExist" );
+		configuration.buildValidatorFactory();
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testBoundedCacheSizeMustBePositive() {
+		BeanMetaDataCacheFactory.bounded( 0 );
+	}
+
+	@Test
+	public void testCacheContract() {
+		for ( BeanMetaDataCacheFactory cacheFactory : new BeanMetaDataCacheFactory[] {
+				BeanMetaDataCacheFactory.soft(), BeanMetaDataCacheFactory.strong(), BeanMetaDataCacheFactory.bounded( 10 ) } ) {
+			BeanMetaDataCache<String> cache = cacheFactory.createCache();
+
+			assertNull( cache.get( Foo.class ), cacheFactory.toString() );
+			assertNull( cache.putIfAbsent( Foo.class, "foo" ), cacheFactory.toString() );
+			assertEquals( cache.putIfAbsent( Foo.class, "other foo" ), "foo", cacheFactory.toString() );
+			assertNull( cache.putIfAbsent( Bar.class, "bar" ), cacheFactory.toString() );
+			assertEquals( cache.get( Foo.class ), "foo", cacheFactory.toString() );
+			assertEquals( cache.size(), 2, cacheFactory.toString() );
+
+			cache.clear();
+			assertNull( cache.get( Foo.class ), cacheFactory.toString() );
+			assertEquals( cache.size(), 0, cacheFactory.toString() );
+		}
+	}
+
+	@Test
+	public void testBoundedCacheKeepsTheAddedMetaData() {
+		BeanMetaDataCache<String> cache = BeanMetaDataCacheFactory.bounded( 1 ).createCache();
+
+		assertNull( cache.putIfAbsent( Foo.class, "foo" ) );
+		assertNull( cache.putIfAbsent( Bar.class, "bar" ) );
+		assertSame( cache.get( Bar.class ), "bar" );
+		assertNull( cache.get( Foo.class ) );
+		assertTrue( cache.size() == 1 );
+	}
+
+	@Test
+	public void testBoundedCacheEvictsNotRecentlyUsedMetaData() {
+		BeanMetaDataCache<String> cache = BeanMetaDataCacheFactory.bounded( 2 ).createCache();
+
+		assertNull( cache.putIfAbsent( Foo.class, "foo" ) );
+		assertNull( cache.putIfAbsent( Bar.class, "bar" ) );
+		assertEquals( cache.get( Foo.class ), "foo" );
+
+		assertNull( cache.putIfAbsent( Baz.class, "baz" ) );
+		assertEquals( cache.size(), 2 );
+		assertEquals( cache.get( Foo.class ), "foo" );
+		assertNull( cache.get( Bar.class ) );
+
+		// all the entries are referenced, one of them is evicted anyway
+		assertEquals( cache.get( Baz.class ), "baz" );
+		assertNull( cache.putIfAbsent( Bar.class, "bar" ) );
+		assertEquals( cache.size(), 2 );
+		assertEquals( cache.get( Bar.class ), "bar" );
+	}
+
+	public static class CountingBeanMetaDataCacheFactory implements BeanMetaDataCacheFactory {
+
+		private static final AtomicInteger CREATED_CACHES = new AtomicInteger();
+
+		@Override
+		public <V> BeanMetaDataCache<V> createCache() {
+			CREATED_CACHES.incrementAndGet();
+			return BeanMetaDataCacheFactory.strong().createCache();
+		}
+	}
+
+	private static class Foo {
+
+		@NotNull
+		private String name;
+	}
+
+	private static class Bar {
+
+		@NotNull
+		private String name;
+	}
+
+	private static class Baz {
+
+		@NotNull
+		private String name;
+	}
+}
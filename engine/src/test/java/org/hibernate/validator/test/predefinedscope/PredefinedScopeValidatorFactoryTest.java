@@ -8,19 +8,27 @@
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
+import java.io.IOException;
 import java.lang.annotation.ElementType;
+import java.net.URL;
+import java.time.Duration;
 import java.util.AbstractCollection;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.Set;
 
 import jakarta.validation.ConstraintViolation;
+import jakarta.validation.GroupDefinitionException;
+import jakarta.validation.GroupSequence;
 import jakarta.validation.MessageInterpolator;
 import jakarta.validation.Path;
 import jakarta.validation.Path.Node;
@@ -33,8 +41,11 @@
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.groups.Default;
 
 import org.hibernate.validator.PredefinedScopeHibernateValidator;
+import org.hibernate.validator.PredefinedScopeHibernateValidatorFactory;
+import org.hibernate.validator.metadata.BeanMetaDataInitializationStatistics;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
 import org.hibernate.validator.testutil.TestForIssue;
 
@@ -369,6 +380,109 @@ public void testXmlDefinedConstraintsDiscoveryEnabled() {
 		}
 	}
 
+	@Test
+	public void testConstrainedTypesIndexEnabled() {
+		try (
+				ValidatorFactory factory = Validation.byProvider( PredefinedScopeHibernateValidator.class )
+						.configure()
+						.builtinConstraints( Collections.singleton( NotNull.class.getName() ) )
+						.initializeBeanMetaData( Collections.emptySet() )
+						.includeBeansListedInConstrainedTypesIndex( true )
+						.externalClassLoader( new ConstrainedTypesIndexClassLoader() )
+						.buildValidatorFactory()
+		) {
+			Validator validator = factory.getValidator();
+
+			assertThat( validator.validate( new IndexedBean() ) )
+					.containsOnlyViolations(
+							violationOf( NotNull.class ).withProperty( "property" )
+					);
+		}
+	}
+
+	@Test
+	public void testConstrainedTypesIndexDisabledByDefault() {
+		try (
+				ValidatorFactory factory = Validation.byProvider( PredefinedScopeHibernateValidator.class )
+						.configure()
+						.builtinConstraints( Collections.singleton( NotNull.class.getName() ) )
+						.initializeBeanMetaData( Collections.emptySet() )
+						.externalClassLoader( new ConstrainedTypesIndexClassLoader() )
+						.buildValidatorFactory()
+		) {
+			Validator validator = factory.getValidator();
+
+			// the bean is only listed in the index, which is ignored
+			assertNoViolations( validator.validate( new IndexedBean() ) );
+		}
+	}
+
+	@Test
+	public void testBeanMetaDataInitializedInParallel() {
+		Set<Class<?>> beanMetaDataToInitialize = new HashSet<>( Arrays.asList( Bean.class, AnotherBean.class, IndexedBean.class ) );
+
+		for ( int parallelism : new int[]{ 1, 4 } ) {
+			try (
+					ValidatorFactory factory = Validation.byProvider( PredefinedScopeHibernateValidator.class )
+							.configure()
+							.builtinConstraints( new HashSet<>( Arrays.asList( Email.class.getName(), NotNull.class.getName() ) ) )
+							.initializeBeanMetaData( beanMetaDataToInitialize )
+							.beanMetaDataInitializationParallelism( parallelism )
+							.buildValidatorFactory()
+			) {
+				assertThat( factory.getValidator().validate( new Bean( null, "invalid" ) ) ).containsOnlyViolations(
+						violationOf( NotNull.class ).withProperty( "property" ),
+						violationOf( Email.class ).withProperty( "email" ) );
+				assertThat( factory.getValidator().validate( new IndexedBean() ) ).containsOnlyViolations(
+						violationOf( NotNull.class ).withProperty( "property" ) );
+
+				BeanMetaDataInitializationStatistics statistics = factory.unwrap( PredefinedScopeHibernateValidatorFactory.class )
+						.getBeanMetaDataInitializationStatistics();
+				// the beans and Object
+				assertEquals( statistics.getBeanClassCount(), 4 );
+				assertEquals( statistics.getParallelism(), parallelism );
+				assertTrue( statistics.getAnnotationProcessingTime().compareTo( Duration.ZERO ) > 0 );
+				assertTrue( statistics.getAggregationTime().compareTo( Duration.ZERO ) > 0 );
+				assertEquals( statistics.getXmlProcessingTime(), Duration.ZERO );
+				assertEquals( statistics.getProgrammaticProcessingTime(), Duration.ZERO );
+				assertTrue( statistics.getTotalTime().compareTo( Duration.ZERO ) > 0 );
+			}
+		}
+	}
+
+	@Test
+	public void testXmlProcessingTimeIsRecorded() {
+		try (
+				ValidatorFactory factory = Validation.byProvider( PredefinedScopeHibernateValidator.class )
+						.configure()
+						.builtinConstraints( Collections.emptySet() )
+						.initializeBeanMetaData( Collections.emptySet() )
+						.addMapping( PredefinedScopeValidatorFactoryTest.class.getResourceAsStream( "constraints-simplexmlbean.xml" ) )
+						.buildValidatorFactory()
+		) {
+			BeanMetaDataInitializationStatistics statistics = factory.unwrap( PredefinedScopeHibernateValidatorFactory.class )
+					.getBeanMetaDataInitializationStatistics();
+			assertTrue( statistics.getXmlProcessingTime().compareTo( Duration.ZERO ) > 0 );
+		}
+	}
+
+	@Test(expectedExceptions = GroupDefinitionException.class, expectedExceptionsMessageRegExp = "HV000053:.*")
+	public void testFailureOfTheParallelInitializationIsPropagated() {
+		Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.builtinConstraints( Collections.singleton( NotNull.class.getName() ) )
+				.initializeBeanMetaData( new HashSet<>( Arrays.asList( Bean.class, AnotherBean.class, InvalidGroupSequenceBean.class ) ) )
+				.beanMetaDataInitializationParallelism( 4 )
+				.buildValidatorFactory();
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testInvalidBeanMetaDataInitializationParallelism() {
+		Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.beanMetaDataInitializationParallelism( 0 );
+	}
+
 	private static ValidatorFactory getValidatorFactory() {
 		Set<Class<?>> beanMetaDataToInitialize = new HashSet<>();
 		beanMetaDataToInitialize.add( Bean.class );
@@ -497,6 +611,40 @@ public void setMethod(String parameter) {
 		}
 	}
 
+	private static class IndexedBean {
+
+		@NotNull
+		private String property;
+	}
+
+	@GroupSequence({ Default.class })
+	private static class InvalidGroupSequenceBean {
+
+		@NotNull
+		private String property;
+	}
+
+	/**
+	 * Exposes a test index as the constrained types index generated by the annotation processor.
+	 */
+	private static class ConstrainedTypesIndexClassLoader extends ClassLoader {
+
+		private static final String CONSTRAINED_TYPES_INDEX = "META-INF/hibernate-validator/constrained-types";
+
+		private ConstrainedTypesIndexClassLoader() {
+			super( PredefinedScopeValidatorFactoryTest.class.getClassLoader() );
+		}
+
+		@Override
+		public Enumeration<URL> getResources(String name) throws IOException {
+			if ( CONSTRAINED_TYPES_INDEX.equals( name ) ) {
+				return Collections.enumeration( Collections.singletonList(
+						PredefinedScopeValidatorFactoryTest.class.getResource( "constrained-types" ) ) );
+			}
+			return super.getResources( name );
+		}
+	}
+
 	private interface MyProxyInterface {
 	}
 
@@ -0,0 +1,271 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.resourceloading;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutils.ValidatorUtil.getConfiguration;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
+import org.hibernate.validator.resourceloading.MessageCatalogResourceBundleLocator;
+import org.hibernate.validator.resourceloading.PlatformResourceBundleLocator;
+import org.hibernate.validator.spi.resourceloading.ResourceBundleLocator;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link MessageCatalogResourceBundleLocator}.
+ */
+public class MessageCatalogResourceBundleLocatorTest {
+
+	private static final Map<Locale, Map<String, String>> MESSAGES = Map.of(
+			Locale.ROOT, Map.of( "foo", "123", "bar", "456", "order.code.size", "the code must be at most {max} characters long" ),
+			Locale.GERMAN, Map.of( "foo", "123_de", "snafu", "xyz", "clé", "ä€😀" ),
+			Locale.FRENCH, Map.of()
+	);
+
+	private Path directory;
+
+	private CountingResourceBundleLocator sourceLocator;
+
+	@BeforeMethod
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory( "message-catalog" );
+		sourceLocator = new CountingResourceBundleLocator();
+	}
+
+	@AfterMethod(alwaysRun = true)
+	public void tearDown() throws IOException {
+		try ( Stream<Path> paths = Files.walk( directory ) ) {
+			paths.sorted( Comparator.reverseOrder() ).forEach( path -> path.toFile().delete() );
+		}
+	}
+
+	@Test
+	public void the_catalog_contains_the_messages_of_each_locale() {
+		Path catalog = directory.resolve( "messages.catalog" );
+		MessageCatalogResourceBundleLocator.writeCatalog( catalog, sourceLocator, MESSAGES.keySet() );
+
+		MessageCatalogResourceBundleLocator locator = new MessageCatalogResourceBundleLocator( catalog );
+		assertThat( locator.getLocales() ).containsOnlyElementsOf( MESSAGES.keySet() );
+
+		for ( Locale locale : MESSAGES.keySet() ) {
+			ResourceBundle expected = sourceLocator.getResourceBundle( locale );
+			ResourceBundle actual = locator.getResourceBundle( locale );
+
+			assertEquals( actual.keySet(), expected.keySet() );
+			for ( String key : expected.keySet() ) {
+				assertEquals( actual.getString( key ), expected.getString( key ) );
+			}
+		}
+	}
+
+	@Test
+	public void the_messages_of_the_parent_bundles_are_part_of_the_catalog() {
+		Path catalog = directory.resolve( "messages.catalog" );
+		MessageCatalogResourceBundleLocator.writeCatalog( catalog, sourceLocator, Set.of( Locale.GERMAN ) );
+
+		ResourceBundle resourceBundle = new MessageCatalogResourceBundleLocator( catalog ).getResourceBundle( Locale.GERMAN );
+		assertThat( resourceBundle.keySet() ).containsOnly( "foo", "bar", "snafu", "clé", "order.code.size" );
+		assertEquals( resourceBundle.getString( "foo" ), "123_de" );
+		assertEquals( resourceBundle.getString( "bar" ), "456" );
+	}
+
+	@Test(expectedExceptions = MissingResourceException.class)
+	public void looking_up_a_missing_key_fails() {
+		Path catalog = directory.resolve( "messages.catalog" );
+		MessageCatalogResourceBundleLocator.writeCatalog( catalog, sourceLocator, MESSAGES.keySet() );
+
+		new MessageCatalogResourceBundleLocator( catalog ).getResourceBundle( Locale.GERMAN ).getString( "fo" );
+	}
+
+	@Test
+	public void the_locales_missing_from_the_catalog_fall_back_to_their_language_then_to_the_root_locale() {
+		Path catalog = directory.resolve( "messages.catalog" );
+		MessageCatalogResourceBundleLocator.writeCatalog( catalog, sourceLocator, Set.of( Locale.ROOT, Locale.GERMAN ) );
+
+		MessageCatalogResourceBundleLocator locator = new MessageCatalogResourceBundleLocator( catalog );
+		assertEquals( locator.getResourceBundle( Locale.GERMANY ).getString( "foo" ), "123_de" );
+		assertEquals( locator.getResourceBundle( Locale.JAPAN ).getString( "foo" ), "123" );
+
+		MessageCatalogResourceBundleLocator.writeCatalog( catalog, sourceLocator, Set.of( Locale.GERMAN ) );
+		assertNull( new MessageCatalogResourceBundleLocator( catalog ).getResourceBundle( Locale.JAPAN ) );
+	}
+
+	@Test
+	public void the_catalog_is_generated_on_first_start_only() {
+		Path catalog = directory.resolve( "generated" ).resolve( "messages.catalog" );
+
+		new MessageCatalogResourceBundleLocator( catalog, sourceLocator, MESSAGES.keySet() );
+		assertTrue( Files.exists( catalog ) );
+		assertEquals( sourceLocator.lookups.get(), MESSAGES.size() );
+
+		MessageCatalogResourceBundleLocator locator = new MessageCatalogResourceBundleLocator( catalog, sourceLocator, MESSAGES.keySet() );
+		assertEquals( sourceLocator.lookups.get(), MESSAGES.size() );
+		assertEquals( locator.getResourceBundle( Locale.GERMAN ).getString( "snafu" ), "xyz" );
+	}
+
+	@Test
+	public void the_catalog_is_generated_again_when_the_locales_change() {
+		Path catalog = directory.resolve( "messages.catalog" );
+
+		new MessageCatalogResourceBundleLocator( catalog, sourceLocator, Set.of( Locale.ROOT ) );
+		assertEquals( sourceLocator.lookups.get(), 1 );
+
+		MessageCatalogResourceBundleLocator locator = new MessageCatalogResourceBundleLocator( catalog, sourceLocator, Set.of( Locale.ROOT, Locale.GERMAN ) );
+		assertEquals( sourceLocator.lookups.get(), 3 );
+		assertThat( locator.getLocales() ).containsOnly( Locale.ROOT, Locale.GERMAN );
+	}
+
+	@Test
+	public void the_catalog_is_generated_again_when_the_properties_files_change() throws IOException {
+		Path catalog = directory.resolve( "messages.catalog" );
+		Path properties = directory.resolve( "CatalogMessages.properties" );
+
+		Files.write( properties, "foo=123".getBytes( StandardCharsets.ISO_8859_1 ) );
+		MessageCatalogResourceBundleLocator locator = new MessageCatalogResourceBundleLocator( catalog, getPlatformResourceBundleLocator(), Set.of( Locale.ROOT ) );
+		assertEquals( locator.getResourceBundle( Locale.ROOT ).getString( "foo" ), "123" );
+
+		Files.setLastModifiedTime( catalog, FileTime.fromMillis( 0 ) );
+		locator = new MessageCatalogResourceBundleLocator( catalog, getPlatformResourceBundleLocator(), Set.of( Locale.ROOT ) );
+		// the catalog is up to date and is not generated again
+		assertEquals( Files.getLastModifiedTime( catalog ), FileTime.fromMillis( 0 ) );
+
+		Files.write( properties, "foo=456".getBytes( StandardCharsets.ISO_8859_1 ) );
+		locator = new MessageCatalogResourceBundleLocator( catalog, getPlatformResourceBundleLocator(), Set.of( Locale.ROOT ) );
+		assertEquals( locator.getResourceBundle( Locale.ROOT ).getString( "foo" ), "456" );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000282.*")
+	public void a_catalog_with_an_invalid_length_is_rejected() throws IOException {
+		Path catalog = directory.resolve( "messages.catalog" );
+		MessageCatalogResourceBundleLocator.writeCatalog( catalog, sourceLocator, Set.of( Locale.ROOT ) );
+
+		// the length of the tag of the first locale, after the magic, the version, the fingerprint and the locale count
+		byte[] bytes = Files.readAllBytes( catalog );
+		ByteBuffer.wrap( bytes ).putInt( 20, Integer.MAX_VALUE );
+		Files.write( catalog, bytes );
+
+		new MessageCatalogResourceBundleLocator( catalog );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = ".*The parameter \"catalog\" must not be null.*")
+	public void a_null_catalog_is_rejected() {
+		new MessageCatalogResourceBundleLocator( null, sourceLocator, Set.of( Locale.ROOT ) );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000282.*")
+	public void an_invalid_catalog_is_rejected() throws IOException {
+		Path catalog = directory.resolve( "messages.catalog" );
+		Files.write( catalog, "foo=123".getBytes( StandardCharsets.UTF_8 ) );
+
+		new MessageCatalogResourceBundleLocator( catalog );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000281.*")
+	public void a_missing_catalog_is_rejected() {
+		new MessageCatalogResourceBundleLocator( directory.resolve( "missing.catalog" ) );
+	}
+
+	@Test
+	public void the_catalog_provides_the_user_messages_of_the_interpolator() {
+		Path catalog = directory.resolve( "messages.catalog" );
+		MessageCatalogResourceBundleLocator.writeCatalog( catalog, sourceLocator, MESSAGES.keySet() );
+
+		Validator validator = getConfiguration()
+				.messageInterpolator( new ResourceBundleMessageInterpolator( new MessageCatalogResourceBundleLocator( catalog ) ) )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Set<ConstraintViolation<Order>> violations = validator.validate( new Order() );
+		assertEquals( violations.size(), 1 );
+		assertEquals( violations.iterator().next().getMessage(), "the code must be at most 3 characters long" );
+	}
+
+	private PlatformResourceBundleLocator getPlatformResourceBundleLocator() throws IOException {
+		// a new class loader each time, as the bundles are cached per class loader
+		return new PlatformResourceBundleLocator( "CatalogMessages",
+				new URLClassLoader( new URL[]{ directory.toUri().toURL() }, MessageCatalogResourceBundleLocatorTest.class.getClassLoader() ) );
+	}
+
+	private static class CountingResourceBundleLocator implements ResourceBundleLocator {
+
+		private final AtomicInteger lookups = new AtomicInteger();
+
+		@Override
+		public ResourceBundle getResourceBundle(Locale locale) {
+			lookups.incrementAndGet();
+
+			if ( Locale.ROOT.equals( locale ) ) {
+				return new MapResourceBundle( MESSAGES.get( locale ), null );
+			}
+			return new MapResourceBundle( MESSAGES.get( locale ), new MapResourceBundle( MESSAGES.get( Locale.ROOT ), null ) );
+		}
+	}
+
+	private static class MapResourceBundle extends ResourceBundle {
+
+		private final Map<String, String> messages;
+
+		private MapResourceBundle(Map<String, String> messages, ResourceBundle parent) {
+			this.messages = messages;
+			setParent( parent );
+		}
+
+		@Override
+		protected Object handleGetObject(String key) {
+			return messages.get( key );
+		}
+
+		@Override
+		protected Set<String> handleKeySet() {
+			return messages.keySet();
+		}
+
+		@Override
+		public Enumeration<String> getKeys() {
+			Set<String> keys = new HashSet<>( messages.keySet() );
+			if ( parent != null ) {
+				keys.addAll( parent.keySet() );
+			}
+			return Collections.enumeration( keys );
+		}
+	}
+
+	private static class Order {
+
+		@Size(max = 3, message = "{order.code.size}")
+		private String code = "ABCDEF";
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.performance.messageinterpolation;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the validation of beans whose constraints are all violated, so that the cost of the message interpolation
+ * dominates.
+ * <p>
+ * The messages cover the common shapes of message templates: constant, with message parameters only, and with both
+ * message parameters and EL expressions.
+ */
+public class MessageInterpolation {
+
+	@State(Scope.Benchmark)
+	public static class ValidationState {
+		public volatile Validator validator;
+		public volatile ConstantMessages constantMessages;
+		public volatile ParameterMessages parameterMessages;
+		public volatile ExpressionMessages expressionMessages;
+
+		{
+			ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+			validator = factory.getValidator();
+
+			constantMessages = new ConstantMessages();
+			parameterMessages = new ParameterMessages();
+			expressionMessages = new ExpressionMessages();
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testConstantMessages(ValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<ConstantMessages>> violations = state.validator.validate( state.constantMessages );
+		assert violations.size() == 3;
+		consumeMessages( violations, bh );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testParameterMessages(ValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<ParameterMessages>> violations = state.validator.validate( state.parameterMessages );
+		assert violations.size() == 3;
+		consumeMessages( violations, bh );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testExpressionMessages(ValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<ExpressionMessages>> violations = state.validator.validate( state.expressionMessages );
+		assert violations.size() == 3;
+		consumeMessages( violations, bh );
+	}
+
+	private static void consumeMessages(Set<? extends ConstraintViolation<?>> violations, Blackhole bh) {
+		for ( ConstraintViolation<?> violation : violations ) {
+			bh.consume( violation.getMessage() );
+		}
+	}
+
+	public static class ConstantMessages {
+		@NotNull
+		private String name;
+
+		@NotNull(message = "The street is mandatory")
+		private String street;
+
+		@NotNull(message = "The city is mandatory")
+		private String city;
+	}
+
+	public static class ParameterMessages {
+		@Size(min = 5, max = 10)
+		private String name = "abc";
+
+		@Min(18)
+		private int age = 12;
+
+		@Size(min = 2, max = 5, message = "The number of tags must be between {min} and {max}")
+		private String[] tags = new String[0];
+	}
+
+	public static class ExpressionMessages {
+		@DecimalMax("100.00")
+		private BigDecimal price = new BigDecimal( "150.00" );
+
+		@DecimalMax(value = "20.00", inclusive = false)
+		private BigDecimal discount = new BigDecimal( "30.00" );
+
+		@Size(max = 3, message = "${validatedValue} is longer than {max} characters")
+		private String code = "ABCDEF";
+	}
+}
@@ -27,6 +27,7 @@ public final class BenchmarkRunner {
 	private static final Stream<? extends Class<?>> DEFAULT_TEST_CLASSES = Stream.of(
 			"org.hibernate.validator.performance.cascaded.CascadedValidation",
 			"org.hibernate.validator.performance.cascaded.CascadedWithLotsOfItemsValidation",
+			"org.hibernate.validator.performance.messageinterpolation.MessageInterpolation",
 			"org.hibernate.validator.performance.simple.SimpleValidation",
 			"org.hibernate.validator.performance.statistical.StatisticalValidation",
 			// Benchmarks specific to Bean Validation 2.0
@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.tckrunner.generatedaccessors;
+
+import jakarta.validation.Configuration;
+import jakarta.validation.spi.BootstrapState;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+
+/**
+ * A provider enabling the runtime generated property accessors, used to run the TCK with this option.
+ */
+public class GeneratedPropertyAccessorsHibernateValidator extends HibernateValidator {
+
+	@Override
+	public HibernateValidatorConfiguration createSpecializedConfiguration(BootstrapState state) {
+		return super.createSpecializedConfiguration( state ).generatedPropertyAccessors( true );
+	}
+
+	@Override
+	public Configuration<?> createGenericConfiguration(BootstrapState state) {
+		return super.createGenericConfiguration( state )
+				.addProperty( HibernateValidatorConfiguration.GENERATED_PROPERTY_ACCESSORS, Boolean.TRUE.toString() );
+	}
+}